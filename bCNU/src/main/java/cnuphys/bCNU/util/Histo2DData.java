@@ -255,6 +255,33 @@ public class Histo2DData {
 		_counts[binX][binY]++;
 	}
 
+	/**
+	 * Add the counts of another histogram, which must have the same binning,
+	 * to this one. Used to combine histograms filled on different threads.
+	 *
+	 * @param other
+	 *            the histogram to add
+	 */
+	public void merge(Histo2DData other) {
+		if ((other == null) || (other._counts == null)) {
+			return;
+		}
+		if (!Arrays.equals(_gridX, other._gridX)
+				|| !Arrays.equals(_gridY, other._gridY)) {
+			throw new IllegalArgumentException(
+					"Cannot merge histograms with different binning");
+		}
+
+		_outOfRangeCount += other._outOfRangeCount;
+		int nbinX = getNumberBinsX();
+		int nbinY = getNumberBinsY();
+		for (int i = 0; i < nbinX; i++) {
+			for (int j = 0; j < nbinY; j++) {
+				_counts[i][j] += other._counts[i][j];
+			}
+		}
+	}
+
 	/**
 	 * Get the number of x bins
 	 * 
@@ -0,0 +1,70 @@
+package cnuphys.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import cnuphys.magfield.CompositeField;
+import cnuphys.magfield.RotatedCompositeField;
+import cnuphys.magfield.Solenoid;
+import cnuphys.magfield.Torus;
+
+/**
+ * The fields shared by the benchmarks: synthetic torus and solenoid maps with
+ * the real grid sizes, and their composite and rotated composite, plus a
+ * fixed set of evaluation points. Everything is deterministic, so runs on
+ * different machines (or before and after a change) are comparable.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkFields {
+
+    /** number of evaluation points */
+    public static final int NUMPOINTS = 4096;
+
+    public Torus torus;
+    public Solenoid solenoid;
+    public CompositeField composite;
+    public RotatedCompositeField rotatedComposite;
+
+    // evaluation points, cm, in the region covered by both maps
+    public float x[];
+    public float y[];
+    public float z[];
+
+    // the same points in cylindrical coordinates, phi in degrees
+    public double phi[];
+    public double rho[];
+
+    @Setup
+    public void setup() throws IOException {
+	torus = SyntheticFieldMap.createTorus();
+	solenoid = SyntheticFieldMap.createSolenoid();
+
+	composite = new CompositeField();
+	composite.add(torus);
+	composite.add(solenoid);
+
+	rotatedComposite = new RotatedCompositeField();
+	rotatedComposite.add(torus);
+	rotatedComposite.add(solenoid);
+
+	Random random = new Random(97531);
+	x = new float[NUMPOINTS];
+	y = new float[NUMPOINTS];
+	z = new float[NUMPOINTS];
+	phi = new double[NUMPOINTS];
+	rho = new double[NUMPOINTS];
+	for (int i = 0; i < NUMPOINTS; i++) {
+	    double r = 10 + 280 * random.nextDouble();
+	    double p = 360 * random.nextDouble();
+	    rho[i] = r;
+	    phi[i] = p;
+	    x[i] = (float) (r * Math.cos(Math.toRadians(p)));
+	    y[i] = (float) (r * Math.sin(Math.toRadians(p)));
+	    z[i] = (float) (110 + 180 * random.nextDouble());
+	}
+    }
+}
@@ -0,0 +1,120 @@
+package cnuphys.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cnuphys.magfield.FieldProbe;
+import cnuphys.magfield.IField;
+
+/**
+ * Field lookups: torus and solenoid in Cartesian and cylindrical
+ * coordinates, the composite and rotated composite fields, and the probes.
+ * Each invocation evaluates all the points of {@link BenchmarkFields}, so the
+ * score is per NUMPOINTS lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldBenchmark {
+
+    private float _result[];
+    private FieldProbe _torusProbe;
+    private FieldProbe _compositeProbe;
+    private FieldProbe _rotatedProbe;
+
+    @Setup
+    public void setup(BenchmarkFields fields) {
+	_result = new float[3];
+	_torusProbe = fields.torus.createProbe();
+	_compositeProbe = fields.composite.createProbe();
+	_rotatedProbe = fields.rotatedComposite.createProbe();
+    }
+
+    // cartesian lookups over all the points
+    private void cartesian(IField field, BenchmarkFields f, Blackhole bh) {
+	for (int i = 0; i < BenchmarkFields.NUMPOINTS; i++) {
+	    field.field(f.x[i], f.y[i], f.z[i], _result);
+	    bh.consume(_result[0] + _result[1] + _result[2]);
+	}
+    }
+
+    // cylindrical lookups over all the points
+    private void cylindrical(IField field, BenchmarkFields f, Blackhole bh) {
+	for (int i = 0; i < BenchmarkFields.NUMPOINTS; i++) {
+	    field.fieldCylindrical(f.phi[i], f.rho[i], f.z[i], _result);
+	    bh.consume(_result[0] + _result[1] + _result[2]);
+	}
+    }
+
+    // probe lookups over all the points
+    private void probe(FieldProbe probe, BenchmarkFields f, Blackhole bh) {
+	for (int i = 0; i < BenchmarkFields.NUMPOINTS; i++) {
+	    probe.field(f.x[i], f.y[i], f.z[i], _result);
+	    bh.consume(_result[0] + _result[1] + _result[2]);
+	}
+    }
+
+    @Benchmark
+    public void torusCartesian(BenchmarkFields f, Blackhole bh) {
+	cartesian(f.torus, f, bh);
+    }
+
+    @Benchmark
+    public void torusCylindrical(BenchmarkFields f, Blackhole bh) {
+	cylindrical(f.torus, f, bh);
+    }
+
+    @Benchmark
+    public void torusProbe(BenchmarkFields f, Blackhole bh) {
+	probe(_torusProbe, f, bh);
+    }
+
+    @Benchmark
+    public void solenoidCartesian(BenchmarkFields f, Blackhole bh) {
+	cartesian(f.solenoid, f, bh);
+    }
+
+    @Benchmark
+    public void solenoidCylindrical(BenchmarkFields f, Blackhole bh) {
+	cylindrical(f.solenoid, f, bh);
+    }
+
+    @Benchmark
+    public void compositeCartesian(BenchmarkFields f, Blackhole bh) {
+	cartesian(f.composite, f, bh);
+    }
+
+    @Benchmark
+    public void compositeCylindrical(BenchmarkFields f, Blackhole bh) {
+	cylindrical(f.composite, f, bh);
+    }
+
+    @Benchmark
+    public void compositeProbe(BenchmarkFields f, Blackhole bh) {
+	probe(_compositeProbe, f, bh);
+    }
+
+    @Benchmark
+    public void rotatedCompositeCartesian(BenchmarkFields f, Blackhole bh) {
+	cartesian(f.rotatedComposite, f, bh);
+    }
+
+    @Benchmark
+    public void rotatedCompositeProbe(BenchmarkFields f, Blackhole bh) {
+	probe(_rotatedProbe, f, bh);
+    }
+}
@@ -0,0 +1,132 @@
+package cnuphys.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cnuphys.rk4.ButcherTableau;
+import cnuphys.rk4.DenseStep;
+import cnuphys.rk4.IDenseOutputListener;
+import cnuphys.rk4.IRk4Listener;
+import cnuphys.rk4.RungeKutta4;
+import cnuphys.rk4.RungeKuttaException;
+import cnuphys.swim.DefaultDerivative;
+import cnuphys.swim.Swimmer;
+
+/**
+ * The RungeKutta4 drivers: the uniform step driver with each Butcher tableau
+ * and the adaptive drivers (relative tolerance vector, eps with a scale
+ * vector, and Dormand-Prince dense output). Each invocation integrates one
+ * 1 GeV/c track for 4 m through the synthetic composite field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RungeKuttaBenchmark {
+
+    @Param({ "RK4", "RULE38", "FEHLBERG_ORDER5", "DORMAND_PRINCE",
+	    "CASH_KARP" })
+    public String tableauName;
+
+    // integration parameters, meters
+    private static final double PATHMAX = 4.0;
+    private static final double UNIFORMSTEPSIZE = 0.01;
+    private static final double STEPSIZE = 5e-4;
+
+    private ButcherTableau _tableau;
+    private RungeKutta4 _rk4;
+    private DefaultDerivative _deriv;
+    private double _uo[];
+    private double _yscale[];
+    private double _hdata[];
+    private IRk4Listener _listener;
+    private IDenseOutputListener _denseListener;
+
+    // the last state seen by the listener, consumed by the benchmarks
+    private double _last;
+
+    @Setup
+    public void setup(BenchmarkFields fields) {
+	if ("RK4".equals(tableauName)) {
+	    _tableau = ButcherTableau.RK4;
+	} else if ("RULE38".equals(tableauName)) {
+	    _tableau = ButcherTableau.RULE38;
+	} else if ("FEHLBERG_ORDER5".equals(tableauName)) {
+	    _tableau = ButcherTableau.FEHLBERG_ORDER5;
+	} else if ("DORMAND_PRINCE".equals(tableauName)) {
+	    _tableau = ButcherTableau.DORMAND_PRINCE;
+	} else {
+	    _tableau = ButcherTableau.CASH_KARP;
+	}
+
+	_rk4 = new RungeKutta4(6);
+	_deriv = new DefaultDerivative(-1, 1.0, fields.composite);
+	_hdata = new double[3];
+
+	// theta = 25, phi = 5 degrees from the origin
+	double theta = Math.toRadians(25);
+	double phi = Math.toRadians(5);
+	_uo = new double[] { 0, 0, 0, Math.sin(theta) * Math.cos(phi),
+		Math.sin(theta) * Math.sin(phi), Math.cos(theta) };
+	_yscale = new double[] { 1, 1, 1, 1, 1, 1 };
+
+	_listener = new IRk4Listener() {
+
+	    @Override
+	    public void nextStep(double t, double[] y, double h) {
+		_last = y[0];
+	    }
+	};
+
+	_denseListener = new IDenseOutputListener() {
+
+	    @Override
+	    public void nextStep(DenseStep step) {
+		_last = step.getT1();
+	    }
+	};
+    }
+
+    @Benchmark
+    public void uniformTableau(Blackhole bh) {
+	bh.consume(_rk4.uniformStep(_uo, 0, PATHMAX, UNIFORMSTEPSIZE, _deriv,
+		null, _listener, _tableau));
+	bh.consume(_last);
+    }
+
+    @Benchmark
+    public void adaptiveRelTolerance(Blackhole bh) throws RungeKuttaException {
+	bh.consume(_rk4.adaptiveStep(_uo, 0, PATHMAX, STEPSIZE, _deriv, null,
+		_listener, _tableau, Swimmer.CLAS_Tolerance, _hdata));
+	bh.consume(_last);
+    }
+
+    @Benchmark
+    public void adaptiveEps(Blackhole bh) throws RungeKuttaException {
+	bh.consume(_rk4.adaptiveStep(_uo, 0, PATHMAX, STEPSIZE, _deriv, null,
+		_listener, _tableau, 1.0e-6, _yscale, _hdata));
+	bh.consume(_last);
+    }
+
+    @Benchmark
+    public void adaptiveDense(Blackhole bh) throws RungeKuttaException {
+	bh.consume(_rk4.adaptiveStepDense(_uo, 0, PATHMAX, STEPSIZE, _deriv,
+		null, _listener, _denseListener, Swimmer.CLAS_Tolerance,
+		_hdata));
+	bh.consume(_last);
+    }
+}
@@ -0,0 +1,134 @@
+package cnuphys.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cnuphys.swimZ.SwimZ;
+import cnuphys.swimZ.SwimZException;
+import cnuphys.swimZ.SwimZResult;
+import cnuphys.swimZ.SwimZStateVector;
+
+/**
+ * The SwimZ modes: adaptiveRK into a SwimZResult, into a primitive buffer and
+ * final state only, the Jacobian transporting swim, uniformRK4 and
+ * parabolicEstimate. Each invocation swims NUMTRACKS tracks from z = 300 cm
+ * to z = 500 cm through the synthetic torus, so the score is per NUMTRACKS
+ * swims.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SwimZModesBenchmark {
+
+    /** number of tracks per invocation */
+    public static final int NUMTRACKS = 32;
+
+    // the z range in cm
+    private static final double ZO = 300;
+    private static final double ZF = 500;
+
+    // step sizes in cm
+    private static final double INITSTEPSIZE = 0.01;
+    private static final double FIXEDSTEPSIZE = 0.5;
+
+    private static final double ABSERROR[] = { 1.0e-5, 1.0e-5, 1.0e-5, 1.0e-5 };
+
+    private SwimZ _swimZ;
+    private double _hdata[];
+    private double _buffer[];
+    private double _finalState[];
+
+    private int _charge[];
+    private double _momentum[];
+    private SwimZStateVector _start[];
+
+    @Setup
+    public void setup(BenchmarkFields fields) {
+	_swimZ = new SwimZ(fields.torus);
+	_hdata = new double[3];
+	_buffer = new double[SwimZ.POINTSIZE * 100000];
+	_finalState = new double[SwimZ.POINTSIZE];
+
+	Random random = new Random(24680);
+	_charge = new int[NUMTRACKS];
+	_momentum = new double[NUMTRACKS];
+	_start = new SwimZStateVector[NUMTRACKS];
+	// stiff enough that all the tracks reach the final plane
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    _charge[i] = random.nextBoolean() ? 1 : -1;
+	    _momentum[i] = 2 + 5 * random.nextDouble();
+	    double theta = 10 + 15 * random.nextDouble();
+	    double phi = -20 + 40 * random.nextDouble();
+	    _start[i] = new SwimZStateVector(20 + 20 * random.nextDouble(),
+		    -5 + 10 * random.nextDouble(), ZO, _momentum[i], theta, phi);
+	}
+    }
+
+    @Benchmark
+    public void adaptiveRK(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimZResult result = _swimZ.adaptiveRK(_charge[i], _momentum[i],
+		    _start[i], ZF, INITSTEPSIZE, ABSERROR, _hdata);
+	    bh.consume(result.last());
+	}
+    }
+
+    @Benchmark
+    public void adaptiveRKBuffer(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    bh.consume(_swimZ.adaptiveRK(_charge[i], _momentum[i], _start[i],
+		    ZF, INITSTEPSIZE, ABSERROR, _hdata, _buffer));
+	}
+    }
+
+    @Benchmark
+    public void adaptiveRKFinal(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    _swimZ.adaptiveRKFinal(_charge[i], _momentum[i], _start[i], ZF,
+		    INITSTEPSIZE, ABSERROR, _hdata, _finalState);
+	    bh.consume(_finalState[0]);
+	}
+    }
+
+    @Benchmark
+    public void adaptiveRKJacobian(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimZResult result = _swimZ.adaptiveRKJacobian(_charge[i],
+		    _momentum[i], _start[i], ZF, INITSTEPSIZE, ABSERROR, _hdata);
+	    bh.consume(result.getJacobian());
+	}
+    }
+
+    @Benchmark
+    public void uniformRK4(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimZResult result = _swimZ.uniformRK4(_charge[i], _momentum[i],
+		    _start[i], ZF, FIXEDSTEPSIZE);
+	    bh.consume(result.last());
+	}
+    }
+
+    @Benchmark
+    public void parabolicEstimate(Blackhole bh) throws SwimZException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimZResult result = _swimZ.parabolicEstimate(_charge[i],
+		    _momentum[i], _start[i], ZF, FIXEDSTEPSIZE);
+	    bh.consume(result.last());
+	}
+    }
+}
@@ -0,0 +1,141 @@
+package cnuphys.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cnuphys.rk4.RungeKuttaException;
+import cnuphys.swim.ColumnarTrajectory;
+import cnuphys.swim.DefaultSwimStopper;
+import cnuphys.swim.SwimResult;
+import cnuphys.swim.SwimSurfaces;
+import cnuphys.swim.SwimTrajectory;
+import cnuphys.swim.Swimmer;
+
+/**
+ * The Swimmer variants: fixed step and adaptive trajectory swims, the fixed z
+ * swim, the columnar trajectory swim, the final state swim and the swim to a
+ * surface. Each invocation swims the same NUMTRACKS tracks through the
+ * synthetic composite field, so the score is per NUMTRACKS swims.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SwimmerBenchmark {
+
+    /** number of tracks per invocation */
+    public static final int NUMTRACKS = 32;
+
+    // swim parameters, similar to what ced uses
+    private static final double RMAX = 6.0; // m
+    private static final double PATHMAX = 8.0; // m
+    private static final double STEPSIZE = 5e-4; // m
+    private static final double UNIFORMSTEPSIZE = 0.01; // m
+    private static final double ZTARGET = 5.0; // m
+    private static final double ACCURACY = 1.0e-5; // m
+
+    private Swimmer _swimmer;
+    private SwimResult _result;
+    private double _hdata[];
+
+    private int _charge[];
+    private double _momentum[];
+    private double _theta[];
+    private double _phi[];
+
+    @Setup
+    public void setup(BenchmarkFields fields) {
+	_swimmer = new Swimmer(fields.composite);
+	_result = new SwimResult();
+	_hdata = new double[3];
+
+	Random random = new Random(13579);
+	_charge = new int[NUMTRACKS];
+	_momentum = new double[NUMTRACKS];
+	_theta = new double[NUMTRACKS];
+	_phi = new double[NUMTRACKS];
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    _charge[i] = random.nextBoolean() ? 1 : -1;
+	    _momentum[i] = 1 + 6 * random.nextDouble();
+	    _theta[i] = 10 + 25 * random.nextDouble();
+	    _phi[i] = -30 + 60 * random.nextDouble();
+	}
+    }
+
+    @Benchmark
+    public void uniformTrajectory(Blackhole bh) {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimTrajectory traj = _swimmer.swim(_charge[i], 0, 0, 0,
+		    _momentum[i], _theta[i], _phi[i], new DefaultSwimStopper(
+			    RMAX), PATHMAX, UNIFORMSTEPSIZE, UNIFORMSTEPSIZE);
+	    bh.consume(traj.size());
+	}
+    }
+
+    @Benchmark
+    public void adaptiveTrajectory(Blackhole bh) throws RungeKuttaException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimTrajectory traj = _swimmer.swim(_charge[i], 0, 0, 0,
+		    _momentum[i], _theta[i], _phi[i], new DefaultSwimStopper(
+			    RMAX), PATHMAX, STEPSIZE, Swimmer.CLAS_Tolerance,
+		    _hdata);
+	    bh.consume(traj.size());
+	}
+    }
+
+    @Benchmark
+    public void adaptiveFixedZ(Blackhole bh) throws RungeKuttaException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    SwimTrajectory traj = _swimmer.swim(_charge[i], 0, 0, 0,
+		    _momentum[i], _theta[i], _phi[i], ZTARGET, ACCURACY, RMAX,
+		    PATHMAX, STEPSIZE, Swimmer.CLAS_Tolerance, _hdata);
+	    bh.consume(traj.size());
+	}
+    }
+
+    @Benchmark
+    public void adaptiveColumnar(Blackhole bh) throws RungeKuttaException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    ColumnarTrajectory traj = _swimmer.swimColumnar(_charge[i], 0, 0,
+		    0, _momentum[i], _theta[i], _phi[i],
+		    new DefaultSwimStopper(RMAX), PATHMAX, STEPSIZE,
+		    Swimmer.CLAS_Tolerance, _hdata);
+	    bh.consume(traj.size());
+	}
+    }
+
+    @Benchmark
+    public void finalState(Blackhole bh) throws RungeKuttaException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    _swimmer.swimFinalState(_charge[i], 0, 0, 0, _momentum[i],
+		    _theta[i], _phi[i], new DefaultSwimStopper(RMAX), PATHMAX,
+		    STEPSIZE, Swimmer.CLAS_Tolerance, _result);
+	    bh.consume(_result.getFinalR());
+	}
+    }
+
+    @Benchmark
+    public void toSurface(Blackhole bh) throws RungeKuttaException {
+	for (int i = 0; i < NUMTRACKS; i++) {
+	    _swimmer.swimToSurface(_charge[i], 0, 0, 0, _momentum[i],
+		    _theta[i], _phi[i], SwimSurfaces.zPlane(ZTARGET), ACCURACY,
+		    new DefaultSwimStopper(RMAX), PATHMAX, STEPSIZE,
+		    Swimmer.CLAS_Tolerance, _result);
+	    bh.consume(_result.getFinalR());
+	}
+    }
+}
@@ -0,0 +1,246 @@
+package cnuphys.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import cnuphys.magfield.MagneticField;
+import cnuphys.magfield.Solenoid;
+import cnuphys.magfield.Torus;
+
+/**
+ * Writes deterministic synthetic torus and solenoid field maps in the binary
+ * format read by MagneticField.readBinaryMagneticField, so that the benchmarks
+ * run on machines without the real maps. The fields are smooth analytic
+ * shapes with roughly the CLAS12 magnitudes and grid extents: an azimuthal
+ * torus field falling as 1/rho with a six-fold phi modulation, and a
+ * divergence free solenoid field. They are not physical, but they exercise
+ * exactly the same lookup and interpolation code as the real maps.
+ */
+public class SyntheticFieldMap {
+
+    // torus grid: phi (deg), rho (cm), z (cm)
+    public static final float TORUS_PHIMIN = 0f;
+    public static final float TORUS_PHIMAX = 30f;
+    public static final float TORUS_RHOMIN = 0f;
+    public static final float TORUS_RHOMAX = 500f;
+    public static final float TORUS_ZMIN = 100f;
+    public static final float TORUS_ZMAX = 600f;
+
+    // solenoid grid: rho (cm), z (cm)
+    public static final float SOLENOID_RHOMIN = 0f;
+    public static final float SOLENOID_RHOMAX = 300f;
+    public static final float SOLENOID_ZMIN = -300f;
+    public static final float SOLENOID_ZMAX = 300f;
+
+    // peak fields in kG
+    private static final double TORUS_B0 = 30.0;
+    private static final double SOLENOID_B0 = 50.0;
+
+    /**
+     * Write a synthetic torus map. The grid is cylindrical, the field
+     * components are Cartesian, as in the real torus map.
+     *
+     * @param file
+     *            the file to write
+     * @param nPhi
+     *            number of phi grid points in [0, 30] degrees
+     * @param nRho
+     *            number of rho grid points
+     * @param nZ
+     *            number of z grid points
+     * @throws IOException
+     */
+    public static void writeTorus(File file, int nPhi, int nRho, int nZ)
+	    throws IOException {
+	DataOutputStream dos = open(file);
+	try {
+	    writeHeader(dos, 1, TORUS_PHIMIN, TORUS_PHIMAX, nPhi,
+		    TORUS_RHOMIN, TORUS_RHOMAX, nRho, TORUS_ZMIN, TORUS_ZMAX,
+		    nZ);
+
+	    for (int i = 0; i < nPhi; i++) {
+		double phi = Math.toRadians(value(TORUS_PHIMIN, TORUS_PHIMAX,
+			nPhi, i));
+		double cos = Math.cos(phi);
+		double sin = Math.sin(phi);
+		double modulation = 1 + 0.1 * Math.cos(6 * phi);
+		for (int j = 0; j < nRho; j++) {
+		    double rho = value(TORUS_RHOMIN, TORUS_RHOMAX, nRho, j);
+		    // rises from the axis, then falls as 1/rho
+		    double radial = (rho < 50) ? rho / 50 : 50 / rho;
+		    for (int k = 0; k < nZ; k++) {
+			double z = value(TORUS_ZMIN, TORUS_ZMAX, nZ, k);
+			double dz = (z - 380) / 120;
+			double b = TORUS_B0 * modulation * radial
+				* Math.exp(-dz * dz);
+			// azimuthal
+			dos.writeFloat((float) (-b * sin));
+			dos.writeFloat((float) (b * cos));
+			dos.writeFloat(0f);
+		    }
+		}
+	    }
+	} finally {
+	    dos.close();
+	}
+    }
+
+    /**
+     * Write a synthetic solenoid map. The grid has a single phi value, the
+     * field components are (Bphi, Brho, Bz), as in the real solenoid map.
+     *
+     * @param file
+     *            the file to write
+     * @param nRho
+     *            number of rho grid points
+     * @param nZ
+     *            number of z grid points
+     * @throws IOException
+     */
+    public static void writeSolenoid(File file, int nRho, int nZ)
+	    throws IOException {
+	DataOutputStream dos = open(file);
+	try {
+	    writeHeader(dos, 0, 0f, 360f, 1, SOLENOID_RHOMIN,
+		    SOLENOID_RHOMAX, nRho, SOLENOID_ZMIN, SOLENOID_ZMAX, nZ);
+
+	    // Bz = B0 exp(-(z/L)^2) exp(-(rho/R)^2), with Brho from div B = 0
+	    // at leading order in rho: Brho = -(rho/2) dBz/dz
+	    double L = 80;
+	    double R = 150;
+	    for (int j = 0; j < nRho; j++) {
+		double rho = value(SOLENOID_RHOMIN, SOLENOID_RHOMAX, nRho, j);
+		double rfact = Math.exp(-(rho / R) * (rho / R));
+		for (int k = 0; k < nZ; k++) {
+		    double z = value(SOLENOID_ZMIN, SOLENOID_ZMAX, nZ, k);
+		    double zfact = Math.exp(-(z / L) * (z / L));
+		    double bz = SOLENOID_B0 * zfact * rfact;
+		    double brho = rho * z / (L * L) * bz;
+		    dos.writeFloat(0f);
+		    dos.writeFloat((float) brho);
+		    dos.writeFloat((float) bz);
+		}
+	    }
+	} finally {
+	    dos.close();
+	}
+    }
+
+    /**
+     * Write a synthetic torus map to a temporary file and load it
+     *
+     * @param nPhi
+     *            number of phi grid points
+     * @param nRho
+     *            number of rho grid points
+     * @param nZ
+     *            number of z grid points
+     * @return the torus
+     * @throws IOException
+     */
+    public static Torus createTorus(int nPhi, int nRho, int nZ)
+	    throws IOException {
+	File file = File.createTempFile("synthetic_torus", ".dat");
+	file.deleteOnExit();
+	writeTorus(file, nPhi, nRho, nZ);
+	return Torus.fromBinaryFile(file);
+    }
+
+    /**
+     * Write a synthetic solenoid map to a temporary file and load it
+     *
+     * @param nRho
+     *            number of rho grid points
+     * @param nZ
+     *            number of z grid points
+     * @return the solenoid
+     * @throws IOException
+     */
+    public static Solenoid createSolenoid(int nRho, int nZ) throws IOException {
+	File file = File.createTempFile("synthetic_solenoid", ".dat");
+	file.deleteOnExit();
+	writeSolenoid(file, nRho, nZ);
+	return Solenoid.fromBinaryFile(file);
+    }
+
+    /**
+     * Create a torus with the grid size of the real map
+     *
+     * @return the torus
+     * @throws IOException
+     */
+    public static Torus createTorus() throws IOException {
+	return createTorus(121, 251, 251);
+    }
+
+    /**
+     * Create a solenoid with the grid size of the real map
+     *
+     * @return the solenoid
+     * @throws IOException
+     */
+    public static Solenoid createSolenoid() throws IOException {
+	return createSolenoid(601, 1201);
+    }
+
+    // open a buffered output stream
+    private static DataOutputStream open(File file) throws IOException {
+	return new DataOutputStream(new BufferedOutputStream(
+		new FileOutputStream(file), 1 << 16));
+    }
+
+    // the value at a grid index
+    private static double value(float min, float max, int n, int index) {
+	if (n < 2) {
+	    return min;
+	}
+	return min + index * (max - min) / (n - 1);
+    }
+
+    // write the fixed size header. The grid is cylindrical, lengths are in
+    // cm, angles in degrees and the field in kG.
+    private static void writeHeader(DataOutputStream dos, int fieldCS,
+	    float q1Min, float q1Max, int nQ1, float q2Min, float q2Max,
+	    int nQ2, float q3Min, float q3Max, int nQ3) throws IOException {
+	dos.writeInt(MagneticField.MAGICNUMBER);
+	dos.writeInt(0); // grid cs: cylindrical
+	dos.writeInt(fieldCS); // field cs
+	dos.writeInt(0); // length unit: cm
+	dos.writeInt(0); // angular unit: degrees
+	dos.writeInt(0); // field unit: kG
+	dos.writeFloat(q1Min);
+	dos.writeFloat(q1Max);
+	dos.writeInt(nQ1);
+	dos.writeFloat(q2Min);
+	dos.writeFloat(q2Max);
+	dos.writeInt(nQ2);
+	dos.writeFloat(q3Min);
+	dos.writeFloat(q3Max);
+	dos.writeInt(nQ3);
+	for (int i = 0; i < 5; i++) {
+	    dos.writeInt(0); // reserved
+	}
+    }
+
+    /**
+     * Write the synthetic maps to files
+     *
+     * @param arg
+     *            the torus and solenoid file names
+     */
+    public static void main(String arg[]) {
+	String torusName = (arg.length > 0) ? arg[0] : "synthetic_torus.dat";
+	String solenoidName = (arg.length > 1) ? arg[1]
+		: "synthetic_solenoid.dat";
+	try {
+	    writeTorus(new File(torusName), 121, 251, 251);
+	    writeSolenoid(new File(solenoidName), 601, 1201);
+	    System.out.println("wrote " + torusName + " and " + solenoidName);
+	} catch (IOException e) {
+	    e.printStackTrace();
+	}
+    }
+}
@@ -63,30 +63,45 @@ public class DCSuperLayer3D extends DetectorItem3D {
 
 		DCDataContainer dcData = _eventManager.getDCData();
 
+		int sector[] = dcData.dc_dgtz_sector();
+		int superlayer[] = dcData.dc_dgtz_superlayer();
+		int layer[] = dcData.dc_dgtz_layer();
+		int wire[] = dcData.dc_dgtz_wire();
+		if ((sector == null) || (superlayer == null) || (layer == null)
+				|| (wire == null)) {
+			return;
+		}
+
+		int pid[] = dcData.dc_true_pid();
+		double avgX[] = dcData.dc_true_avgX();
+		double avgY[] = dcData.dc_true_avgY();
+		double avgZ[] = dcData.dc_true_avgZ();
+		double docas[] = dcData.dc_dgtz_doca();
+
 		float coords[] = new float[6];
-		for (int i = 0; i < dcData.getHitCount(0); i++) {
+		for (int i = 0; i < sector.length; i++) {
 			try {
-				int sect1 = dcData.dc_dgtz_sector[i]; // 1 based
+				int sect1 = sector[i]; // 1 based
 				if (sect1 == _sector) {
-					int supl1 = dcData.dc_dgtz_superlayer[i]; // 1 based
+					int supl1 = superlayer[i]; // 1 based
 					if (supl1 == _superLayer) {
-						int lay1 = dcData.dc_dgtz_layer[i];
-						int wire1 = dcData.dc_dgtz_wire[i];
+						int lay1 = layer[i];
+						int wire1 = wire[i];
 						getWire(lay1, wire1, coords);
 
-						if (showMCTruth() && (dcData.dc_true_avgX != null)) {
-							Color color = truthColor(dcData.dc_true_pid, i);
+						if (showMCTruth() && (avgX != null)) {
+							Color color = truthColor(pid, i);
 							Support3D.drawLine(drawable, coords, color, 1f);
 							// convert mm to cm
-							double xcm = dcData.dc_true_avgX[i] / 10;
-							double ycm = dcData.dc_true_avgY[i] / 10;
-							double zcm = dcData.dc_true_avgZ[i] / 10;
+							double xcm = avgX[i] / 10;
+							double ycm = avgY[i] / 10;
+							double zcm = avgZ[i] / 10;
 							drawMCPoint(drawable, xcm, ycm, zcm, color);
 						} else {
 							Support3D.drawLine(drawable, coords, dgtzColor, 1f);
 						}
 						// mm to cm
-						double doca = dcData.get(dcData.dc_dgtz_doca, i) / 10;
+						double doca = dcData.get(docas, i) / 10;
 
 						if (showDOCA() && !Double.isNaN(doca) && (doca > .01)) {
 							Support3D.drawTube(drawable, coords[0], coords[1],
@@ -70,11 +70,14 @@ public class ECViewPlane3D extends DetectorItem3D {
 		// has EC and PCAL data
 		ECDataContainer ecData = _eventManager.getECData();
 
-		int sector[] = ecData.ec_dgtz_sector;
-		int stack[] = ecData.ec_dgtz_stack;
-		int view[] = ecData.ec_dgtz_view;
-		int strip[] = ecData.ec_dgtz_strip;
-		int pid[] = ecData.ec_true_pid;
+		int sector[] = ecData.ec_dgtz_sector();
+		int stack[] = ecData.ec_dgtz_stack();
+		int view[] = ecData.ec_dgtz_view();
+		int strip[] = ecData.ec_dgtz_strip();
+		int pid[] = ecData.ec_true_pid();
+		double avgX[] = ecData.ec_true_avgX();
+		double avgY[] = ecData.ec_true_avgY();
+		double avgZ[] = ecData.ec_true_avgZ();
 
 		if (sector != null) {
 			float coords[] = new float[24];
@@ -86,9 +89,9 @@ public class ECViewPlane3D extends DetectorItem3D {
 					if (showMCTruth() && (pid != null)) {
 						Color color = truthColor(pid, i);
 						drawStrip(drawable, color, coords);
-						double xcm = ecData.ec_true_avgX[i] / 10;
-						double ycm = ecData.ec_true_avgY[i] / 10;
-						double zcm = ecData.ec_true_avgZ[i] / 10;
+						double xcm = avgX[i] / 10;
+						double ycm = avgY[i] / 10;
+						double zcm = avgZ[i] / 10;
 						drawMCPoint(drawable, xcm, ycm, zcm, color);
 
 					} else {
@@ -77,13 +77,13 @@ public class FTOF3D extends DetectorItem3D {
 	public void drawData(GLAutoDrawable drawable) {
 		FTOFDataContainer ftofData = _eventManager.getFTOFData();
 
-		int sector[] = ftofData.ftofrec_ftofhits_sector;
+		int sector[] = ftofData.ftofrec_ftofhits_sector();
 		if (sector == null) {
 			return;
 		}
-		float recX[] = ftofData.ftofrec_ftofhits_x;
-		float recY[] = ftofData.ftofrec_ftofhits_y;
-		float recZ[] = ftofData.ftofrec_ftofhits_z;
+		float recX[] = ftofData.ftofrec_ftofhits_x();
+		float recY[] = ftofData.ftofrec_ftofhits_y();
+		float recZ[] = ftofData.ftofrec_ftofhits_z();
 
 		int numHits = sector.length;
 		// System.err.println("FTOF DRAWDATA NUM HITS: " + numHits);
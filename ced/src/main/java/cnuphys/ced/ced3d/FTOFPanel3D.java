@@ -86,28 +86,28 @@ public class FTOFPanel3D extends DetectorItem3D {
 
 		switch (_superLayer) {
 		case FTOFDataContainer.PANEL_1A:
-			pid = ftofData.ftof1a_true_pid;
-			sector = ftofData.ftof1a_dgtz_sector;
-			paddleId = ftofData.ftof1a_dgtz_paddle;
-			x = ftofData.ftof1a_true_avgX;
-			y = ftofData.ftof1a_true_avgY;
-			z = ftofData.ftof1a_true_avgZ;
+			pid = ftofData.ftof1a_true_pid();
+			sector = ftofData.ftof1a_dgtz_sector();
+			paddleId = ftofData.ftof1a_dgtz_paddle();
+			x = ftofData.ftof1a_true_avgX();
+			y = ftofData.ftof1a_true_avgY();
+			z = ftofData.ftof1a_true_avgZ();
 			break;
 		case FTOFDataContainer.PANEL_1B:
-			pid = ftofData.ftof1b_true_pid;
-			sector = ftofData.ftof1b_dgtz_sector;
-			paddleId = ftofData.ftof1b_dgtz_paddle;
-			x = ftofData.ftof1b_true_avgX;
-			y = ftofData.ftof1b_true_avgY;
-			z = ftofData.ftof1b_true_avgZ;
+			pid = ftofData.ftof1b_true_pid();
+			sector = ftofData.ftof1b_dgtz_sector();
+			paddleId = ftofData.ftof1b_dgtz_paddle();
+			x = ftofData.ftof1b_true_avgX();
+			y = ftofData.ftof1b_true_avgY();
+			z = ftofData.ftof1b_true_avgZ();
 			break;
 		case FTOFDataContainer.PANEL_2B:
-			pid = ftofData.ftof2b_true_pid;
-			sector = ftofData.ftof2b_dgtz_sector;
-			paddleId = ftofData.ftof2b_dgtz_paddle;
-			x = ftofData.ftof2b_true_avgX;
-			y = ftofData.ftof2b_true_avgY;
-			z = ftofData.ftof2b_true_avgZ;
+			pid = ftofData.ftof2b_true_pid();
+			sector = ftofData.ftof2b_dgtz_sector();
+			paddleId = ftofData.ftof2b_dgtz_paddle();
+			x = ftofData.ftof2b_true_avgX();
+			y = ftofData.ftof2b_true_avgY();
+			z = ftofData.ftof2b_true_avgZ();
 			break;
 		}
 
@@ -38,42 +38,42 @@ public class MCHitDrawer3D extends Item3D {
 			ECDataContainer ecData = _eventManager.getECData();
 
 			// if (showDC()) {
-			// showGemcXYZHits(drawable, dcData, dcData.dc_true_avgX,
-			// dcData.dc_true_avgY, dcData.dc_true_avgZ,
-			// dcData.dc_true_pid, 0);
+			// showGemcXYZHits(drawable, dcData, dcData.dc_true_avgX(),
+			// dcData.dc_true_avgY(), dcData.dc_true_avgZ(),
+			// dcData.dc_true_pid(), 0);
 			// }
 
 			// if (showFTOF()) {
-			// showGemcXYZHits(drawable, ftofData, ftofData.ftof1a_true_avgX,
-			// ftofData.ftof1a_true_avgY, ftofData.ftof1a_true_avgZ,
-			// ftofData.ftof1a_true_pid, 0);
-			// showGemcXYZHits(drawable, ftofData, ftofData.ftof1b_true_avgX,
-			// ftofData.ftof1b_true_avgY, ftofData.ftof1b_true_avgZ,
-			// ftofData.ftof1b_true_pid, 0);
-			// showGemcXYZHits(drawable, ftofData, ftofData.ftof2b_true_avgX,
-			// ftofData.ftof2b_true_avgY, ftofData.ftof2b_true_avgZ,
-			// ftofData.ftof2b_true_pid, 0);
+			// showGemcXYZHits(drawable, ftofData, ftofData.ftof1a_true_avgX(),
+			// ftofData.ftof1a_true_avgY(), ftofData.ftof1a_true_avgZ(),
+			// ftofData.ftof1a_true_pid(), 0);
+			// showGemcXYZHits(drawable, ftofData, ftofData.ftof1b_true_avgX(),
+			// ftofData.ftof1b_true_avgY(), ftofData.ftof1b_true_avgZ(),
+			// ftofData.ftof1b_true_pid(), 0);
+			// showGemcXYZHits(drawable, ftofData, ftofData.ftof2b_true_avgX(),
+			// ftofData.ftof2b_true_avgY(), ftofData.ftof2b_true_avgZ(),
+			// ftofData.ftof2b_true_pid(), 0);
 			// }
 
 			if (showEC()) {
-				showGemcXYZHits(drawable, ecData, ecData.ec_true_avgX,
-						ecData.ec_true_avgY, ecData.ec_true_avgZ,
-						ecData.ec_true_pid, 0);
+				showGemcXYZHits(drawable, ecData, ecData.ec_true_avgX(),
+						ecData.ec_true_avgY(), ecData.ec_true_avgZ(),
+						ecData.ec_true_pid(), 0);
 			}
 
 			if (showPCAL()) {
-				showGemcXYZHits(drawable, ecData, ecData.pcal_true_avgX,
-						ecData.pcal_true_avgY, ecData.pcal_true_avgZ,
-						ecData.pcal_true_pid, 0);
+				showGemcXYZHits(drawable, ecData, ecData.pcal_true_avgX(),
+						ecData.pcal_true_avgY(), ecData.pcal_true_avgZ(),
+						ecData.pcal_true_pid(), 0);
 			}
 
 		} else if (_panel3D instanceof CentralPanel3D) { // central detectors
 
 			if (showSVT()) {
 				BSTDataContainer bstData = _eventManager.getBSTData();
-				showGemcXYZHits(drawable, bstData, bstData.bst_true_avgX,
-						bstData.bst_true_avgY, bstData.bst_true_avgZ,
-						bstData.bst_true_pid, 0);
+				showGemcXYZHits(drawable, bstData, bstData.bst_true_avgX(),
+						bstData.bst_true_avgY(), bstData.bst_true_avgZ(),
+						bstData.bst_true_pid(), 0);
 			}
 
 		}
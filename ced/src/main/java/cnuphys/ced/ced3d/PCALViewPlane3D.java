@@ -59,10 +59,13 @@ public class PCALViewPlane3D extends DetectorItem3D {
 		// has EC and PCAL data (stack is always 1 for pcal)
 		ECDataContainer ecData = _eventManager.getECData();
 
-		int sector[] = ecData.pcal_dgtz_sector;
-		int view[] = ecData.pcal_dgtz_view;
-		int strip[] = ecData.pcal_dgtz_strip;
-		int pid[] = ecData.pcal_true_pid;
+		int sector[] = ecData.pcal_dgtz_sector();
+		int view[] = ecData.pcal_dgtz_view();
+		int strip[] = ecData.pcal_dgtz_strip();
+		int pid[] = ecData.pcal_true_pid();
+		double avgX[] = ecData.pcal_true_avgX();
+		double avgY[] = ecData.pcal_true_avgY();
+		double avgZ[] = ecData.pcal_true_avgZ();
 
 		if (sector != null) {
 			float coords[] = new float[24];
@@ -72,9 +75,9 @@ public class PCALViewPlane3D extends DetectorItem3D {
 					if (showMCTruth() && (pid != null)) {
 						Color color = truthColor(pid, i);
 						drawStrip(drawable, color, coords);
-						double xcm = ecData.pcal_true_avgX[i] / 10;
-						double ycm = ecData.pcal_true_avgY[i] / 10;
-						double zcm = ecData.pcal_true_avgZ[i] / 10;
+						double xcm = avgX[i] / 10;
+						double ycm = avgY[i] / 10;
+						double zcm = avgZ[i] / 10;
 						drawMCPoint(drawable, xcm, ycm, zcm, color);
 
 					} else {
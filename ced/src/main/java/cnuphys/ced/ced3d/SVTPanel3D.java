@@ -44,7 +44,16 @@ public class SVTPanel3D extends DetectorItem3D {
 	public void drawData(GLAutoDrawable drawable) {
 		BSTDataContainer bstData = _eventManager.getBSTData();
 
-		int hitCount = bstData.getHitCount(0);
+		int sectors[] = bstData.bst_dgtz_sector();
+		int layers[] = bstData.bst_dgtz_layer();
+		int strips[] = bstData.bst_dgtz_strip();
+		int pid[] = bstData.bst_true_pid();
+		double avgX[] = bstData.bst_true_avgX();
+		double avgY[] = bstData.bst_true_avgY();
+		double avgZ[] = bstData.bst_true_avgZ();
+
+		int hitCount = ((layers == null) || (strips == null)) ? 0 : bstData
+				.getHitCount(0);
 		float coords6[] = new float[6];
 		float coords36[] = new float[36];
 
@@ -52,15 +61,14 @@ public class SVTPanel3D extends DetectorItem3D {
 		// now strips
 		for (int i = 0; i < hitCount; i++) {
 			// 1 based sector
-			int sector = bstData.bst_dgtz_sector[i];
+			int sector = sectors[i];
 			// "big layer" ..8
-			int layer = bstData.bst_dgtz_layer[i];
+			int layer = layers[i];
 
 			if ((_sector == sector) && (_layer == layer)) {
 				drawOutline = true;
 				// strip 1..256
-				int strip = bstData.bst_dgtz_strip[i];
-				int pid[] = bstData.bst_true_pid;
+				int strip = strips[i];
 
 				BSTGeometry.getStrip(sector, layer, strip, coords6);
 
@@ -70,9 +78,9 @@ public class SVTPanel3D extends DetectorItem3D {
 					if (showHits()) {
 						Support3D.drawLine(drawable, coords6, color, 2f);
 					}
-					double xcm = bstData.bst_true_avgX[i] / 10;
-					double ycm = bstData.bst_true_avgY[i] / 10;
-					double zcm = bstData.bst_true_avgZ[i] / 10;
+					double xcm = avgX[i] / 10;
+					double ycm = avgY[i] / 10;
+					double zcm = avgZ[i] / 10;
 
 					drawMCPoint(drawable, xcm, ycm, zcm, color);
 
@@ -91,12 +99,12 @@ public class SVTPanel3D extends DetectorItem3D {
 		}
 
 		// cosmics?
-		int ids[] = bstData.bstrec_cosmics_ID;
+		int ids[] = bstData.bstrec_cosmics_ID();
 		if (showCosmics() && (ids != null)) {
-			double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc;
-			double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope;
-			double yz_interc[] = bstData.bstrec_cosmics_trkline_yz_interc;
-			double yz_slope[] = bstData.bstrec_cosmics_trkline_yz_slope;
+			double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc();
+			double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope();
+			double yz_interc[] = bstData.bstrec_cosmics_trkline_yz_interc();
+			double yz_slope[] = bstData.bstrec_cosmics_trkline_yz_slope();
 			for (int i = 0; i < ids.length; i++) {
 				double y1 = 2000;
 				double y2 = -2000;
@@ -115,14 +123,14 @@ public class SVTPanel3D extends DetectorItem3D {
 		}
 
 		// reconstructed crosses?
-		if (showCrosses() && (bstData.bstrec_crosses_x != null)) {
+		if (showCrosses() && (bstData.bstrec_crosses_x() != null)) {
 			// these arrays are in mm
-			double labx[] = bstData.bstrec_crosses_x;
-			double laby[] = bstData.bstrec_crosses_y;
-			double labz[] = bstData.bstrec_crosses_z;
-			double ux[] = bstData.bstrec_crosses_ux;
-			double uy[] = bstData.bstrec_crosses_uy;
-			double uz[] = bstData.bstrec_crosses_uz;
+			double labx[] = bstData.bstrec_crosses_x();
+			double laby[] = bstData.bstrec_crosses_y();
+			double labz[] = bstData.bstrec_crosses_z();
+			double ux[] = bstData.bstrec_crosses_ux();
+			double uy[] = bstData.bstrec_crosses_uy();
+			double uz[] = bstData.bstrec_crosses_uz();
 
 			int len = (labx == null) ? 0 : labx.length;
 
@@ -194,11 +194,11 @@ public class AllDCView extends CedView {
 				if (showDChbHits() && !_eventManager.isAccumulating()) {
 					int hbHitCount = dcData.getHitBasedHitCount();
 					if (hbHitCount > 0) {
-						int sector[] = dcData.hitbasedtrkg_hbhits_sector;
-						int wire[] = dcData.hitbasedtrkg_hbhits_wire;
-						int layer[] = dcData.hitbasedtrkg_hbhits_layer;
+						int sector[] = dcData.hitbasedtrkg_hbhits_sector();
+						int wire[] = dcData.hitbasedtrkg_hbhits_wire();
+						int layer[] = dcData.hitbasedtrkg_hbhits_layer();
 						;
-						int superLayer[] = dcData.hitbasedtrkg_hbhits_superlayer;
+						int superLayer[] = dcData.hitbasedtrkg_hbhits_superlayer();
 						Rectangle2D.Double wr = new Rectangle2D.Double();
 						Rectangle rr = new Rectangle();
 						for (int i = 0; i < hbHitCount; i++) {
@@ -214,11 +214,11 @@ public class AllDCView extends CedView {
 				if (showDCtbHits() && !_eventManager.isAccumulating()) {
 					int tbHitCount = dcData.getTimeBasedHitCount();
 					if (tbHitCount > 0) {
-						int sector[] = dcData.timebasedtrkg_tbhits_sector;
-						int wire[] = dcData.timebasedtrkg_tbhits_wire;
-						int layer[] = dcData.timebasedtrkg_tbhits_layer;
+						int sector[] = dcData.timebasedtrkg_tbhits_sector();
+						int wire[] = dcData.timebasedtrkg_tbhits_wire();
+						int layer[] = dcData.timebasedtrkg_tbhits_layer();
 						;
-						int superLayer[] = dcData.timebasedtrkg_tbhits_superlayer;
+						int superLayer[] = dcData.timebasedtrkg_tbhits_superlayer();
 						Rectangle2D.Double wr = new Rectangle2D.Double();
 						Rectangle rr = new Rectangle();
 						for (int i = 0; i < tbHitCount; i++) {
@@ -49,10 +49,10 @@ public class McHitDrawer extends ECViewDrawer {
 	private void showGemcXYZHits(Graphics g, IContainer container,
 			ECDataContainer data) {
 
-		double x[] = data.ec_true_avgX;
-		double y[] = data.ec_true_avgY;
-		double z[] = data.ec_true_avgZ;
-		int stack[] = data.ec_dgtz_stack;
+		double x[] = data.ec_true_avgX();
+		double y[] = data.ec_true_avgY();
+		double z[] = data.ec_true_avgZ();
+		int stack[] = data.ec_dgtz_stack();
 
 		if ((x == null) || (y == null) || (z == null) || (x.length < 1)
 				|| (stack == null)) {
@@ -93,9 +93,9 @@ public class McHitDrawer extends ECViewDrawer {
 						ADataContainer.FB_CLAS_XYZ + ADataContainer.FB_CLAS_RTP
 								+ ADataContainer.FB_LOCAL_XYZ
 								+ ADataContainer.FB_TOTEDEP,
-						ECGeometry.getTransformations(plane), data.ec_true_pid,
-						data.ec_true_avgX, data.ec_true_avgY,
-						data.ec_true_avgZ, data.ec_true_totEdep);
+						ECGeometry.getTransformations(plane), data.ec_true_pid(),
+						data.ec_true_avgX(), data.ec_true_avgY(),
+						data.ec_true_avgZ(), data.ec_true_totEdep());
 
 				// get the right item
 				_view.getHexSectorItem(sector).ijkToScreen(container, localP,
@@ -140,11 +140,11 @@ public class McHitDrawer extends ECViewDrawer {
 				// additional feedback
 				if (rr.dataContainer instanceof ECDataContainer) {
 					ECDataContainer ecdata = (ECDataContainer) (rr.dataContainer);
-					int strip = rr.dataContainer.get(ecdata.ec_dgtz_strip,
+					int strip = rr.dataContainer.get(ecdata.ec_dgtz_strip(),
 							hitIndex);
-					int stack = rr.dataContainer.get(ecdata.ec_dgtz_stack,
+					int stack = rr.dataContainer.get(ecdata.ec_dgtz_stack(),
 							hitIndex);
-					int view = rr.dataContainer.get(ecdata.ec_dgtz_view,
+					int view = rr.dataContainer.get(ecdata.ec_dgtz_view(),
 							hitIndex);
 
 					if ((strip > 0) && (stack > 0) && (view > 0)) {
@@ -49,9 +49,9 @@ public class McHitDrawer extends PCALViewDrawer {
 	private void showGemcXYZHits(Graphics g, IContainer container,
 			ECDataContainer data) {
 
-		double x[] = data.pcal_true_avgX;
-		double y[] = data.pcal_true_avgY;
-		double z[] = data.pcal_true_avgZ;
+		double x[] = data.pcal_true_avgX();
+		double y[] = data.pcal_true_avgY();
+		double z[] = data.pcal_true_avgZ();
 
 		if ((x == null) || (y == null) || (z == null) || (x.length < 1)) {
 			return;
@@ -80,9 +80,9 @@ public class McHitDrawer extends PCALViewDrawer {
 					ADataContainer.FB_CLAS_XYZ + ADataContainer.FB_CLAS_RTP
 							+ ADataContainer.FB_LOCAL_XYZ
 							+ ADataContainer.FB_TOTEDEP,
-					PCALGeometry.getTransformations(), data.pcal_true_pid,
-					data.pcal_true_avgX, data.pcal_true_avgY,
-					data.pcal_true_avgZ, data.pcal_true_totEdep);
+					PCALGeometry.getTransformations(), data.pcal_true_pid(),
+					data.pcal_true_avgX(), data.pcal_true_avgY(),
+					data.pcal_true_avgZ(), data.pcal_true_totEdep());
 
 			// get the right item
 			_view.getHexSectorItem(sector).ijkToScreen(container, localP, pp);
@@ -125,8 +125,8 @@ public class McHitDrawer extends PCALViewDrawer {
 				// additional feedback
 				if (rr.dataContainer instanceof ECDataContainer) {
 					ECDataContainer ecdata = (ECDataContainer) (rr.dataContainer);
-					int strip = data.get(ecdata.pcal_dgtz_strip, hitIndex);
-					int view = rr.dataContainer.get(ecdata.pcal_dgtz_view,
+					int strip = data.get(ecdata.pcal_dgtz_strip(), hitIndex);
+					int view = rr.dataContainer.get(ecdata.pcal_dgtz_view(),
 							hitIndex);
 
 					if ((strip > 0) && (view > 0)) {
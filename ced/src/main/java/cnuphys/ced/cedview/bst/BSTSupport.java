@@ -28,16 +28,18 @@ public class BSTSupport {
 			return;
 		}
 
-		double z[] = bstData.bst_true_avgLz;
-		if (z == null) {
+		double z[] = bstData.bst_true_avgLz();
+		int layers[] = bstData.bst_dgtz_layer();
+		int sectors[] = bstData.bst_dgtz_sector();
+		if ((z == null) || (layers == null) || (sectors == null)) {
 			return;
 		}
 
 		int len = z.length;
 		for (int i = 0; i < len; i++) {
 			for (BSTxyPanel panel : panels) {
-				if ((panel.getLayer() == bstData.bst_dgtz_layer[i])
-						&& (panel.getSector() == bstData.bst_dgtz_sector[i])) {
+				if ((panel.getLayer() == layers[i])
+						&& (panel.getSector() == sectors[i])) {
 					int zindex = panel.getZIndex(z[i]);
 
 					if (zindex >= 0) {
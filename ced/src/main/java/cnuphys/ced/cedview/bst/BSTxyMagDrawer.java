@@ -156,7 +156,10 @@ public class BSTxyMagDrawer extends DrawableAdapter {
 	BSTDataContainer bstData = eventManager.getBSTData();
 
 	int hitCount = bstData.getHitCount(0);
-	if (hitCount > 0) {
+	int sectors[] = bstData.bst_dgtz_sector();
+	int layers[] = bstData.bst_dgtz_layer();
+	int strips[] = bstData.bst_dgtz_strip();
+	if ((hitCount > 0) && (layers != null) && (strips != null)) {
 	    
 	    float coords[] = new float[6];
 
@@ -167,10 +170,10 @@ public class BSTxyMagDrawer extends DrawableAdapter {
 	    g.setColor(Color.blue);
 
 	    for (int hitIndex = 0; hitIndex < hitCount; hitIndex++) {
-		if (bstData.bst_dgtz_sector[hitIndex] == sector) {
-		    int layer = bstData.bst_dgtz_layer[hitIndex];
+		if (sectors[hitIndex] == sector) {
+		    int layer = layers[hitIndex];
 		    if ((layer == laylow) || (layer == layhi)) {
-			int strip = bstData.bst_dgtz_strip[hitIndex];
+			int strip = strips[hitIndex];
 			hitString += "(" + layer + "," + strip + ") ";
 			
 			// //always get coords for sector 1
@@ -200,10 +203,10 @@ public class BSTxyMagDrawer extends DrawableAdapter {
 	
 	
 	//crosses?
-	if (bstData.bstrec_crosses_x != null) {
-		double labx[] = bstData.bstrec_crosses_x;
-		double laby[] = bstData.bstrec_crosses_y;
-		double labz[] = bstData.bstrec_crosses_z;
+	if (bstData.bstrec_crosses_x() != null) {
+		double labx[] = bstData.bstrec_crosses_x();
+		double laby[] = bstData.bstrec_crosses_y();
+		double labz[] = bstData.bstrec_crosses_z();
 //		bstData.bstrec
 //		for (int i = 0; i < labx.length; i++) {
 //		    Point3D p3d = new Point3D(labx[i], laby[i], labz[i]);
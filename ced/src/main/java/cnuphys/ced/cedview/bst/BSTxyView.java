@@ -263,10 +263,10 @@ public class BSTxyView extends CedXYView {
 
 	Shape oldClip = clipView(g);
 
-	int ids[] = bstData.bstrec_cosmics_ID;
+	int ids[] = bstData.bstrec_cosmics_ID();
 	if (ids != null) {
-	    double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc;
-	    double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope;
+	    double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc();
+	    double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope();
 
 	    g.setColor(Color.red);
 	    Point p1 = new Point();
@@ -466,7 +466,10 @@ public class BSTxyView extends CedXYView {
 	BSTDataContainer bstData = _eventManager.getBSTData();
 
 	int hitCount = bstData.getHitCount(0);
-	if (hitCount > 0) {
+	int sectors[] = bstData.bst_dgtz_sector();
+	int layers[] = bstData.bst_dgtz_layer();
+	int strips[] = bstData.bst_dgtz_strip();
+	if ((hitCount > 0) && (layers != null) && (strips != null)) {
 
 	    Shape oldClip = g.getClip();
 	    Graphics2D g2 = (Graphics2D) g;
@@ -474,9 +477,8 @@ public class BSTxyView extends CedXYView {
 		    RenderingHints.VALUE_ANTIALIAS_ON);
 
 	    // panels
-	    for (int i = 0; i < bstData.getHitCount(0); i++) {
-		BSTxyPanel panel = getPanel(bstData.bst_dgtz_layer[i],
-			bstData.bst_dgtz_sector[i]);
+	    for (int i = 0; i < hitCount; i++) {
+		BSTxyPanel panel = getPanel(layers[i], sectors[i]);
 		if (panel != null) {
 		    drawSVTPanel(g2, container, panel, Color.red);
 		}
@@ -506,16 +508,16 @@ public class BSTxyView extends CedXYView {
 		Point pp = new Point();
 		for (int hitIndex = 0; hitIndex < hitCount; hitIndex++) {
 		    // covert all to zero based indices
-		    int sector = bstData.bst_dgtz_sector[hitIndex] - 1;
-		    int complayer = bstData.bst_dgtz_layer[hitIndex];
+		    int sector = sectors[hitIndex] - 1;
+		    int complayer = layers[hitIndex];
 		    int superlayer = (complayer - 1) / 2;
 		    int layer = (complayer - 1) % 2;
-		    int strip = bstData.bst_dgtz_strip[hitIndex] - 1;
+		    int strip = strips[hitIndex] - 1;
 
 		    if ((strip > 255) || (strip < 0)) {
 			Log.getInstance()
 				.warning("In BST dgtz data, bad strip Id:"
-					+ bstData.bst_dgtz_strip[hitIndex]);
+					+ strips[hitIndex]);
 		    }
 		    else {
 			// System.err.println("Drawing strip midpoint ");
@@ -537,7 +539,10 @@ public class BSTxyView extends CedXYView {
 
 	    // draw GEMC nearest x and y
 
-	    if ((bstData.bst_true_avgX != null) && showMcTruth()) {
+	    double avgX[] = bstData.bst_true_avgX();
+	    double avgY[] = bstData.bst_true_avgY();
+	    int pid[] = bstData.bst_true_pid();
+	    if ((avgX != null) && showMcTruth()) {
 
 		Rectangle sr = container.getInsetRectangle();
 		g2.clipRect(sr.x, sr.y, sr.width, sr.height);
@@ -549,19 +554,17 @@ public class BSTxyView extends CedXYView {
 		Stroke oldStroke = g2.getStroke();
 		g2.setStroke(stroke);
 
-		for (int i = 0; i < bstData.bst_true_avgX.length; i++) {
+		for (int i = 0; i < avgX.length; i++) {
 		    Color fc = default_fc;
-		    if (bstData.bst_true_pid != null) {
-			LundId lid = LundSupport.getInstance()
-				.get(bstData.bst_true_pid[i]);
+		    if (pid != null) {
+			LundId lid = LundSupport.getInstance().get(pid[i]);
 			if (lid != null) {
 			    fc = lid.getStyle().getFillColor();
 			}
 		    }
 		    g2.setColor(fc);
 
-		    wp1.setLocation(bstData.bst_true_avgX[i],
-			    bstData.bst_true_avgY[i]);
+		    wp1.setLocation(avgX[i], avgY[i]);
 		    container.worldToLocal(p1, wp1);
 
 		    // draw an x
@@ -581,7 +584,10 @@ public class BSTxyView extends CedXYView {
 
 	BSTDataContainer bstData = _eventManager.getBSTData();
 	int hitCount = bstData.getHitCount(0);
-	if (hitCount < 1) {
+	int sectors[] = bstData.bst_dgtz_sector();
+	int layers[] = bstData.bst_dgtz_layer();
+	int strips[] = bstData.bst_dgtz_strip();
+	if ((hitCount < 1) || (layers == null) || (strips == null)) {
 	    return null;
 	}
 
@@ -590,12 +596,12 @@ public class BSTxyView extends CedXYView {
 	int compositeLayer = 2 * superlayer + layer + 1; // composite layer
 
 	for (int hitIndex = 0; hitIndex < hitCount; hitIndex++) {
-	    if (bstData.bst_dgtz_sector[hitIndex] == sect) {
-		if (bstData.bst_dgtz_layer[hitIndex] == compositeLayer) {
+	    if (sectors[hitIndex] == sect) {
+		if (layers[hitIndex] == compositeLayer) {
 		    if (v == null) {
 			v = new Vector<Integer>();
 		    }
-		    v.add(bstData.bst_dgtz_strip[hitIndex]);
+		    v.add(strips[hitIndex]);
 		}
 	    }
 	}
@@ -763,7 +769,7 @@ public class BSTxyView extends CedXYView {
 	BSTDataContainer bstData = _eventManager.getBSTData();
 	String cstr = "$orange$";
 
-	double x[] = bstData.bst_true_avgX;
+	double x[] = bstData.bst_true_avgX();
 
 	int len = (x == null) ? 0 : x.length;
 	if (len == 0) {
@@ -774,7 +780,8 @@ public class BSTxyView extends CedXYView {
 	    feedbackStrings.add(cstr + "GEMC hit count: " + len);
 	}
 
-	double y[] = bstData.bst_true_avgY;
+	double y[] = bstData.bst_true_avgY();
+	int pid[] = bstData.bst_true_pid();
 	Point p1 = new Point();
 	Point2D.Double wp1 = new Point2D.Double();
 	Rectangle rr = new Rectangle();
@@ -785,9 +792,8 @@ public class BSTxyView extends CedXYView {
 	    rr.setFrame(p1.x - 3, p1.y - 3, 6, 6);
 
 	    if (rr.contains(screenPoint)) {
-		if (bstData.bst_true_pid != null) {
-		    LundId lid = LundSupport.getInstance()
-			    .get(bstData.bst_true_pid[index]);
+		if (pid != null) {
+		    LundId lid = LundSupport.getInstance().get(pid[index]);
 		    feedbackStrings.add(cstr + "GEMC pid: " + lid.getName());
 
 		    String hitXYstr = cstr + String.format(
@@ -199,12 +199,12 @@ public class BSTzView extends CedView implements ChangeListener {
 		}
 
 		Shape oldClip = clipView(g);
-		int ids[] = bstData.bstrec_cosmics_ID;
+		int ids[] = bstData.bstrec_cosmics_ID();
 		if (ids != null) {
-			double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc;
-			double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope;
-			double yz_interc[] = bstData.bstrec_cosmics_trkline_yz_interc;
-			double yz_slope[] = bstData.bstrec_cosmics_trkline_yz_slope;
+			double yx_interc[] = bstData.bstrec_cosmics_trkline_yx_interc();
+			double yx_slope[] = bstData.bstrec_cosmics_trkline_yx_slope();
+			double yz_interc[] = bstData.bstrec_cosmics_trkline_yz_interc();
+			double yz_slope[] = bstData.bstrec_cosmics_trkline_yz_slope();
 
 			g.setColor(Color.red);
 			Point p1 = new Point();
@@ -382,14 +382,14 @@ public class BSTzView extends CedView implements ChangeListener {
 
 		BSTDataContainer bstData = _eventManager.getBSTData();
 
-		double x[] = bstData.bst_true_avgX;
+		double x[] = bstData.bst_true_avgX();
 		if (x == null) {
 			return;
 		}
 
-		double y[] = bstData.bst_true_avgY;
-		double z[] = bstData.bst_true_avgZ;
-		int pid[] = bstData.bst_true_pid;
+		double y[] = bstData.bst_true_avgY();
+		double z[] = bstData.bst_true_avgZ();
+		int pid[] = bstData.bst_true_pid();
 
 		Graphics2D g2 = (Graphics2D) g;
 		Shape oldClip = g2.getClip();
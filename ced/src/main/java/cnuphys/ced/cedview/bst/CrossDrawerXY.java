@@ -61,9 +61,9 @@ public class CrossDrawerXY extends BSTxyViewDrawer {
 		Point2D.Double wp2 = new Point2D.Double();
 		Point pp2 = new Point();
 
-		if (bstData.bstrec_crosses_x != null) {
-			double labx[] = bstData.bstrec_crosses_x;
-			double laby[] = bstData.bstrec_crosses_y;
+		if (bstData.bstrec_crosses_x() != null) {
+			double labx[] = bstData.bstrec_crosses_x();
+			double laby[] = bstData.bstrec_crosses_y();
 
 			int len = (labx == null) ? 0 : labx.length;
 
@@ -82,8 +82,8 @@ public class CrossDrawerXY extends BSTxyViewDrawer {
 				double r = pixlen
 						/ WorldGraphicsUtilities.getMeanPixelDensity(container);
 
-				double unitx[] = bstData.bstrec_crosses_ux;
-				double unity[] = bstData.bstrec_crosses_uy;
+				double unitx[] = bstData.bstrec_crosses_ux();
+				double unity[] = bstData.bstrec_crosses_uy();
 				wp2.x = wp.x + r * unitx[i];
 				wp2.y = wp.y + r * unity[i];
 
@@ -145,21 +145,21 @@ public class CrossDrawerXY extends BSTxyViewDrawer {
 		for (int i = 0; i < _fbRects.length; i++) {
 			if ((_fbRects[i] != null) && _fbRects[i].contains(screenPoint)) {
 
-				double labx = bstData.bstrec_crosses_x[i];
-				double laby = bstData.bstrec_crosses_y[i];
-				double labz = bstData.bstrec_crosses_z[i];
+				double labx = bstData.bstrec_crosses_x()[i];
+				double laby = bstData.bstrec_crosses_y()[i];
+				double labz = bstData.bstrec_crosses_z()[i];
 
-				int id = bstData.bstrec_crosses_ID[i];
-				int sect = bstData.bstrec_crosses_sector[i];
-				int reg = bstData.bstrec_crosses_region[i];
+				int id = bstData.bstrec_crosses_ID()[i];
+				int sect = bstData.bstrec_crosses_sector()[i];
+				int reg = bstData.bstrec_crosses_region()[i];
 
-				double xerr = bstData.bstrec_crosses_err_x[i];
-				double yerr = bstData.bstrec_crosses_err_y[i];
-				double zerr = bstData.bstrec_crosses_err_z[i];
+				double xerr = bstData.bstrec_crosses_err_x()[i];
+				double yerr = bstData.bstrec_crosses_err_y()[i];
+				double zerr = bstData.bstrec_crosses_err_z()[i];
 
-				double ux = bstData.bstrec_crosses_ux[i];
-				double uy = bstData.bstrec_crosses_uy[i];
-				double uz = bstData.bstrec_crosses_uz[i];
+				double ux = bstData.bstrec_crosses_ux()[i];
+				double uy = bstData.bstrec_crosses_uy()[i];
+				double uz = bstData.bstrec_crosses_uz()[i];
 
 				feedbackStrings.add(FBCOL + "cross ID: " + id + "  sect: "
 						+ sect + "  reg: " + reg);
@@ -62,11 +62,11 @@ public class CrossDrawerZ extends BSTzViewDrawer {
 		Point2D.Double wp3 = new Point2D.Double();
 		Point2D.Double wp4 = new Point2D.Double();
 
-		if (bstData.bstrec_crosses_x != null) {
-			double labx[] = bstData.bstrec_crosses_x;
-			double laby[] = bstData.bstrec_crosses_y;
-			double labz[] = bstData.bstrec_crosses_z;
-			double errz[] = bstData.bstrec_crosses_err_z;
+		if (bstData.bstrec_crosses_x() != null) {
+			double labx[] = bstData.bstrec_crosses_x();
+			double laby[] = bstData.bstrec_crosses_y();
+			double labz[] = bstData.bstrec_crosses_z();
+			double errz[] = bstData.bstrec_crosses_err_z();
 
 			int len = (labx == null) ? 0 : labx.length;
 
@@ -85,9 +85,9 @@ public class CrossDrawerZ extends BSTzViewDrawer {
 				double r = pixlen
 						/ WorldGraphicsUtilities.getMeanPixelDensity(container);
 
-				double unitx[] = bstData.bstrec_crosses_ux;
-				double unity[] = bstData.bstrec_crosses_uy;
-				double unitz[] = bstData.bstrec_crosses_uz;
+				double unitx[] = bstData.bstrec_crosses_ux();
+				double unity[] = bstData.bstrec_crosses_uy();
+				double unitz[] = bstData.bstrec_crosses_uz();
 				double xa = labx[i] + r * unitx[i];
 				double ya = laby[i] + r * unity[i];
 				double za = labz[i] + r * unitz[i];
@@ -158,21 +158,21 @@ public class CrossDrawerZ extends BSTzViewDrawer {
 		for (int i = 0; i < _fbRects.length; i++) {
 			if ((_fbRects[i] != null) && _fbRects[i].contains(screenPoint)) {
 
-				double labx = bstData.bstrec_crosses_x[i];
-				double laby = bstData.bstrec_crosses_y[i];
-				double labz = bstData.bstrec_crosses_z[i];
+				double labx = bstData.bstrec_crosses_x()[i];
+				double laby = bstData.bstrec_crosses_y()[i];
+				double labz = bstData.bstrec_crosses_z()[i];
 
-				int id = bstData.bstrec_crosses_ID[i];
-				int sect = bstData.bstrec_crosses_sector[i];
-				int reg = bstData.bstrec_crosses_region[i];
+				int id = bstData.bstrec_crosses_ID()[i];
+				int sect = bstData.bstrec_crosses_sector()[i];
+				int reg = bstData.bstrec_crosses_region()[i];
 
-				double xerr = bstData.bstrec_crosses_err_x[i];
-				double yerr = bstData.bstrec_crosses_err_y[i];
-				double zerr = bstData.bstrec_crosses_err_z[i];
+				double xerr = bstData.bstrec_crosses_err_x()[i];
+				double yerr = bstData.bstrec_crosses_err_y()[i];
+				double zerr = bstData.bstrec_crosses_err_z()[i];
 
-				double ux = bstData.bstrec_crosses_ux[i];
-				double uy = bstData.bstrec_crosses_uy[i];
-				double uz = bstData.bstrec_crosses_uz[i];
+				double ux = bstData.bstrec_crosses_ux()[i];
+				double uy = bstData.bstrec_crosses_uy()[i];
+				double uz = bstData.bstrec_crosses_uz()[i];
 
 				feedbackStrings.add(FBCOL + "cross ID: " + id + "  sect: "
 						+ sect + "  reg: " + reg);
@@ -93,21 +93,21 @@ public class CrossDrawer extends DCXYViewDrawer {
 			Point pp = new Point();
 
 			if (_mode == HB) {
-				tiltedx = dcData.hitbasedtrkg_hbcrosses_x;
-				tiltedy = dcData.hitbasedtrkg_hbcrosses_y;
-				tiltedz = dcData.hitbasedtrkg_hbcrosses_z;
-				sector = dcData.hitbasedtrkg_hbcrosses_sector;
-				unitx = dcData.hitbasedtrkg_hbcrosses_ux;
-				unity = dcData.hitbasedtrkg_hbcrosses_uy;
-				unitz = dcData.hitbasedtrkg_hbcrosses_uz;
+				tiltedx = dcData.hitbasedtrkg_hbcrosses_x();
+				tiltedy = dcData.hitbasedtrkg_hbcrosses_y();
+				tiltedz = dcData.hitbasedtrkg_hbcrosses_z();
+				sector = dcData.hitbasedtrkg_hbcrosses_sector();
+				unitx = dcData.hitbasedtrkg_hbcrosses_ux();
+				unity = dcData.hitbasedtrkg_hbcrosses_uy();
+				unitz = dcData.hitbasedtrkg_hbcrosses_uz();
 			} else if (_mode == TB) {
-				tiltedx = dcData.timebasedtrkg_tbcrosses_x;
-				tiltedy = dcData.timebasedtrkg_tbcrosses_y;
-				tiltedz = dcData.timebasedtrkg_tbcrosses_z;
-				sector = dcData.timebasedtrkg_tbcrosses_sector;
-				unitx = dcData.timebasedtrkg_tbcrosses_ux;
-				unity = dcData.timebasedtrkg_tbcrosses_uy;
-				unitz = dcData.timebasedtrkg_tbcrosses_uz;
+				tiltedx = dcData.timebasedtrkg_tbcrosses_x();
+				tiltedy = dcData.timebasedtrkg_tbcrosses_y();
+				tiltedz = dcData.timebasedtrkg_tbcrosses_z();
+				sector = dcData.timebasedtrkg_tbcrosses_sector();
+				unitx = dcData.timebasedtrkg_tbcrosses_ux();
+				unity = dcData.timebasedtrkg_tbcrosses_uy();
+				unitz = dcData.timebasedtrkg_tbcrosses_uz();
 			}
 
 			_fbRects[_mode].rects = new Rectangle[crossCount];
@@ -202,32 +202,32 @@ public class CrossDrawer extends DCXYViewDrawer {
 
 		boolean hitBased = (_mode == HB);
 
-		double cross_x[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_x
-				: dcData.timebasedtrkg_tbcrosses_x;
-		double cross_y[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_y
-				: dcData.timebasedtrkg_tbcrosses_y;
-		double cross_z[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_z
-				: dcData.timebasedtrkg_tbcrosses_z;
-		int idarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_ID
-				: dcData.timebasedtrkg_tbcrosses_ID;
-		int sectarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_sector
-				: dcData.timebasedtrkg_tbcrosses_sector;
-		int regarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_region
-				: dcData.timebasedtrkg_tbcrosses_region;
+		double cross_x[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_x()
+				: dcData.timebasedtrkg_tbcrosses_x();
+		double cross_y[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_y()
+				: dcData.timebasedtrkg_tbcrosses_y();
+		double cross_z[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_z()
+				: dcData.timebasedtrkg_tbcrosses_z();
+		int idarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_ID()
+				: dcData.timebasedtrkg_tbcrosses_ID();
+		int sectarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_sector()
+				: dcData.timebasedtrkg_tbcrosses_sector();
+		int regarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_region()
+				: dcData.timebasedtrkg_tbcrosses_region();
 		// int trackarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_trackID
 		// : dcData.timebasedtrkg_tbcrosses_trackID;
-		double errxarray[] = (_mode == HB) ? dcData.hitbasedtrkg_hbcrosses_err_x
-				: dcData.timebasedtrkg_tbcrosses_err_x;
-		double erryarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_err_y
-				: dcData.timebasedtrkg_tbcrosses_err_y;
-		double errzarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_err_z
-				: dcData.timebasedtrkg_tbcrosses_err_z;
-		double uxarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_ux
-				: dcData.timebasedtrkg_tbcrosses_ux;
-		double uyarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_uy
-				: dcData.timebasedtrkg_tbcrosses_uy;
-		double uzarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_uz
-				: dcData.timebasedtrkg_tbcrosses_uz;
+		double errxarray[] = (_mode == HB) ? dcData.hitbasedtrkg_hbcrosses_err_x()
+				: dcData.timebasedtrkg_tbcrosses_err_x();
+		double erryarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_err_y()
+				: dcData.timebasedtrkg_tbcrosses_err_y();
+		double errzarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_err_z()
+				: dcData.timebasedtrkg_tbcrosses_err_z();
+		double uxarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_ux()
+				: dcData.timebasedtrkg_tbcrosses_ux();
+		double uyarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_uy()
+				: dcData.timebasedtrkg_tbcrosses_uy();
+		double uzarray[] = hitBased ? dcData.hitbasedtrkg_hbcrosses_uz()
+				: dcData.timebasedtrkg_tbcrosses_uz();
 
 		for (int i = 0; i < _fbRects[_mode].rects.length; i++) {
 			if ((_fbRects[_mode].rects[i] != null)
@@ -46,10 +46,10 @@ public class McHitDrawer extends DCXYViewDrawer {
 
 	private void showGemcXYHits(Graphics g, IContainer container,
 			DCDataContainer data) {
-		double x[] = data.dc_true_avgX;
-		double y[] = data.dc_true_avgY;
-		double z[] = data.dc_true_avgZ;
-		int pid[] = data.dc_true_pid;
+		double x[] = data.dc_true_avgX();
+		double y[] = data.dc_true_avgY();
+		double z[] = data.dc_true_avgZ();
+		int pid[] = data.dc_true_pid();
 
 		if ((x == null) || (y == null) || (z == null) || (x.length < 1)) {
 			return;
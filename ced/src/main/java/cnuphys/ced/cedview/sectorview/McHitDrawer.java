@@ -46,28 +46,28 @@ public class McHitDrawer extends SectorViewDrawer {
 
 		_fbRects.clear();
 
-		showGemcXYZHits(g, container, dcData, dcData.dc_true_avgX,
-				dcData.dc_true_avgY, dcData.dc_true_avgZ, dcData.dc_true_pid, 0);
+		showGemcXYZHits(g, container, dcData, dcData.dc_true_avgX(),
+				dcData.dc_true_avgY(), dcData.dc_true_avgZ(), dcData.dc_true_pid(), 0);
 
-		// showGemcXYZHits(g, container, ecData, ecData.ec_true_avgX,
-		// ecData.ec_true_avgY, ecData.ec_true_avgZ, ecData.ec_true_pid,
+		// showGemcXYZHits(g, container, ecData, ecData.ec_true_avgX(),
+		// ecData.ec_true_avgY(), ecData.ec_true_avgZ(), ecData.ec_true_pid(),
 		// ECDataContainer.EC_OPTION);
 		//
-		// showGemcXYZHits(g, container, ecData, ecData.pcal_true_avgX,
-		// ecData.pcal_true_avgY, ecData.ec_true_avgZ,
-		// ecData.pcal_true_pid, ECDataContainer.PCAL_OPTION);
+		// showGemcXYZHits(g, container, ecData, ecData.pcal_true_avgX(),
+		// ecData.pcal_true_avgY(), ecData.ec_true_avgZ(),
+		// ecData.pcal_true_pid(), ECDataContainer.PCAL_OPTION);
 		//
-		// showGemcXYZHits(g, container, ftofData, ftofData.ftof1a_true_avgX,
-		// ftofData.ftof1a_true_avgY, ftofData.ftof1a_true_avgZ,
-		// ftofData.ftof1a_true_pid, FTOFDataContainer.PANEL_1A);
+		// showGemcXYZHits(g, container, ftofData, ftofData.ftof1a_true_avgX(),
+		// ftofData.ftof1a_true_avgY(), ftofData.ftof1a_true_avgZ(),
+		// ftofData.ftof1a_true_pid(), FTOFDataContainer.PANEL_1A);
 		//
-		// showGemcXYZHits(g, container, ftofData, ftofData.ftof1b_true_avgX,
-		// ftofData.ftof1b_true_avgY, ftofData.ftof1b_true_avgZ,
-		// ftofData.ftof1b_true_pid, FTOFDataContainer.PANEL_1B);
+		// showGemcXYZHits(g, container, ftofData, ftofData.ftof1b_true_avgX(),
+		// ftofData.ftof1b_true_avgY(), ftofData.ftof1b_true_avgZ(),
+		// ftofData.ftof1b_true_pid(), FTOFDataContainer.PANEL_1B);
 		//
-		// showGemcXYZHits(g, container, ftofData, ftofData.ftof2b_true_avgX,
-		// ftofData.ftof2b_true_avgY, ftofData.ftof2b_true_avgZ,
-		// ftofData.ftof2b_true_pid, FTOFDataContainer.PANEL_2B);
+		// showGemcXYZHits(g, container, ftofData, ftofData.ftof2b_true_avgX(),
+		// ftofData.ftof2b_true_avgY(), ftofData.ftof2b_true_avgZ(),
+		// ftofData.ftof2b_true_pid(), FTOFDataContainer.PANEL_2B);
 
 	}
 
@@ -174,18 +174,18 @@ public class McHitDrawer extends SectorViewDrawer {
 					int stack = -1;
 					int view = -1;
 					if (rr.option == ECDataContainer.EC_OPTION) {
-						strip = rr.dataContainer.get(data.ec_dgtz_strip,
+						strip = rr.dataContainer.get(data.ec_dgtz_strip(),
 								hitIndex);
-						stack = rr.dataContainer.get(data.ec_dgtz_stack,
+						stack = rr.dataContainer.get(data.ec_dgtz_stack(),
 								hitIndex);
 						view = rr.dataContainer
-								.get(data.ec_dgtz_view, hitIndex);
+								.get(data.ec_dgtz_view(), hitIndex);
 					} else { // pcal
-						strip = rr.dataContainer.get(data.pcal_dgtz_strip,
+						strip = rr.dataContainer.get(data.pcal_dgtz_strip(),
 								hitIndex);
-						stack = rr.dataContainer.get(data.pcal_dgtz_stack,
+						stack = rr.dataContainer.get(data.pcal_dgtz_stack(),
 								hitIndex);
-						view = rr.dataContainer.get(data.pcal_dgtz_view,
+						view = rr.dataContainer.get(data.pcal_dgtz_view(),
 								hitIndex);
 					}
 
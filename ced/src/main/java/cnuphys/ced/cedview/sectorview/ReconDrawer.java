@@ -67,12 +67,12 @@ public class ReconDrawer extends SectorViewDrawer {
 	FTOFDataContainer ftofData = _eventManager.getFTOFData();
 
 	// arggh this sector array is zero based
-	int sector[] = ftofData.ftofrec_ftofhits_sector;
-	float recX[] = ftofData.ftofrec_ftofhits_x;
-	float recY[] = ftofData.ftofrec_ftofhits_y;
-	float recZ[] = ftofData.ftofrec_ftofhits_z;
-	int panel[] = ftofData.ftofrec_ftofhits_panel_id;
-	int paddle[] = ftofData.ftofrec_ftofhits_paddle_id;
+	int sector[] = ftofData.ftofrec_ftofhits_sector();
+	float recX[] = ftofData.ftofrec_ftofhits_x();
+	float recY[] = ftofData.ftofrec_ftofhits_y();
+	float recZ[] = ftofData.ftofrec_ftofhits_z();
+	int panel[] = ftofData.ftofrec_ftofhits_panel_id();
+	int paddle[] = ftofData.ftofrec_ftofhits_paddle_id();
 
 	// _view.getWorldFromDetectorXYZ(100 * v3d[0], 100 *v3d[1],
 	// 100 * v3d[2], wp);
@@ -130,21 +130,21 @@ public class ReconDrawer extends SectorViewDrawer {
 
 	// option specifies whether hit based (0) or time based (1)
 	if (option == 0) {
-	    hX = dcData.hitbasedtrkg_hbhits_X;
-	    hZ = dcData.hitbasedtrkg_hbhits_Z;
-	    sector = dcData.hitbasedtrkg_hbhits_sector;
-	    superlayer = dcData.hitbasedtrkg_hbhits_superlayer;
-	    layer = dcData.hitbasedtrkg_hbhits_layer;
-	    wire = dcData.hitbasedtrkg_hbhits_wire;
+	    hX = dcData.hitbasedtrkg_hbhits_X();
+	    hZ = dcData.hitbasedtrkg_hbhits_Z();
+	    sector = dcData.hitbasedtrkg_hbhits_sector();
+	    superlayer = dcData.hitbasedtrkg_hbhits_superlayer();
+	    layer = dcData.hitbasedtrkg_hbhits_layer();
+	    wire = dcData.hitbasedtrkg_hbhits_wire();
 	    color = DataDrawSupport.DC_HB_COLOR;
 	}
 	else if (option == 1) { // time based
-	    hX = dcData.timebasedtrkg_tbhits_X;
-	    hZ = dcData.timebasedtrkg_tbhits_Z;
-	    sector = dcData.timebasedtrkg_tbhits_sector;
-	    superlayer = dcData.timebasedtrkg_tbhits_superlayer;
-	    layer = dcData.timebasedtrkg_tbhits_layer;
-	    wire = dcData.timebasedtrkg_tbhits_wire;
+	    hX = dcData.timebasedtrkg_tbhits_X();
+	    hZ = dcData.timebasedtrkg_tbhits_Z();
+	    sector = dcData.timebasedtrkg_tbhits_sector();
+	    superlayer = dcData.timebasedtrkg_tbhits_superlayer();
+	    layer = dcData.timebasedtrkg_tbhits_layer();
+	    wire = dcData.timebasedtrkg_tbhits_wire();
 	    color = DataDrawSupport.DC_TB_COLOR;
 	}
 	else {
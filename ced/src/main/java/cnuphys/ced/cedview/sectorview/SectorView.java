@@ -1006,20 +1006,20 @@ public class SectorView extends CedView implements ChangeListener {
 				@Override
 				public void actionPerformed(ActionEvent e) {
 					// for now just back swim the first
-					double reconsP = dcData.timebasedtrkg_tbtracks_p[0];
+					double reconsP = dcData.timebasedtrkg_tbtracks_p()[0];
 
 					// have to swim traj backwards!
 					// swimBackwardsToVertex(int q, double xo, double yo, double
 					// zo, double px, double py, double pz) {
 
-					int q = dcData.timebasedtrkg_tbtracks_q[0];
-					double xo = dcData.timebasedtrkg_tbtracks_c3_x[0] / 100;
-					double yo = dcData.timebasedtrkg_tbtracks_c3_y[0] / 100;
-					double zo = dcData.timebasedtrkg_tbtracks_c3_z[0] / 100;
+					int q = dcData.timebasedtrkg_tbtracks_q()[0];
+					double xo = dcData.timebasedtrkg_tbtracks_c3_x()[0] / 100;
+					double yo = dcData.timebasedtrkg_tbtracks_c3_y()[0] / 100;
+					double zo = dcData.timebasedtrkg_tbtracks_c3_z()[0] / 100;
 
-					double ux = dcData.timebasedtrkg_tbtracks_c3_ux[0];
-					double uy = dcData.timebasedtrkg_tbtracks_c3_uy[0];
-					double uz = dcData.timebasedtrkg_tbtracks_c3_uz[0];
+					double ux = dcData.timebasedtrkg_tbtracks_c3_ux()[0];
+					double uy = dcData.timebasedtrkg_tbtracks_c3_uy()[0];
+					double uz = dcData.timebasedtrkg_tbtracks_c3_uz()[0];
 
 					double pxo = reconsP * ux;
 					double pyo = reconsP * uy;
@@ -239,29 +239,8 @@ public class ClasIoAccumulationDialog extends JDialog {
 
 					@Override
 					public void run() {
-						AccumulationManager.getInstance().notifyListeners(
-								AccumulationManager.ACCUMULATION_STARTED);
-						_eventManager.setAccumulating(true);
-
-						int modCount = Math.max(2, fcount / 100);
-
-						for (int i = 0; i < fcount; i++) {
-							try {
-								_eventManager.getNextEvent();
-							} catch (Exception e) {
-								e.printStackTrace();
-								break;
-							}
-
-							if (((i + 1) % modCount) == 0) {
-								int value = (int) ((100.0 * i) / fcount);
-								_progressBar.setValue(value);
-							}
-						}
-						// we are done accumulating
-						_eventManager.setAccumulating(false);
-						AccumulationManager.getInstance().notifyListeners(
-								AccumulationManager.ACCUMULATION_FINISHED);
+						AccumulationManager.getInstance().accumulateEvents(
+								fcount, _progressBar);
 
 						SwingUtilities.invokeLater(new Runnable() {
 							@Override
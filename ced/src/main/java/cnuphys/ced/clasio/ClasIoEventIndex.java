@@ -0,0 +1,468 @@
+package cnuphys.ced.clasio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Vector;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+import org.jlab.evio.clas12.EvioSource;
+
+import cnuphys.bCNU.log.Log;
+
+/**
+ * A per-event index of an evio file: which banks each event has, and the hit
+ * counts of each detector (and the number of hit and time based tracks). The
+ * index is built once, by a background pass over the file with its own
+ * source, and saved in a sidecar file (the event file path with
+ * {@link #EXTENSION} appended) so that reopening the file does not rebuild it.
+ * Only one column of each counted bank is read, so indexing is much faster
+ * than loading the events into the data containers.
+ * <p>
+ * The index is used to jump straight to the next or previous event matching
+ * a condition. Searches can be made while the index is being built; they see
+ * the events indexed so far.
+ *
+ * @author heddle
+ *
+ */
+public class ClasIoEventIndex {
+
+	/** the sidecar file extension */
+	public static final String EXTENSION = ".cedidx";
+
+	/** index of the DC hit count */
+	public static final int DC = 0;
+
+	/** index of the EC (including PCAL) hit count */
+	public static final int EC = 1;
+
+	/** index of the FTOF (all panels) hit count */
+	public static final int FTOF = 2;
+
+	/** index of the BST hit count */
+	public static final int BST = 3;
+
+	/** index of the BMT hit count */
+	public static final int BMT = 4;
+
+	/** index of the CND hit count */
+	public static final int CND = 5;
+
+	/** index of the hit based track count */
+	public static final int HB_TRACKS = 6;
+
+	/** index of the time based track count */
+	public static final int TB_TRACKS = 7;
+
+	/** names of the counts, for menus */
+	public static final String COUNT_NAMES[] = { "DC hits", "EC hits",
+			"FTOF hits", "BST hits", "BMT hits", "CND hits",
+			"Hit based tracks", "Time based tracks" };
+
+	// the (integer) bank columns counted for each count. Only this column of
+	// a bank is read, and the count is its length.
+	private static final String COUNT_COLUMNS[][] = {
+			{ "DC::dgtz.sector" },
+			{ "EC::dgtz.sector", "PCAL::dgtz.sector" },
+			{ "FTOF1A::dgtz.sector", "FTOF1B::dgtz.sector",
+					"FTOF2B::dgtz.sector" }, { "BST::dgtz.sector" },
+			{ "BMT::dgtz.sector" }, { "CND::dgtz.paddle" },
+			{ "HitBasedTrkg::HBTracks.q" }, { "TimeBasedTrkg::TBTracks.q" } };
+
+	/** number of counts per event */
+	public static final int NUM_COUNTS = COUNT_COLUMNS.length;
+
+	// identifies a sidecar file and its version
+	private static final int MAGIC = 0xCED1D0;
+	private static final int VERSION = 1;
+
+	// the indexed event file
+	private final File _file;
+
+	// the number of events
+	private int _numEvents;
+
+	// the bank names, the bits of the bank sets are indices into this
+	private final Vector<String> _bankNames = new Vector<String>();
+	private final HashMap<String, Integer> _bankIndices = new HashMap<String, Integer>();
+
+	// per event (0-based) bank set
+	private BitSet _banks[];
+
+	// counts, indexed by count then by 0-based event
+	private int _counts[][];
+
+	// number of events indexed so far. Written after the event's data,
+	// so a search up to this number sees complete data.
+	private volatile int _indexedCount;
+
+	// tells the indexer to quit
+	private volatile boolean _stopped;
+
+	/**
+	 * Create an index for a file. Use {@link #start()} to read or build it.
+	 *
+	 * @param file
+	 *            the evio event file
+	 */
+	public ClasIoEventIndex(File file) {
+		_file = file;
+	}
+
+	/**
+	 * Get the sidecar file for an event file
+	 *
+	 * @param file
+	 *            the event file
+	 * @return the sidecar index file
+	 */
+	public static File getIndexFile(File file) {
+		return new File(file.getPath() + EXTENSION);
+	}
+
+	/**
+	 * Read the index from its sidecar file or, if there is no up to date one,
+	 * start building it on a background thread.
+	 */
+	public void start() {
+		File indexFile = getIndexFile(_file);
+		if (indexFile.exists()) {
+			try {
+				if (read(indexFile)) {
+					return;
+				}
+			} catch (IOException e) {
+				System.err.println("Could not read event index "
+						+ indexFile.getPath() + ": " + e.getMessage());
+			}
+		}
+
+		Runnable runnable = new Runnable() {
+
+			@Override
+			public void run() {
+				build();
+			}
+		};
+
+		Thread thread = new Thread(runnable, "ced event index");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+	}
+
+	/**
+	 * Stop building the index. It is not written.
+	 */
+	public void stop() {
+		_stopped = true;
+	}
+
+	/**
+	 * Check whether the whole file has been indexed
+	 *
+	 * @return <code>true</code> if the index is complete
+	 */
+	public boolean isComplete() {
+		int indexed = _indexedCount;
+		return (indexed > 0) && (indexed == _numEvents);
+	}
+
+	/**
+	 * Get the number of events indexed so far
+	 *
+	 * @return the number of events indexed
+	 */
+	public int getIndexedCount() {
+		return _indexedCount;
+	}
+
+	/**
+	 * Get the indexed file
+	 *
+	 * @return the indexed file
+	 */
+	public File getFile() {
+		return _file;
+	}
+
+	/**
+	 * Get a count for an event
+	 *
+	 * @param eventNumber
+	 *            the 1-based event number
+	 * @param count
+	 *            which count, e.g. {@link #DC}
+	 * @return the count, or -1 if the event has not been indexed
+	 */
+	public int getCount(int eventNumber, int count) {
+		if ((eventNumber < 1) || (eventNumber > _indexedCount)) {
+			return -1;
+		}
+		return _counts[count][eventNumber - 1];
+	}
+
+	/**
+	 * Check whether an event has a bank
+	 *
+	 * @param eventNumber
+	 *            the 1-based event number
+	 * @param bankName
+	 *            the bank name, e.g. "DC::dgtz"
+	 * @return <code>true</code> if the event has been indexed and has the bank
+	 */
+	public boolean hasBank(int eventNumber, String bankName) {
+		if ((eventNumber < 1) || (eventNumber > _indexedCount)) {
+			return false;
+		}
+		Integer index;
+		synchronized (_bankIndices) {
+			index = _bankIndices.get(bankName);
+		}
+		return (index != null) && _banks[eventNumber - 1].get(index);
+	}
+
+	/**
+	 * Find the next event with a count greater than a threshold
+	 *
+	 * @param eventNumber
+	 *            the 1-based number of the event to search after
+	 * @param count
+	 *            which count, e.g. {@link #TB_TRACKS}
+	 * @param threshold
+	 *            the count must be greater than this
+	 * @return the 1-based number of the matching event, or -1 if there is none
+	 *         (in the events indexed so far)
+	 */
+	public int findNext(int eventNumber, int count, int threshold) {
+		int indexed = _indexedCount;
+		for (int i = Math.max(0, eventNumber); i < indexed; i++) {
+			if (_counts[count][i] > threshold) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the previous event with a count greater than a threshold
+	 *
+	 * @param eventNumber
+	 *            the 1-based number of the event to search before
+	 * @param count
+	 *            which count, e.g. {@link #TB_TRACKS}
+	 * @param threshold
+	 *            the count must be greater than this
+	 * @return the 1-based number of the matching event, or -1 if there is none
+	 *         (in the events indexed so far)
+	 */
+	public int findPrevious(int eventNumber, int count, int threshold) {
+		int indexed = _indexedCount;
+		for (int i = Math.min(eventNumber - 1, indexed) - 1; i >= 0; i--) {
+			if (_counts[count][i] > threshold) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the next event that has a given bank
+	 *
+	 * @param eventNumber
+	 *            the 1-based number of the event to search after
+	 * @param bankName
+	 *            the bank name, e.g. "TimeBasedTrkg::TBTracks"
+	 * @return the 1-based number of the matching event, or -1 if there is none
+	 *         (in the events indexed so far)
+	 */
+	public int findNextWithBank(int eventNumber, String bankName) {
+		int indexed = _indexedCount;
+		for (int i = Math.max(0, eventNumber); i < indexed; i++) {
+			if (hasBank(i + 1, bankName)) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the previous event that has a given bank
+	 *
+	 * @param eventNumber
+	 *            the 1-based number of the event to search before
+	 * @param bankName
+	 *            the bank name, e.g. "TimeBasedTrkg::TBTracks"
+	 * @return the 1-based number of the matching event, or -1 if there is none
+	 *         (in the events indexed so far)
+	 */
+	public int findPreviousWithBank(int eventNumber, String bankName) {
+		int indexed = _indexedCount;
+		for (int i = Math.min(eventNumber - 1, indexed) - 1; i >= 0; i--) {
+			if (hasBank(i + 1, bankName)) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	// index the file with a separate source (the event manager's source is
+	// not thread safe) and save the index
+	private void build() {
+		EvioSource source = new EvioSource();
+		try {
+			source.open(_file);
+			int numEvents = source.getSize();
+			_counts = new int[NUM_COUNTS][numEvents];
+			_banks = new BitSet[numEvents];
+			_numEvents = numEvents;
+
+			long time = System.currentTimeMillis();
+			for (int i = 0; (i < numEvents) && !_stopped; i++) {
+				EvioDataEvent event = (EvioDataEvent) source.getNextEvent();
+				_banks[i] = new BitSet();
+				if (event != null) {
+					index(i, event);
+				}
+				_indexedCount = i + 1;
+			}
+
+			if (!_stopped) {
+				time = System.currentTimeMillis() - time;
+				Log.getInstance().info(
+						"Indexed " + numEvents + " events of "
+								+ _file.getName() + " in " + time + " ms");
+				write(getIndexFile(_file));
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+			source.close();
+		}
+	}
+
+	// index one (0-based) event
+	private void index(int index, EvioDataEvent event) {
+		String banks[] = event.getBankList();
+		if (banks != null) {
+			for (String bank : banks) {
+				_banks[index].set(getBankIndex(bank));
+			}
+		}
+
+		for (int count = 0; count < NUM_COUNTS; count++) {
+			int n = 0;
+			for (String column : COUNT_COLUMNS[count]) {
+				String bank = column.substring(0, column.indexOf('.'));
+				if (event.hasBank(bank)) {
+					int vals[] = event.getInt(column);
+					n += (vals == null) ? 0 : vals.length;
+				}
+			}
+			_counts[count][index] = n;
+		}
+	}
+
+	// get the index of a bank name, adding it if necessary
+	private int getBankIndex(String bankName) {
+		synchronized (_bankIndices) {
+			Integer index = _bankIndices.get(bankName);
+			if (index == null) {
+				index = _bankNames.size();
+				_bankNames.add(bankName);
+				_bankIndices.put(bankName, index);
+			}
+			return index;
+		}
+	}
+
+	// save the index
+	private void write(File indexFile) {
+		DataOutputStream dos = null;
+		try {
+			dos = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(indexFile)));
+			dos.writeInt(MAGIC);
+			dos.writeInt(VERSION);
+			dos.writeLong(_file.length());
+			dos.writeLong(_file.lastModified());
+			dos.writeInt(_numEvents);
+
+			dos.writeInt(_bankNames.size());
+			for (String bankName : _bankNames) {
+				dos.writeUTF(bankName);
+			}
+
+			for (int i = 0; i < _numEvents; i++) {
+				long words[] = _banks[i].toLongArray();
+				dos.writeShort(words.length);
+				for (long word : words) {
+					dos.writeLong(word);
+				}
+				for (int count = 0; count < NUM_COUNTS; count++) {
+					dos.writeInt(_counts[count][i]);
+				}
+			}
+		} catch (IOException e) {
+			// e.g. a read only directory, we just keep the index in memory
+			System.err.println("Could not write event index "
+					+ indexFile.getPath() + ": " + e.getMessage());
+		} finally {
+			if (dos != null) {
+				try {
+					dos.close();
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	}
+
+	// read the index, returns false if the index file is out of date
+	private boolean read(File indexFile) throws IOException {
+		DataInputStream dis = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(indexFile)));
+		try {
+			if ((dis.readInt() != MAGIC) || (dis.readInt() != VERSION)
+					|| (dis.readLong() != _file.length())
+					|| (dis.readLong() != _file.lastModified())) {
+				return false;
+			}
+
+			int numEvents = dis.readInt();
+			int numBanks = dis.readInt();
+			for (int i = 0; i < numBanks; i++) {
+				getBankIndex(dis.readUTF());
+			}
+
+			int counts[][] = new int[NUM_COUNTS][numEvents];
+			BitSet banks[] = new BitSet[numEvents];
+			for (int i = 0; i < numEvents; i++) {
+				long words[] = new long[dis.readShort()];
+				for (int j = 0; j < words.length; j++) {
+					words[j] = dis.readLong();
+				}
+				banks[i] = BitSet.valueOf(words);
+				for (int count = 0; count < NUM_COUNTS; count++) {
+					counts[count][i] = dis.readInt();
+				}
+			}
+
+			_counts = counts;
+			_banks = banks;
+			_numEvents = numEvents;
+			_indexedCount = numEvents;
+			return true;
+		} finally {
+			dis.close();
+		}
+	}
+}
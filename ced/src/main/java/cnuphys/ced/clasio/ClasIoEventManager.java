@@ -95,6 +95,20 @@ public class ClasIoEventManager {
     // the current event
     private EvioDataEvent _currentEvent;
 
+    // the number of the current event (file source)
+    private int _eventNumber;
+
+    // reads events ahead of the display, null if disabled
+    private ClasIoEventPrefetcher _prefetcher;
+
+    // true if the source position was moved by the prefetcher, so that it
+    // is no longer just past the current event
+    private boolean _sourcePositionStale;
+
+    // the index of the current file, for matching navigation. Set on the
+    // file opening thread.
+    private volatile ClasIoEventIndex _eventIndex;
+
     // the data containers
     private DCDataContainer _dcData;
     private ECDataContainer _ecData;
@@ -118,6 +132,38 @@ public class ClasIoEventManager {
 	_recEventData = new RecEventDataContainer(this);
 	_gemcMetaData = new GEMCMetaDataContainer(this);
 	_cndData = new CNDDataContainer(this);
+	setPrefetchDepth(ClasIoEventPrefetcher.DEFAULT_DEPTH);
+    }
+
+    /**
+     * Set the number of events read ahead, on a background thread, from a file
+     * source. Reading ahead overlaps the reading and decoding of the next
+     * events with the processing of the current one.
+     *
+     * @param depth the number of events to read ahead. Use 0 to read events
+     *            only when asked for.
+     */
+    public synchronized void setPrefetchDepth(int depth) {
+	stopPrefetching();
+	_prefetcher = (depth > 0) ? new ClasIoEventPrefetcher(_evioSource,
+		depth) : null;
+    }
+
+    /**
+     * Get the number of events read ahead from a file source
+     *
+     * @return the number of events read ahead, 0 if disabled
+     */
+    public int getPrefetchDepth() {
+	ClasIoEventPrefetcher prefetcher = _prefetcher;
+	return (prefetcher == null) ? 0 : prefetcher.getDepth();
+    }
+
+    // stop reading ahead (if we were) so the source can be used directly
+    private void stopPrefetching() {
+	if ((_prefetcher != null) && _prefetcher.stop()) {
+	    _sourcePositionStale = true;
+	}
     }
 
     /**
@@ -327,8 +373,14 @@ public class ClasIoEventManager {
 	    @Override
 	    protected String doInBackground() {
 		progressBar.setVisible(true);
-		_evioSource.close();
-		_evioSource.open(file);
+		synchronized (ClasIoEventManager.this) {
+		    stopPrefetching();
+		    _evioSource.close();
+		    _evioSource.open(file);
+		    _sourcePositionStale = false;
+		    _eventNumber = _evioSource.getCurrentIndex() - 1;
+		}
+		startIndexing(file);
 		notifyListeners(file.getPath());
 		_currentEventFile = file;
 		return "Done.";
@@ -351,6 +403,110 @@ public class ClasIoEventManager {
 	new MyWorker().execute();
     }
 
+    // read or build the index of a newly opened file
+    private void startIndexing(File file) {
+	if (_eventIndex != null) {
+	    _eventIndex.stop();
+	}
+	_eventIndex = new ClasIoEventIndex(file);
+	_eventIndex.start();
+    }
+
+    /**
+     * Get the index of the current event file. It may still be being built.
+     * 
+     * @return the event index, <code>null</code> if no file is open
+     */
+    public ClasIoEventIndex getEventIndex() {
+	return _eventIndex;
+    }
+
+    /**
+     * Determines whether the next and previous matching event controls should
+     * be enabled.
+     * 
+     * @return <code>true</code> if matching navigation is possible
+     */
+    public boolean isMatchingOK() {
+	return isGotoOK() && (_eventIndex != null);
+    }
+
+    /**
+     * Go to the next event whose count (from the event index) is greater than a
+     * threshold, e.g. the next event with a time based track.
+     * 
+     * @param count which count, e.g. {@link ClasIoEventIndex#TB_TRACKS}
+     * @param threshold the count must be greater than this
+     * @return the matching event, or <code>null</code> if there is none in
+     *         the events indexed so far
+     */
+    public EvioDataEvent getNextMatchingEvent(int count, int threshold) {
+	ClasIoEventIndex index = _eventIndex;
+	int eventNumber = -1;
+	if ((index != null) && isGotoOK()) {
+	    eventNumber = index.findNext(getEventNumber(), count, threshold);
+	}
+	return gotoMatchingEvent(eventNumber);
+    }
+
+    /**
+     * Go to the previous event whose count (from the event index) is greater
+     * than a threshold.
+     * 
+     * @param count which count, e.g. {@link ClasIoEventIndex#DC}
+     * @param threshold the count must be greater than this
+     * @return the matching event, or <code>null</code> if there is none
+     */
+    public EvioDataEvent getPreviousMatchingEvent(int count, int threshold) {
+	ClasIoEventIndex index = _eventIndex;
+	int eventNumber = -1;
+	if ((index != null) && isGotoOK()) {
+	    eventNumber = index.findPrevious(getEventNumber(), count, threshold);
+	}
+	return gotoMatchingEvent(eventNumber);
+    }
+
+    /**
+     * Go to the next event that has a given bank (from the event index), e.g.
+     * the next event with time based tracks.
+     * 
+     * @param bankName the bank name, e.g. "TimeBasedTrkg::TBTracks"
+     * @return the matching event, or <code>null</code> if there is none in
+     *         the events indexed so far
+     */
+    public EvioDataEvent getNextEventWithBank(String bankName) {
+	ClasIoEventIndex index = _eventIndex;
+	int eventNumber = -1;
+	if ((index != null) && isGotoOK()) {
+	    eventNumber = index.findNextWithBank(getEventNumber(), bankName);
+	}
+	return gotoMatchingEvent(eventNumber);
+    }
+
+    /**
+     * Go to the previous event that has a given bank (from the event index).
+     * 
+     * @param bankName the bank name, e.g. "DC::dgtz"
+     * @return the matching event, or <code>null</code> if there is none
+     */
+    public EvioDataEvent getPreviousEventWithBank(String bankName) {
+	ClasIoEventIndex index = _eventIndex;
+	int eventNumber = -1;
+	if ((index != null) && isGotoOK()) {
+	    eventNumber = index.findPreviousWithBank(getEventNumber(), bankName);
+	}
+	return gotoMatchingEvent(eventNumber);
+    }
+
+    // go to a matching event, beep if there was none
+    private EvioDataEvent gotoMatchingEvent(int eventNumber) {
+	if (!isEnabled() || (eventNumber < 1)) {
+	    Toolkit.getDefaultToolkit().beep();
+	    return null;
+	}
+	return gotoEvent(eventNumber);
+    }
+
     /**
      * Get the current event source type
      * 
@@ -449,7 +605,7 @@ public class ClasIoEventManager {
     public int getEventNumber() {
 	int evnum = 0;
 	if (isSourceFile()) {
-	    evnum = _evioSource.getCurrentIndex() - 1;
+	    evnum = _eventNumber;
 	}
 	return evnum;
     }
@@ -545,12 +701,74 @@ public class ClasIoEventManager {
 	    Toolkit.getDefaultToolkit().beep();
 	    return null;
 	}
+	return getNextEvent(true);
+    }
 
-	_currentEvent = (EvioDataEvent) _evioSource.getNextEvent();
-	notifyListeners();
+    /**
+     * Get the next event without notifying the listeners. The event becomes
+     * the current event, but the data containers and views are not updated.
+     * Used by parallel accumulation, which hands the events to worker
+     * threads. Call {@link #reloadCurrentEvent()} afterwards to bring the
+     * listeners up to date.
+     * 
+     * @return the next event, if possible
+     */
+    public EvioDataEvent getNextEventQuietly() {
+	return getNextEvent(false);
+    }
+
+    // get the next event, optionally notifying the listeners
+    private EvioDataEvent getNextEvent(boolean notify) {
+	String banks[] = null;
+	boolean prefetched = false;
+
+	synchronized (this) {
+	    int nextNumber = _eventNumber + 1;
+	    if ((_prefetcher != null) && isSourceFile()
+		    && (nextNumber <= getEventCount())) {
+		ClasIoEventPrefetcher.PrefetchedEvent pe = _prefetcher
+			.take(nextNumber);
+		if (pe.event != null) {
+		    _currentEvent = pe.event;
+		    _eventNumber = pe.eventNumber;
+		    banks = pe.banks;
+		    prefetched = true;
+		}
+	    }
+
+	    // no read ahead (or it failed), use the source directly
+	    if (!prefetched) {
+		stopPrefetching();
+		if (_sourcePositionStale) {
+		    _currentEvent = (EvioDataEvent) _evioSource
+			    .gotoEvent(nextNumber);
+		}
+		else {
+		    _currentEvent = (EvioDataEvent) _evioSource.getNextEvent();
+		}
+		sourcePositionChanged();
+	    }
+	}
+
+	if (!notify) {
+	    return _currentEvent;
+	}
+	if (prefetched) {
+	    notifyEventListeners(banks);
+	}
+	else {
+	    notifyListeners();
+	}
 	return _currentEvent;
     }
 
+    // the source was used directly, so it is positioned just past the
+    // current event
+    private void sourcePositionChanged() {
+	_sourcePositionStale = false;
+	_eventNumber = _evioSource.getCurrentIndex() - 1;
+    }
+
     public void loadEvent(DataEvent event) {
 	_currentEvent = (EvioDataEvent) event;
 	notifyListeners();
@@ -562,7 +780,17 @@ public class ClasIoEventManager {
      * @return the previous event, if possible.
      */
     public EvioDataEvent getPreviousEvent() {
-	_currentEvent = (EvioDataEvent) _evioSource.getPreviousEvent();
+	synchronized (this) {
+	    stopPrefetching();
+	    if (_sourcePositionStale) {
+		_currentEvent = (EvioDataEvent) _evioSource
+			.gotoEvent(_eventNumber - 1);
+	    }
+	    else {
+		_currentEvent = (EvioDataEvent) _evioSource.getPreviousEvent();
+	    }
+	    sourcePositionChanged();
+	}
 	notifyListeners();
 	return _currentEvent;
     }
@@ -573,7 +801,11 @@ public class ClasIoEventManager {
      * @return the event at the given number (if possible).
      */
     public EvioDataEvent gotoEvent(int eventNumber) {
-	_currentEvent = (EvioDataEvent) _evioSource.gotoEvent(eventNumber);
+	synchronized (this) {
+	    stopPrefetching();
+	    _currentEvent = (EvioDataEvent) _evioSource.gotoEvent(eventNumber);
+	    sourcePositionChanged();
+	}
 	notifyListeners();
 	return _currentEvent;
     }
@@ -625,16 +857,26 @@ public class ClasIoEventManager {
      * 
      */
     private void notifyListeners() {
+	String banks[] = (_currentEvent == null) ? null
+		: _currentEvent.getBankList();
+	if (banks != null) {
+	    Arrays.sort(banks);
+	}
+	notifyEventListeners(banks);
+    }
+
+    /**
+     * Notify listeners we have a new event ready for display.
+     * 
+     * @param banks the sorted bank list of the current event
+     */
+    private void notifyEventListeners(String banks[]) {
 
 	Swimming.clearMCTrajectories();
 	Swimming.clearReconTrajectories();
 	uniqueLundIds.clear();
 
-	_currentBanks = (_currentEvent == null) ? null
-		: _currentEvent.getBankList();
-	if (_currentBanks != null) {
-	    Arrays.sort(_currentBanks);
-	}
+	_currentBanks = banks;
 
 	for (int index = 0; index < 3; index++) {
 	    if (_viewListenerList[index] != null) {
@@ -695,7 +937,7 @@ public class ClasIoEventManager {
 	double edep[] = null;
 
 	// pcal (plane = 0)
-	edep = ecData.pcal_true_totEdep;
+	edep = ecData.pcal_true_totEdep();
 	if (edep != null) {
 	    maxEDepCal[0] = 0;
 	    for (double e : edep) {
@@ -704,12 +946,13 @@ public class ClasIoEventManager {
 	}
 
 	// ec
-	edep = ecData.ec_true_totEdep;
-	if (edep != null) {
+	edep = ecData.ec_true_totEdep();
+	int stack[] = ecData.ec_dgtz_stack();
+	if ((edep != null) && (stack != null)) {
 	    maxEDepCal[1] = 0;
 	    maxEDepCal[2] = 0;
 	    for (int i = 0; i < edep.length; i++) {
-		int plane = ecData.ec_dgtz_stack[i];
+		int plane = stack[i];
 		maxEDepCal[plane] = Math.max(edep[i], maxEDepCal[plane]);
 	    }
 	}
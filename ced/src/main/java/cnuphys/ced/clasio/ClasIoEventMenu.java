@@ -12,6 +12,7 @@ import java.util.Hashtable;
 import java.util.Vector;
 
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JMenu;
@@ -43,6 +44,10 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 	private JMenuItem nextItem;
 	private JMenuItem prevItem;
 	private JMenuItem accumulationItem;
+	private JMenuItem nextMatchItem;
+	private JMenuItem prevMatchItem;
+	private JMenuItem nextBankItem;
+	private JMenuItem prevBankItem;
 
 	// recently opened menu
 	private JMenu recentMenu;
@@ -53,6 +58,14 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 	// for goto
 	private JTextField evnum;
 
+	// for next/previous matching event
+	private JComboBox<String> _matchCount;
+	private JTextField _matchThresholdTF;
+	private int _matchThreshold = 0;
+
+	// for next/previous event with a bank
+	private JTextField _matchBankTF;
+
 	// for auto next event
 	private JCheckBox _periodEvent;
 	private int _period = 2; // sec
@@ -102,6 +115,16 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 		// goto
 		add(createGoToPanel());
 
+		// next/previous matching, using the event index
+		add(createMatchPanel());
+		nextMatchItem = addMenuItem("Next Matching Event", 0);
+		prevMatchItem = addMenuItem("Previous Matching Event", 0);
+
+		// next/previous event with a bank, using the event index
+		add(createBankPanel());
+		nextBankItem = addMenuItem("Next Event With Bank", 0);
+		prevBankItem = addMenuItem("Previous Event With Bank", 0);
+
 		// periodic event
 		add(createEventPeriodPanel());
 
@@ -161,6 +184,15 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 		nextItem.setEnabled(nextOK);
 		prevItem.setEnabled(_eventManager.isPrevOK());
 		evnum.setEnabled(_eventManager.isGotoOK());
+
+		boolean matchOK = _eventManager.isMatchingOK();
+		nextMatchItem.setEnabled(matchOK && nextOK);
+		prevMatchItem.setEnabled(matchOK && _eventManager.isPrevOK());
+		_matchCount.setEnabled(matchOK);
+		_matchThresholdTF.setEnabled(matchOK);
+		nextBankItem.setEnabled(matchOK && nextOK);
+		prevBankItem.setEnabled(matchOK && _eventManager.isPrevOK());
+		_matchBankTF.setEnabled(matchOK);
 		_periodEvent.setEnabled(nextOK);
 		_periodTF.setEnabled(nextOK);
 
@@ -339,6 +371,58 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 		return sp;
 	}
 
+	// create the widget for the next/previous matching event condition
+	private JPanel createMatchPanel() {
+		JPanel sp = new JPanel();
+		sp.setLayout(new FlowLayout(FlowLayout.LEFT, 4, 0));
+
+		_matchCount = new JComboBox<String>(ClasIoEventIndex.COUNT_NAMES);
+		_matchCount.setSelectedIndex(ClasIoEventIndex.TB_TRACKS);
+
+		_matchThresholdTF = new JTextField("" + _matchThreshold, 4);
+
+		KeyAdapter ka = new KeyAdapter() {
+			@Override
+			public void keyReleased(KeyEvent kev) {
+				if (kev.getKeyCode() == KeyEvent.VK_ENTER) {
+					readMatchThreshold();
+				}
+			}
+		};
+		_matchThresholdTF.addKeyListener(ka);
+
+		sp.add(new JLabel("Match: "));
+		sp.add(_matchCount);
+		sp.add(new JLabel(">"));
+		sp.add(_matchThresholdTF);
+		_matchCount.setEnabled(false);
+		_matchThresholdTF.setEnabled(false);
+		return sp;
+	}
+
+	// create the widget for the next/previous event with a bank
+	private JPanel createBankPanel() {
+		JPanel sp = new JPanel();
+		sp.setLayout(new FlowLayout(FlowLayout.LEFT, 4, 0));
+
+		_matchBankTF = new JTextField("TimeBasedTrkg::TBTracks", 16);
+
+		sp.add(new JLabel("Bank: "));
+		sp.add(_matchBankTF);
+		_matchBankTF.setEnabled(false);
+		return sp;
+	}
+
+	// get the threshold for matching events
+	private void readMatchThreshold() {
+		try {
+			_matchThreshold = Math.max(0,
+					Integer.parseInt(_matchThresholdTF.getText().trim()));
+		} catch (Exception e) {
+		}
+		_matchThresholdTF.setText("" + _matchThreshold);
+	}
+
 	// create the event every so many seconds widget
 	private JPanel createEventPeriodPanel() {
 		JPanel sp = new JPanel();
@@ -418,6 +502,19 @@ public class ClasIoEventMenu extends JMenu implements ActionListener,
 			_eventManager.getNextEvent();
 		} else if (source == prevItem) {
 			_eventManager.getPreviousEvent();
+		} else if (source == nextMatchItem) {
+			readMatchThreshold();
+			_eventManager.getNextMatchingEvent(
+					_matchCount.getSelectedIndex(), _matchThreshold);
+		} else if (source == prevMatchItem) {
+			readMatchThreshold();
+			_eventManager.getPreviousMatchingEvent(
+					_matchCount.getSelectedIndex(), _matchThreshold);
+		} else if (source == nextBankItem) {
+			_eventManager.getNextEventWithBank(_matchBankTF.getText().trim());
+		} else if (source == prevBankItem) {
+			_eventManager.getPreviousEventWithBank(_matchBankTF.getText()
+					.trim());
 		} else if (source == accumulationItem) {
 			ClasIoAccumulationDialog dialog = new ClasIoAccumulationDialog(
 					AccumulationManager.getInstance());
@@ -0,0 +1,245 @@
+package cnuphys.ced.clasio;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+import org.jlab.evio.clas12.EvioSource;
+
+/**
+ * Reads events from an evio file source ahead of the display, on a background
+ * thread, into a bounded buffer. Each prefetched event is read (and so parsed
+ * into its evio structure) and has its sorted bank list extracted, so that
+ * delivering it costs only the listener notifications. Going to the next event
+ * then overlaps the I/O and decoding of the following events with the
+ * processing of the current one.
+ * <p>
+ * The EvioSource is not thread safe. While the prefetcher is running its
+ * reader thread owns the source, and the source position is ahead of the
+ * current event. Anything else that uses the source (going to an event, going
+ * backwards, opening a file) must first {@link #stop()} the prefetcher and
+ * then reposition the source explicitly.
+ *
+ * @author heddle
+ *
+ */
+public class ClasIoEventPrefetcher {
+
+	/** default number of events to read ahead */
+	public static final int DEFAULT_DEPTH = 8;
+
+	// how often (ms) a waiting take checks that the reader is still going
+	private static final long POLLMS = 100;
+
+	// the source being read
+	private final EvioSource _source;
+
+	// the number of events to read ahead
+	private final int _depth;
+
+	// the prefetched events, in order
+	private final ArrayBlockingQueue<PrefetchedEvent> _buffer;
+
+	// the reader thread, null if not running
+	private Thread _reader;
+
+	// tells the reader to quit
+	private volatile boolean _stopped;
+
+	// the number of the event the next take should return
+	private int _nextEventNumber = -1;
+
+	/**
+	 * An event read ahead, with its number and sorted bank list.
+	 */
+	public static class PrefetchedEvent {
+
+		/** the event, <code>null</code> if it could not be read */
+		public final EvioDataEvent event;
+
+		/** the 1-based event number */
+		public final int eventNumber;
+
+		/** the sorted bank list, may be <code>null</code> */
+		public final String banks[];
+
+		private PrefetchedEvent(EvioDataEvent event, int eventNumber,
+				String banks[]) {
+			this.event = event;
+			this.eventNumber = eventNumber;
+			this.banks = banks;
+		}
+	}
+
+	/**
+	 * Create a prefetcher
+	 *
+	 * @param source
+	 *            the (file) source to read from
+	 * @param depth
+	 *            the number of events to read ahead, at least 1
+	 */
+	public ClasIoEventPrefetcher(EvioSource source, int depth) {
+		_source = source;
+		_depth = Math.max(1, depth);
+		_buffer = new ArrayBlockingQueue<PrefetchedEvent>(_depth);
+	}
+
+	/**
+	 * Get the number of events read ahead
+	 *
+	 * @return the number of events read ahead
+	 */
+	public int getDepth() {
+		return _depth;
+	}
+
+	/**
+	 * Check whether the reader is running, in which case the source position
+	 * is not that of the last event taken.
+	 *
+	 * @return <code>true</code> if the reader is running
+	 */
+	public synchronized boolean isRunning() {
+		return _reader != null;
+	}
+
+	/**
+	 * Take an event. If the reader is not running, or is not reading from the
+	 * requested event, it is (re)started at that event, and this call waits
+	 * for it to be read. The event number must be in the file.
+	 * <p>
+	 * The wait does not hold this prefetcher's lock, so {@link #stop()} is
+	 * never held up by it, and it ends (with no event) if the reader quits
+	 * without delivering one, e.g. at the end of the file or after an
+	 * exception, or if the prefetcher is stopped.
+	 *
+	 * @param eventNumber
+	 *            the 1-based event number
+	 * @return the prefetched event, whose event is <code>null</code> if it
+	 *         could not be read
+	 */
+	public PrefetchedEvent take(int eventNumber) {
+		Thread reader;
+		synchronized (this) {
+			if ((_reader == null) || (eventNumber != _nextEventNumber)) {
+				stop();
+				start(eventNumber);
+			}
+			reader = _reader;
+		}
+
+		PrefetchedEvent pe = null;
+		try {
+			while (pe == null) {
+				pe = _buffer.poll(POLLMS, TimeUnit.MILLISECONDS);
+				if ((pe == null) && (_stopped || !reader.isAlive())) {
+					// the reader may have delivered just before quitting
+					pe = _buffer.poll();
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+
+		synchronized (this) {
+			if ((pe == null) || (pe.event == null) || (reader != _reader)) {
+				// the reader has quit, or was stopped while we waited
+				if (reader == _reader) {
+					stop();
+				}
+				return new PrefetchedEvent(null, eventNumber, null);
+			}
+
+			_nextEventNumber = eventNumber + 1;
+			return pe;
+		}
+	}
+
+	/**
+	 * Stop the reader and discard the prefetched events. The reader is not
+	 * interrupted (that would close the source's file channel); it is
+	 * unblocked by draining the buffer and quits after the event it is
+	 * reading.
+	 *
+	 * @return <code>true</code> if the reader was running, in which case the
+	 *         source position has moved and must be reset.
+	 */
+	public synchronized boolean stop() {
+		if (_reader == null) {
+			return false;
+		}
+
+		_stopped = true;
+		while (_reader.isAlive()) {
+			_buffer.clear();
+			try {
+				_reader.join(10);
+			} catch (InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+		_buffer.clear();
+		_reader = null;
+		_nextEventNumber = -1;
+		return true;
+	}
+
+	// start the reader at a given event
+	private void start(final int firstEventNumber) {
+		_stopped = false;
+		_nextEventNumber = firstEventNumber;
+
+		Runnable runnable = new Runnable() {
+
+			@Override
+			public void run() {
+				int count = _source.getSize();
+				int eventNumber = firstEventNumber;
+
+				try {
+					while (!_stopped && (eventNumber <= count)) {
+						EvioDataEvent event;
+						if (eventNumber == firstEventNumber) {
+							event = (EvioDataEvent) _source
+									.gotoEvent(eventNumber);
+						} else {
+							event = (EvioDataEvent) _source.getNextEvent();
+						}
+						if (event == null) {
+							break;
+						}
+
+						String banks[] = event.getBankList();
+						if (banks != null) {
+							Arrays.sort(banks);
+						}
+
+						_buffer.put(new PrefetchedEvent(event, eventNumber,
+								banks));
+						eventNumber++;
+					}
+				} catch (InterruptedException e) {
+					return;
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+
+				// tell the consumer we are done, unless it told us
+				try {
+					if (!_stopped) {
+						_buffer.put(new PrefetchedEvent(null, eventNumber,
+								null));
+					}
+				} catch (InterruptedException e) {
+				}
+			}
+		};
+
+		_reader = new Thread(runnable, "ced event prefetch");
+		_reader.setDaemon(true);
+		_reader.start();
+	}
+}
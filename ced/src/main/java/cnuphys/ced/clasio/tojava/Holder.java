@@ -12,7 +12,7 @@ public class Holder implements Comparable<Holder> {
 	String getname;
 	String banksectname;
 	String javatype = "???[]";
-	String getter = "event.get???";
+	String accessor = "???Column";
 
 	JTextArea textArea;
 
@@ -35,19 +35,19 @@ public class Holder implements Comparable<Holder> {
 
 		if (colType.equalsIgnoreCase("float64")) {
 			javatype = "double[]";
-			getter = "event.getDouble";
+			accessor = "doubleColumn";
 		} else if (colType.equalsIgnoreCase("float32")) {
 			javatype = "float[]";
-			getter = "event.getFloat";
+			accessor = "floatColumn";
 		} else if (colType.equalsIgnoreCase("int32")) {
 			javatype = "int[]";
-			getter = "event.getInt";
+			accessor = "intColumn";
 		} else if (colType.equalsIgnoreCase("int16")) {
 			javatype = "short[]";
-			getter = "event.getShort";
+			accessor = "shortColumn";
 		} else if (colType.equalsIgnoreCase("int8")) {
 			javatype = "byte[]";
-			getter = "event.getByte";
+			accessor = "byteColumn";
 		}
 
 	}
@@ -56,17 +56,10 @@ public class Holder implements Comparable<Holder> {
 		if (colInfo != null) {
 			textArea.append("\n/** " + colInfo + " */\n");
 		}
-		textArea.append(" public " + javatype + " " + arrayname + ";\n");
-	}
-
-	public void nullify() {
-		textArea.append("  " + arrayname + " = null;\n");
-	}
-
-	public void getter() {
-		// true_pid = event.getInt("DC::true.pid");
-		textArea.append("    " + arrayname + " = " + getter + "(\"" + getname
-				+ "\");\n");
+		// columns are decoded on demand, see ADataContainer
+		textArea.append(" public " + javatype + " " + arrayname + "() {\n");
+		textArea.append("  return " + accessor + "(\"" + getname + "\");\n");
+		textArea.append(" }\n");
 	}
 
 	@Override
@@ -129,43 +129,18 @@ public class Parser {
 
 		impelementAbstractHitCount(textArea);
 
-		// getters (for load method)
+		// the columns are decoded on demand by the accessors
 		textArea.append("\n");
 		textArea.append("\n@Override");
 		textArea.append("\npublic void load(EvioDataEvent event) {\n");
-		textArea.append("  if (event == null) {\n    return;\n  }\n\n");
-
-		String currentBSName = null;
-		boolean foundany = false;
-		for (Holder h : holders) {
-
-			boolean newname = !(h.banksectname.equalsIgnoreCase(currentBSName));
-			if (newname && (currentBSName != null)) {
-				textArea.append("  }  " + "//" + currentBSName + "\n\n");
-			}
-
-			if (newname) {
-				currentBSName = new String(h.banksectname);
-				foundany = true;
-				textArea.append(ifStatement(currentBSName));
-			}
-
-			h.getter();
-
-		}
-
-		if (foundany) {
-			textArea.append("  }  " + "//" + currentBSName + "\n\n");
-		}
+		textArea.append("  // the columns are decoded on first access, by the accessors\n");
 		textArea.append("} //load\n");
 
-		// nullify
+		// clear
 		textArea.append("\n");
 		textArea.append("\n@Override");
 		textArea.append("\npublic void clear() {\n");
-		for (Holder h : holders) {
-			h.nullify();
-		}
+		textArea.append("  // the column cache is replaced with each event\n");
 		textArea.append("}  //clear\n");
 	}
 
@@ -173,14 +148,9 @@ public class Parser {
 		textArea.append("\n@Override");
 		textArea.append("\n  public int getHitCount(int option) {\n");
 		String name = _currentBaseBankName + "_dgtz_sector";
-		textArea.append("    int hitCount = (" + name + " == null) ? 0 : "
-				+ name + ".length;\n");
+		textArea.append("    int hitCount = length(" + name + "());\n");
 		textArea.append("    return hitCount;\n");
 		textArea.append("  }\n");
 	}
 
-	private static String ifStatement(String bsname) {
-		return "  if (event.hasBank(\"" + bsname + "\")) {\n";
-	}
-
 }
\ No newline at end of file
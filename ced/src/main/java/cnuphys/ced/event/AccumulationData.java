@@ -0,0 +1,418 @@
+package cnuphys.ced.event;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+
+import cnuphys.bCNU.log.Log;
+import cnuphys.bCNU.util.Histo2DData;
+import cnuphys.ced.event.data.BSTDataContainer;
+import cnuphys.ced.event.data.DCDataContainer;
+import cnuphys.ced.event.data.GenPartDataContainer;
+import cnuphys.ced.geometry.GeoConstants;
+import cnuphys.splot.pdata.GrowableArray;
+import cnuphys.swim.SwimCache;
+
+/**
+ * One set of accumulated data: DC occupancy, the DC and BST true hit xy
+ * histograms and the momentum and angle resolutions. The AccumulationManager
+ * holds the set that is displayed; for parallel accumulation each worker
+ * thread fills its own set, which is then merged into the displayed one.
+ * <p>
+ * Not thread safe.
+ *
+ * @author heddle
+ *
+ */
+public class AccumulationData {
+
+	// dc accumulated data indices are sector, superlayer, layer, wire
+	private int _dcGemcAccumulatedData[][][][];
+	private int _maxGemcDcCount;
+
+	// dc XY accumulated data stored in a 2D histogram
+	private Histo2DData _dcXYGemcAccumulatedData;
+
+	// bst hit xy accumulated data
+	private Histo2DData _bstXYAccumulatedData;
+
+	// time based momentum, theta and phi resolution
+	private GrowableArray _tbPResolutionHistoData = new GrowableArray(500, 100);
+	private GrowableArray _tbThetaResolutionHistoData = new GrowableArray(500,
+			100);
+	private GrowableArray _tbPhiResolutionHistoData = new GrowableArray(500,
+			100);
+
+	// hit based momentum, theta and phi resolution
+	private GrowableArray _hbPResolutionHistoData = new GrowableArray(500, 100);
+	private GrowableArray _hbThetaResolutionHistoData = new GrowableArray(500,
+			100);
+	private GrowableArray _hbPhiResolutionHistoData = new GrowableArray(500,
+			100);
+
+	/**
+	 * Create an empty set of accumulated data
+	 */
+	public AccumulationData() {
+		_dcGemcAccumulatedData = new int[GeoConstants.NUM_SECTOR][GeoConstants.NUM_SUPERLAYER][GeoConstants.NUM_LAYER][GeoConstants.NUM_WIRE];
+
+		// dc XY accumulated data stored in a 2D histogram
+		// use 100 bins in each direction
+		_dcXYGemcAccumulatedData = new Histo2DData("DC XY Data", -390, 390,
+				100, -450, 450, 100);
+
+		// BST XY accumulated data also stored in histo
+		_bstXYAccumulatedData = new Histo2DData("BST XY Data", -170, 170, 100,
+				-170, 170, 100);
+	}
+
+	/**
+	 * Clear all the accumulated data
+	 */
+	public void clear() {
+		for (int sector = 0; sector < GeoConstants.NUM_SECTOR; sector++) {
+			for (int superLayer = 0; superLayer < GeoConstants.NUM_SUPERLAYER; superLayer++) {
+				for (int layer = 0; layer < GeoConstants.NUM_LAYER; layer++) {
+					for (int wire = 0; wire < GeoConstants.NUM_WIRE; wire++) {
+						_dcGemcAccumulatedData[sector][superLayer][layer][wire] = 0;
+					}
+				}
+			}
+		}
+		_maxGemcDcCount = 0;
+
+		_dcXYGemcAccumulatedData.clear();
+		_bstXYAccumulatedData.clear();
+
+		_tbPResolutionHistoData.clear();
+		_tbThetaResolutionHistoData.clear();
+		_tbPhiResolutionHistoData.clear();
+		_hbPResolutionHistoData.clear();
+		_hbThetaResolutionHistoData.clear();
+		_hbPhiResolutionHistoData.clear();
+	}
+
+	/**
+	 * Add another set of accumulated data to this one.
+	 *
+	 * @param other
+	 *            the data to add
+	 */
+	public void merge(AccumulationData other) {
+		for (int sector = 0; sector < GeoConstants.NUM_SECTOR; sector++) {
+			for (int superLayer = 0; superLayer < GeoConstants.NUM_SUPERLAYER; superLayer++) {
+				for (int layer = 0; layer < GeoConstants.NUM_LAYER; layer++) {
+					int counts[] = _dcGemcAccumulatedData[sector][superLayer][layer];
+					int otherCounts[] = other._dcGemcAccumulatedData[sector][superLayer][layer];
+					for (int wire = 0; wire < GeoConstants.NUM_WIRE; wire++) {
+						counts[wire] += otherCounts[wire];
+						_maxGemcDcCount = Math.max(counts[wire],
+								_maxGemcDcCount);
+					}
+				}
+			}
+		}
+
+		_dcXYGemcAccumulatedData.merge(other._dcXYGemcAccumulatedData);
+		_bstXYAccumulatedData.merge(other._bstXYAccumulatedData);
+
+		append(_tbPResolutionHistoData, other._tbPResolutionHistoData);
+		append(_tbThetaResolutionHistoData, other._tbThetaResolutionHistoData);
+		append(_tbPhiResolutionHistoData, other._tbPhiResolutionHistoData);
+		append(_hbPResolutionHistoData, other._hbPResolutionHistoData);
+		append(_hbThetaResolutionHistoData, other._hbThetaResolutionHistoData);
+		append(_hbPhiResolutionHistoData, other._hbPhiResolutionHistoData);
+	}
+
+	// append the values of one growable array to another
+	private static void append(GrowableArray to, GrowableArray from) {
+		for (int i = 0; i < from.size(); i++) {
+			to.add(from.get(i));
+		}
+	}
+
+	/**
+	 * Accumulate the current event from the (already filled) data containers
+	 *
+	 * @param eventNumber
+	 *            the event number, for messages
+	 * @param dcData
+	 *            the DC data
+	 * @param bstData
+	 *            the BST data
+	 * @param genPart
+	 *            the generated particle data
+	 */
+	public void accumulate(int eventNumber, DCDataContainer dcData,
+			BSTDataContainer bstData, GenPartDataContainer genPart) {
+
+		accumulateDC(eventNumber, dcData.dc_dgtz_sector(),
+				dcData.dc_dgtz_superlayer(), dcData.dc_dgtz_layer(),
+				dcData.dc_dgtz_wire(), dcData.dc_true_avgX(), dcData.dc_true_avgY());
+
+		if (bstData != null) {
+			accumulateBST(bstData.bst_true_avgX(), bstData.bst_true_avgY());
+		}
+
+		if (genPart.genpart_true_px != null) {
+			double px = genPart.genpart_true_px[0] / 1000;
+			double py = genPart.genpart_true_py[0] / 1000;
+			double pz = genPart.genpart_true_pz[0] / 1000;
+
+			accumulateResolution(px, py, pz, dcData.hitbasedtrkg_hbtracks_q(),
+					dcData.hitbasedtrkg_hbtracks_p(),
+					dcData.hitbasedtrkg_hbtracks_c3_x(),
+					dcData.hitbasedtrkg_hbtracks_c3_y(),
+					dcData.hitbasedtrkg_hbtracks_c3_z(),
+					dcData.hitbasedtrkg_hbtracks_c3_ux(),
+					dcData.hitbasedtrkg_hbtracks_c3_uy(),
+					dcData.hitbasedtrkg_hbtracks_c3_uz(),
+					_hbPResolutionHistoData, _hbThetaResolutionHistoData,
+					_hbPhiResolutionHistoData);
+
+			accumulateResolution(px, py, pz,
+					dcData.timebasedtrkg_tbtracks_q(),
+					dcData.timebasedtrkg_tbtracks_p(),
+					dcData.timebasedtrkg_tbtracks_c3_x(),
+					dcData.timebasedtrkg_tbtracks_c3_y(),
+					dcData.timebasedtrkg_tbtracks_c3_z(),
+					dcData.timebasedtrkg_tbtracks_c3_ux(),
+					dcData.timebasedtrkg_tbtracks_c3_uy(),
+					dcData.timebasedtrkg_tbtracks_c3_uz(),
+					_tbPResolutionHistoData, _tbThetaResolutionHistoData,
+					_tbPhiResolutionHistoData);
+		}
+	}
+
+	/**
+	 * Accumulate an event directly, without the data containers. Only the
+	 * banks used for accumulation are read. This is what the worker threads
+	 * of a parallel accumulation do.
+	 *
+	 * @param eventNumber
+	 *            the event number, for messages
+	 * @param event
+	 *            the event
+	 */
+	public void accumulate(int eventNumber, EvioDataEvent event) {
+		if (event.hasBank("DC::dgtz")) {
+			double avgX[] = null;
+			double avgY[] = null;
+			if (event.hasBank("DC::true")) {
+				avgX = event.getDouble("DC::true.avgX");
+				avgY = event.getDouble("DC::true.avgY");
+			}
+			accumulateDC(eventNumber, event.getInt("DC::dgtz.sector"),
+					event.getInt("DC::dgtz.superlayer"),
+					event.getInt("DC::dgtz.layer"),
+					event.getInt("DC::dgtz.wire"), avgX, avgY);
+		}
+
+		if (event.hasBank("BST::true")) {
+			accumulateBST(event.getDouble("BST::true.avgX"),
+					event.getDouble("BST::true.avgY"));
+		}
+
+		if (event.hasBank("GenPart::true")) {
+			double px = event.getDouble("GenPart::true.px")[0] / 1000;
+			double py = event.getDouble("GenPart::true.py")[0] / 1000;
+			double pz = event.getDouble("GenPart::true.pz")[0] / 1000;
+
+			if (event.hasBank("HitBasedTrkg::HBTracks")) {
+				accumulateResolution(px, py, pz,
+						event.getInt("HitBasedTrkg::HBTracks.q"),
+						event.getDouble("HitBasedTrkg::HBTracks.p"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_x"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_y"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_z"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_ux"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_uy"),
+						event.getDouble("HitBasedTrkg::HBTracks.c3_uz"),
+						_hbPResolutionHistoData, _hbThetaResolutionHistoData,
+						_hbPhiResolutionHistoData);
+			}
+
+			if (event.hasBank("TimeBasedTrkg::TBTracks")) {
+				accumulateResolution(px, py, pz,
+						event.getInt("TimeBasedTrkg::TBTracks.q"),
+						event.getDouble("TimeBasedTrkg::TBTracks.p"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_x"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_y"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_z"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_ux"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_uy"),
+						event.getDouble("TimeBasedTrkg::TBTracks.c3_uz"),
+						_tbPResolutionHistoData, _tbThetaResolutionHistoData,
+						_tbPhiResolutionHistoData);
+			}
+		}
+	}
+
+	// dc occupancy and true hit xy
+	private void accumulateDC(int eventNumber, int sector[], int superlayer[],
+			int layer[], int wire[], double avgX[], double avgY[]) {
+		int hitCount = (sector == null) ? 0 : sector.length;
+		for (int i = 0; i < hitCount; i++) {
+			int sect0 = sector[i] - 1; // make 0 based
+			int supl0 = superlayer[i] - 1; // make 0 based
+			int lay0 = layer[i] - 1; // make 0 based
+			int wire0 = wire[i] - 1; // make 0 based
+			try {
+				_dcGemcAccumulatedData[sect0][supl0][lay0][wire0] += 1;
+				_maxGemcDcCount = Math.max(
+						_dcGemcAccumulatedData[sect0][supl0][lay0][wire0],
+						_maxGemcDcCount);
+
+			} catch (ArrayIndexOutOfBoundsException e) {
+				String msg = String
+						.format("Index out of bounds. Event# %d sect %d supl %d lay %d wire %d",
+								eventNumber, sector[i], superlayer[i],
+								layer[i], wire[i]);
+				Log.getInstance().warning(msg);
+				System.err.println(msg);
+			}
+
+		} // end loop hits
+
+		if ((hitCount > 0) && (avgX != null)) {
+			for (int i = 0; i < avgX.length; i++) {
+				double valueX = avgX[i] / 10; // convert to cm
+				double valueY = avgY[i] / 10;
+				_dcXYGemcAccumulatedData.add(valueX, valueY);
+			}
+		}
+	}
+
+	// bst true hit xy
+	private void accumulateBST(double avgX[], double avgY[]) {
+		if (avgX != null) {
+			int len = avgX.length;
+			for (int i = 0; i < len; i++) {
+				_bstXYAccumulatedData.add(avgX[i], avgY[i]);
+			}
+		}
+	}
+
+	// momentum and angular resolution of the first track, px, py, pz are the
+	// generated momentum in GeV/c
+	private void accumulateResolution(double px, double py, double pz,
+			int q[], double p[], double x[], double y[], double z[],
+			double ux[], double uy[], double uz[], GrowableArray pResolution,
+			GrowableArray thetaResolution, GrowableArray phiResolution) {
+
+		if ((p == null) || (p.length == 0)) {
+			return;
+		}
+
+		double trueP = Math.sqrt(px * px + py * py + pz * pz);
+		double trueTheta = Math.toDegrees(Math.acos(pz / trueP));
+		double truePhi = Math.toDegrees(Math.atan2(py, px));
+
+		double reconsP = p[0];
+		if (trueP > 0.001) {
+			double frac = (trueP - reconsP) / trueP;
+			pResolution.add(frac);
+		}
+
+		// have to swim traj backwards!
+		double xo = x[0] / 100;
+		double yo = y[0] / 100;
+		double zo = z[0] / 100;
+
+		double pxo = reconsP * ux[0];
+		double pyo = reconsP * uy[0];
+		double pzo = reconsP * uz[0];
+
+		// final state only, cached so re-accumulating the same events does
+		// not redo the integration. The cache is thread safe and swims with
+		// a per-thread swimmer.
+		double lastQ[] = SwimCache.getInstance().swimBackwardsToVertex(q[0],
+				xo, yo, zo, pxo, pyo, pzo);
+		if (lastQ != null) {
+			// Q = [x, y, z, px/p, py/p, pz/p]
+			pxo = -lastQ[3];
+			pyo = -lastQ[4];
+			pzo = -lastQ[5];
+
+			double reconTheta = Math.toDegrees(Math.acos(pzo));
+			double reconPhi = Math.toDegrees(Math.atan2(pyo, pxo));
+
+			thetaResolution.add(reconTheta - trueTheta);
+			phiResolution.add(reconPhi - truePhi);
+		}
+	}
+
+	/**
+	 * Get the accumulated Gemc DC data
+	 *
+	 * @return the accumulated dc data
+	 */
+	public int[][][][] getAccumulatedGemcDcData() {
+		return _dcGemcAccumulatedData;
+	}
+
+	/**
+	 * @return the max counts for any DC wire.
+	 */
+	public int getMaxGemcDcCount() {
+		return _maxGemcDcCount;
+	}
+
+	/**
+	 * Get the Gemc DC xy accumulated data
+	 *
+	 * @return the Gemc DC xy accumulated data
+	 */
+	public Histo2DData getDcXYGemcAccumulatedData() {
+		return _dcXYGemcAccumulatedData;
+	}
+
+	/**
+	 * Get the BST XY accumulated data
+	 *
+	 * @return the BST XY accumulated data
+	 */
+	public Histo2DData getBSTXYGemcAccumulatedData() {
+		return _bstXYAccumulatedData;
+	}
+
+	/**
+	 * @return the time based momentum resolution data
+	 */
+	public GrowableArray getTBMomentumResolutionData() {
+		return _tbPResolutionHistoData;
+	}
+
+	/**
+	 * @return the time based theta resolution data
+	 */
+	public GrowableArray getTBThetaResolutionData() {
+		return _tbThetaResolutionHistoData;
+	}
+
+	/**
+	 * @return the time based phi resolution data
+	 */
+	public GrowableArray getTBPhiResolutionData() {
+		return _tbPhiResolutionHistoData;
+	}
+
+	/**
+	 * @return the hit based momentum resolution data
+	 */
+	public GrowableArray getHBMomentumResolutionData() {
+		return _hbPResolutionHistoData;
+	}
+
+	/**
+	 * @return the hit based theta resolution data
+	 */
+	public GrowableArray getHBThetaResolutionData() {
+		return _hbThetaResolutionHistoData;
+	}
+
+	/**
+	 * @return the hit based phi resolution data
+	 */
+	public GrowableArray getHBPhiResolutionData() {
+		return _hbPhiResolutionHistoData;
+	}
+}
@@ -1,23 +1,22 @@
 package cnuphys.ced.event;
 
 import java.awt.Color;
-
+import java.util.Vector;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JProgressBar;
 import javax.swing.event.EventListenerList;
 
 import cnuphys.bCNU.graphics.colorscale.ColorScaleModel;
-import cnuphys.bCNU.log.Log;
 import cnuphys.bCNU.util.Histo2DData;
 import cnuphys.ced.clasio.ClasIoEventManager;
 import cnuphys.ced.clasio.IAccumulator;
 import cnuphys.ced.clasio.IClasIoEventListener;
-import cnuphys.ced.geometry.GeoConstants;
-import cnuphys.ced.event.data.BSTDataContainer;
-import cnuphys.ced.event.data.DCDataContainer;
-import cnuphys.ced.event.data.GenPartDataContainer;
 import cnuphys.splot.pdata.GrowableArray;
-import cnuphys.swim.SwimTrajectory;
-import cnuphys.swim.Swimmer;
-import cnuphys.swim.Swimming;
 
 import org.jlab.evio.clas12.EvioDataEvent;
 
@@ -48,37 +47,30 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	// the singleton
 	private static AccumulationManager instance;
 
-	// dc accumulated data indices are sector, superlayer, layer, wire
-	private int _dcGemcAccumulatedData[][][][];
-	private int _maxGemcDcCount;
-
-	// dc XY accumulated data stored in a 2D histogram
-	private Histo2DData _dcXYGemcAccumulatedData;
-
-	// bst hit xy accumulated data
-	private Histo2DData _bstXYAccumulatedData;
+	/** Indicates that worker data were merged during parallel accumulation */
+	public static final int ACCUMULATION_MERGED = 3;
 
-	// time based momentum resolution
-	private GrowableArray _tbPResolutionHistoData = new GrowableArray(500, 100);
+	// the displayed accumulated data
+	private final AccumulationData _data = new AccumulationData();
 
-	// time based theta resolution
-	private GrowableArray _tbThetaResolutionHistoData = new GrowableArray(500,
-			100);
+	// number of worker threads for parallel accumulation, 0 (the default)
+	// for serial. Parallel accumulation is opt in (ced's -accumthreads
+	// option) because the event listeners and plugins do not see the
+	// accumulated events.
+	private int _numThreads;
 
-	// time based phi resolution
-	private GrowableArray _tbPhiResolutionHistoData = new GrowableArray(500,
-			100);
+	// the worker threads, created on first use and resized as needed
+	private ThreadPoolExecutor _executor;
 
-	// hit based momentum resolution
-	private GrowableArray _hbPResolutionHistoData = new GrowableArray(500, 100);
+	// each worker's own accumulated data for the current run. Both are
+	// replaced at the start of every parallel run (and when a run fails), so
+	// data left by the threads of a resized pool, or by events still in
+	// flight when a run failed, never reach a later run.
+	private volatile Vector<AccumulationData> _workerData = new Vector<AccumulationData>();
+	private volatile ThreadLocal<AccumulationData> _threadData = newThreadData(_workerData);
 
-	// hit based theta resolution
-	private GrowableArray _hbThetaResolutionHistoData = new GrowableArray(500,
-			100);
-
-	// hit based phi resolution
-	private GrowableArray _hbPhiResolutionHistoData = new GrowableArray(500,
-			100);
+	// true while a parallel accumulation is running
+	private volatile boolean _parallelRunning;
 
 	private ClasIoEventManager _eventManager = ClasIoEventManager.getInstance();
 
@@ -90,16 +82,6 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 */
 	private AccumulationManager() {
 		_eventManager.addClasIoEventListener(this, 1);
-		_dcGemcAccumulatedData = new int[GeoConstants.NUM_SECTOR][GeoConstants.NUM_SUPERLAYER][GeoConstants.NUM_LAYER][GeoConstants.NUM_WIRE];
-
-		// dc XY accumulated data stored in a 2D histogram
-		// use 100 bins in each direction
-		_dcXYGemcAccumulatedData = new Histo2DData("DC XY Data", -390, 390,
-				100, -450, 450, 100);
-
-		// BST XY accumulated data also stored in histo
-		_bstXYAccumulatedData = new Histo2DData("BST XY Data", -170, 170, 100,
-				-170, 170, 100);
 
 		// testing a splot creation
 
@@ -112,26 +94,17 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	@Override
 	public void clear() {
 		// System.err.println("AccumMgr clear");
-		// clear accumulated gemc dc data
-		for (int sector = 0; sector < GeoConstants.NUM_SECTOR; sector++) {
-			for (int superLayer = 0; superLayer < GeoConstants.NUM_SUPERLAYER; superLayer++) {
-				for (int layer = 0; layer < GeoConstants.NUM_LAYER; layer++) {
-					for (int wire = 0; wire < GeoConstants.NUM_WIRE; wire++) {
-						_dcGemcAccumulatedData[sector][superLayer][layer][wire] = 0;
-					}
+		synchronized (_data) {
+			_data.clear();
+		}
+		Vector<AccumulationData> workerData = _workerData;
+		synchronized (workerData) {
+			for (AccumulationData data : workerData) {
+				synchronized (data) {
+					data.clear();
 				}
 			}
 		}
-		_maxGemcDcCount = 0;
-
-		// clear other stuff
-		_dcXYGemcAccumulatedData.clear();
-		_bstXYAccumulatedData.clear();
-
-		// growable arrays used for canned histograms
-		_tbPResolutionHistoData.clear();
-		_tbThetaResolutionHistoData.clear();
-		_tbPhiResolutionHistoData.clear();
 
 		notifyListeners(ACCUMULATION_CLEAR);
 	}
@@ -154,7 +127,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test momentum resolution histo
 	 */
 	public GrowableArray getTBMomentumResolutionData() {
-		return _tbPResolutionHistoData;
+		return _data.getTBMomentumResolutionData();
 	}
 
 	/**
@@ -163,7 +136,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test theta resolution histo
 	 */
 	public GrowableArray getTBThetaResolutionData() {
-		return _tbThetaResolutionHistoData;
+		return _data.getTBThetaResolutionData();
 	}
 
 	/**
@@ -172,7 +145,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test phi resolution histo
 	 */
 	public GrowableArray getTBPhiResolutionData() {
-		return _tbPhiResolutionHistoData;
+		return _data.getTBPhiResolutionData();
 	}
 
 	/**
@@ -181,7 +154,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test momentum resolution histo
 	 */
 	public GrowableArray getHBMomentumResolutionData() {
-		return _hbPResolutionHistoData;
+		return _data.getHBMomentumResolutionData();
 	}
 
 	/**
@@ -190,7 +163,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test theta resolution histo
 	 */
 	public GrowableArray getHBThetaResolutionData() {
-		return _hbThetaResolutionHistoData;
+		return _data.getHBThetaResolutionData();
 	}
 
 	/**
@@ -199,7 +172,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the data used for the test hit based phi resolution histo
 	 */
 	public GrowableArray getHBPhiResolutionData() {
-		return _hbPhiResolutionHistoData;
+		return _data.getHBPhiResolutionData();
 	}
 
 	/**
@@ -208,14 +181,14 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the accumulated dc data
 	 */
 	public int[][][][] getAccumulatedGemcDcData() {
-		return _dcGemcAccumulatedData;
+		return _data.getAccumulatedGemcDcData();
 	}
 
 	/**
 	 * @return the max counts for any DC wire.
 	 */
 	public int getMaxGemcDcCount() {
-		return _maxGemcDcCount;
+		return _data.getMaxGemcDcCount();
 	}
 
 	/**
@@ -231,7 +204,7 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the Gemc DC xy accumulated data
 	 */
 	public Histo2DData getDcXYGemcAccumulatedData() {
-		return _dcXYGemcAccumulatedData;
+		return _data.getDcXYGemcAccumulatedData();
 	}
 
 	/**
@@ -240,173 +213,230 @@ public class AccumulationManager implements IAccumulator, IClasIoEventListener {
 	 * @return the BST XY accumulated data
 	 */
 	public Histo2DData getBSTXYGemcAccumulatedData() {
-		return _bstXYAccumulatedData;
+		return _data.getBSTXYGemcAccumulatedData();
 	}
 
 	@Override
 	public void newClasIoEvent(EvioDataEvent event) {
 
-		// only care if I am accumulating
-		if (!_eventManager.isAccumulating() || (event == null)) {
+		// only care if I am accumulating, and not handing events to the
+		// worker threads
+		if (!_eventManager.isAccumulating() || _parallelRunning
+				|| (event == null)) {
 			return;
 		}
 
-		// dc data
-		DCDataContainer dcData = _eventManager.getDCData();
-		for (int i = 0; i < dcData.getHitCount(0); i++) {
-			int sect0 = dcData.dc_dgtz_sector[i] - 1; // make 0 based
-			int supl0 = dcData.dc_dgtz_superlayer[i] - 1; // make 0 based
-			int lay0 = dcData.dc_dgtz_layer[i] - 1; // make 0 based
-			int wire0 = dcData.dc_dgtz_wire[i] - 1; // make 0 based
-			try {
-				_dcGemcAccumulatedData[sect0][supl0][lay0][wire0] += 1;
-				_maxGemcDcCount = Math.max(
-						_dcGemcAccumulatedData[sect0][supl0][lay0][wire0],
-						_maxGemcDcCount);
-
-			} catch (ArrayIndexOutOfBoundsException e) {
-				String msg = String
-						.format("Index out of bounds. Event# %d sect %d supl %d lay %d wire %d",
-								_eventManager.getEventNumber(),
-								dcData.dc_dgtz_sector[i],
-								dcData.dc_dgtz_superlayer[i],
-								dcData.dc_dgtz_layer[i], dcData.dc_dgtz_wire[i]);
-				Log.getInstance().warning(msg);
-				System.err.println(msg);
-			}
-
-		} // end loop hits
-
-		if ((dcData.getHitCount(0) > 0) && (dcData.dc_true_avgX != null)) {
-			for (int i = 0; i < dcData.dc_true_avgX.length; i++) {
-				double valueX = dcData.dc_true_avgX[i] / 10; // convert to cm
-				double valueY = dcData.dc_true_avgY[i] / 10;
-				_dcXYGemcAccumulatedData.add(valueX, valueY);
-			}
+		synchronized (_data) {
+			_data.accumulate(_eventManager.getEventNumber(),
+					_eventManager.getDCData(), _eventManager.getBSTData(),
+					_eventManager.getGenPartData());
 		}
+	}
 
-		// BST XY accumulation
-		BSTDataContainer bstData = _eventManager.getBSTData();
-		if (bstData != null) {
-			if (bstData.bst_true_avgX != null) {
-				int len = bstData.bst_true_avgX.length;
-				for (int i = 0; i < len; i++) {
-					_bstXYAccumulatedData.add(bstData.bst_true_avgX[i],
-							bstData.bst_true_avgY[i]);
-				}
-			}
-
-		} // bstData != null
-
-		// splot histo test
-
-		GenPartDataContainer genPart = _eventManager.getGenPartData();
-		if (genPart.genpart_true_px != null) {
-			double px = genPart.genpart_true_px[0] / 1000;
-			double py = genPart.genpart_true_py[0] / 1000;
-			double pz = genPart.genpart_true_pz[0] / 1000;
-			double trueP = Math.sqrt(px * px + py * py + pz * pz);
+	/**
+	 * Set the number of worker threads used for accumulation
+	 * 
+	 * @param numThreads
+	 *            the number of worker threads. Use 0 (the default) to
+	 *            accumulate serially, from the data containers, as each
+	 *            event is displayed. With worker threads the accumulated
+	 *            events are not sent to the event listeners or plugins.
+	 */
+	public void setNumThreads(int numThreads) {
+		_numThreads = Math.max(0, numThreads);
+	}
 
-			double trueTheta = Math.toDegrees(Math.acos(pz / trueP));
-			double truePhi = Math.toDegrees(Math.atan2(py, px));
+	/**
+	 * Get the number of worker threads used for accumulation
+	 * 
+	 * @return the number of worker threads, 0 for serial accumulation
+	 */
+	public int getNumThreads() {
+		return _numThreads;
+	}
 
-			// hit based
-			if (dcData.getHitBasedTrackCount() > 0) {
-				double reconsP = dcData.hitbasedtrkg_hbtracks_p[0];
-				if (trueP > 0.001) {
-					double frac = (trueP - reconsP) / trueP;
-					_hbPResolutionHistoData.add(frac);
+	/**
+	 * Accumulate the next events from the event manager. This blocks, so call
+	 * it from a thread other than the event dispatch thread. It notifies the
+	 * accumulation listeners when it starts and finishes.
+	 * <p>
+	 * With worker threads, each event is read (without updating the data
+	 * containers and views) and handed to a worker, which decodes the banks
+	 * it needs and accumulates into its own data. The worker data are merged
+	 * into the displayed data periodically and at the end. The views are
+	 * brought up to date with the last event when done. The event listeners
+	 * (and so the plugins) do not see the accumulated events, which is why
+	 * accumulation is serial unless worker threads are requested.
+	 * 
+	 * @param count
+	 *            the number of events to accumulate
+	 * @param progressBar
+	 *            shows the progress, may be <code>null</code>
+	 * @return the number of events accumulated
+	 */
+	public int accumulateEvents(int count, JProgressBar progressBar) {
+		notifyListeners(ACCUMULATION_STARTED);
+		_eventManager.setAccumulating(true);
+
+		int modCount = Math.max(2, count / 100);
+		int numThreads = _numThreads;
+		Semaphore inFlight = new Semaphore(4 * Math.max(1, numThreads));
+		_parallelRunning = (numThreads > 0);
+
+		// fresh worker data for this run
+		if (_parallelRunning) {
+			resetWorkerData();
+		}
+		ThreadLocal<AccumulationData> threadData = _threadData;
+
+		int accumulated = 0;
+		try {
+			for (int i = 0; i < count; i++) {
+				if (_parallelRunning) {
+					EvioDataEvent event = _eventManager.getNextEventQuietly();
+					if (event == null) {
+						break;
+					}
+					inFlight.acquire();
+					submit(_eventManager.getEventNumber(), event, threadData,
+							inFlight);
+				} else {
+					_eventManager.getNextEvent();
 				}
+				accumulated++;
 
-				// have to swim traj backwards!
-				// swimBackwardsToVertex(int q, double xo, double yo, double zo,
-				// double px, double py, double pz) {
-
-				int q = dcData.hitbasedtrkg_hbtracks_q[0];
-				double xo = dcData.hitbasedtrkg_hbtracks_c3_x[0] / 100;
-				double yo = dcData.hitbasedtrkg_hbtracks_c3_y[0] / 100;
-				double zo = dcData.hitbasedtrkg_hbtracks_c3_z[0] / 100;
-
-				double ux = dcData.hitbasedtrkg_hbtracks_c3_ux[0];
-				double uy = dcData.hitbasedtrkg_hbtracks_c3_uy[0];
-				double uz = dcData.hitbasedtrkg_hbtracks_c3_uz[0];
-
-				double pxo = reconsP * ux;
-				double pyo = reconsP * uy;
-				double pzo = reconsP * uz;
-
-				SwimTrajectory traj = Swimmer.swimBackwardsToVertex(q, xo, yo,
-						zo, pxo, pyo, pzo);
-				Swimming.addReconTrajectory(traj);
-
-				// Q = [x, y, z, px/p, py/p, pz/p]
-				double lastQ[] = traj.lastElement();
-
-				xo = lastQ[0];
-				yo = lastQ[1];
-				zo = lastQ[2];
-				pxo = -lastQ[3];
-				pyo = -lastQ[4];
-				pzo = -lastQ[5];
-
-				// pt = Math.hypot(pxo, pyo);
-				double reconTheta = Math.toDegrees(Math.acos(pzo));
-				double reconPhi = Math.toDegrees(Math.atan2(pyo, pxo));
-
-				_hbThetaResolutionHistoData.add(reconTheta - trueTheta);
-				_hbPhiResolutionHistoData.add(reconPhi - truePhi);
-
-			} // hb track count
+				if (((i + 1) % modCount) == 0) {
+					if (progressBar != null) {
+						int value = (int) ((100.0 * i) / count);
+						progressBar.setValue(value);
+					}
 
-			// time based
-			if (dcData.getTimeBasedTrackCount() > 0) {
-				double reconsP = dcData.timebasedtrkg_tbtracks_p[0];
-				if (trueP > 0.001) {
-					double frac = (trueP - reconsP) / trueP;
-					_tbPResolutionHistoData.add(frac);
+					// live display
+					if (_parallelRunning && (((i + 1) % (10 * modCount)) == 0)) {
+						mergeWorkerData();
+						notifyListeners(ACCUMULATION_MERGED);
+					}
 				}
+			}
 
-				// have to swim traj backwards!
-				// swimBackwardsToVertex(int q, double xo, double yo, double zo,
-				// double px, double py, double pz) {
-
-				int q = dcData.timebasedtrkg_tbtracks_q[0];
-				double xo = dcData.timebasedtrkg_tbtracks_c3_x[0] / 100;
-				double yo = dcData.timebasedtrkg_tbtracks_c3_y[0] / 100;
-				double zo = dcData.timebasedtrkg_tbtracks_c3_z[0] / 100;
+			// wait for the workers to finish
+			if (_parallelRunning) {
+				int permits = 4 * Math.max(1, numThreads);
+				inFlight.acquire(permits);
+				inFlight.release(permits);
+				mergeWorkerData();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
 
-				double ux = dcData.timebasedtrkg_tbtracks_c3_ux[0];
-				double uy = dcData.timebasedtrkg_tbtracks_c3_uy[0];
-				double uz = dcData.timebasedtrkg_tbtracks_c3_uz[0];
+			// drop the unmerged data; events still in flight finish into
+			// the discarded worker data
+			if (_parallelRunning) {
+				resetWorkerData();
+			}
+		}
 
-				double pxo = reconsP * ux;
-				double pyo = reconsP * uy;
-				double pzo = reconsP * uz;
+		// we are done accumulating
+		boolean parallel = _parallelRunning;
+		_parallelRunning = false;
+		_eventManager.setAccumulating(false);
 
-				SwimTrajectory traj = Swimmer.swimBackwardsToVertex(q, xo, yo,
-						zo, pxo, pyo, pzo);
-				Swimming.addReconTrajectory(traj);
+		// the views have not seen the events, so show them the last one
+		if (parallel) {
+			_eventManager.reloadCurrentEvent();
+		}
 
-				// Q = [x, y, z, px/p, py/p, pz/p]
-				double lastQ[] = traj.lastElement();
+		notifyListeners(ACCUMULATION_FINISHED);
+		return accumulated;
+	}
 
-				xo = lastQ[0];
-				yo = lastQ[1];
-				zo = lastQ[2];
-				pxo = -lastQ[3];
-				pyo = -lastQ[4];
-				pzo = -lastQ[5];
+	// hand an event to a worker
+	private void submit(final int eventNumber, final EvioDataEvent event,
+			final ThreadLocal<AccumulationData> threadData,
+			final Semaphore inFlight) {
+		Runnable task = new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					AccumulationData data = threadData.get();
+					synchronized (data) {
+						data.accumulate(eventNumber, event);
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				} finally {
+					inFlight.release();
+				}
+			}
+		};
+		getExecutor().execute(task);
+	}
 
-				// pt = Math.hypot(pxo, pyo);
-				double reconTheta = Math.toDegrees(Math.acos(pzo));
-				double reconPhi = Math.toDegrees(Math.atan2(pyo, pxo));
+	// per-thread data that registers itself with a run's worker data
+	private static ThreadLocal<AccumulationData> newThreadData(
+			final Vector<AccumulationData> workerData) {
+		return new ThreadLocal<AccumulationData>() {
+			@Override
+			protected AccumulationData initialValue() {
+				AccumulationData data = new AccumulationData();
+				workerData.add(data);
+				return data;
+			}
+		};
+	}
 
-				_tbThetaResolutionHistoData.add(reconTheta - trueTheta);
-				_tbPhiResolutionHistoData.add(reconPhi - truePhi);
+	// start over with no worker data
+	private void resetWorkerData() {
+		Vector<AccumulationData> workerData = new Vector<AccumulationData>();
+		_threadData = newThreadData(workerData);
+		_workerData = workerData;
+	}
 
-			} // time based track count
+	// merge the workers' data into the displayed data, and clear them
+	private void mergeWorkerData() {
+		Vector<AccumulationData> workerData = _workerData;
+		synchronized (workerData) {
+			for (AccumulationData data : workerData) {
+				synchronized (data) {
+					synchronized (_data) {
+						_data.merge(data);
+					}
+					data.clear();
+				}
+			}
 		}
+	}
 
+	// the worker threads, created when first needed and resized in place
+	private synchronized ThreadPoolExecutor getExecutor() {
+		int numThreads = Math.max(1, _numThreads);
+		if (_executor == null) {
+			_executor = new ThreadPoolExecutor(numThreads, numThreads, 0L,
+					TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory() {
+
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread thread = new Thread(r,
+									"ced accumulation worker");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+		else if (_executor.getCorePoolSize() != numThreads) {
+			// the core size may never exceed the max size
+			if (numThreads > _executor.getMaximumPoolSize()) {
+				_executor.setMaximumPoolSize(numThreads);
+				_executor.setCorePoolSize(numThreads);
+			}
+			else {
+				_executor.setCorePoolSize(numThreads);
+				_executor.setMaximumPoolSize(numThreads);
+			}
+		}
+		return _executor;
 	}
 
 	@Override
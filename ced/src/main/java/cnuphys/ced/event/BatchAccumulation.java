@@ -0,0 +1,442 @@
+package cnuphys.ced.event;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+import org.jlab.evio.clas12.EvioSource;
+
+import cnuphys.bCNU.util.Histo2DData;
+import cnuphys.ced.geometry.GeoConstants;
+import cnuphys.magfield.MagneticFields;
+import cnuphys.snr.clas12.Clas12NoiseAnalysis;
+import cnuphys.snr.clas12.Clas12NoiseResult;
+import cnuphys.splot.pdata.GrowableArray;
+import cnuphys.splot.pdata.HistoData;
+
+/**
+ * Headless batch accumulation. Runs the same accumulation as the
+ * AccumulationManager (and optionally the same noise analysis as the
+ * NoiseManager) over an evio file, with no frame, views or event manager, and
+ * writes the results as text files. The file is read on the main thread and
+ * the events are accumulated by a pool of worker threads, each filling its own
+ * AccumulationData, which are merged at the end.
+ * <p>
+ * The noise analysis always uses the default NoiseReductionParameters. Any
+ * parameters edited in ced's NoiseManager dialog are not seen here, so the
+ * signal counts may differ from those of a ced session with edited
+ * parameters.
+ * <p>
+ * Command line arguments:</br> [-o outputDir] [-n maxEvents] [-threads n]
+ * [-noise] [-torus path] [-solenoid path] evioFile
+ * <p>
+ * Output files (in the output directory):</br> dc_occupancy.txt: sector,
+ * superlayer, layer, wire, count (and count of hits not flagged as noise, if
+ * -noise), for wires with at least one hit</br> dc_xy.txt, bst_xy.txt: x and y
+ * bin centers and counts of the true hit xy histograms, for non-empty
+ * bins</br> tb_p_resolution.txt etc.: bin centers and counts of the
+ * resolution histograms, using the same binning as the reconstruction plots
+ *
+ * @author heddle
+ *
+ */
+public class BatchAccumulation {
+
+	// default number of worker threads
+	private static final int DEFAULT_NUM_THREADS = Math.max(1, Runtime
+			.getRuntime().availableProcessors() - 1);
+
+	// the merged data
+	private final AccumulationData _data = new AccumulationData();
+
+	// merged count of dc hits not flagged as noise
+	private final int _signalCounts[][][][];
+
+	// whether to run the noise analysis
+	private final boolean _doNoise;
+
+	// number of worker threads
+	private final int _numThreads;
+
+	// each worker's state
+	private final Vector<Worker> _workers = new Vector<Worker>();
+	private final ThreadLocal<Worker> _worker = new ThreadLocal<Worker>() {
+		@Override
+		protected Worker initialValue() {
+			Worker worker = new Worker();
+			_workers.add(worker);
+			return worker;
+		}
+	};
+
+	// the per-thread state. The noise analysis is not thread safe, so each
+	// worker has its own, like the NoiseManager does for the gui
+	private class Worker {
+		AccumulationData data = new AccumulationData();
+		Clas12NoiseAnalysis noisePackage = new Clas12NoiseAnalysis();
+		Clas12NoiseResult noiseResults = new Clas12NoiseResult();
+		int signalCounts[][][][] = new int[GeoConstants.NUM_SECTOR][GeoConstants.NUM_SUPERLAYER][GeoConstants.NUM_LAYER][GeoConstants.NUM_WIRE];
+
+		void accumulate(int eventNumber, EvioDataEvent event) {
+			data.accumulate(eventNumber, event);
+			if (_doNoise && event.hasBank("DC::dgtz")) {
+				int sector[] = event.getInt("DC::dgtz.sector");
+				int superlayer[] = event.getInt("DC::dgtz.superlayer");
+				int layer[] = event.getInt("DC::dgtz.layer");
+				int wire[] = event.getInt("DC::dgtz.wire");
+				if ((sector == null) || (sector.length == 0)) {
+					return;
+				}
+
+				noisePackage.clear();
+				noiseResults.clear();
+				noisePackage.findNoise(sector, superlayer, layer, wire,
+						noiseResults);
+
+				for (int i = 0; i < sector.length; i++) {
+					if (!noiseResults.noise[i]) {
+						try {
+							signalCounts[sector[i] - 1][superlayer[i] - 1][layer[i] - 1][wire[i] - 1]++;
+						} catch (ArrayIndexOutOfBoundsException e) {
+							// already reported by the occupancy accumulation
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a batch accumulation
+	 *
+	 * @param numThreads
+	 *            the number of worker threads, at least 1
+	 * @param doNoise
+	 *            if <code>true</code> also run the noise analysis
+	 */
+	public BatchAccumulation(int numThreads, boolean doNoise) {
+		_numThreads = Math.max(1, numThreads);
+		_doNoise = doNoise;
+		_signalCounts = new int[GeoConstants.NUM_SECTOR][GeoConstants.NUM_SUPERLAYER][GeoConstants.NUM_LAYER][GeoConstants.NUM_WIRE];
+	}
+
+	/**
+	 * Accumulate the events of a file
+	 *
+	 * @param file
+	 *            the evio file
+	 * @param maxEvents
+	 *            the maximum number of events, or a negative number for all
+	 * @return the number of events accumulated, not counting events that
+	 *         failed to accumulate
+	 */
+	public int accumulate(File file, int maxEvents) {
+		EvioSource source = new EvioSource();
+		source.open(file);
+
+		int count = source.getSize();
+		if ((maxEvents >= 0) && (maxEvents < count)) {
+			count = maxEvents;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(_numThreads,
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "batch accumulation worker");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+
+		// bound the number of events read but not yet accumulated
+		int permits = 4 * _numThreads;
+		final Semaphore inFlight = new Semaphore(permits);
+
+		int modCount = Math.max(1, count / 20);
+		int read = 0;
+
+		// counted by the workers, only for events accumulated without error
+		final AtomicInteger accumulated = new AtomicInteger();
+		try {
+			for (int i = 0; i < count; i++) {
+				final EvioDataEvent event = (EvioDataEvent) source
+						.getNextEvent();
+				if (event == null) {
+					break;
+				}
+				final int eventNumber = i + 1;
+
+				inFlight.acquire();
+				executor.execute(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							_worker.get().accumulate(eventNumber, event);
+							accumulated.incrementAndGet();
+						} catch (Exception e) {
+							e.printStackTrace();
+						} finally {
+							inFlight.release();
+						}
+					}
+				});
+				read++;
+
+				if ((read % modCount) == 0) {
+					System.out.println("Read " + read + " of " + count
+							+ " events");
+				}
+			}
+
+			// wait for the workers to finish
+			inFlight.acquire(permits);
+			inFlight.release(permits);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+
+		executor.shutdown();
+		source.close();
+		try {
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+
+		// the workers are done, so no locking needed
+		for (Worker worker : _workers) {
+			_data.merge(worker.data);
+			add(_signalCounts, worker.signalCounts);
+		}
+		_workers.clear();
+
+		return accumulated.get();
+	}
+
+	// add dc counts
+	private static void add(int to[][][][], int from[][][][]) {
+		for (int sector = 0; sector < GeoConstants.NUM_SECTOR; sector++) {
+			for (int superLayer = 0; superLayer < GeoConstants.NUM_SUPERLAYER; superLayer++) {
+				for (int layer = 0; layer < GeoConstants.NUM_LAYER; layer++) {
+					for (int wire = 0; wire < GeoConstants.NUM_WIRE; wire++) {
+						to[sector][superLayer][layer][wire] += from[sector][superLayer][layer][wire];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the merged accumulated data
+	 *
+	 * @return the accumulated data
+	 */
+	public AccumulationData getData() {
+		return _data;
+	}
+
+	/**
+	 * Write the accumulated data as text files
+	 *
+	 * @param dir
+	 *            the output directory, created if necessary
+	 * @throws FileNotFoundException
+	 */
+	public void write(File dir) throws FileNotFoundException {
+		if (!dir.exists()) {
+			dir.mkdirs();
+		}
+
+		writeOccupancy(new File(dir, "dc_occupancy.txt"));
+		write2D(new File(dir, "dc_xy.txt"),
+				_data.getDcXYGemcAccumulatedData());
+		write2D(new File(dir, "bst_xy.txt"),
+				_data.getBSTXYGemcAccumulatedData());
+
+		// same binning as the reconstruction plots
+		write1D(new File(dir, "tb_p_resolution.txt"),
+				_data.getTBMomentumResolutionData(), -0.25, 0.25);
+		write1D(new File(dir, "tb_theta_resolution.txt"),
+				_data.getTBThetaResolutionData(), -2.0, 2.0);
+		write1D(new File(dir, "tb_phi_resolution.txt"),
+				_data.getTBPhiResolutionData(), -3, 3);
+		write1D(new File(dir, "hb_p_resolution.txt"),
+				_data.getHBMomentumResolutionData(), -0.25, 0.25);
+		write1D(new File(dir, "hb_theta_resolution.txt"),
+				_data.getHBThetaResolutionData(), -5.0, 5.0);
+		write1D(new File(dir, "hb_phi_resolution.txt"),
+				_data.getHBPhiResolutionData(), -3, 3);
+	}
+
+	// write the dc occupancy
+	private void writeOccupancy(File file) throws FileNotFoundException {
+		PrintStream ps = new PrintStream(file);
+		int counts[][][][] = _data.getAccumulatedGemcDcData();
+
+		ps.println(_doNoise ? "# sector superlayer layer wire count signalCount"
+				: "# sector superlayer layer wire count");
+		ps.println("# max count " + _data.getMaxGemcDcCount());
+		for (int sector = 0; sector < GeoConstants.NUM_SECTOR; sector++) {
+			for (int superLayer = 0; superLayer < GeoConstants.NUM_SUPERLAYER; superLayer++) {
+				for (int layer = 0; layer < GeoConstants.NUM_LAYER; layer++) {
+					for (int wire = 0; wire < GeoConstants.NUM_WIRE; wire++) {
+						int count = counts[sector][superLayer][layer][wire];
+						if (count > 0) {
+							if (_doNoise) {
+								ps.println((sector + 1) + " " + (superLayer + 1)
+										+ " " + (layer + 1) + " " + (wire + 1)
+										+ " " + count + " "
+										+ _signalCounts[sector][superLayer][layer][wire]);
+							} else {
+								ps.println((sector + 1) + " " + (superLayer + 1)
+										+ " " + (layer + 1) + " " + (wire + 1)
+										+ " " + count);
+							}
+						}
+					}
+				}
+			}
+		}
+		ps.close();
+	}
+
+	// write a 2D histogram
+	private static void write2D(File file, Histo2DData histo)
+			throws FileNotFoundException {
+		PrintStream ps = new PrintStream(file);
+		long counts[][] = histo.getCounts();
+
+		ps.println("# " + histo.getName());
+		ps.println("# x y count");
+		ps.println("# out of range " + histo.getOutOfRangeCount());
+		for (int i = 0; i < histo.getNumberBinsX(); i++) {
+			for (int j = 0; j < histo.getNumberBinsY(); j++) {
+				if (counts[i][j] > 0) {
+					ps.println(histo.getBinMidValueX(i) + " "
+							+ histo.getBinMidValueY(j) + " " + counts[i][j]);
+				}
+			}
+		}
+		ps.close();
+	}
+
+	// bin and write a resolution histogram
+	private static void write1D(File file, GrowableArray values, double min,
+			double max) throws FileNotFoundException {
+		HistoData histo = new HistoData(file.getName(), min, max, 50,
+				values.size() + 1);
+		for (int i = 0; i < values.size(); i++) {
+			histo.add(values.get(i));
+		}
+
+		PrintStream ps = new PrintStream(file);
+		double stats[] = histo.getBasicStatistics();
+		ps.println("# value count");
+		ps.println("# entries " + values.size() + " under "
+				+ histo.getUnderCount() + " over " + histo.getOverCount());
+		ps.println("# mean " + stats[0] + " sigma " + stats[1] + " rms "
+				+ stats[2]);
+		for (int bin = 0; bin < histo.getNumberBins(); bin++) {
+			ps.println(histo.getBinMidValue(bin) + " " + histo.getCount(bin));
+		}
+		ps.close();
+	}
+
+	// print usage and quit
+	private static void usage() {
+		System.err
+				.println("usage: BatchAccumulation [-o outputDir] [-n maxEvents] [-threads n] [-noise] [-torus path] [-solenoid path] evioFile");
+		System.exit(1);
+	}
+
+	/**
+	 * Run a batch accumulation, see the class comment for the arguments.
+	 *
+	 * @param arg
+	 *            the command line arguments
+	 */
+	public static void main(String arg[]) {
+		System.setProperty("java.awt.headless", "true");
+
+		String outputDir = "accumulation";
+		int maxEvents = -1;
+		int numThreads = DEFAULT_NUM_THREADS;
+		boolean doNoise = false;
+		String torusPath = null;
+		String solenoidPath = null;
+		String path = null;
+
+		try {
+			for (int i = 0; i < arg.length; i++) {
+				if (arg[i].equalsIgnoreCase("-o")) {
+					outputDir = arg[++i];
+				} else if (arg[i].equalsIgnoreCase("-n")) {
+					maxEvents = Integer.parseInt(arg[++i]);
+				} else if (arg[i].equalsIgnoreCase("-threads")) {
+					numThreads = Integer.parseInt(arg[++i]);
+				} else if (arg[i].equalsIgnoreCase("-noise")) {
+					doNoise = true;
+				} else if (arg[i].equalsIgnoreCase("-torus")) {
+					torusPath = arg[++i];
+				} else if (arg[i].equalsIgnoreCase("-solenoid")) {
+					solenoidPath = arg[++i];
+				} else if (arg[i].startsWith("-")) {
+					usage();
+				} else {
+					path = arg[i];
+				}
+			}
+		} catch (Exception e) {
+			usage();
+		}
+
+		if (path == null) {
+			usage();
+		}
+
+		File file = new File(path);
+		if (!file.exists()) {
+			System.err.println("No such file: " + path);
+			System.exit(1);
+		}
+
+		// MagneticFields loads the maps in its static initializer, looking
+		// first at these properties, so they must be set before anything
+		// touches MagneticFields (setTorusFullPath would come too late)
+		if (torusPath != null) {
+			System.setProperty("TORUSMAP", torusPath);
+		}
+		if (solenoidPath != null) {
+			System.setProperty("SOLENOIDMAP", solenoidPath);
+		}
+
+		// same field as ced uses by default, for the resolution swims
+		MagneticFields.setActiveField(MagneticFields.FieldType.TORUS);
+
+		BatchAccumulation batch = new BatchAccumulation(numThreads, doNoise);
+		long time = System.currentTimeMillis();
+		int count = batch.accumulate(file, maxEvents);
+		time = System.currentTimeMillis() - time;
+		System.out.println("Accumulated " + count + " events in " + time
+				+ " ms");
+
+		try {
+			batch.write(new File(outputDir));
+			System.out.println("Wrote accumulated data to "
+					+ new File(outputDir).getAbsolutePath());
+		} catch (FileNotFoundException e) {
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+}
@@ -39,6 +39,9 @@ public abstract class ADataContainer implements IClasIoEventListener {
 	public static final String dgtxColor = "$Moccasin$";
 	public static final String reconColor = "$coral$";
 
+	// the columns of the current event, decoded on demand
+	private volatile EventColumns _columns = new EventColumns(null);
+
 	// Common TRUE (simulated) arrays
 
 	public ADataContainer(ClasIoEventManager eventManager) {
@@ -82,6 +85,10 @@ public abstract class ADataContainer implements IClasIoEventListener {
 	@Override
 	public void newClasIoEvent(EvioDataEvent event) {
 		clear();
+		_columns = new EventColumns(event);
+		if (ColumnUsage.isEnabled()) {
+			ColumnUsage.newEvent(event);
+		}
 		if (event != null) {
 			load(event);
 		}
@@ -506,6 +513,79 @@ public abstract class ADataContainer implements IClasIoEventListener {
 		}
 	}
 
+	/**
+	 * Get an int column of the current event. It is decoded on first access
+	 * and cached for the rest of the event.
+	 * 
+	 * @param column
+	 *            the full column name, e.g. "DC::dgtz.sector"
+	 * @return the column, or <code>null</code> if its bank is not in the event
+	 */
+	protected int[] intColumn(String column) {
+		return _columns.getInt(column);
+	}
+
+	/**
+	 * Get a double column of the current event. It is decoded on first access
+	 * and cached for the rest of the event.
+	 * 
+	 * @param column
+	 *            the full column name, e.g. "DC::true.avgX"
+	 * @return the column, or <code>null</code> if its bank is not in the event
+	 */
+	protected double[] doubleColumn(String column) {
+		return _columns.getDouble(column);
+	}
+
+	/**
+	 * Get a float column of the current event. It is decoded on first access
+	 * and cached for the rest of the event.
+	 * 
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if its bank is not in the event
+	 */
+	protected float[] floatColumn(String column) {
+		return _columns.getFloat(column);
+	}
+
+	/**
+	 * Get a short column of the current event. It is decoded on first access
+	 * and cached for the rest of the event.
+	 * 
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if its bank is not in the event
+	 */
+	protected short[] shortColumn(String column) {
+		return _columns.getShort(column);
+	}
+
+	/**
+	 * Get a byte column of the current event. It is decoded on first access
+	 * and cached for the rest of the event.
+	 * 
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if its bank is not in the event
+	 */
+	protected byte[] byteColumn(String column) {
+		return _columns.getByte(column);
+	}
+
+	/**
+	 * Get the length of a column. Callers that also index the column should
+	 * get it once into a local array rather than calling its accessor per
+	 * hit, since each call is a cache lookup.
+	 * 
+	 * @param column
+	 *            the column, may be <code>null</code>
+	 * @return the length of the column, or 0 if it is <code>null</code>
+	 */
+	protected static int length(int column[]) {
+		return (column == null) ? 0 : column.length;
+	}
+
 	/**
 	 * Get a double array from the event, by name. This is used because the
 	 * getDouble in clasIO returns an array with one element and value zero if
@@ -12,406 +12,644 @@ import cnuphys.ced.clasio.ClasIoEventManager;
 public class BSTDataContainer extends ADataContainer {
 
     /** ADC value for the strip */
-    public int[] bst_dgtz_ADC;
+    public int[] bst_dgtz_ADC() {
+	return intColumn("BST::dgtz.ADC");
+    }
 
     /** Time information */
-    public int[] bst_dgtz_bco;
+    public int[] bst_dgtz_bco() {
+	return intColumn("BST::dgtz.bco");
+    }
 
     /** Hit Number */
-    public int[] bst_dgtz_hitn;
+    public int[] bst_dgtz_hitn() {
+	return intColumn("BST::dgtz.hitn");
+    }
 
     /** Layer Number */
-    public int[] bst_dgtz_layer;
+    public int[] bst_dgtz_layer() {
+	return intColumn("BST::dgtz.layer");
+    }
 
     /** Sector Number */
-    public int[] bst_dgtz_sector;
+    public int[] bst_dgtz_sector() {
+	return intColumn("BST::dgtz.sector");
+    }
 
     /** Strip Number */
-    public int[] bst_dgtz_strip;
+    public int[] bst_dgtz_strip() {
+	return intColumn("BST::dgtz.strip");
+    }
 
     /** Average X position in local reference system */
-    public double[] bst_true_avgLx;
+    public double[] bst_true_avgLx() {
+	return doubleColumn("BST::true.avgLx");
+    }
 
     /** Average Y position in local reference system */
-    public double[] bst_true_avgLy;
+    public double[] bst_true_avgLy() {
+	return doubleColumn("BST::true.avgLy");
+    }
 
     /** Average Z position in local reference system */
-    public double[] bst_true_avgLz;
+    public double[] bst_true_avgLz() {
+	return doubleColumn("BST::true.avgLz");
+    }
 
     /** Average time */
-    public double[] bst_true_avgT;
+    public double[] bst_true_avgT() {
+	return doubleColumn("BST::true.avgT");
+    }
 
     /** Average X position in global reference system */
-    public double[] bst_true_avgX;
+    public double[] bst_true_avgX() {
+	return doubleColumn("BST::true.avgX");
+    }
 
     /** Average Y position in global reference system */
-    public double[] bst_true_avgY;
+    public double[] bst_true_avgY() {
+	return doubleColumn("BST::true.avgY");
+    }
 
     /** Average Z position in global reference system */
-    public double[] bst_true_avgZ;
+    public double[] bst_true_avgZ() {
+	return doubleColumn("BST::true.avgZ");
+    }
 
     /** Hit1 Number */
-    public int[] bst_true_hitn;
+    public int[] bst_true_hitn() {
+	return intColumn("BST::true.hitn");
+    }
 
     /** ID of the mother of the first particle entering the sensitive volume */
-    public int[] bst_true_mpid;
+    public int[] bst_true_mpid() {
+	return intColumn("BST::true.mpid");
+    }
 
     /**
      * Track ID of the mother of the first particle entering the sensitive
      * volume
      */
-    public int[] bst_true_mtid;
+    public int[] bst_true_mtid() {
+	return intColumn("BST::true.mtid");
+    }
 
     /**
      * x component of primary vertex of the mother of the particle entering the
      * sensitive volume
      */
-    public double[] bst_true_mvx;
+    public double[] bst_true_mvx() {
+	return doubleColumn("BST::true.mvx");
+    }
 
     /**
      * y component of primary vertex of the mother of the particle entering the
      * sensitive volume
      */
-    public double[] bst_true_mvy;
+    public double[] bst_true_mvy() {
+	return doubleColumn("BST::true.mvy");
+    }
 
     /**
      * z component of primary vertex of the mother of the particle entering the
      * sensitive volume
      */
-    public double[] bst_true_mvz;
+    public double[] bst_true_mvz() {
+	return doubleColumn("BST::true.mvz");
+    }
 
     /**
      * Track ID of the original track that generated the first particle entering
      * the sensitive volume
      */
-    public int[] bst_true_otid;
+    public int[] bst_true_otid() {
+	return intColumn("BST::true.otid");
+    }
 
     /** ID of the first particle entering the sensitive volume */
-    public int[] bst_true_pid;
+    public int[] bst_true_pid() {
+	return intColumn("BST::true.pid");
+    }
 
     /** x component of momentum of the particle entering the sensitive volume */
-    public double[] bst_true_px;
+    public double[] bst_true_px() {
+	return doubleColumn("BST::true.px");
+    }
 
     /** y component of momentum of the particle entering the sensitive volume */
-    public double[] bst_true_py;
+    public double[] bst_true_py() {
+	return doubleColumn("BST::true.py");
+    }
 
     /** z component of momentum of the particle entering the sensitive volume */
-    public double[] bst_true_pz;
+    public double[] bst_true_pz() {
+	return doubleColumn("BST::true.pz");
+    }
 
     /** Track ID of the first particle entering the sensitive volume */
-    public int[] bst_true_tid;
+    public int[] bst_true_tid() {
+	return intColumn("BST::true.tid");
+    }
 
     /** Total Energy Deposited */
-    public double[] bst_true_totEdep;
+    public double[] bst_true_totEdep() {
+	return doubleColumn("BST::true.totEdep");
+    }
 
     /** Energy of the track */
-    public double[] bst_true_trackE;
+    public double[] bst_true_trackE() {
+	return doubleColumn("BST::true.trackE");
+    }
 
     /**
      * x component of primary vertex of the particle entering the sensitive
      * volume
      */
-    public double[] bst_true_vx;
+    public double[] bst_true_vx() {
+	return doubleColumn("BST::true.vx");
+    }
 
     /**
      * y component of primary vertex of the particle entering the sensitive
      * volume
      */
-    public double[] bst_true_vy;
+    public double[] bst_true_vy() {
+	return doubleColumn("BST::true.vy");
+    }
 
     /**
      * z component of primary vertex of the particle entering the sensitive
      * volume
      */
-    public double[] bst_true_vz;
+    public double[] bst_true_vz() {
+	return doubleColumn("BST::true.vz");
+    }
 
     /** centroid strip number */
-    public double[] bstrec_clusters_centroid;
+    public double[] bstrec_clusters_centroid() {
+	return doubleColumn("BSTRec::Clusters.centroid");
+    }
 
     /** cluster total energy */
-    public double[] bstrec_clusters_ETot;
+    public double[] bstrec_clusters_ETot() {
+	return doubleColumn("BSTRec::Clusters.ETot");
+    }
 
     /** Index of hit 1 in cluster */
-    public int[] bstrec_clusters_Hit1_ID;
+    public int[] bstrec_clusters_Hit1_ID() {
+	return intColumn("BSTRec::Clusters.Hit1_ID");
+    }
 
     /** Index of hit 2 in cluster */
-    public int[] bstrec_clusters_Hit2_ID;
+    public int[] bstrec_clusters_Hit2_ID() {
+	return intColumn("BSTRec::Clusters.Hit2_ID");
+    }
 
     /** Index of hit 3 in cluster */
-    public int[] bstrec_clusters_Hit3_ID;
+    public int[] bstrec_clusters_Hit3_ID() {
+	return intColumn("BSTRec::Clusters.Hit3_ID");
+    }
 
     /** Index of hit 4 in cluster */
-    public int[] bstrec_clusters_Hit4_ID;
+    public int[] bstrec_clusters_Hit4_ID() {
+	return intColumn("BSTRec::Clusters.Hit4_ID");
+    }
 
     /** Index of hit 5 in cluster */
-    public int[] bstrec_clusters_Hit5_ID;
+    public int[] bstrec_clusters_Hit5_ID() {
+	return intColumn("BSTRec::Clusters.Hit5_ID");
+    }
 
     /** ID */
-    public int[] bstrec_clusters_ID;
+    public int[] bstrec_clusters_ID() {
+	return intColumn("BSTRec::Clusters.ID");
+    }
 
     /** layer */
-    public int[] bstrec_clusters_layer;
+    public int[] bstrec_clusters_layer() {
+	return intColumn("BSTRec::Clusters.layer");
+    }
 
     /** sector */
-    public int[] bstrec_clusters_sector;
+    public int[] bstrec_clusters_sector() {
+	return intColumn("BSTRec::Clusters.sector");
+    }
 
     /** energy of the seed */
-    public double[] bstrec_clusters_seedE;
+    public double[] bstrec_clusters_seedE() {
+	return doubleColumn("BSTRec::Clusters.seedE");
+    }
 
     /** seed strip */
-    public int[] bstrec_clusters_seedStrip;
+    public int[] bstrec_clusters_seedStrip() {
+	return intColumn("BSTRec::Clusters.seedStrip");
+    }
 
     /** cluster size */
-    public int[] bstrec_clusters_size;
+    public int[] bstrec_clusters_size() {
+	return intColumn("BSTRec::Clusters.size");
+    }
 
     /** ID of cosmic-region 1 cross in the track */
-    public int[] bstrec_cosmics_Cross1_ID;
+    public int[] bstrec_cosmics_Cross1_ID() {
+	return intColumn("BSTRec::Cosmics.Cross1_ID");
+    }
 
     /** ID of cosmic-region 2 cross in the track */
-    public int[] bstrec_cosmics_Cross2_ID;
+    public int[] bstrec_cosmics_Cross2_ID() {
+	return intColumn("BSTRec::Cosmics.Cross2_ID");
+    }
 
     /** ID of cosmic-region 3 cross in the track */
-    public int[] bstrec_cosmics_Cross3_ID;
+    public int[] bstrec_cosmics_Cross3_ID() {
+	return intColumn("BSTRec::Cosmics.Cross3_ID");
+    }
 
     /** ID of cosmic-region 4 cross in the track */
-    public int[] bstrec_cosmics_Cross4_ID;
+    public int[] bstrec_cosmics_Cross4_ID() {
+	return intColumn("BSTRec::Cosmics.Cross4_ID");
+    }
 
     /** ID of cosmic-region 5 cross in the track */
-    public int[] bstrec_cosmics_Cross5_ID;
+    public int[] bstrec_cosmics_Cross5_ID() {
+	return intColumn("BSTRec::Cosmics.Cross5_ID");
+    }
 
     /** ID of cosmic-region 6 cross in the track */
-    public int[] bstrec_cosmics_Cross6_ID;
+    public int[] bstrec_cosmics_Cross6_ID() {
+	return intColumn("BSTRec::Cosmics.Cross6_ID");
+    }
 
     /** ID of cosmic-region 7 cross in the track */
-    public int[] bstrec_cosmics_Cross7_ID;
+    public int[] bstrec_cosmics_Cross7_ID() {
+	return intColumn("BSTRec::Cosmics.Cross7_ID");
+    }
 
     /** ID of cosmic-region 8 cross in the track */
-    public int[] bstrec_cosmics_Cross8_ID;
+    public int[] bstrec_cosmics_Cross8_ID() {
+	return intColumn("BSTRec::Cosmics.Cross8_ID");
+    }
 
     /** ID */
-    public int[] bstrec_cosmics_ID;
+    public int[] bstrec_cosmics_ID() {
+	return intColumn("BSTRec::Cosmics.ID");
+    }
 
     /**
      * the chi^2 from the Kalman Fit to the strips (the fitted values are strip
      * numbers)
      */
-    public double[] bstrec_cosmics_KF_chi2;
+    public double[] bstrec_cosmics_KF_chi2() {
+	return doubleColumn("BSTRec::Cosmics.KF_chi2");
+    }
 
     /** the number of degrees of freedom for the Kalman fit */
-    public int[] bstrec_cosmics_KF_ndf;
+    public int[] bstrec_cosmics_KF_ndf() {
+	return intColumn("BSTRec::Cosmics.KF_ndf");
+    }
 
     /** phi (deg) */
-    public double[] bstrec_cosmics_phi;
+    public double[] bstrec_cosmics_phi() {
+	return doubleColumn("BSTRec::Cosmics.phi");
+    }
 
     /** theta (deg) */
-    public double[] bstrec_cosmics_theta;
+    public double[] bstrec_cosmics_theta() {
+	return doubleColumn("BSTRec::Cosmics.theta");
+    }
 
     /** trkline_yx_interc */
-    public double[] bstrec_cosmics_trkline_yx_interc;
+    public double[] bstrec_cosmics_trkline_yx_interc() {
+	return doubleColumn("BSTRec::Cosmics.trkline_yx_interc");
+    }
 
     /** trkline_yx_slope */
-    public double[] bstrec_cosmics_trkline_yx_slope;
+    public double[] bstrec_cosmics_trkline_yx_slope() {
+	return doubleColumn("BSTRec::Cosmics.trkline_yx_slope");
+    }
 
     /** trkline_yz_interc */
-    public double[] bstrec_cosmics_trkline_yz_interc;
+    public double[] bstrec_cosmics_trkline_yz_interc() {
+	return doubleColumn("BSTRec::Cosmics.trkline_yz_interc");
+    }
 
     /** trkline_yz_slope */
-    public double[] bstrec_cosmics_trkline_yz_slope;
+    public double[] bstrec_cosmics_trkline_yz_slope() {
+	return doubleColumn("BSTRec::Cosmics.trkline_yz_slope");
+    }
 
     /** ID of the bottom layer cluster in the Cross */
-    public int[] bstrec_crosses_Cluster1_ID;
+    public int[] bstrec_crosses_Cluster1_ID() {
+	return intColumn("BSTRec::Crosses.Cluster1_ID");
+    }
 
     /** ID of the top layer cluster in the Cross */
-    public int[] bstrec_crosses_Cluster2_ID;
+    public int[] bstrec_crosses_Cluster2_ID() {
+	return intColumn("BSTRec::Crosses.Cluster2_ID");
+    }
 
     /** BST cross x-coordinate error */
-    public double[] bstrec_crosses_err_x;
+    public double[] bstrec_crosses_err_x() {
+	return doubleColumn("BSTRec::Crosses.err_x");
+    }
 
     /** BST cross y-coordinate error */
-    public double[] bstrec_crosses_err_y;
+    public double[] bstrec_crosses_err_y() {
+	return doubleColumn("BSTRec::Crosses.err_y");
+    }
 
     /** BST cross z-coordinate error */
-    public double[] bstrec_crosses_err_z;
+    public double[] bstrec_crosses_err_z() {
+	return doubleColumn("BSTRec::Crosses.err_z");
+    }
 
     /** ID */
-    public int[] bstrec_crosses_ID;
+    public int[] bstrec_crosses_ID() {
+	return intColumn("BSTRec::Crosses.ID");
+    }
 
     /** region */
-    public int[] bstrec_crosses_region;
+    public int[] bstrec_crosses_region() {
+	return intColumn("BSTRec::Crosses.region");
+    }
 
     /** sector */
-    public int[] bstrec_crosses_sector;
+    public int[] bstrec_crosses_sector() {
+	return intColumn("BSTRec::Crosses.sector");
+    }
 
     /** BST cross x-direction (track unit tangent vector at the cross) */
-    public double[] bstrec_crosses_ux;
+    public double[] bstrec_crosses_ux() {
+	return doubleColumn("BSTRec::Crosses.ux");
+    }
 
     /** BST cross y-direction (track unit tangent vector at the cross) */
-    public double[] bstrec_crosses_uy;
+    public double[] bstrec_crosses_uy() {
+	return doubleColumn("BSTRec::Crosses.uy");
+    }
 
     /** BST cross z-direction (track unit tangent vector at the cross) */
-    public double[] bstrec_crosses_uz;
+    public double[] bstrec_crosses_uz() {
+	return doubleColumn("BSTRec::Crosses.uz");
+    }
 
     /** BST cross x-coordinate */
-    public double[] bstrec_crosses_x;
+    public double[] bstrec_crosses_x() {
+	return doubleColumn("BSTRec::Crosses.x");
+    }
 
     /** BST cross y-coordinate */
-    public double[] bstrec_crosses_y;
+    public double[] bstrec_crosses_y() {
+	return doubleColumn("BSTRec::Crosses.y");
+    }
 
     /** BST cross z-coordinate */
-    public double[] bstrec_crosses_z;
+    public double[] bstrec_crosses_z() {
+	return doubleColumn("BSTRec::Crosses.z");
+    }
 
     /** associated cluster ID */
-    public int[] bstrec_hits_clusterID;
+    public int[] bstrec_hits_clusterID() {
+	return intColumn("BSTRec::Hits.clusterID");
+    }
 
     /** fitted hit residual */
-    public double[] bstrec_hits_fitResidual;
+    public double[] bstrec_hits_fitResidual() {
+	return doubleColumn("BSTRec::Hits.fitResidual");
+    }
 
     /** hit ID */
-    public int[] bstrec_hits_ID;
+    public int[] bstrec_hits_ID() {
+	return intColumn("BSTRec::Hits.ID");
+    }
 
     /** hit layer */
-    public int[] bstrec_hits_layer;
+    public int[] bstrec_hits_layer() {
+	return intColumn("BSTRec::Hits.layer");
+    }
 
     /** hit sector */
-    public int[] bstrec_hits_sector;
+    public int[] bstrec_hits_sector() {
+	return intColumn("BSTRec::Hits.sector");
+    }
 
     /** hit strip */
-    public int[] bstrec_hits_strip;
+    public int[] bstrec_hits_strip() {
+	return intColumn("BSTRec::Hits.strip");
+    }
 
     /** tracking status */
-    public int[] bstrec_hits_trkingStat;
+    public int[] bstrec_hits_trkingStat() {
+	return intColumn("BSTRec::Hits.trkingStat");
+    }
 
     /**
      * x-coordinate of a helical trk direction extrapolated to a cylinder at 25
      * cm radius from the lab origin (cm unit)
      */
-    public double[] bstrec_tracks_c_ux;
+    public double[] bstrec_tracks_c_ux() {
+	return doubleColumn("BSTRec::Tracks.c_ux");
+    }
 
     /**
      * y-coordinate of a helical trk direction extrapolated to a cylinder at 25
      * cm radius from the lab origin (cm unit)
      */
-    public double[] bstrec_tracks_c_uy;
+    public double[] bstrec_tracks_c_uy() {
+	return doubleColumn("BSTRec::Tracks.c_uy");
+    }
 
     /**
      * z-coordinate of a helical trk direction extrapolated to a cylinder at 25
      * cm radius from the lab origin (cm unit)
      */
-    public double[] bstrec_tracks_c_uz;
+    public double[] bstrec_tracks_c_uz() {
+	return doubleColumn("BSTRec::Tracks.c_uz");
+    }
 
     /**
      * x-coordinate of a helical trk point extrapolated to a cylinder at 25 cm
      * radius from the lab origin (cm unit)
      */
-    public double[] bstrec_tracks_c_x;
+    public double[] bstrec_tracks_c_x() {
+	return doubleColumn("BSTRec::Tracks.c_x");
+    }
 
     /**
      * y-coordinate of a helical trk point extrapolated to a cylinder at 25 cm
      * radius from the lab origin (cm unit)
      */
-    public double[] bstrec_tracks_c_y;
+    public double[] bstrec_tracks_c_y() {
+	return doubleColumn("BSTRec::Tracks.c_y");
+    }
 
     /**
      * z-coordinate of a helical trk point extrapolated to a cylinder at 25 cm
      * radius from the lab origin (cm unit)b
      */
-    public double[] bstrec_tracks_c_z;
+    public double[] bstrec_tracks_c_z() {
+	return doubleColumn("BSTRec::Tracks.c_z");
+    }
 
     /** helical track fit covariance matrix element : delta_d0^2 */
-    public double[] bstrec_tracks_cov_d02;
+    public double[] bstrec_tracks_cov_d02() {
+	return doubleColumn("BSTRec::Tracks.cov_d02");
+    }
 
     /** helical track fit covariance matrix element : delta_d0.delta_phi0 */
-    public double[] bstrec_tracks_cov_d0phi0;
+    public double[] bstrec_tracks_cov_d0phi0() {
+	return doubleColumn("BSTRec::Tracks.cov_d0phi0");
+    }
 
     /** helical track fit covariance matrix element : delta_d0.delta_rho */
-    public double[] bstrec_tracks_cov_d0rho;
+    public double[] bstrec_tracks_cov_d0rho() {
+	return doubleColumn("BSTRec::Tracks.cov_d0rho");
+    }
 
     /** helical track fit covariance matrix element : delta_phi0^2 */
-    public double[] bstrec_tracks_cov_phi02;
+    public double[] bstrec_tracks_cov_phi02() {
+	return doubleColumn("BSTRec::Tracks.cov_phi02");
+    }
 
     /** helical track fit covariance matrix element : delta_phi0.delta_rho */
-    public double[] bstrec_tracks_cov_phi0rho;
+    public double[] bstrec_tracks_cov_phi0rho() {
+	return doubleColumn("BSTRec::Tracks.cov_phi0rho");
+    }
 
     /** helical track fit covariance matrix element : delta_rho.delta_rho */
-    public double[] bstrec_tracks_cov_rho2;
+    public double[] bstrec_tracks_cov_rho2() {
+	return doubleColumn("BSTRec::Tracks.cov_rho2");
+    }
 
     /** helical track fit covariance matrix element : delta_tandip^2 */
-    public double[] bstrec_tracks_cov_tandip2;
+    public double[] bstrec_tracks_cov_tandip2() {
+	return doubleColumn("BSTRec::Tracks.cov_tandip2");
+    }
 
     /** helical track fit covariance matrix element : delta_z0^2 */
-    public double[] bstrec_tracks_cov_z02;
+    public double[] bstrec_tracks_cov_z02() {
+	return doubleColumn("BSTRec::Tracks.cov_z02");
+    }
 
     /** ID of region 1 cross in the track */
-    public int[] bstrec_tracks_Cross1_ID;
+    public int[] bstrec_tracks_Cross1_ID() {
+	return intColumn("BSTRec::Tracks.Cross1_ID");
+    }
 
     /** ID of region 2 cross in the track */
-    public int[] bstrec_tracks_Cross2_ID;
+    public int[] bstrec_tracks_Cross2_ID() {
+	return intColumn("BSTRec::Tracks.Cross2_ID");
+    }
 
     /** ID of region 3 cross in the track */
-    public int[] bstrec_tracks_Cross3_ID;
+    public int[] bstrec_tracks_Cross3_ID() {
+	return intColumn("BSTRec::Tracks.Cross3_ID");
+    }
 
     /** ID of region 4 cross in the track */
-    public int[] bstrec_tracks_Cross4_ID;
+    public int[] bstrec_tracks_Cross4_ID() {
+	return intColumn("BSTRec::Tracks.Cross4_ID");
+    }
 
     /** helical track fit parameter: Distance of Closest Approach */
-    public double[] bstrec_tracks_d0;
+    public double[] bstrec_tracks_d0() {
+	return doubleColumn("BSTRec::Tracks.d0");
+    }
 
     /** fitting method (1 for global fit, 2 for Kalman Filter) */
-    public int[] bstrec_tracks_fittingMethod;
+    public int[] bstrec_tracks_fittingMethod() {
+	return intColumn("BSTRec::Tracks.fittingMethod");
+    }
 
     /** ID */
-    public int[] bstrec_tracks_ID;
+    public int[] bstrec_tracks_ID() {
+	return intColumn("BSTRec::Tracks.ID");
+    }
 
     /** total momentum */
-    public double[] bstrec_tracks_p;
+    public double[] bstrec_tracks_p() {
+	return doubleColumn("BSTRec::Tracks.p");
+    }
 
     /** total pathlength from the origin to the reference point (in cm) */
-    public double[] bstrec_tracks_pathlength;
+    public double[] bstrec_tracks_pathlength() {
+	return doubleColumn("BSTRec::Tracks.pathlength");
+    }
 
     /** helical track fit parameter: phi at DOCA */
-    public double[] bstrec_tracks_phi0;
+    public double[] bstrec_tracks_phi0() {
+	return doubleColumn("BSTRec::Tracks.phi0");
+    }
 
     /** transverse momentum */
-    public double[] bstrec_tracks_pt;
+    public double[] bstrec_tracks_pt() {
+	return doubleColumn("BSTRec::Tracks.pt");
+    }
 
     /** charge */
-    public int[] bstrec_tracks_q;
+    public int[] bstrec_tracks_q() {
+	return intColumn("BSTRec::Tracks.q");
+    }
 
     /** helical track fit parameter: dip angle */
-    public double[] bstrec_tracks_tandip;
+    public double[] bstrec_tracks_tandip() {
+	return doubleColumn("BSTRec::Tracks.tandip");
+    }
 
     /** helical track fit parameter: value of z at the DOCA */
-    public double[] bstrec_tracks_z0;
+    public double[] bstrec_tracks_z0() {
+	return doubleColumn("BSTRec::Tracks.z0");
+    }
 
     /** Estimated Centroid */
-    public double[] bstrec_trajectory_CalcCentroidStrip;
+    public double[] bstrec_trajectory_CalcCentroidStrip() {
+	return doubleColumn("BSTRec::Trajectory.CalcCentroidStrip");
+    }
 
     /** ID */
-    public int[] bstrec_trajectory_ID;
+    public int[] bstrec_trajectory_ID() {
+	return intColumn("BSTRec::Trajectory.ID");
+    }
 
     /** Layer of Intersection of Track */
-    public int[] bstrec_trajectory_LayerTrackIntersPlane;
+    public int[] bstrec_trajectory_LayerTrackIntersPlane() {
+	return intColumn("BSTRec::Trajectory.LayerTrackIntersPlane");
+    }
 
     /** Local phi of Intersection of Track */
-    public double[] bstrec_trajectory_PhiTrackIntersPlane;
+    public double[] bstrec_trajectory_PhiTrackIntersPlane() {
+	return doubleColumn("BSTRec::Trajectory.PhiTrackIntersPlane");
+    }
 
     /** Sector of Intersection of Track */
-    public int[] bstrec_trajectory_SectorTrackIntersPlane;
+    public int[] bstrec_trajectory_SectorTrackIntersPlane() {
+	return intColumn("BSTRec::Trajectory.SectorTrackIntersPlane");
+    }
 
     /** Local theta of Intersection of Track */
-    public double[] bstrec_trajectory_ThetaTrackIntersPlane;
+    public double[] bstrec_trajectory_ThetaTrackIntersPlane() {
+	return doubleColumn("BSTRec::Trajectory.ThetaTrackIntersPlane");
+    }
 
     /** Local angle of Intersection of Track with the module surface */
-    public double[] bstrec_trajectory_trkToMPlnAngl;
+    public double[] bstrec_trajectory_trkToMPlnAngl() {
+	return doubleColumn("BSTRec::Trajectory.trkToMPlnAngl");
+    }
 
     /** x of Intersection of Track */
-    public double[] bstrec_trajectory_XtrackIntersPlane;
+    public double[] bstrec_trajectory_XtrackIntersPlane() {
+	return doubleColumn("BSTRec::Trajectory.XtrackIntersPlane");
+    }
 
     /** y of Intersection of Track */
-    public double[] bstrec_trajectory_YtrackIntersPlane;
+    public double[] bstrec_trajectory_YtrackIntersPlane() {
+	return doubleColumn("BSTRec::Trajectory.YtrackIntersPlane");
+    }
 
     /** z of Intersection of Track */
-    public double[] bstrec_trajectory_ZtrackIntersPlane;
+    public double[] bstrec_trajectory_ZtrackIntersPlane() {
+	return doubleColumn("BSTRec::Trajectory.ZtrackIntersPlane");
+    }
 
     public BSTDataContainer(ClasIoEventManager eventManager) {
 	super(eventManager);
@@ -419,315 +657,18 @@ public class BSTDataContainer extends ADataContainer {
 
     @Override
     public int getHitCount(int option) {
-	int hitCount = (bst_dgtz_sector == null) ? 0 : bst_dgtz_sector.length;
+	int hitCount = length(bst_dgtz_sector());
 	return hitCount;
     }
 
     @Override
     public void load(EvioDataEvent event) {
-	if (event == null) {
-	    return;
-	}
-
-	if (event.hasBank("BST::dgtz")) {
-	    bst_dgtz_ADC = event.getInt("BST::dgtz.ADC");
-	    bst_dgtz_bco = event.getInt("BST::dgtz.bco");
-	    bst_dgtz_hitn = event.getInt("BST::dgtz.hitn");
-	    bst_dgtz_layer = event.getInt("BST::dgtz.layer");
-	    bst_dgtz_sector = event.getInt("BST::dgtz.sector");
-	    bst_dgtz_strip = event.getInt("BST::dgtz.strip");
-	} // BST::dgtz
-
-	if (event.hasBank("BST::true")) {
-	    bst_true_avgLx = event.getDouble("BST::true.avgLx");
-	    bst_true_avgLy = event.getDouble("BST::true.avgLy");
-	    bst_true_avgLz = event.getDouble("BST::true.avgLz");
-	    bst_true_avgT = event.getDouble("BST::true.avgT");
-	    bst_true_avgX = event.getDouble("BST::true.avgX");
-	    bst_true_avgY = event.getDouble("BST::true.avgY");
-	    bst_true_avgZ = event.getDouble("BST::true.avgZ");
-	    bst_true_hitn = event.getInt("BST::true.hitn");
-	    bst_true_mpid = event.getInt("BST::true.mpid");
-	    bst_true_mtid = event.getInt("BST::true.mtid");
-	    bst_true_mvx = event.getDouble("BST::true.mvx");
-	    bst_true_mvy = event.getDouble("BST::true.mvy");
-	    bst_true_mvz = event.getDouble("BST::true.mvz");
-	    bst_true_otid = event.getInt("BST::true.otid");
-	    bst_true_pid = event.getInt("BST::true.pid");
-	    bst_true_px = event.getDouble("BST::true.px");
-	    bst_true_py = event.getDouble("BST::true.py");
-	    bst_true_pz = event.getDouble("BST::true.pz");
-	    bst_true_tid = event.getInt("BST::true.tid");
-	    bst_true_totEdep = event.getDouble("BST::true.totEdep");
-	    bst_true_trackE = event.getDouble("BST::true.trackE");
-	    bst_true_vx = event.getDouble("BST::true.vx");
-	    bst_true_vy = event.getDouble("BST::true.vy");
-	    bst_true_vz = event.getDouble("BST::true.vz");
-	} // BST::true
-
-	if (event.hasBank("BSTRec::Clusters")) {
-	    bstrec_clusters_centroid = event
-		    .getDouble("BSTRec::Clusters.centroid");
-	    bstrec_clusters_ETot = event.getDouble("BSTRec::Clusters.ETot");
-	    bstrec_clusters_Hit1_ID = event.getInt("BSTRec::Clusters.Hit1_ID");
-	    bstrec_clusters_Hit2_ID = event.getInt("BSTRec::Clusters.Hit2_ID");
-	    bstrec_clusters_Hit3_ID = event.getInt("BSTRec::Clusters.Hit3_ID");
-	    bstrec_clusters_Hit4_ID = event.getInt("BSTRec::Clusters.Hit4_ID");
-	    bstrec_clusters_Hit5_ID = event.getInt("BSTRec::Clusters.Hit5_ID");
-	    bstrec_clusters_ID = event.getInt("BSTRec::Clusters.ID");
-	    bstrec_clusters_layer = event.getInt("BSTRec::Clusters.layer");
-	    bstrec_clusters_sector = event.getInt("BSTRec::Clusters.sector");
-	    bstrec_clusters_seedE = event.getDouble("BSTRec::Clusters.seedE");
-	    bstrec_clusters_seedStrip = event
-		    .getInt("BSTRec::Clusters.seedStrip");
-	    bstrec_clusters_size = event.getInt("BSTRec::Clusters.size");
-	} // BSTRec::Clusters
-
-	if (event.hasBank("BSTRec::Cosmics")) {
-	    bstrec_cosmics_Cross1_ID = event
-		    .getInt("BSTRec::Cosmics.Cross1_ID");
-	    bstrec_cosmics_Cross2_ID = event
-		    .getInt("BSTRec::Cosmics.Cross2_ID");
-	    bstrec_cosmics_Cross3_ID = event
-		    .getInt("BSTRec::Cosmics.Cross3_ID");
-	    bstrec_cosmics_Cross4_ID = event
-		    .getInt("BSTRec::Cosmics.Cross4_ID");
-	    bstrec_cosmics_Cross5_ID = event
-		    .getInt("BSTRec::Cosmics.Cross5_ID");
-	    bstrec_cosmics_Cross6_ID = event
-		    .getInt("BSTRec::Cosmics.Cross6_ID");
-	    bstrec_cosmics_Cross7_ID = event
-		    .getInt("BSTRec::Cosmics.Cross7_ID");
-	    bstrec_cosmics_Cross8_ID = event
-		    .getInt("BSTRec::Cosmics.Cross8_ID");
-	    bstrec_cosmics_ID = event.getInt("BSTRec::Cosmics.ID");
-	    bstrec_cosmics_KF_chi2 = event.getDouble("BSTRec::Cosmics.KF_chi2");
-	    bstrec_cosmics_KF_ndf = event.getInt("BSTRec::Cosmics.KF_ndf");
-	    bstrec_cosmics_phi = event.getDouble("BSTRec::Cosmics.phi");
-	    bstrec_cosmics_theta = event.getDouble("BSTRec::Cosmics.theta");
-	    bstrec_cosmics_trkline_yx_interc = event
-		    .getDouble("BSTRec::Cosmics.trkline_yx_interc");
-	    bstrec_cosmics_trkline_yx_slope = event
-		    .getDouble("BSTRec::Cosmics.trkline_yx_slope");
-	    bstrec_cosmics_trkline_yz_interc = event
-		    .getDouble("BSTRec::Cosmics.trkline_yz_interc");
-	    bstrec_cosmics_trkline_yz_slope = event
-		    .getDouble("BSTRec::Cosmics.trkline_yz_slope");
-	} // BSTRec::Cosmics
-
-	if (event.hasBank("BSTRec::Crosses")) {
-	    bstrec_crosses_Cluster1_ID = event
-		    .getInt("BSTRec::Crosses.Cluster1_ID");
-	    bstrec_crosses_Cluster2_ID = event
-		    .getInt("BSTRec::Crosses.Cluster2_ID");
-	    bstrec_crosses_err_x = event.getDouble("BSTRec::Crosses.err_x");
-	    bstrec_crosses_err_y = event.getDouble("BSTRec::Crosses.err_y");
-	    bstrec_crosses_err_z = event.getDouble("BSTRec::Crosses.err_z");
-	    bstrec_crosses_ID = event.getInt("BSTRec::Crosses.ID");
-	    bstrec_crosses_region = event.getInt("BSTRec::Crosses.region");
-	    bstrec_crosses_sector = event.getInt("BSTRec::Crosses.sector");
-	    bstrec_crosses_ux = event.getDouble("BSTRec::Crosses.ux");
-	    bstrec_crosses_uy = event.getDouble("BSTRec::Crosses.uy");
-	    bstrec_crosses_uz = event.getDouble("BSTRec::Crosses.uz");
-	    bstrec_crosses_x = event.getDouble("BSTRec::Crosses.x");
-	    bstrec_crosses_y = event.getDouble("BSTRec::Crosses.y");
-	    bstrec_crosses_z = event.getDouble("BSTRec::Crosses.z");
-	} // BSTRec::Crosses
-
-	if (event.hasBank("BSTRec::Hits")) {
-	    bstrec_hits_clusterID = event.getInt("BSTRec::Hits.clusterID");
-	    bstrec_hits_fitResidual = event
-		    .getDouble("BSTRec::Hits.fitResidual");
-	    bstrec_hits_ID = event.getInt("BSTRec::Hits.ID");
-	    bstrec_hits_layer = event.getInt("BSTRec::Hits.layer");
-	    bstrec_hits_sector = event.getInt("BSTRec::Hits.sector");
-	    bstrec_hits_strip = event.getInt("BSTRec::Hits.strip");
-	    bstrec_hits_trkingStat = event.getInt("BSTRec::Hits.trkingStat");
-	} // BSTRec::Hits
-
-	if (event.hasBank("BSTRec::Tracks")) {
-	    bstrec_tracks_c_ux = event.getDouble("BSTRec::Tracks.c_ux");
-	    bstrec_tracks_c_uy = event.getDouble("BSTRec::Tracks.c_uy");
-	    bstrec_tracks_c_uz = event.getDouble("BSTRec::Tracks.c_uz");
-	    bstrec_tracks_c_x = event.getDouble("BSTRec::Tracks.c_x");
-	    bstrec_tracks_c_y = event.getDouble("BSTRec::Tracks.c_y");
-	    bstrec_tracks_c_z = event.getDouble("BSTRec::Tracks.c_z");
-	    bstrec_tracks_cov_d02 = event.getDouble("BSTRec::Tracks.cov_d02");
-	    bstrec_tracks_cov_d0phi0 = event
-		    .getDouble("BSTRec::Tracks.cov_d0phi0");
-	    bstrec_tracks_cov_d0rho = event
-		    .getDouble("BSTRec::Tracks.cov_d0rho");
-	    bstrec_tracks_cov_phi02 = event
-		    .getDouble("BSTRec::Tracks.cov_phi02");
-	    bstrec_tracks_cov_phi0rho = event
-		    .getDouble("BSTRec::Tracks.cov_phi0rho");
-	    bstrec_tracks_cov_rho2 = event.getDouble("BSTRec::Tracks.cov_rho2");
-	    bstrec_tracks_cov_tandip2 = event
-		    .getDouble("BSTRec::Tracks.cov_tandip2");
-	    bstrec_tracks_cov_z02 = event.getDouble("BSTRec::Tracks.cov_z02");
-	    bstrec_tracks_Cross1_ID = event.getInt("BSTRec::Tracks.Cross1_ID");
-	    bstrec_tracks_Cross2_ID = event.getInt("BSTRec::Tracks.Cross2_ID");
-	    bstrec_tracks_Cross3_ID = event.getInt("BSTRec::Tracks.Cross3_ID");
-	    bstrec_tracks_Cross4_ID = event.getInt("BSTRec::Tracks.Cross4_ID");
-	    bstrec_tracks_d0 = event.getDouble("BSTRec::Tracks.d0");
-	    bstrec_tracks_fittingMethod = event
-		    .getInt("BSTRec::Tracks.fittingMethod");
-	    bstrec_tracks_ID = event.getInt("BSTRec::Tracks.ID");
-	    bstrec_tracks_p = event.getDouble("BSTRec::Tracks.p");
-	    bstrec_tracks_pathlength = event
-		    .getDouble("BSTRec::Tracks.pathlength");
-	    bstrec_tracks_phi0 = event.getDouble("BSTRec::Tracks.phi0");
-	    bstrec_tracks_pt = event.getDouble("BSTRec::Tracks.pt");
-	    bstrec_tracks_q = event.getInt("BSTRec::Tracks.q");
-	    bstrec_tracks_tandip = event.getDouble("BSTRec::Tracks.tandip");
-	    bstrec_tracks_z0 = event.getDouble("BSTRec::Tracks.z0");
-	} // BSTRec::Tracks
-
-	if (event.hasBank("BSTRec::Trajectory")) {
-	    bstrec_trajectory_CalcCentroidStrip = event
-		    .getDouble("BSTRec::Trajectory.CalcCentroidStrip");
-	    bstrec_trajectory_ID = event.getInt("BSTRec::Trajectory.ID");
-	    bstrec_trajectory_LayerTrackIntersPlane = event
-		    .getInt("BSTRec::Trajectory.LayerTrackIntersPlane");
-	    bstrec_trajectory_PhiTrackIntersPlane = event
-		    .getDouble("BSTRec::Trajectory.PhiTrackIntersPlane");
-	    bstrec_trajectory_SectorTrackIntersPlane = event
-		    .getInt("BSTRec::Trajectory.SectorTrackIntersPlane");
-	    bstrec_trajectory_ThetaTrackIntersPlane = event
-		    .getDouble("BSTRec::Trajectory.ThetaTrackIntersPlane");
-	    bstrec_trajectory_trkToMPlnAngl = event
-		    .getDouble("BSTRec::Trajectory.trkToMPlnAngl");
-	    bstrec_trajectory_XtrackIntersPlane = event
-		    .getDouble("BSTRec::Trajectory.XtrackIntersPlane");
-	    bstrec_trajectory_YtrackIntersPlane = event
-		    .getDouble("BSTRec::Trajectory.YtrackIntersPlane");
-	    bstrec_trajectory_ZtrackIntersPlane = event
-		    .getDouble("BSTRec::Trajectory.ZtrackIntersPlane");
-	} // BSTRec::Trajectory
-
+	// the columns are decoded on first access, by the accessors
     } // load
 
     @Override
     public void clear() {
-	bst_dgtz_ADC = null;
-	bst_dgtz_bco = null;
-	bst_dgtz_hitn = null;
-	bst_dgtz_layer = null;
-	bst_dgtz_sector = null;
-	bst_dgtz_strip = null;
-	bst_true_avgLx = null;
-	bst_true_avgLy = null;
-	bst_true_avgLz = null;
-	bst_true_avgT = null;
-	bst_true_avgX = null;
-	bst_true_avgY = null;
-	bst_true_avgZ = null;
-	bst_true_hitn = null;
-	bst_true_mpid = null;
-	bst_true_mtid = null;
-	bst_true_mvx = null;
-	bst_true_mvy = null;
-	bst_true_mvz = null;
-	bst_true_otid = null;
-	bst_true_pid = null;
-	bst_true_px = null;
-	bst_true_py = null;
-	bst_true_pz = null;
-	bst_true_tid = null;
-	bst_true_totEdep = null;
-	bst_true_trackE = null;
-	bst_true_vx = null;
-	bst_true_vy = null;
-	bst_true_vz = null;
-	bstrec_clusters_centroid = null;
-	bstrec_clusters_ETot = null;
-	bstrec_clusters_Hit1_ID = null;
-	bstrec_clusters_Hit2_ID = null;
-	bstrec_clusters_Hit3_ID = null;
-	bstrec_clusters_Hit4_ID = null;
-	bstrec_clusters_Hit5_ID = null;
-	bstrec_clusters_ID = null;
-	bstrec_clusters_layer = null;
-	bstrec_clusters_sector = null;
-	bstrec_clusters_seedE = null;
-	bstrec_clusters_seedStrip = null;
-	bstrec_clusters_size = null;
-	bstrec_cosmics_Cross1_ID = null;
-	bstrec_cosmics_Cross2_ID = null;
-	bstrec_cosmics_Cross3_ID = null;
-	bstrec_cosmics_Cross4_ID = null;
-	bstrec_cosmics_Cross5_ID = null;
-	bstrec_cosmics_Cross6_ID = null;
-	bstrec_cosmics_Cross7_ID = null;
-	bstrec_cosmics_Cross8_ID = null;
-	bstrec_cosmics_ID = null;
-	bstrec_cosmics_KF_chi2 = null;
-	bstrec_cosmics_KF_ndf = null;
-	bstrec_cosmics_phi = null;
-	bstrec_cosmics_theta = null;
-	bstrec_cosmics_trkline_yx_interc = null;
-	bstrec_cosmics_trkline_yx_slope = null;
-	bstrec_cosmics_trkline_yz_interc = null;
-	bstrec_cosmics_trkline_yz_slope = null;
-	bstrec_crosses_Cluster1_ID = null;
-	bstrec_crosses_Cluster2_ID = null;
-	bstrec_crosses_err_x = null;
-	bstrec_crosses_err_y = null;
-	bstrec_crosses_err_z = null;
-	bstrec_crosses_ID = null;
-	bstrec_crosses_region = null;
-	bstrec_crosses_sector = null;
-	bstrec_crosses_ux = null;
-	bstrec_crosses_uy = null;
-	bstrec_crosses_uz = null;
-	bstrec_crosses_x = null;
-	bstrec_crosses_y = null;
-	bstrec_crosses_z = null;
-	bstrec_hits_clusterID = null;
-	bstrec_hits_fitResidual = null;
-	bstrec_hits_ID = null;
-	bstrec_hits_layer = null;
-	bstrec_hits_sector = null;
-	bstrec_hits_strip = null;
-	bstrec_hits_trkingStat = null;
-	bstrec_tracks_c_ux = null;
-	bstrec_tracks_c_uy = null;
-	bstrec_tracks_c_uz = null;
-	bstrec_tracks_c_x = null;
-	bstrec_tracks_c_y = null;
-	bstrec_tracks_c_z = null;
-	bstrec_tracks_cov_d02 = null;
-	bstrec_tracks_cov_d0phi0 = null;
-	bstrec_tracks_cov_d0rho = null;
-	bstrec_tracks_cov_phi02 = null;
-	bstrec_tracks_cov_phi0rho = null;
-	bstrec_tracks_cov_rho2 = null;
-	bstrec_tracks_cov_tandip2 = null;
-	bstrec_tracks_cov_z02 = null;
-	bstrec_tracks_Cross1_ID = null;
-	bstrec_tracks_Cross2_ID = null;
-	bstrec_tracks_Cross3_ID = null;
-	bstrec_tracks_Cross4_ID = null;
-	bstrec_tracks_d0 = null;
-	bstrec_tracks_fittingMethod = null;
-	bstrec_tracks_ID = null;
-	bstrec_tracks_p = null;
-	bstrec_tracks_pathlength = null;
-	bstrec_tracks_phi0 = null;
-	bstrec_tracks_pt = null;
-	bstrec_tracks_q = null;
-	bstrec_tracks_tandip = null;
-	bstrec_tracks_z0 = null;
-	bstrec_trajectory_CalcCentroidStrip = null;
-	bstrec_trajectory_ID = null;
-	bstrec_trajectory_LayerTrackIntersPlane = null;
-	bstrec_trajectory_PhiTrackIntersPlane = null;
-	bstrec_trajectory_SectorTrackIntersPlane = null;
-	bstrec_trajectory_ThetaTrackIntersPlane = null;
-	bstrec_trajectory_trkToMPlnAngl = null;
-	bstrec_trajectory_XtrackIntersPlane = null;
-	bstrec_trajectory_YtrackIntersPlane = null;
-	bstrec_trajectory_ZtrackIntersPlane = null;
+	// the column cache is replaced with each event
     } // clear
 
     /**
@@ -736,8 +677,7 @@ public class BSTDataContainer extends ADataContainer {
      * @return the number of reconstructed crosses
      */
     public int getCrossCount() {
-	return (bstrec_crosses_sector == null) ? 0
-		: bstrec_crosses_sector.length;
+	return length(bstrec_crosses_sector());
     }
 
     @Override
@@ -776,12 +716,16 @@ public class BSTDataContainer extends ADataContainer {
     public Vector<int[]> allStripsForSectorAndLayer(int sector, int layer) {
 	Vector<int[]> strips = new Vector<int[]>();
 
-	if (bst_dgtz_sector != null) {
-	    for (int hitIndex = 0; hitIndex < bst_dgtz_sector.length; hitIndex++) {
-		if ((bst_dgtz_sector[hitIndex] == sector)
-			&& (bst_dgtz_layer[hitIndex] == layer)) {
-		    int data[] = { bst_dgtz_strip[hitIndex],
-			    bst_dgtz_ADC[hitIndex] };
+	int sectors[] = bst_dgtz_sector();
+	int layers[] = bst_dgtz_layer();
+	int stripIds[] = bst_dgtz_strip();
+	int adcs[] = bst_dgtz_ADC();
+	if ((sectors != null) && (layers != null) && (stripIds != null)
+		&& (adcs != null)) {
+	    for (int hitIndex = 0; hitIndex < sectors.length; hitIndex++) {
+		if ((sectors[hitIndex] == sector)
+			&& (layers[hitIndex] == layer)) {
+		    int data[] = { stripIds[hitIndex], adcs[hitIndex] };
 		    strips.add(data);
 		}
 	    }
@@ -805,7 +749,7 @@ public class BSTDataContainer extends ADataContainer {
 
     @Override
     public void finalEventPrep(EvioDataEvent event) {
-	extractUniqueLundIds(bst_true_pid);
+	extractUniqueLundIds(bst_true_pid());
     }
 
 }
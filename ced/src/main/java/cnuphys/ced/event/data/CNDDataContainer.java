@@ -9,190 +9,294 @@ import cnuphys.ced.clasio.ClasIoEventManager;
 public class CNDDataContainer extends ADataContainer {
 
 	/** ADC Backward (u-turn geometry, same paddle as hit) */
-	public int[] cnd_dgtz_ADCB;
+	public int[] cnd_dgtz_ADCB() {
+		return intColumn("CND::dgtz.ADCB");
+	}
 
 	/** ADC Forward (u-turn geometry, lightguide paddle) */
-	public int[] cnd_dgtz_ADCF;
+	public int[] cnd_dgtz_ADCF() {
+		return intColumn("CND::dgtz.ADCF");
+	}
 
 	/** ADC Left */
-	public int[] cnd_dgtz_ADCL;
+	public int[] cnd_dgtz_ADCL() {
+		return intColumn("CND::dgtz.ADCL");
+	}
 
 	/** ADC Right */
-	public int[] cnd_dgtz_ADCR;
+	public int[] cnd_dgtz_ADCR() {
+		return intColumn("CND::dgtz.ADCR");
+	}
 
 	/** hit number */
-	public int[] cnd_dgtz_hitn;
+	public int[] cnd_dgtz_hitn() {
+		return intColumn("CND::dgtz.hitn");
+	}
 
 	/** layer */
-	public int[] cnd_dgtz_layer;
+	public int[] cnd_dgtz_layer() {
+		return intColumn("CND::dgtz.layer");
+	}
 
 	/** paddle number */
-	public int[] cnd_dgtz_paddle;
+	public int[] cnd_dgtz_paddle() {
+		return intColumn("CND::dgtz.paddle");
+	}
 
 	/** TDC Backward (u-turn geometry) */
-	public int[] cnd_dgtz_TDCB;
+	public int[] cnd_dgtz_TDCB() {
+		return intColumn("CND::dgtz.TDCB");
+	}
 
 	/** TDC Forward (u-turn geometry) */
-	public int[] cnd_dgtz_TDCF;
+	public int[] cnd_dgtz_TDCF() {
+		return intColumn("CND::dgtz.TDCF");
+	}
 
 	/** TDC Left */
-	public int[] cnd_dgtz_TDCL;
+	public int[] cnd_dgtz_TDCL() {
+		return intColumn("CND::dgtz.TDCL");
+	}
 
 	/** TDC Right */
-	public int[] cnd_dgtz_TDCR;
+	public int[] cnd_dgtz_TDCR() {
+		return intColumn("CND::dgtz.TDCR");
+	}
 
 	/** Average X position in local reference system */
-	public double[] cnd_true_avgLx;
+	public double[] cnd_true_avgLx() {
+		return doubleColumn("CND::true.avgLx");
+	}
 
 	/** Average Y position in local reference system */
-	public double[] cnd_true_avgLy;
+	public double[] cnd_true_avgLy() {
+		return doubleColumn("CND::true.avgLy");
+	}
 
 	/** Average Z position in local reference system */
-	public double[] cnd_true_avgLz;
+	public double[] cnd_true_avgLz() {
+		return doubleColumn("CND::true.avgLz");
+	}
 
 	/** Average time */
-	public double[] cnd_true_avgT;
+	public double[] cnd_true_avgT() {
+		return doubleColumn("CND::true.avgT");
+	}
 
 	/** Average X position in global reference system */
-	public double[] cnd_true_avgX;
+	public double[] cnd_true_avgX() {
+		return doubleColumn("CND::true.avgX");
+	}
 
 	/** Average Y position in global reference system */
-	public double[] cnd_true_avgY;
+	public double[] cnd_true_avgY() {
+		return doubleColumn("CND::true.avgY");
+	}
 
 	/** Average Z position in global reference system */
-	public double[] cnd_true_avgZ;
+	public double[] cnd_true_avgZ() {
+		return doubleColumn("CND::true.avgZ");
+	}
 
 	/** Hit1 Number */
-	public int[] cnd_true_hitn;
+	public int[] cnd_true_hitn() {
+		return intColumn("CND::true.hitn");
+	}
 
 	/** ID of the mother of the first particle entering the sensitive volume */
-	public int[] cnd_true_mpid;
+	public int[] cnd_true_mpid() {
+		return intColumn("CND::true.mpid");
+	}
 
 	/**
 	 * Track ID of the mother of the first particle entering the sensitive
 	 * volume
 	 */
-	public int[] cnd_true_mtid;
+	public int[] cnd_true_mtid() {
+		return intColumn("CND::true.mtid");
+	}
 
 	/**
 	 * x component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] cnd_true_mvx;
+	public double[] cnd_true_mvx() {
+		return doubleColumn("CND::true.mvx");
+	}
 
 	/**
 	 * y component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] cnd_true_mvy;
+	public double[] cnd_true_mvy() {
+		return doubleColumn("CND::true.mvy");
+	}
 
 	/**
 	 * z component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] cnd_true_mvz;
+	public double[] cnd_true_mvz() {
+		return doubleColumn("CND::true.mvz");
+	}
 
 	/**
 	 * Track ID of the original track that generated the first particle entering
 	 * the sensitive volume
 	 */
-	public int[] cnd_true_otid;
+	public int[] cnd_true_otid() {
+		return intColumn("CND::true.otid");
+	}
 
 	/** ID of the first particle entering the sensitive volume */
-	public int[] cnd_true_pid;
+	public int[] cnd_true_pid() {
+		return intColumn("CND::true.pid");
+	}
 
 	/** x component of momentum of the particle entering the sensitive volume */
-	public double[] cnd_true_px;
+	public double[] cnd_true_px() {
+		return doubleColumn("CND::true.px");
+	}
 
 	/** y component of momentum of the particle entering the sensitive volume */
-	public double[] cnd_true_py;
+	public double[] cnd_true_py() {
+		return doubleColumn("CND::true.py");
+	}
 
 	/** z component of momentum of the particle entering the sensitive volume */
-	public double[] cnd_true_pz;
+	public double[] cnd_true_pz() {
+		return doubleColumn("CND::true.pz");
+	}
 
 	/** Track ID of the first particle entering the sensitive volume */
-	public int[] cnd_true_tid;
+	public int[] cnd_true_tid() {
+		return intColumn("CND::true.tid");
+	}
 
 	/** Total Energy Deposited */
-	public double[] cnd_true_totEdep;
+	public double[] cnd_true_totEdep() {
+		return doubleColumn("CND::true.totEdep");
+	}
 
 	/** Energy of the track */
-	public double[] cnd_true_trackE;
+	public double[] cnd_true_trackE() {
+		return doubleColumn("CND::true.trackE");
+	}
 
 	/**
 	 * x component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] cnd_true_vx;
+	public double[] cnd_true_vx() {
+		return doubleColumn("CND::true.vx");
+	}
 
 	/**
 	 * y component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] cnd_true_vy;
+	public double[] cnd_true_vy() {
+		return doubleColumn("CND::true.vy");
+	}
 
 	/**
 	 * z component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] cnd_true_vz;
+	public double[] cnd_true_vz() {
+		return doubleColumn("CND::true.vz");
+	}
 
 	/** Reconstructed energy deposit */
-	public double[] cndrec_hits_E;
+	public double[] cndrec_hits_E() {
+		return doubleColumn("CNDRec::hits.E");
+	}
 
 	/**
 	 * Index of reconstructed direct hit in the individual TDC/ADC signal array
 	 * (for real data: CND Bank, starting at 0)
 	 */
-	public int[] cndrec_hits_indexD;
+	public int[] cndrec_hits_indexD() {
+		return intColumn("CNDRec::hits.indexD");
+	}
 
 	/**
 	 * Index of reconstructed indirect hit in the individual TDC/ADC signal
 	 * array (for real data: CND Bank, starting at 0)
 	 */
-	public int[] cndrec_hits_indexI;
+	public int[] cndrec_hits_indexI() {
+		return intColumn("CNDRec::hits.indexI");
+	}
 
 	/** layer number */
-	public int[] cndrec_hits_layer;
+	public int[] cndrec_hits_layer() {
+		return intColumn("CNDRec::hits.layer");
+	}
 
 	/** MC energy deposited in hit */
-	public double[] cndrec_hits_MCE;
+	public double[] cndrec_hits_MCE() {
+		return doubleColumn("CNDRec::hits.MCE");
+	}
 
 	/** MC flag. 1 (-1): correct (incorrect) matching of hits, 0: real data */
-	public int[] cndrec_hits_MCflag;
+	public int[] cndrec_hits_MCflag() {
+		return intColumn("CNDRec::hits.MCflag");
+	}
 
 	/** MC time of hit */
-	public double[] cndrec_hits_MCt;
+	public double[] cndrec_hits_MCt() {
+		return doubleColumn("CNDRec::hits.MCt");
+	}
 
 	/** MC x-position of hit (w.r.t. Central Detector center) */
-	public double[] cndrec_hits_MCx;
+	public double[] cndrec_hits_MCx() {
+		return doubleColumn("CNDRec::hits.MCx");
+	}
 
 	/** MC y-position of hit (w.r.t. Central Detector center) */
-	public double[] cndrec_hits_MCy;
+	public double[] cndrec_hits_MCy() {
+		return doubleColumn("CNDRec::hits.MCy");
+	}
 
 	/** MC z-position of hit (w.r.t. Central Detector center) */
-	public double[] cndrec_hits_MCz;
+	public double[] cndrec_hits_MCz() {
+		return doubleColumn("CNDRec::hits.MCz");
+	}
 
 	/** paddle number */
-	public int[] cndrec_hits_paddle;
+	public int[] cndrec_hits_paddle() {
+		return intColumn("CNDRec::hits.paddle");
+	}
 
 	/** Azimuthal angle (around beam axis) of the hit position */
-	public double[] cndrec_hits_phi;
+	public double[] cndrec_hits_phi() {
+		return doubleColumn("CNDRec::hits.phi");
+	}
 
 	/** Radial distance from beam axis to hit position */
-	public double[] cndrec_hits_R;
+	public double[] cndrec_hits_R() {
+		return doubleColumn("CNDRec::hits.R");
+	}
 
 	/** Time of flight to CND hit-position */
-	public double[] cndrec_hits_Tof;
+	public double[] cndrec_hits_Tof() {
+		return doubleColumn("CNDRec::hits.Tof");
+	}
 
 	/** X co-ordinate of the hit position, w.r.t. Central Detector center */
-	public double[] cndrec_hits_X;
+	public double[] cndrec_hits_X() {
+		return doubleColumn("CNDRec::hits.X");
+	}
 
 	/** Y co-ordinate of the hit position, w.r.t. Central Detector center */
-	public double[] cndrec_hits_Y;
+	public double[] cndrec_hits_Y() {
+		return doubleColumn("CNDRec::hits.Y");
+	}
 
 	/** Z co-ordinate of the hit position, w.r.t. Central Detector center */
-	public double[] cndrec_hits_Z;
+	public double[] cndrec_hits_Z() {
+		return doubleColumn("CNDRec::hits.Z");
+	}
 
 	public CNDDataContainer(ClasIoEventManager eventManager) {
 		super(eventManager);
@@ -200,137 +304,23 @@ public class CNDDataContainer extends ADataContainer {
 
 	@Override
 	public void clear() {
-		cnd_dgtz_ADCB = null;
-		cnd_dgtz_ADCF = null;
-		cnd_dgtz_ADCL = null;
-		cnd_dgtz_ADCR = null;
-		cnd_dgtz_hitn = null;
-		cnd_dgtz_layer = null;
-		cnd_dgtz_paddle = null;
-		cnd_dgtz_TDCB = null;
-		cnd_dgtz_TDCF = null;
-		cnd_dgtz_TDCL = null;
-		cnd_dgtz_TDCR = null;
-		cnd_true_avgLx = null;
-		cnd_true_avgLy = null;
-		cnd_true_avgLz = null;
-		cnd_true_avgT = null;
-		cnd_true_avgX = null;
-		cnd_true_avgY = null;
-		cnd_true_avgZ = null;
-		cnd_true_hitn = null;
-		cnd_true_mpid = null;
-		cnd_true_mtid = null;
-		cnd_true_mvx = null;
-		cnd_true_mvy = null;
-		cnd_true_mvz = null;
-		cnd_true_otid = null;
-		cnd_true_pid = null;
-		cnd_true_px = null;
-		cnd_true_py = null;
-		cnd_true_pz = null;
-		cnd_true_tid = null;
-		cnd_true_totEdep = null;
-		cnd_true_trackE = null;
-		cnd_true_vx = null;
-		cnd_true_vy = null;
-		cnd_true_vz = null;
-		cndrec_hits_E = null;
-		cndrec_hits_indexD = null;
-		cndrec_hits_indexI = null;
-		cndrec_hits_layer = null;
-		cndrec_hits_MCE = null;
-		cndrec_hits_MCflag = null;
-		cndrec_hits_MCt = null;
-		cndrec_hits_MCx = null;
-		cndrec_hits_MCy = null;
-		cndrec_hits_MCz = null;
-		cndrec_hits_paddle = null;
-		cndrec_hits_phi = null;
-		cndrec_hits_R = null;
-		cndrec_hits_Tof = null;
-		cndrec_hits_X = null;
-		cndrec_hits_Y = null;
-		cndrec_hits_Z = null;
+		// the column cache is replaced with each event
 	}
 
 	@Override
 	public void load(EvioDataEvent event) {
-		if (event == null) {
-			return;
-		}
-
-		if (event.hasBank("CND::dgtz")) {
-			cnd_dgtz_ADCB = event.getInt("CND::dgtz.ADCB");
-			cnd_dgtz_ADCF = event.getInt("CND::dgtz.ADCF");
-			cnd_dgtz_ADCL = event.getInt("CND::dgtz.ADCL");
-			cnd_dgtz_ADCR = event.getInt("CND::dgtz.ADCR");
-			cnd_dgtz_hitn = event.getInt("CND::dgtz.hitn");
-			cnd_dgtz_layer = event.getInt("CND::dgtz.layer");
-			cnd_dgtz_paddle = event.getInt("CND::dgtz.paddle");
-			cnd_dgtz_TDCB = event.getInt("CND::dgtz.TDCB");
-			cnd_dgtz_TDCF = event.getInt("CND::dgtz.TDCF");
-			cnd_dgtz_TDCL = event.getInt("CND::dgtz.TDCL");
-			cnd_dgtz_TDCR = event.getInt("CND::dgtz.TDCR");
-		} // CND::dgtz
-
-		if (event.hasBank("CND::true")) {
-			cnd_true_avgLx = event.getDouble("CND::true.avgLx");
-			cnd_true_avgLy = event.getDouble("CND::true.avgLy");
-			cnd_true_avgLz = event.getDouble("CND::true.avgLz");
-			cnd_true_avgT = event.getDouble("CND::true.avgT");
-			cnd_true_avgX = event.getDouble("CND::true.avgX");
-			cnd_true_avgY = event.getDouble("CND::true.avgY");
-			cnd_true_avgZ = event.getDouble("CND::true.avgZ");
-			cnd_true_hitn = event.getInt("CND::true.hitn");
-			cnd_true_mpid = event.getInt("CND::true.mpid");
-			cnd_true_mtid = event.getInt("CND::true.mtid");
-			cnd_true_mvx = event.getDouble("CND::true.mvx");
-			cnd_true_mvy = event.getDouble("CND::true.mvy");
-			cnd_true_mvz = event.getDouble("CND::true.mvz");
-			cnd_true_otid = event.getInt("CND::true.otid");
-			cnd_true_pid = event.getInt("CND::true.pid");
-			cnd_true_px = event.getDouble("CND::true.px");
-			cnd_true_py = event.getDouble("CND::true.py");
-			cnd_true_pz = event.getDouble("CND::true.pz");
-			cnd_true_tid = event.getInt("CND::true.tid");
-			cnd_true_totEdep = event.getDouble("CND::true.totEdep");
-			cnd_true_trackE = event.getDouble("CND::true.trackE");
-			cnd_true_vx = event.getDouble("CND::true.vx");
-			cnd_true_vy = event.getDouble("CND::true.vy");
-			cnd_true_vz = event.getDouble("CND::true.vz");
-		} // CND::true
-
-		if (event.hasBank("CNDRec::hits")) {
-			cndrec_hits_E = event.getDouble("CNDRec::hits.E");
-			cndrec_hits_indexD = event.getInt("CNDRec::hits.indexD");
-			cndrec_hits_indexI = event.getInt("CNDRec::hits.indexI");
-			cndrec_hits_layer = event.getInt("CNDRec::hits.layer");
-			cndrec_hits_MCE = event.getDouble("CNDRec::hits.MCE");
-			cndrec_hits_MCflag = event.getInt("CNDRec::hits.MCflag");
-			cndrec_hits_MCt = event.getDouble("CNDRec::hits.MCt");
-			cndrec_hits_MCx = event.getDouble("CNDRec::hits.MCx");
-			cndrec_hits_MCy = event.getDouble("CNDRec::hits.MCy");
-			cndrec_hits_MCz = event.getDouble("CNDRec::hits.MCz");
-			cndrec_hits_paddle = event.getInt("CNDRec::hits.paddle");
-			cndrec_hits_phi = event.getDouble("CNDRec::hits.phi");
-			cndrec_hits_R = event.getDouble("CNDRec::hits.R");
-			cndrec_hits_Tof = event.getDouble("CNDRec::hits.Tof");
-			cndrec_hits_X = event.getDouble("CNDRec::hits.X");
-			cndrec_hits_Y = event.getDouble("CNDRec::hits.Y");
-			cndrec_hits_Z = event.getDouble("CNDRec::hits.Z");
-		} // CNDRec::hits
+		// the columns are decoded on first access, by the accessors
 	}
 
 	@Override
 	public int getHitCount(int option) {
-		int hitCount = (cnd_dgtz_paddle == null) ? 0 : cnd_dgtz_paddle.length;
+		int hitCount = length(cnd_dgtz_paddle());
 		return hitCount;
 	}
 
 	@Override
 	public void finalEventPrep(EvioDataEvent event) {
-		extractUniqueLundIds(cnd_true_pid);
+		extractUniqueLundIds(cnd_true_pid());
 	}
 
 	@Override
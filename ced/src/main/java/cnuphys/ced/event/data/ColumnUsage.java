@@ -0,0 +1,179 @@
+package cnuphys.ced.event.data;
+
+import java.io.PrintStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+
+/**
+ * Instrumentation of the on demand column decoding done by the data
+ * containers. When enabled it records, for each bank, in how many events it
+ * was present and in how many at least one of its columns was used, and for
+ * each column in how many events it was decoded, the number of rows decoded
+ * and the time spent decoding. It is off by default (ced's -columnstats
+ * option turns it on).
+ *
+ * @author heddle
+ *
+ */
+public class ColumnUsage {
+
+	// on or off
+	private static volatile boolean _enabled;
+
+	// number of events seen
+	private static int _eventCount;
+
+	// the last event seen, to count each event once
+	private static EvioDataEvent _lastEvent;
+
+	// banks with a column decoded in the current event
+	private static HashSet<String> _touchedBanks = new HashSet<String>();
+
+	// per bank: events present, events touched
+	private static TreeMap<String, long[]> _bankStats = new TreeMap<String, long[]>();
+
+	// per column: events decoded, rows, nanoseconds
+	private static TreeMap<String, long[]> _columnStats = new TreeMap<String, long[]>();
+
+	/**
+	 * Turn the instrumentation on or off
+	 *
+	 * @param enabled
+	 *            <code>true</code> to record column usage
+	 */
+	public static void setEnabled(boolean enabled) {
+		_enabled = enabled;
+	}
+
+	/**
+	 * Check whether the instrumentation is on
+	 *
+	 * @return <code>true</code> if column usage is being recorded
+	 */
+	public static boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Clear the recorded usage
+	 */
+	public static synchronized void clear() {
+		_eventCount = 0;
+		_lastEvent = null;
+		_touchedBanks.clear();
+		_bankStats.clear();
+		_columnStats.clear();
+	}
+
+	/**
+	 * Called by each data container for each new event. The event is only
+	 * counted once.
+	 *
+	 * @param event
+	 *            the new event
+	 */
+	static synchronized void newEvent(EvioDataEvent event) {
+		if ((event == null) || (event == _lastEvent)) {
+			return;
+		}
+
+		_lastEvent = event;
+		_eventCount++;
+		_touchedBanks.clear();
+
+		String banks[] = event.getBankList();
+		if (banks != null) {
+			for (String bank : banks) {
+				getStats(_bankStats, bank)[0]++;
+			}
+		}
+	}
+
+	/**
+	 * Called when a column has been decoded
+	 *
+	 * @param bank
+	 *            the bank name
+	 * @param column
+	 *            the full column name
+	 * @param rows
+	 *            the number of rows decoded
+	 * @param nanos
+	 *            the decoding time in nanoseconds
+	 */
+	static synchronized void columnDecoded(String bank, String column,
+			int rows, long nanos) {
+		if (_touchedBanks.add(bank)) {
+			getStats(_bankStats, bank)[1]++;
+		}
+
+		long stats[] = getStats(_columnStats, column);
+		stats[0]++;
+		stats[1] += rows;
+		stats[2] += nanos;
+	}
+
+	// get (creating if necessary) the counters for a name
+	private static long[] getStats(TreeMap<String, long[]> map, String name) {
+		long stats[] = map.get(name);
+		if (stats == null) {
+			stats = new long[3];
+			map.put(name, stats);
+		}
+		return stats;
+	}
+
+	/**
+	 * Print the recorded usage: for each bank present in any event the
+	 * number of events it was present in and touched in, followed by its
+	 * decoded columns with the number of events, rows and milliseconds spent
+	 * decoding.
+	 *
+	 * @param ps
+	 *            the stream to print to
+	 */
+	public static synchronized void printReport(PrintStream ps) {
+		ps.println("Column usage for " + _eventCount + " events");
+		ps.println(String.format("%-40s %10s %10s", "bank", "present",
+				"touched"));
+		ps.println(String.format("  %-38s %10s %10s %10s", "column",
+				"decoded", "rows", "ms"));
+
+		for (Map.Entry<String, long[]> entry : _bankStats.entrySet()) {
+			String bank = entry.getKey();
+			long bankStats[] = entry.getValue();
+			ps.println(String.format("%-40s %10d %10d", bank, bankStats[0],
+					bankStats[1]));
+
+			String prefix = bank + ".";
+			for (Map.Entry<String, long[]> centry : _columnStats.tailMap(
+					prefix).entrySet()) {
+				if (!centry.getKey().startsWith(prefix)) {
+					break;
+				}
+				long stats[] = centry.getValue();
+				ps.println(String.format("  %-38s %10d %10d %10.3f", centry
+						.getKey().substring(prefix.length()), stats[0],
+						stats[1], stats[2] / 1.0e6));
+			}
+		}
+	}
+
+	/**
+	 * Enable the instrumentation and print the report to standard out when
+	 * the program exits.
+	 */
+	public static void printReportOnExit() {
+		setEnabled(true);
+		Runtime.getRuntime().addShutdownHook(
+				new Thread("column usage report") {
+					@Override
+					public void run() {
+						printReport(System.out);
+					}
+				});
+	}
+}
@@ -0,0 +1,187 @@
+package cnuphys.ced.event.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jlab.evio.clas12.EvioDataEvent;
+
+/**
+ * The bank columns of one event, decoded on first access and cached for the
+ * rest of the event. The data containers get their columns from here, so only
+ * the columns that something (a view, the noise analysis, accumulation...)
+ * actually uses are decoded.
+ * <p>
+ * Getting a cached column does not lock. Decoding is synchronized on the
+ * event, since the event's buffer should not be read by two threads at once.
+ *
+ * @author heddle
+ *
+ */
+class EventColumns {
+
+	// column types
+	private static final int INT = 0;
+	private static final int DOUBLE = 1;
+	private static final int FLOAT = 2;
+	private static final int SHORT = 3;
+	private static final int BYTE = 4;
+
+	// cached result for a column that is not in the event
+	private static final Object NO_DATA = new Object();
+
+	// the event, may be null
+	private final EvioDataEvent _event;
+
+	// the decoded columns, keyed by full column name e.g. "DC::dgtz.sector"
+	private final ConcurrentHashMap<String, Object> _columns = new ConcurrentHashMap<String, Object>(
+			64);
+
+	// bank presence, keyed by bank name e.g. "DC::dgtz"
+	private final ConcurrentHashMap<String, Boolean> _banks = new ConcurrentHashMap<String, Boolean>(
+			16);
+
+	/**
+	 * Create the (empty) column cache for an event
+	 *
+	 * @param event
+	 *            the event, may be <code>null</code>
+	 */
+	EventColumns(EvioDataEvent event) {
+		_event = event;
+	}
+
+	/**
+	 * Get an int column
+	 *
+	 * @param column
+	 *            the full column name, e.g. "DC::dgtz.sector"
+	 * @return the column, or <code>null</code> if it is not in the event
+	 */
+	int[] getInt(String column) {
+		Object data = get(column, INT);
+		return (data == NO_DATA) ? null : (int[]) data;
+	}
+
+	/**
+	 * Get a double column
+	 *
+	 * @param column
+	 *            the full column name, e.g. "DC::true.avgX"
+	 * @return the column, or <code>null</code> if it is not in the event
+	 */
+	double[] getDouble(String column) {
+		Object data = get(column, DOUBLE);
+		return (data == NO_DATA) ? null : (double[]) data;
+	}
+
+	/**
+	 * Get a float column
+	 *
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if it is not in the event
+	 */
+	float[] getFloat(String column) {
+		Object data = get(column, FLOAT);
+		return (data == NO_DATA) ? null : (float[]) data;
+	}
+
+	/**
+	 * Get a short column
+	 *
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if it is not in the event
+	 */
+	short[] getShort(String column) {
+		Object data = get(column, SHORT);
+		return (data == NO_DATA) ? null : (short[]) data;
+	}
+
+	/**
+	 * Get a byte column
+	 *
+	 * @param column
+	 *            the full column name
+	 * @return the column, or <code>null</code> if it is not in the event
+	 */
+	byte[] getByte(String column) {
+		Object data = get(column, BYTE);
+		return (data == NO_DATA) ? null : (byte[]) data;
+	}
+
+	// get a column from the cache, decoding it if necessary
+	private Object get(String column, int type) {
+		Object data = _columns.get(column);
+		if (data == null) {
+			data = decode(column, type);
+			Object previous = _columns.putIfAbsent(column, data);
+			if (previous != null) {
+				data = previous;
+			}
+		}
+		return data;
+	}
+
+	// decode a column from the event
+	private Object decode(String column, int type) {
+		if (_event == null) {
+			return NO_DATA;
+		}
+
+		String bank = column.substring(0, column.lastIndexOf('.'));
+		synchronized (_event) {
+			if (!hasBank(bank)) {
+				return NO_DATA;
+			}
+
+			boolean instrument = ColumnUsage.isEnabled();
+			long start = instrument ? System.nanoTime() : 0;
+
+			Object data = null;
+			int length = 0;
+			switch (type) {
+			case INT:
+				int ivals[] = _event.getInt(column);
+				length = (ivals == null) ? 0 : ivals.length;
+				data = ivals;
+				break;
+			case DOUBLE:
+				double dvals[] = _event.getDouble(column);
+				length = (dvals == null) ? 0 : dvals.length;
+				data = dvals;
+				break;
+			case FLOAT:
+				float fvals[] = _event.getFloat(column);
+				length = (fvals == null) ? 0 : fvals.length;
+				data = fvals;
+				break;
+			case SHORT:
+				short svals[] = _event.getShort(column);
+				length = (svals == null) ? 0 : svals.length;
+				data = svals;
+				break;
+			case BYTE:
+				byte bvals[] = _event.getByte(column);
+				length = (bvals == null) ? 0 : bvals.length;
+				data = bvals;
+				break;
+			}
+
+			if (instrument) {
+				ColumnUsage.columnDecoded(bank, column, length,
+						System.nanoTime() - start);
+			}
+			return (data == null) ? NO_DATA : data;
+		}
+	}
+
+	// check (once) whether the event has a bank
+	private boolean hasBank(String bank) {
+		Boolean has = _banks.get(bank);
+		if (has == null) {
+			has = _event.hasBank(bank);
+			_banks.put(bank, has);
+		}
+		return has;
+	}
+}
@@ -17,501 +17,767 @@ public class FTOFDataContainer extends ADataContainer {
 			"Panel 2" };
 
 	/** ADC Left */
-	public int[] ftof1a_dgtz_ADCL;
+	public int[] ftof1a_dgtz_ADCL() {
+		return intColumn("FTOF1A::dgtz.ADCL");
+	}
 
 	/** ADC Right */
-	public int[] ftof1a_dgtz_ADCR;
+	public int[] ftof1a_dgtz_ADCR() {
+		return intColumn("FTOF1A::dgtz.ADCR");
+	}
 
 	/** hit number */
-	public int[] ftof1a_dgtz_hitn;
+	public int[] ftof1a_dgtz_hitn() {
+		return intColumn("FTOF1A::dgtz.hitn");
+	}
 
 	/** paddle number */
-	public int[] ftof1a_dgtz_paddle;
+	public int[] ftof1a_dgtz_paddle() {
+		return intColumn("FTOF1A::dgtz.paddle");
+	}
 
 	/** sector number */
-	public int[] ftof1a_dgtz_sector;
+	public int[] ftof1a_dgtz_sector() {
+		return intColumn("FTOF1A::dgtz.sector");
+	}
 
 	/** TDC Left */
-	public int[] ftof1a_dgtz_TDCL;
+	public int[] ftof1a_dgtz_TDCL() {
+		return intColumn("FTOF1A::dgtz.TDCL");
+	}
 
 	/** TDC Right */
-	public int[] ftof1a_dgtz_TDCR;
+	public int[] ftof1a_dgtz_TDCR() {
+		return intColumn("FTOF1A::dgtz.TDCR");
+	}
 
 	/** Average X position in local reference system */
-	public double[] ftof1a_true_avgLx;
+	public double[] ftof1a_true_avgLx() {
+		return doubleColumn("FTOF1A::true.avgLx");
+	}
 
 	/** Average Y position in local reference system */
-	public double[] ftof1a_true_avgLy;
+	public double[] ftof1a_true_avgLy() {
+		return doubleColumn("FTOF1A::true.avgLy");
+	}
 
 	/** Average Z position in local reference system */
-	public double[] ftof1a_true_avgLz;
+	public double[] ftof1a_true_avgLz() {
+		return doubleColumn("FTOF1A::true.avgLz");
+	}
 
 	/** Average time */
-	public double[] ftof1a_true_avgT;
+	public double[] ftof1a_true_avgT() {
+		return doubleColumn("FTOF1A::true.avgT");
+	}
 
 	/** Average X position in global reference system */
-	public double[] ftof1a_true_avgX;
+	public double[] ftof1a_true_avgX() {
+		return doubleColumn("FTOF1A::true.avgX");
+	}
 
 	/** Average Y position in global reference system */
-	public double[] ftof1a_true_avgY;
+	public double[] ftof1a_true_avgY() {
+		return doubleColumn("FTOF1A::true.avgY");
+	}
 
 	/** Average Z position in global reference system */
-	public double[] ftof1a_true_avgZ;
+	public double[] ftof1a_true_avgZ() {
+		return doubleColumn("FTOF1A::true.avgZ");
+	}
 
 	/** Hit1 Number */
-	public int[] ftof1a_true_hitn;
+	public int[] ftof1a_true_hitn() {
+		return intColumn("FTOF1A::true.hitn");
+	}
 
 	/** ID of the mother of the first particle entering the sensitive volume */
-	public int[] ftof1a_true_mpid;
+	public int[] ftof1a_true_mpid() {
+		return intColumn("FTOF1A::true.mpid");
+	}
 
 	/**
 	 * Track ID of the mother of the first particle entering the sensitive
 	 * volume
 	 */
-	public int[] ftof1a_true_mtid;
+	public int[] ftof1a_true_mtid() {
+		return intColumn("FTOF1A::true.mtid");
+	}
 
 	/**
 	 * x component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1a_true_mvx;
+	public double[] ftof1a_true_mvx() {
+		return doubleColumn("FTOF1A::true.mvx");
+	}
 
 	/**
 	 * y component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1a_true_mvy;
+	public double[] ftof1a_true_mvy() {
+		return doubleColumn("FTOF1A::true.mvy");
+	}
 
 	/**
 	 * z component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1a_true_mvz;
+	public double[] ftof1a_true_mvz() {
+		return doubleColumn("FTOF1A::true.mvz");
+	}
 
 	/**
 	 * Track ID of the original track that generated the first particle entering
 	 * the sensitive volume
 	 */
-	public int[] ftof1a_true_otid;
+	public int[] ftof1a_true_otid() {
+		return intColumn("FTOF1A::true.otid");
+	}
 
 	/** ID of the first particle entering the sensitive volume */
-	public int[] ftof1a_true_pid;
+	public int[] ftof1a_true_pid() {
+		return intColumn("FTOF1A::true.pid");
+	}
 
 	/** x component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1a_true_px;
+	public double[] ftof1a_true_px() {
+		return doubleColumn("FTOF1A::true.px");
+	}
 
 	/** y component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1a_true_py;
+	public double[] ftof1a_true_py() {
+		return doubleColumn("FTOF1A::true.py");
+	}
 
 	/** z component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1a_true_pz;
+	public double[] ftof1a_true_pz() {
+		return doubleColumn("FTOF1A::true.pz");
+	}
 
 	/** Track ID of the first particle entering the sensitive volume */
-	public int[] ftof1a_true_tid;
+	public int[] ftof1a_true_tid() {
+		return intColumn("FTOF1A::true.tid");
+	}
 
 	/** Total Energy Deposited */
-	public double[] ftof1a_true_totEdep;
+	public double[] ftof1a_true_totEdep() {
+		return doubleColumn("FTOF1A::true.totEdep");
+	}
 
 	/** Energy of the track */
-	public double[] ftof1a_true_trackE;
+	public double[] ftof1a_true_trackE() {
+		return doubleColumn("FTOF1A::true.trackE");
+	}
 
 	/**
 	 * x component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1a_true_vx;
+	public double[] ftof1a_true_vx() {
+		return doubleColumn("FTOF1A::true.vx");
+	}
 
 	/**
 	 * y component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1a_true_vy;
+	public double[] ftof1a_true_vy() {
+		return doubleColumn("FTOF1A::true.vy");
+	}
 
 	/**
 	 * z component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1a_true_vz;
+	public double[] ftof1a_true_vz() {
+		return doubleColumn("FTOF1A::true.vz");
+	}
 
 	/** ADC Left */
-	public int[] ftof1b_dgtz_ADCL;
+	public int[] ftof1b_dgtz_ADCL() {
+		return intColumn("FTOF1B::dgtz.ADCL");
+	}
 
 	/** ADC Right */
-	public int[] ftof1b_dgtz_ADCR;
+	public int[] ftof1b_dgtz_ADCR() {
+		return intColumn("FTOF1B::dgtz.ADCR");
+	}
 
 	/** hit number */
-	public int[] ftof1b_dgtz_hitn;
+	public int[] ftof1b_dgtz_hitn() {
+		return intColumn("FTOF1B::dgtz.hitn");
+	}
 
 	/** paddle number */
-	public int[] ftof1b_dgtz_paddle;
+	public int[] ftof1b_dgtz_paddle() {
+		return intColumn("FTOF1B::dgtz.paddle");
+	}
 
 	/** sector number */
-	public int[] ftof1b_dgtz_sector;
+	public int[] ftof1b_dgtz_sector() {
+		return intColumn("FTOF1B::dgtz.sector");
+	}
 
 	/** TDC Left */
-	public int[] ftof1b_dgtz_TDCL;
+	public int[] ftof1b_dgtz_TDCL() {
+		return intColumn("FTOF1B::dgtz.TDCL");
+	}
 
 	/** TDC Right */
-	public int[] ftof1b_dgtz_TDCR;
+	public int[] ftof1b_dgtz_TDCR() {
+		return intColumn("FTOF1B::dgtz.TDCR");
+	}
 
 	/** Average X position in local reference system */
-	public double[] ftof1b_true_avgLx;
+	public double[] ftof1b_true_avgLx() {
+		return doubleColumn("FTOF1B::true.avgLx");
+	}
 
 	/** Average Y position in local reference system */
-	public double[] ftof1b_true_avgLy;
+	public double[] ftof1b_true_avgLy() {
+		return doubleColumn("FTOF1B::true.avgLy");
+	}
 
 	/** Average Z position in local reference system */
-	public double[] ftof1b_true_avgLz;
+	public double[] ftof1b_true_avgLz() {
+		return doubleColumn("FTOF1B::true.avgLz");
+	}
 
 	/** Average time */
-	public double[] ftof1b_true_avgT;
+	public double[] ftof1b_true_avgT() {
+		return doubleColumn("FTOF1B::true.avgT");
+	}
 
 	/** Average X position in global reference system */
-	public double[] ftof1b_true_avgX;
+	public double[] ftof1b_true_avgX() {
+		return doubleColumn("FTOF1B::true.avgX");
+	}
 
 	/** Average Y position in global reference system */
-	public double[] ftof1b_true_avgY;
+	public double[] ftof1b_true_avgY() {
+		return doubleColumn("FTOF1B::true.avgY");
+	}
 
 	/** Average Z position in global reference system */
-	public double[] ftof1b_true_avgZ;
+	public double[] ftof1b_true_avgZ() {
+		return doubleColumn("FTOF1B::true.avgZ");
+	}
 
 	/** Hit1 Number */
-	public int[] ftof1b_true_hitn;
+	public int[] ftof1b_true_hitn() {
+		return intColumn("FTOF1B::true.hitn");
+	}
 
 	/** ID of the mother of the first particle entering the sensitive volume */
-	public int[] ftof1b_true_mpid;
+	public int[] ftof1b_true_mpid() {
+		return intColumn("FTOF1B::true.mpid");
+	}
 
 	/**
 	 * Track ID of the mother of the first particle entering the sensitive
 	 * volume
 	 */
-	public int[] ftof1b_true_mtid;
+	public int[] ftof1b_true_mtid() {
+		return intColumn("FTOF1B::true.mtid");
+	}
 
 	/**
 	 * x component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1b_true_mvx;
+	public double[] ftof1b_true_mvx() {
+		return doubleColumn("FTOF1B::true.mvx");
+	}
 
 	/**
 	 * y component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1b_true_mvy;
+	public double[] ftof1b_true_mvy() {
+		return doubleColumn("FTOF1B::true.mvy");
+	}
 
 	/**
 	 * z component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof1b_true_mvz;
+	public double[] ftof1b_true_mvz() {
+		return doubleColumn("FTOF1B::true.mvz");
+	}
 
 	/**
 	 * Track ID of the original track that generated the first particle entering
 	 * the sensitive volume
 	 */
-	public int[] ftof1b_true_otid;
+	public int[] ftof1b_true_otid() {
+		return intColumn("FTOF1B::true.otid");
+	}
 
 	/** ID of the first particle entering the sensitive volume */
-	public int[] ftof1b_true_pid;
+	public int[] ftof1b_true_pid() {
+		return intColumn("FTOF1B::true.pid");
+	}
 
 	/** x component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1b_true_px;
+	public double[] ftof1b_true_px() {
+		return doubleColumn("FTOF1B::true.px");
+	}
 
 	/** y component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1b_true_py;
+	public double[] ftof1b_true_py() {
+		return doubleColumn("FTOF1B::true.py");
+	}
 
 	/** z component of momentum of the particle entering the sensitive volume */
-	public double[] ftof1b_true_pz;
+	public double[] ftof1b_true_pz() {
+		return doubleColumn("FTOF1B::true.pz");
+	}
 
 	/** Track ID of the first particle entering the sensitive volume */
-	public int[] ftof1b_true_tid;
+	public int[] ftof1b_true_tid() {
+		return intColumn("FTOF1B::true.tid");
+	}
 
 	/** Total Energy Deposited */
-	public double[] ftof1b_true_totEdep;
+	public double[] ftof1b_true_totEdep() {
+		return doubleColumn("FTOF1B::true.totEdep");
+	}
 
 	/** Energy of the track */
-	public double[] ftof1b_true_trackE;
+	public double[] ftof1b_true_trackE() {
+		return doubleColumn("FTOF1B::true.trackE");
+	}
 
 	/**
 	 * x component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1b_true_vx;
+	public double[] ftof1b_true_vx() {
+		return doubleColumn("FTOF1B::true.vx");
+	}
 
 	/**
 	 * y component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1b_true_vy;
+	public double[] ftof1b_true_vy() {
+		return doubleColumn("FTOF1B::true.vy");
+	}
 
 	/**
 	 * z component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof1b_true_vz;
+	public double[] ftof1b_true_vz() {
+		return doubleColumn("FTOF1B::true.vz");
+	}
 
 	/** ADC Left */
-	public int[] ftof2b_dgtz_ADCL;
+	public int[] ftof2b_dgtz_ADCL() {
+		return intColumn("FTOF2B::dgtz.ADCL");
+	}
 
 	/** ADC Right */
-	public int[] ftof2b_dgtz_ADCR;
+	public int[] ftof2b_dgtz_ADCR() {
+		return intColumn("FTOF2B::dgtz.ADCR");
+	}
 
 	/** hit number */
-	public int[] ftof2b_dgtz_hitn;
+	public int[] ftof2b_dgtz_hitn() {
+		return intColumn("FTOF2B::dgtz.hitn");
+	}
 
 	/** paddle number */
-	public int[] ftof2b_dgtz_paddle;
+	public int[] ftof2b_dgtz_paddle() {
+		return intColumn("FTOF2B::dgtz.paddle");
+	}
 
 	/** sector number */
-	public int[] ftof2b_dgtz_sector;
+	public int[] ftof2b_dgtz_sector() {
+		return intColumn("FTOF2B::dgtz.sector");
+	}
 
 	/** TDC Left */
-	public int[] ftof2b_dgtz_TDCL;
+	public int[] ftof2b_dgtz_TDCL() {
+		return intColumn("FTOF2B::dgtz.TDCL");
+	}
 
 	/** TDC Right */
-	public int[] ftof2b_dgtz_TDCR;
+	public int[] ftof2b_dgtz_TDCR() {
+		return intColumn("FTOF2B::dgtz.TDCR");
+	}
 
 	/** Average X position in local reference system */
-	public double[] ftof2b_true_avgLx;
+	public double[] ftof2b_true_avgLx() {
+		return doubleColumn("FTOF2B::true.avgLx");
+	}
 
 	/** Average Y position in local reference system */
-	public double[] ftof2b_true_avgLy;
+	public double[] ftof2b_true_avgLy() {
+		return doubleColumn("FTOF2B::true.avgLy");
+	}
 
 	/** Average Z position in local reference system */
-	public double[] ftof2b_true_avgLz;
+	public double[] ftof2b_true_avgLz() {
+		return doubleColumn("FTOF2B::true.avgLz");
+	}
 
 	/** Average time */
-	public double[] ftof2b_true_avgT;
+	public double[] ftof2b_true_avgT() {
+		return doubleColumn("FTOF2B::true.avgT");
+	}
 
 	/** Average X position in global reference system */
-	public double[] ftof2b_true_avgX;
+	public double[] ftof2b_true_avgX() {
+		return doubleColumn("FTOF2B::true.avgX");
+	}
 
 	/** Average Y position in global reference system */
-	public double[] ftof2b_true_avgY;
+	public double[] ftof2b_true_avgY() {
+		return doubleColumn("FTOF2B::true.avgY");
+	}
 
 	/** Average Z position in global reference system */
-	public double[] ftof2b_true_avgZ;
+	public double[] ftof2b_true_avgZ() {
+		return doubleColumn("FTOF2B::true.avgZ");
+	}
 
 	/** Hit1 Number */
-	public int[] ftof2b_true_hitn;
+	public int[] ftof2b_true_hitn() {
+		return intColumn("FTOF2B::true.hitn");
+	}
 
 	/** ID of the mother of the first particle entering the sensitive volume */
-	public int[] ftof2b_true_mpid;
+	public int[] ftof2b_true_mpid() {
+		return intColumn("FTOF2B::true.mpid");
+	}
 
 	/**
 	 * Track ID of the mother of the first particle entering the sensitive
 	 * volume
 	 */
-	public int[] ftof2b_true_mtid;
+	public int[] ftof2b_true_mtid() {
+		return intColumn("FTOF2B::true.mtid");
+	}
 
 	/**
 	 * x component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof2b_true_mvx;
+	public double[] ftof2b_true_mvx() {
+		return doubleColumn("FTOF2B::true.mvx");
+	}
 
 	/**
 	 * y component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof2b_true_mvy;
+	public double[] ftof2b_true_mvy() {
+		return doubleColumn("FTOF2B::true.mvy");
+	}
 
 	/**
 	 * z component of primary vertex of the mother of the particle entering the
 	 * sensitive volume
 	 */
-	public double[] ftof2b_true_mvz;
+	public double[] ftof2b_true_mvz() {
+		return doubleColumn("FTOF2B::true.mvz");
+	}
 
 	/**
 	 * Track ID of the original track that generated the first particle entering
 	 * the sensitive volume
 	 */
-	public int[] ftof2b_true_otid;
+	public int[] ftof2b_true_otid() {
+		return intColumn("FTOF2B::true.otid");
+	}
 
 	/** ID of the first particle entering the sensitive volume */
-	public int[] ftof2b_true_pid;
+	public int[] ftof2b_true_pid() {
+		return intColumn("FTOF2B::true.pid");
+	}
 
 	/** x component of momentum of the particle entering the sensitive volume */
-	public double[] ftof2b_true_px;
+	public double[] ftof2b_true_px() {
+		return doubleColumn("FTOF2B::true.px");
+	}
 
 	/** y component of momentum of the particle entering the sensitive volume */
-	public double[] ftof2b_true_py;
+	public double[] ftof2b_true_py() {
+		return doubleColumn("FTOF2B::true.py");
+	}
 
 	/** z component of momentum of the particle entering the sensitive volume */
-	public double[] ftof2b_true_pz;
+	public double[] ftof2b_true_pz() {
+		return doubleColumn("FTOF2B::true.pz");
+	}
 
 	/** Track ID of the first particle entering the sensitive volume */
-	public int[] ftof2b_true_tid;
+	public int[] ftof2b_true_tid() {
+		return intColumn("FTOF2B::true.tid");
+	}
 
 	/** Total Energy Deposited */
-	public double[] ftof2b_true_totEdep;
+	public double[] ftof2b_true_totEdep() {
+		return doubleColumn("FTOF2B::true.totEdep");
+	}
 
 	/** Energy of the track */
-	public double[] ftof2b_true_trackE;
+	public double[] ftof2b_true_trackE() {
+		return doubleColumn("FTOF2B::true.trackE");
+	}
 
 	/**
 	 * x component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof2b_true_vx;
+	public double[] ftof2b_true_vx() {
+		return doubleColumn("FTOF2B::true.vx");
+	}
 
 	/**
 	 * y component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof2b_true_vy;
+	public double[] ftof2b_true_vy() {
+		return doubleColumn("FTOF2B::true.vy");
+	}
 
 	/**
 	 * z component of primary vertex of the particle entering the sensitive
 	 * volume
 	 */
-	public double[] ftof2b_true_vz;
+	public double[] ftof2b_true_vz() {
+		return doubleColumn("FTOF2B::true.vz");
+	}
 
 	/** cluster energy deposited (sum of hit energies) */
-	public float[] ftofrec_ftofclusters_energy;
+	public float[] ftofrec_ftofclusters_energy() {
+		return floatColumn("FTOFRec::ftofclusters.energy");
+	}
 
 	/** uncertainty cluster energy deposited */
-	public float[] ftofrec_ftofclusters_energy_unc;
+	public float[] ftofrec_ftofclusters_energy_unc() {
+		return floatColumn("FTOFRec::ftofclusters.energy_unc");
+	}
 
 	/** paddle id of hit with lowest paddle id in cluster */
-	public int[] ftofrec_ftofclusters_paddle_id;
+	public int[] ftofrec_ftofclusters_paddle_id() {
+		return intColumn("FTOFRec::ftofclusters.paddle_id");
+	}
 
 	/**
 	 * status of paddle (1-15 for single hit cluster up to 0101010101-1515151515
 	 * for five hit cluster 15 is best status 1 worst see
 	 * ftof.reconstruction.PaddleConvertor
 	 */
-	public int[] ftofrec_ftofclusters_paddle_status;
+	public int[] ftofrec_ftofclusters_paddle_status() {
+		return intColumn("FTOFRec::ftofclusters.paddle_status");
+	}
 
 	/** panel id (1 2 3) for (1a 1b 2) */
-	public int[] ftofrec_ftofclusters_panel_id;
+	public int[] ftofrec_ftofclusters_panel_id() {
+		return intColumn("FTOFRec::ftofclusters.panel_id");
+	}
 
 	/** sector number (1-6) */
-	public int[] ftofrec_ftofclusters_sector;
+	public int[] ftofrec_ftofclusters_sector() {
+		return intColumn("FTOFRec::ftofclusters.sector");
+	}
 
 	/**
 	 * cluster time (which is either an energy-weighted average of hits times or
 	 * the time of the earliest hit in the cluster depending on configuration of
 	 * ftof software)
 	 */
-	public float[] ftofrec_ftofclusters_time;
+	public float[] ftofrec_ftofclusters_time() {
+		return floatColumn("FTOFRec::ftofclusters.time");
+	}
 
 	/** uncertainty cluster time */
-	public float[] ftofrec_ftofclusters_time_unc;
+	public float[] ftofrec_ftofclusters_time_unc() {
+		return floatColumn("FTOFRec::ftofclusters.time_unc");
+	}
 
 	/**
 	 * cluster x position (sector coords this is either a simple average of hit
 	 * x positions or the x position of the earliest hit in the cluster
 	 * depending on configuration of ftof software)
 	 */
-	public float[] ftofrec_ftofclusters_x;
+	public float[] ftofrec_ftofclusters_x() {
+		return floatColumn("FTOFRec::ftofclusters.x");
+	}
 
 	/** uncertainty cluster x position (sector coords) */
-	public float[] ftofrec_ftofclusters_x_unc;
+	public float[] ftofrec_ftofclusters_x_unc() {
+		return floatColumn("FTOFRec::ftofclusters.x_unc");
+	}
 
 	/**
 	 * cluster y position (sector coords this is either an energy weighted
 	 * average of hit y positions or the y position of the earliest hit in the
 	 * cluster depending on configuration of ftof software)
 	 */
-	public float[] ftofrec_ftofclusters_y;
+	public float[] ftofrec_ftofclusters_y() {
+		return floatColumn("FTOFRec::ftofclusters.y");
+	}
 
 	/** uncertainty cluster y position (sector coords) */
-	public float[] ftofrec_ftofclusters_y_unc;
+	public float[] ftofrec_ftofclusters_y_unc() {
+		return floatColumn("FTOFRec::ftofclusters.y_unc");
+	}
 
 	/**
 	 * cluster z position (sector coords this is either a simple average of hit
 	 * z positions or the z position of the earliest hit in the cluster
 	 * depending on configuration of ftof software)
 	 */
-	public float[] ftofrec_ftofclusters_z;
+	public float[] ftofrec_ftofclusters_z() {
+		return floatColumn("FTOFRec::ftofclusters.z");
+	}
 
 	/** uncertainty cluster z position (sector coords) */
-	public float[] ftofrec_ftofclusters_z_unc;
+	public float[] ftofrec_ftofclusters_z_unc() {
+		return floatColumn("FTOFRec::ftofclusters.z_unc");
+	}
 
 	/** hit energy deposited */
-	public float[] ftofrec_ftofhits_energy;
+	public float[] ftofrec_ftofhits_energy() {
+		return floatColumn("FTOFRec::ftofhits.energy");
+	}
 
 	/** uncertainty hit energy deposited */
-	public float[] ftofrec_ftofhits_energy_unc;
+	public float[] ftofrec_ftofhits_energy_unc() {
+		return floatColumn("FTOFRec::ftofhits.energy_unc");
+	}
 
 	/** paddle id */
-	public int[] ftofrec_ftofhits_paddle_id;
+	public int[] ftofrec_ftofhits_paddle_id() {
+		return intColumn("FTOFRec::ftofhits.paddle_id");
+	}
 
 	/**
 	 * status of paddle (1 to 15) 15 is the best status 1 the worst see FTOF
 	 * class ftof.reconstruction.PaddleConvertor
 	 */
-	public int[] ftofrec_ftofhits_paddle_status;
+	public int[] ftofrec_ftofhits_paddle_status() {
+		return intColumn("FTOFRec::ftofhits.paddle_status");
+	}
 
 	/** panel id (1 2 3) for (1a 1b 2) */
-	public int[] ftofrec_ftofhits_panel_id;
+	public int[] ftofrec_ftofhits_panel_id() {
+		return intColumn("FTOFRec::ftofhits.panel_id");
+	}
 
 	/** sector number (1-6) */
-	public int[] ftofrec_ftofhits_sector;
+	public int[] ftofrec_ftofhits_sector() {
+		return intColumn("FTOFRec::ftofhits.sector");
+	}
 
 	/** hit time */
-	public float[] ftofrec_ftofhits_time;
+	public float[] ftofrec_ftofhits_time() {
+		return floatColumn("FTOFRec::ftofhits.time");
+	}
 
 	/** uncertainty hit time */
-	public float[] ftofrec_ftofhits_time_unc;
+	public float[] ftofrec_ftofhits_time_unc() {
+		return floatColumn("FTOFRec::ftofhits.time_unc");
+	}
 
 	/** hit x position (sector coords) */
-	public float[] ftofrec_ftofhits_x;
+	public float[] ftofrec_ftofhits_x() {
+		return floatColumn("FTOFRec::ftofhits.x");
+	}
 
 	/** uncertainty hit x position (sector coords) */
-	public float[] ftofrec_ftofhits_x_unc;
+	public float[] ftofrec_ftofhits_x_unc() {
+		return floatColumn("FTOFRec::ftofhits.x_unc");
+	}
 
 	/** hit y position (sector coords) */
-	public float[] ftofrec_ftofhits_y;
+	public float[] ftofrec_ftofhits_y() {
+		return floatColumn("FTOFRec::ftofhits.y");
+	}
 
 	/** uncertainty hit y position (sector coords) */
-	public float[] ftofrec_ftofhits_y_unc;
+	public float[] ftofrec_ftofhits_y_unc() {
+		return floatColumn("FTOFRec::ftofhits.y_unc");
+	}
 
 	/** hit z position (sector coords) */
-	public float[] ftofrec_ftofhits_z;
+	public float[] ftofrec_ftofhits_z() {
+		return floatColumn("FTOFRec::ftofhits.z");
+	}
 
 	/** uncertainty hit z position (sector coords) */
-	public float[] ftofrec_ftofhits_z_unc;
+	public float[] ftofrec_ftofhits_z_unc() {
+		return floatColumn("FTOFRec::ftofhits.z_unc");
+	}
 
 	/** left energy deposited */
-	public float[] ftofrec_rawhits_energy_left;
+	public float[] ftofrec_rawhits_energy_left() {
+		return floatColumn("FTOFRec::rawhits.energy_left");
+	}
 
 	/** left energy deposited uncertainty */
-	public float[] ftofrec_rawhits_energy_left_unc;
+	public float[] ftofrec_rawhits_energy_left_unc() {
+		return floatColumn("FTOFRec::rawhits.energy_left_unc");
+	}
 
 	/** right energy deposited */
-	public float[] ftofrec_rawhits_energy_right;
+	public float[] ftofrec_rawhits_energy_right() {
+		return floatColumn("FTOFRec::rawhits.energy_right");
+	}
 
 	/** right energy deposited uncertainty */
-	public float[] ftofrec_rawhits_energy_right_unc;
+	public float[] ftofrec_rawhits_energy_right_unc() {
+		return floatColumn("FTOFRec::rawhits.energy_right_unc");
+	}
 
 	/** paddle id */
-	public int[] ftofrec_rawhits_paddle_id;
+	public int[] ftofrec_rawhits_paddle_id() {
+		return intColumn("FTOFRec::rawhits.paddle_id");
+	}
 
 	/**
 	 * status of paddle (1 to 15) 15 is the best status 1 the worst see FTOF
 	 * class ftof.reconstruction.PaddleConvertor
 	 */
-	public int[] ftofrec_rawhits_paddle_status;
+	public int[] ftofrec_rawhits_paddle_status() {
+		return intColumn("FTOFRec::rawhits.paddle_status");
+	}
 
 	/** panel id (1 2 3) for (1a 1b 2) */
-	public int[] ftofrec_rawhits_panel_id;
+	public int[] ftofrec_rawhits_panel_id() {
+		return intColumn("FTOFRec::rawhits.panel_id");
+	}
 
 	/** sector number (1-6) */
-	public int[] ftofrec_rawhits_sector;
+	public int[] ftofrec_rawhits_sector() {
+		return intColumn("FTOFRec::rawhits.sector");
+	}
 
 	/** left time */
-	public float[] ftofrec_rawhits_time_left;
+	public float[] ftofrec_rawhits_time_left() {
+		return floatColumn("FTOFRec::rawhits.time_left");
+	}
 
 	/** left time uncertainty */
-	public float[] ftofrec_rawhits_time_left_unc;
+	public float[] ftofrec_rawhits_time_left_unc() {
+		return floatColumn("FTOFRec::rawhits.time_left_unc");
+	}
 
 	/** right time */
-	public float[] ftofrec_rawhits_time_right;
+	public float[] ftofrec_rawhits_time_right() {
+		return floatColumn("FTOFRec::rawhits.time_right");
+	}
 
 	/** right time uncertainty */
-	public float[] ftofrec_rawhits_time_right_unc;
+	public float[] ftofrec_rawhits_time_right_unc() {
+		return floatColumn("FTOFRec::rawhits.time_right_unc");
+	}
 
 	/** view (1=u, 2=v, 3=w) */
 	public int[] pcal_dgtz_view;
@@ -526,16 +792,13 @@ public class FTOFDataContainer extends ADataContainer {
 
 		switch (option) {
 		case PANEL_1A:
-			hitCount = (ftof1a_dgtz_sector == null) ? 0
-					: ftof1a_dgtz_sector.length;
+			hitCount = length(ftof1a_dgtz_sector());
 			break;
 		case PANEL_1B:
-			hitCount = (ftof1b_dgtz_sector == null) ? 0
-					: ftof1b_dgtz_sector.length;
+			hitCount = length(ftof1b_dgtz_sector());
 			break;
 		case PANEL_2B:
-			hitCount = (ftof2b_dgtz_sector == null) ? 0
-					: ftof2b_dgtz_sector.length;
+			hitCount = length(ftof2b_dgtz_sector());
 			break;
 		}
 
@@ -544,335 +807,12 @@ public class FTOFDataContainer extends ADataContainer {
 
 	@Override
 	public void load(EvioDataEvent event) {
-		if (event == null) {
-			return;
-		}
-
-		if (event.hasBank("FTOF1A::dgtz")) {
-			ftof1a_dgtz_ADCL = event.getInt("FTOF1A::dgtz.ADCL");
-			ftof1a_dgtz_ADCR = event.getInt("FTOF1A::dgtz.ADCR");
-			ftof1a_dgtz_hitn = event.getInt("FTOF1A::dgtz.hitn");
-			ftof1a_dgtz_paddle = event.getInt("FTOF1A::dgtz.paddle");
-			ftof1a_dgtz_sector = event.getInt("FTOF1A::dgtz.sector");
-			ftof1a_dgtz_TDCL = event.getInt("FTOF1A::dgtz.TDCL");
-			ftof1a_dgtz_TDCR = event.getInt("FTOF1A::dgtz.TDCR");
-		} // FTOF1A::dgtz
-
-		if (event.hasBank("FTOF1A::true")) {
-			ftof1a_true_avgLx = event.getDouble("FTOF1A::true.avgLx");
-			ftof1a_true_avgLy = event.getDouble("FTOF1A::true.avgLy");
-			ftof1a_true_avgLz = event.getDouble("FTOF1A::true.avgLz");
-			ftof1a_true_avgT = event.getDouble("FTOF1A::true.avgT");
-			ftof1a_true_avgX = event.getDouble("FTOF1A::true.avgX");
-			ftof1a_true_avgY = event.getDouble("FTOF1A::true.avgY");
-			ftof1a_true_avgZ = event.getDouble("FTOF1A::true.avgZ");
-			ftof1a_true_hitn = event.getInt("FTOF1A::true.hitn");
-			ftof1a_true_mpid = event.getInt("FTOF1A::true.mpid");
-			ftof1a_true_mtid = event.getInt("FTOF1A::true.mtid");
-			ftof1a_true_mvx = event.getDouble("FTOF1A::true.mvx");
-			ftof1a_true_mvy = event.getDouble("FTOF1A::true.mvy");
-			ftof1a_true_mvz = event.getDouble("FTOF1A::true.mvz");
-			ftof1a_true_otid = event.getInt("FTOF1A::true.otid");
-			ftof1a_true_pid = event.getInt("FTOF1A::true.pid");
-			ftof1a_true_px = event.getDouble("FTOF1A::true.px");
-			ftof1a_true_py = event.getDouble("FTOF1A::true.py");
-			ftof1a_true_pz = event.getDouble("FTOF1A::true.pz");
-			ftof1a_true_tid = event.getInt("FTOF1A::true.tid");
-			ftof1a_true_totEdep = event.getDouble("FTOF1A::true.totEdep");
-			ftof1a_true_trackE = event.getDouble("FTOF1A::true.trackE");
-			ftof1a_true_vx = event.getDouble("FTOF1A::true.vx");
-			ftof1a_true_vy = event.getDouble("FTOF1A::true.vy");
-			ftof1a_true_vz = event.getDouble("FTOF1A::true.vz");
-		} // FTOF1A::true
-
-		if (event.hasBank("FTOF1B::dgtz")) {
-			ftof1b_dgtz_ADCL = event.getInt("FTOF1B::dgtz.ADCL");
-			ftof1b_dgtz_ADCR = event.getInt("FTOF1B::dgtz.ADCR");
-			ftof1b_dgtz_hitn = event.getInt("FTOF1B::dgtz.hitn");
-			ftof1b_dgtz_paddle = event.getInt("FTOF1B::dgtz.paddle");
-			ftof1b_dgtz_sector = event.getInt("FTOF1B::dgtz.sector");
-			ftof1b_dgtz_TDCL = event.getInt("FTOF1B::dgtz.TDCL");
-			ftof1b_dgtz_TDCR = event.getInt("FTOF1B::dgtz.TDCR");
-		} // FTOF1B::dgtz
-
-		if (event.hasBank("FTOF1B::true")) {
-			ftof1b_true_avgLx = event.getDouble("FTOF1B::true.avgLx");
-			ftof1b_true_avgLy = event.getDouble("FTOF1B::true.avgLy");
-			ftof1b_true_avgLz = event.getDouble("FTOF1B::true.avgLz");
-			ftof1b_true_avgT = event.getDouble("FTOF1B::true.avgT");
-			ftof1b_true_avgX = event.getDouble("FTOF1B::true.avgX");
-			ftof1b_true_avgY = event.getDouble("FTOF1B::true.avgY");
-			ftof1b_true_avgZ = event.getDouble("FTOF1B::true.avgZ");
-			ftof1b_true_hitn = event.getInt("FTOF1B::true.hitn");
-			ftof1b_true_mpid = event.getInt("FTOF1B::true.mpid");
-			ftof1b_true_mtid = event.getInt("FTOF1B::true.mtid");
-			ftof1b_true_mvx = event.getDouble("FTOF1B::true.mvx");
-			ftof1b_true_mvy = event.getDouble("FTOF1B::true.mvy");
-			ftof1b_true_mvz = event.getDouble("FTOF1B::true.mvz");
-			ftof1b_true_otid = event.getInt("FTOF1B::true.otid");
-			ftof1b_true_pid = event.getInt("FTOF1B::true.pid");
-			ftof1b_true_px = event.getDouble("FTOF1B::true.px");
-			ftof1b_true_py = event.getDouble("FTOF1B::true.py");
-			ftof1b_true_pz = event.getDouble("FTOF1B::true.pz");
-			ftof1b_true_tid = event.getInt("FTOF1B::true.tid");
-			ftof1b_true_totEdep = event.getDouble("FTOF1B::true.totEdep");
-			ftof1b_true_trackE = event.getDouble("FTOF1B::true.trackE");
-			ftof1b_true_vx = event.getDouble("FTOF1B::true.vx");
-			ftof1b_true_vy = event.getDouble("FTOF1B::true.vy");
-			ftof1b_true_vz = event.getDouble("FTOF1B::true.vz");
-		} // FTOF1B::true
-
-		if (event.hasBank("FTOF2B::dgtz")) {
-			ftof2b_dgtz_ADCL = event.getInt("FTOF2B::dgtz.ADCL");
-			ftof2b_dgtz_ADCR = event.getInt("FTOF2B::dgtz.ADCR");
-			ftof2b_dgtz_hitn = event.getInt("FTOF2B::dgtz.hitn");
-			ftof2b_dgtz_paddle = event.getInt("FTOF2B::dgtz.paddle");
-			ftof2b_dgtz_sector = event.getInt("FTOF2B::dgtz.sector");
-			ftof2b_dgtz_TDCL = event.getInt("FTOF2B::dgtz.TDCL");
-			ftof2b_dgtz_TDCR = event.getInt("FTOF2B::dgtz.TDCR");
-		} // FTOF2B::dgtz
-
-		if (event.hasBank("FTOF2B::true")) {
-			ftof2b_true_avgLx = event.getDouble("FTOF2B::true.avgLx");
-			ftof2b_true_avgLy = event.getDouble("FTOF2B::true.avgLy");
-			ftof2b_true_avgLz = event.getDouble("FTOF2B::true.avgLz");
-			ftof2b_true_avgT = event.getDouble("FTOF2B::true.avgT");
-			ftof2b_true_avgX = event.getDouble("FTOF2B::true.avgX");
-			ftof2b_true_avgY = event.getDouble("FTOF2B::true.avgY");
-			ftof2b_true_avgZ = event.getDouble("FTOF2B::true.avgZ");
-			ftof2b_true_hitn = event.getInt("FTOF2B::true.hitn");
-			ftof2b_true_mpid = event.getInt("FTOF2B::true.mpid");
-			ftof2b_true_mtid = event.getInt("FTOF2B::true.mtid");
-			ftof2b_true_mvx = event.getDouble("FTOF2B::true.mvx");
-			ftof2b_true_mvy = event.getDouble("FTOF2B::true.mvy");
-			ftof2b_true_mvz = event.getDouble("FTOF2B::true.mvz");
-			ftof2b_true_otid = event.getInt("FTOF2B::true.otid");
-			ftof2b_true_pid = event.getInt("FTOF2B::true.pid");
-			ftof2b_true_px = event.getDouble("FTOF2B::true.px");
-			ftof2b_true_py = event.getDouble("FTOF2B::true.py");
-			ftof2b_true_pz = event.getDouble("FTOF2B::true.pz");
-			ftof2b_true_tid = event.getInt("FTOF2B::true.tid");
-			ftof2b_true_totEdep = event.getDouble("FTOF2B::true.totEdep");
-			ftof2b_true_trackE = event.getDouble("FTOF2B::true.trackE");
-			ftof2b_true_vx = event.getDouble("FTOF2B::true.vx");
-			ftof2b_true_vy = event.getDouble("FTOF2B::true.vy");
-			ftof2b_true_vz = event.getDouble("FTOF2B::true.vz");
-		} // FTOF2B::true
-
-		if (event.hasBank("FTOFRec::ftofclusters")) {
-			ftofrec_ftofclusters_energy = event
-					.getFloat("FTOFRec::ftofclusters.energy");
-			ftofrec_ftofclusters_energy_unc = event
-					.getFloat("FTOFRec::ftofclusters.energy_unc");
-			ftofrec_ftofclusters_paddle_id = event
-					.getInt("FTOFRec::ftofclusters.paddle_id");
-			ftofrec_ftofclusters_paddle_status = event
-					.getInt("FTOFRec::ftofclusters.paddle_status");
-			ftofrec_ftofclusters_panel_id = event
-					.getInt("FTOFRec::ftofclusters.panel_id");
-			ftofrec_ftofclusters_sector = event
-					.getInt("FTOFRec::ftofclusters.sector");
-			ftofrec_ftofclusters_time = event
-					.getFloat("FTOFRec::ftofclusters.time");
-			ftofrec_ftofclusters_time_unc = event
-					.getFloat("FTOFRec::ftofclusters.time_unc");
-			ftofrec_ftofclusters_x = event.getFloat("FTOFRec::ftofclusters.x");
-			ftofrec_ftofclusters_x_unc = event
-					.getFloat("FTOFRec::ftofclusters.x_unc");
-			ftofrec_ftofclusters_y = event.getFloat("FTOFRec::ftofclusters.y");
-			ftofrec_ftofclusters_y_unc = event
-					.getFloat("FTOFRec::ftofclusters.y_unc");
-			ftofrec_ftofclusters_z = event.getFloat("FTOFRec::ftofclusters.z");
-			ftofrec_ftofclusters_z_unc = event
-					.getFloat("FTOFRec::ftofclusters.z_unc");
-		} // FTOFRec::ftofclusters
-
-		if (event.hasBank("FTOFRec::ftofhits")) {
-			ftofrec_ftofhits_energy = event
-					.getFloat("FTOFRec::ftofhits.energy");
-			ftofrec_ftofhits_energy_unc = event
-					.getFloat("FTOFRec::ftofhits.energy_unc");
-			ftofrec_ftofhits_paddle_id = event
-					.getInt("FTOFRec::ftofhits.paddle_id");
-			ftofrec_ftofhits_paddle_status = event
-					.getInt("FTOFRec::ftofhits.paddle_status");
-			ftofrec_ftofhits_panel_id = event
-					.getInt("FTOFRec::ftofhits.panel_id");
-			ftofrec_ftofhits_sector = event.getInt("FTOFRec::ftofhits.sector");
-			ftofrec_ftofhits_time = event.getFloat("FTOFRec::ftofhits.time");
-			ftofrec_ftofhits_time_unc = event
-					.getFloat("FTOFRec::ftofhits.time_unc");
-			ftofrec_ftofhits_x = event.getFloat("FTOFRec::ftofhits.x");
-			ftofrec_ftofhits_x_unc = event.getFloat("FTOFRec::ftofhits.x_unc");
-			ftofrec_ftofhits_y = event.getFloat("FTOFRec::ftofhits.y");
-			ftofrec_ftofhits_y_unc = event.getFloat("FTOFRec::ftofhits.y_unc");
-			ftofrec_ftofhits_z = event.getFloat("FTOFRec::ftofhits.z");
-			ftofrec_ftofhits_z_unc = event.getFloat("FTOFRec::ftofhits.z_unc");
-		} // FTOFRec::ftofhits
-
-		if (event.hasBank("FTOFRec::rawhits")) {
-			ftofrec_rawhits_energy_left = event
-					.getFloat("FTOFRec::rawhits.energy_left");
-			ftofrec_rawhits_energy_left_unc = event
-					.getFloat("FTOFRec::rawhits.energy_left_unc");
-			ftofrec_rawhits_energy_right = event
-					.getFloat("FTOFRec::rawhits.energy_right");
-			ftofrec_rawhits_energy_right_unc = event
-					.getFloat("FTOFRec::rawhits.energy_right_unc");
-			ftofrec_rawhits_paddle_id = event
-					.getInt("FTOFRec::rawhits.paddle_id");
-			ftofrec_rawhits_paddle_status = event
-					.getInt("FTOFRec::rawhits.paddle_status");
-			ftofrec_rawhits_panel_id = event
-					.getInt("FTOFRec::rawhits.panel_id");
-			ftofrec_rawhits_sector = event.getInt("FTOFRec::rawhits.sector");
-			ftofrec_rawhits_time_left = event
-					.getFloat("FTOFRec::rawhits.time_left");
-			ftofrec_rawhits_time_left_unc = event
-					.getFloat("FTOFRec::rawhits.time_left_unc");
-			ftofrec_rawhits_time_right = event
-					.getFloat("FTOFRec::rawhits.time_right");
-			ftofrec_rawhits_time_right_unc = event
-					.getFloat("FTOFRec::rawhits.time_right_unc");
-		} // FTOFRec::rawhits
-
+		// the columns are decoded on first access, by the accessors
 	} // load
 
 	@Override
 	public void clear() {
-		ftof1a_dgtz_ADCL = null;
-		ftof1a_dgtz_ADCR = null;
-		ftof1a_dgtz_hitn = null;
-		ftof1a_dgtz_paddle = null;
-		ftof1a_dgtz_sector = null;
-		ftof1a_dgtz_TDCL = null;
-		ftof1a_dgtz_TDCR = null;
-		ftof1a_true_avgLx = null;
-		ftof1a_true_avgLy = null;
-		ftof1a_true_avgLz = null;
-		ftof1a_true_avgT = null;
-		ftof1a_true_avgX = null;
-		ftof1a_true_avgY = null;
-		ftof1a_true_avgZ = null;
-		ftof1a_true_hitn = null;
-		ftof1a_true_mpid = null;
-		ftof1a_true_mtid = null;
-		ftof1a_true_mvx = null;
-		ftof1a_true_mvy = null;
-		ftof1a_true_mvz = null;
-		ftof1a_true_otid = null;
-		ftof1a_true_pid = null;
-		ftof1a_true_px = null;
-		ftof1a_true_py = null;
-		ftof1a_true_pz = null;
-		ftof1a_true_tid = null;
-		ftof1a_true_totEdep = null;
-		ftof1a_true_trackE = null;
-		ftof1a_true_vx = null;
-		ftof1a_true_vy = null;
-		ftof1a_true_vz = null;
-		ftof1b_dgtz_ADCL = null;
-		ftof1b_dgtz_ADCR = null;
-		ftof1b_dgtz_hitn = null;
-		ftof1b_dgtz_paddle = null;
-		ftof1b_dgtz_sector = null;
-		ftof1b_dgtz_TDCL = null;
-		ftof1b_dgtz_TDCR = null;
-		ftof1b_true_avgLx = null;
-		ftof1b_true_avgLy = null;
-		ftof1b_true_avgLz = null;
-		ftof1b_true_avgT = null;
-		ftof1b_true_avgX = null;
-		ftof1b_true_avgY = null;
-		ftof1b_true_avgZ = null;
-		ftof1b_true_hitn = null;
-		ftof1b_true_mpid = null;
-		ftof1b_true_mtid = null;
-		ftof1b_true_mvx = null;
-		ftof1b_true_mvy = null;
-		ftof1b_true_mvz = null;
-		ftof1b_true_otid = null;
-		ftof1b_true_pid = null;
-		ftof1b_true_px = null;
-		ftof1b_true_py = null;
-		ftof1b_true_pz = null;
-		ftof1b_true_tid = null;
-		ftof1b_true_totEdep = null;
-		ftof1b_true_trackE = null;
-		ftof1b_true_vx = null;
-		ftof1b_true_vy = null;
-		ftof1b_true_vz = null;
-		ftof2b_dgtz_ADCL = null;
-		ftof2b_dgtz_ADCR = null;
-		ftof2b_dgtz_hitn = null;
-		ftof2b_dgtz_paddle = null;
-		ftof2b_dgtz_sector = null;
-		ftof2b_dgtz_TDCL = null;
-		ftof2b_dgtz_TDCR = null;
-		ftof2b_true_avgLx = null;
-		ftof2b_true_avgLy = null;
-		ftof2b_true_avgLz = null;
-		ftof2b_true_avgT = null;
-		ftof2b_true_avgX = null;
-		ftof2b_true_avgY = null;
-		ftof2b_true_avgZ = null;
-		ftof2b_true_hitn = null;
-		ftof2b_true_mpid = null;
-		ftof2b_true_mtid = null;
-		ftof2b_true_mvx = null;
-		ftof2b_true_mvy = null;
-		ftof2b_true_mvz = null;
-		ftof2b_true_otid = null;
-		ftof2b_true_pid = null;
-		ftof2b_true_px = null;
-		ftof2b_true_py = null;
-		ftof2b_true_pz = null;
-		ftof2b_true_tid = null;
-		ftof2b_true_totEdep = null;
-		ftof2b_true_trackE = null;
-		ftof2b_true_vx = null;
-		ftof2b_true_vy = null;
-		ftof2b_true_vz = null;
-		ftofrec_ftofclusters_energy = null;
-		ftofrec_ftofclusters_energy_unc = null;
-		ftofrec_ftofclusters_paddle_id = null;
-		ftofrec_ftofclusters_paddle_status = null;
-		ftofrec_ftofclusters_panel_id = null;
-		ftofrec_ftofclusters_sector = null;
-		ftofrec_ftofclusters_time = null;
-		ftofrec_ftofclusters_time_unc = null;
-		ftofrec_ftofclusters_x = null;
-		ftofrec_ftofclusters_x_unc = null;
-		ftofrec_ftofclusters_y = null;
-		ftofrec_ftofclusters_y_unc = null;
-		ftofrec_ftofclusters_z = null;
-		ftofrec_ftofclusters_z_unc = null;
-		ftofrec_ftofhits_energy = null;
-		ftofrec_ftofhits_energy_unc = null;
-		ftofrec_ftofhits_paddle_id = null;
-		ftofrec_ftofhits_paddle_status = null;
-		ftofrec_ftofhits_panel_id = null;
-		ftofrec_ftofhits_sector = null;
-		ftofrec_ftofhits_time = null;
-		ftofrec_ftofhits_time_unc = null;
-		ftofrec_ftofhits_x = null;
-		ftofrec_ftofhits_x_unc = null;
-		ftofrec_ftofhits_y = null;
-		ftofrec_ftofhits_y_unc = null;
-		ftofrec_ftofhits_z = null;
-		ftofrec_ftofhits_z_unc = null;
-		ftofrec_rawhits_energy_left = null;
-		ftofrec_rawhits_energy_left_unc = null;
-		ftofrec_rawhits_energy_right = null;
-		ftofrec_rawhits_energy_right_unc = null;
-		ftofrec_rawhits_paddle_id = null;
-		ftofrec_rawhits_paddle_status = null;
-		ftofrec_rawhits_panel_id = null;
-		ftofrec_rawhits_sector = null;
-		ftofrec_rawhits_time_left = null;
-		ftofrec_rawhits_time_left_unc = null;
-		ftofrec_rawhits_time_right = null;
-		ftofrec_rawhits_time_right_unc = null;
+		// the column cache is replaced with each event
 	} // clear
 
 	@Override
@@ -892,39 +832,39 @@ public class FTOFDataContainer extends ADataContainer {
 		switch (option) {
 		case FTOFDataContainer.PANEL_1A:
 			feedbackStrings.add(dgtxColor + "panel_1A  sector "
-					+ ftof1a_dgtz_sector[hitIndex] + "  paddle "
-					+ ftof1a_dgtz_paddle[hitIndex]);
+					+ ftof1a_dgtz_sector()[hitIndex] + "  paddle "
+					+ ftof1a_dgtz_paddle()[hitIndex]);
 
 			feedbackStrings.add(dgtxColor + "adc_left "
-					+ ftof1a_dgtz_ADCL[hitIndex] + "  adc_right "
-					+ ftof1a_dgtz_ADCR[hitIndex]);
+					+ ftof1a_dgtz_ADCL()[hitIndex] + "  adc_right "
+					+ ftof1a_dgtz_ADCR()[hitIndex]);
 			feedbackStrings.add(dgtxColor + "tdc_left "
-					+ ftof1a_dgtz_TDCL[hitIndex] + "  tdc_right "
-					+ ftof1a_dgtz_TDCR[hitIndex]);
+					+ ftof1a_dgtz_TDCL()[hitIndex] + "  tdc_right "
+					+ ftof1a_dgtz_TDCR()[hitIndex]);
 			break;
 		case FTOFDataContainer.PANEL_1B:
 			feedbackStrings.add(dgtxColor + "panel_1B  sector "
-					+ ftof1b_dgtz_sector[hitIndex] + "  paddle "
-					+ ftof1b_dgtz_paddle[hitIndex]);
+					+ ftof1b_dgtz_sector()[hitIndex] + "  paddle "
+					+ ftof1b_dgtz_paddle()[hitIndex]);
 
 			feedbackStrings.add(dgtxColor + "adc_left "
-					+ ftof1b_dgtz_ADCL[hitIndex] + "  adc_right "
-					+ ftof1b_dgtz_ADCR[hitIndex]);
+					+ ftof1b_dgtz_ADCL()[hitIndex] + "  adc_right "
+					+ ftof1b_dgtz_ADCR()[hitIndex]);
 			feedbackStrings.add(dgtxColor + "tdc_left "
-					+ ftof1b_dgtz_TDCL[hitIndex] + "  tdc_right "
-					+ ftof1b_dgtz_TDCR[hitIndex]);
+					+ ftof1b_dgtz_TDCL()[hitIndex] + "  tdc_right "
+					+ ftof1b_dgtz_TDCR()[hitIndex]);
 			break;
 		case FTOFDataContainer.PANEL_2B:
 			feedbackStrings.add(dgtxColor + "panel_2  sector "
-					+ ftof2b_dgtz_sector[hitIndex] + "  paddle "
-					+ ftof2b_dgtz_paddle[hitIndex]);
+					+ ftof2b_dgtz_sector()[hitIndex] + "  paddle "
+					+ ftof2b_dgtz_paddle()[hitIndex]);
 
 			feedbackStrings.add(dgtxColor + "adc_left "
-					+ ftof2b_dgtz_ADCL[hitIndex] + "  adc_right "
-					+ ftof2b_dgtz_ADCR[hitIndex]);
+					+ ftof2b_dgtz_ADCL()[hitIndex] + "  adc_right "
+					+ ftof2b_dgtz_ADCR()[hitIndex]);
 			feedbackStrings.add(dgtxColor + "tdc_left "
-					+ ftof2b_dgtz_TDCL[hitIndex] + "  tdc_right "
-					+ ftof2b_dgtz_TDCR[hitIndex]);
+					+ ftof2b_dgtz_TDCL()[hitIndex] + "  tdc_right "
+					+ ftof2b_dgtz_TDCR()[hitIndex]);
 			break;
 		}
 
@@ -941,9 +881,9 @@ public class FTOFDataContainer extends ADataContainer {
 
 	@Override
 	public void finalEventPrep(EvioDataEvent event) {
-		extractUniqueLundIds(ftof1a_true_pid);
-		extractUniqueLundIds(ftof1b_true_pid);
-		extractUniqueLundIds(ftof2b_true_pid);
+		extractUniqueLundIds(ftof1a_true_pid());
+		extractUniqueLundIds(ftof1b_true_pid());
+		extractUniqueLundIds(ftof2b_true_pid());
 	}
 
 	public static String getName(int panelType) {
@@ -970,16 +910,16 @@ public class FTOFDataContainer extends ADataContainer {
 
 		switch (panelType) {
 		case FTOFDataContainer.PANEL_1A:
-			sector = ftof1a_dgtz_sector;
-			paddles = ftof1a_dgtz_paddle;
+			sector = ftof1a_dgtz_sector();
+			paddles = ftof1a_dgtz_paddle();
 			break;
 		case FTOFDataContainer.PANEL_1B:
-			sector = ftof1b_dgtz_sector;
-			paddles = ftof1b_dgtz_paddle;
+			sector = ftof1b_dgtz_sector();
+			paddles = ftof1b_dgtz_paddle();
 			break;
 		case FTOFDataContainer.PANEL_2B:
-			sector = ftof2b_dgtz_sector;
-			paddles = ftof2b_dgtz_paddle;
+			sector = ftof2b_dgtz_sector();
+			paddles = ftof2b_dgtz_paddle();
 			break;
 		}
 
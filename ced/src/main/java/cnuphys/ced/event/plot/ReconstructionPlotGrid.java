@@ -152,6 +152,10 @@ public class ReconstructionPlotGrid extends PlotGridDialog implements
 			update();
 			break;
 
+		case AccumulationManager.ACCUMULATION_MERGED:
+			update();
+			break;
+
 		case AccumulationManager.ACCUMULATION_CLEAR:
 			System.err.println("CLEAR ");
 			for (int row = 0; row < _numRow; row++) {
@@ -42,11 +42,13 @@ import cnuphys.ced.clasio.ClasIoEventMenu;
 import cnuphys.ced.clasio.ClasIoEventView;
 import cnuphys.ced.clasio.ClasIoMonteCarloView;
 import cnuphys.ced.clasio.ClasIoEventManager;
+import cnuphys.ced.clasio.ClasIoEventPrefetcher;
 import cnuphys.ced.clasio.ClasIoReconEventView;
 import cnuphys.ced.dcnoise.edit.NoiseParameterDialog;
 import cnuphys.ced.event.AccumulationManager;
 import cnuphys.ced.event.IAccumulationListener;
 import cnuphys.ced.event.PlotManager;
+import cnuphys.ced.event.data.ColumnUsage;
 import cnuphys.ced.geometry.DCGeometry;
 import cnuphys.ced.geometry.GeometryManager;
 import cnuphys.ced.magfield.SwimAllMC;
@@ -97,6 +99,12 @@ public class Ced extends BaseMDIApplication implements PropertyChangeListener,
     //plugin folder
     private static String _pluginFolder;
     
+    //number of events read ahead from files
+    private static int _prefetchDepth = ClasIoEventPrefetcher.DEFAULT_DEPTH;
+
+    // number of parallel accumulation threads, 0 for serial
+    private static int _accumulationThreads;
+    
     //plugin manager
     private CedPluginManager _pluginManager;
     
@@ -673,6 +681,22 @@ public class Ced extends BaseMDIApplication implements PropertyChangeListener,
 		    _pluginOnly = true;
 		    System.err.println("Using Plugins Only");
 		}
+		else if (arg[i].equalsIgnoreCase("-prefetch")) {
+		    i++;
+		    _prefetchDepth = Integer.parseInt(arg[i]);
+		    Log.getInstance().config("Event prefetch depth: " + arg[i]);
+		    System.out.println("Event prefetch depth: " + arg[i]);
+		}
+		else if (arg[i].equalsIgnoreCase("-accumthreads")) {
+		    i++;
+		    _accumulationThreads = Integer.parseInt(arg[i]);
+		    Log.getInstance().config("Accumulation threads: " + arg[i]);
+		    System.out.println("Accumulation threads: " + arg[i]);
+		}
+		else if (arg[i].equalsIgnoreCase("-columnstats")) {
+		    ColumnUsage.printReportOnExit();
+		    System.out.println("Recording bank column usage");
+		}
 		else if (arg[i].equalsIgnoreCase("-plugindir")) {
 		    i++;
 		    _pluginFolder = arg[i];
@@ -690,6 +714,8 @@ public class Ced extends BaseMDIApplication implements PropertyChangeListener,
 	GeometryManager.getInstance();
 
 	final Ced ced = getInstance();
+	ClasIoEventManager.getInstance().setPrefetchDepth(_prefetchDepth);
+	AccumulationManager.getInstance().setNumThreads(_accumulationThreads);
 
 	ced.createProgressBar();
 	ced.createEventNumberLabel();
@@ -224,21 +224,30 @@ public class AllDCSuperLayer extends RectangleItem {
 
 		DCDataContainer dcData = _eventManager.getDCData();
 
-		for (int i = 0; i < dcData.getHitCount(0); i++) {
-			int sect1 = dcData.dc_dgtz_sector[i]; // 1 based
-			int supl1 = dcData.dc_dgtz_superlayer[i]; // 1 based
+		int sector[] = dcData.dc_dgtz_sector();
+		int superlayer[] = dcData.dc_dgtz_superlayer();
+		int layer[] = dcData.dc_dgtz_layer();
+		int wire[] = dcData.dc_dgtz_wire();
+		int truePid[] = dcData.dc_true_pid();
+		if ((sector == null) || (superlayer == null) || (layer == null)
+				|| (wire == null)) {
+			return;
+		}
+
+		for (int i = 0; i < sector.length; i++) {
+			int sect1 = sector[i]; // 1 based
+			int supl1 = superlayer[i]; // 1 based
 
 			if ((sect1 == _sector) && (supl1 == _superLayer)) {
-				int lay1 = dcData.dc_dgtz_layer[i]; // 1 based
-				int wire1 = dcData.dc_dgtz_wire[i]; // 1 based
+				int lay1 = layer[i]; // 1 based
+				int wire1 = wire[i]; // 1 based
 
 				boolean noise = false;
 				if (_noiseManager.getNoise() != null) {
 					noise = _noiseManager.getNoise()[i];
 				}
 
-				int pid = (dcData.dc_true_pid == null) ? -1
-						: dcData.dc_true_pid[i];
+				int pid = (truePid == null) ? -1 : truePid[i];
 				drawGemcDCHit(g, container, lay1, wire1, noise, pid, wr);
 			}
 		} // for
@@ -544,9 +553,9 @@ public class AllDCSuperLayer extends RectangleItem {
 			feedbackStrings.add("superlayer " + _superLayer + "  layer "
 					+ layer + "  wire " + wire);
 		} else {
-			dcData.onHitFeedbackStrings(hitIndex, 0, dcData.dc_true_pid,
-					dcData.dc_true_mpid, dcData.dc_true_tid,
-					dcData.dc_true_mtid, dcData.dc_true_otid, feedbackStrings);
+			dcData.onHitFeedbackStrings(hitIndex, 0, dcData.dc_true_pid(),
+					dcData.dc_true_mpid(), dcData.dc_true_tid(),
+					dcData.dc_true_mtid(), dcData.dc_true_otid(), feedbackStrings);
 		}
 
 	}
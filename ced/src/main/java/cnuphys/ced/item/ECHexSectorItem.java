@@ -117,12 +117,19 @@ public class ECHexSectorItem extends HexSectorItem {
 	}
 
 	ECDataContainer ecData = _eventManager.getECData();
-	for (int i = 0; i < ecData
-		.getHitCount(ECDataContainer.EC_OPTION); i++) {
-	    if (ecData.ec_dgtz_sector[i] == getSector()) {
-		if (plane == (ecData.ec_dgtz_stack[i] - 1)) { // inner outer
-		    int view0 = ecData.ec_dgtz_view[i] - 1; // uvw
-		    int strip0 = ecData.ec_dgtz_strip[i] - 1;
+	int sector[] = ecData.ec_dgtz_sector();
+	int stack[] = ecData.ec_dgtz_stack();
+	int view[] = ecData.ec_dgtz_view();
+	int strip[] = ecData.ec_dgtz_strip();
+	double totEdep[] = ecData.ec_true_totEdep();
+	int hitCount = ((sector == null) || (stack == null) || (view == null)
+		|| (strip == null)) ? 0 : sector.length;
+
+	for (int i = 0; i < hitCount; i++) {
+	    if (sector[i] == getSector()) {
+		if (plane == (stack[i] - 1)) { // inner outer
+		    int view0 = view[i] - 1; // uvw
+		    int strip0 = strip[i] - 1;
 		    if (_ecView.showStrips(view0)) {
 
 			// Polygon poly = _stripPoly[view0][strip0];
@@ -131,10 +138,9 @@ public class ECHexSectorItem extends HexSectorItem {
 				strip0);
 
 			// if mctruth and have energy deposited, use it
-			if (_ecView.showMcTruth()
-				&& (ecData.ec_true_totEdep != null)) {
+			if (_ecView.showMcTruth() && (totEdep != null)) {
 
-			    int alpha = (int) ((255 * ecData.ec_true_totEdep[i])
+			    int alpha = (int) ((255 * totEdep[i])
 				    / (ClasIoEventManager.getInstance()
 					    .getMaxEdepCal(plane + 1)));
 
@@ -315,11 +321,11 @@ public class ECHexSectorItem extends HexSectorItem {
 				for (HitRecord hit : hits) {
 				    ecData.onHitFeedbackStrings(hit.hitIndex,
 					    ECDataContainer.EC_OPTION,
-					    ecData.ec_true_pid,
-					    ecData.ec_true_mpid,
-					    ecData.ec_true_tid,
-					    ecData.ec_true_mtid,
-					    ecData.ec_true_otid,
+					    ecData.ec_true_pid(),
+					    ecData.ec_true_mpid(),
+					    ecData.ec_true_tid(),
+					    ecData.ec_true_mtid(),
+					    ecData.ec_true_otid(),
 					    feedbackStrings);
 				}
 			    }
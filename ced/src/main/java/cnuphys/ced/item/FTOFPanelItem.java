@@ -145,19 +145,19 @@ public class FTOFPanelItem extends PolygonItem {
 
 		switch (panelType) {
 		case FTOFDataContainer.PANEL_1A:
-			pid = ftofData.ftof1a_true_pid;
-			sector = ftofData.ftof1a_dgtz_sector;
-			paddles = ftofData.ftof1a_dgtz_paddle;
+			pid = ftofData.ftof1a_true_pid();
+			sector = ftofData.ftof1a_dgtz_sector();
+			paddles = ftofData.ftof1a_dgtz_paddle();
 			break;
 		case FTOFDataContainer.PANEL_1B:
-			pid = ftofData.ftof1b_true_pid;
-			sector = ftofData.ftof1b_dgtz_sector;
-			paddles = ftofData.ftof1b_dgtz_paddle;
+			pid = ftofData.ftof1b_true_pid();
+			sector = ftofData.ftof1b_dgtz_sector();
+			paddles = ftofData.ftof1b_dgtz_paddle();
 			break;
 		case FTOFDataContainer.PANEL_2B:
-			pid = ftofData.ftof2b_true_pid;
-			sector = ftofData.ftof2b_dgtz_sector;
-			paddles = ftofData.ftof2b_dgtz_paddle;
+			pid = ftofData.ftof2b_true_pid();
+			sector = ftofData.ftof2b_dgtz_sector();
+			paddles = ftofData.ftof2b_dgtz_paddle();
 			break;
 		}
 
@@ -308,31 +308,31 @@ public class FTOFPanelItem extends PolygonItem {
 						case FTOFDataContainer.PANEL_1A:
 							// System.err.println("CONTAINS HIT 1A");
 							ftofData.onHitFeedbackStrings(hitIndex, panelType,
-									ftofData.ftof1a_true_pid,
-									ftofData.ftof1a_true_mpid,
-									ftofData.ftof1a_true_tid,
-									ftofData.ftof1a_true_mtid,
-									ftofData.ftof1a_true_otid, feedbackStrings);
+									ftofData.ftof1a_true_pid(),
+									ftofData.ftof1a_true_mpid(),
+									ftofData.ftof1a_true_tid(),
+									ftofData.ftof1a_true_mtid(),
+									ftofData.ftof1a_true_otid(), feedbackStrings);
 							break;
 
 						case FTOFDataContainer.PANEL_1B:
 							// System.err.println("CONTAINS HIT 1B");
 							ftofData.onHitFeedbackStrings(hitIndex, panelType,
-									ftofData.ftof1b_true_pid,
-									ftofData.ftof1b_true_mpid,
-									ftofData.ftof1b_true_tid,
-									ftofData.ftof1b_true_mtid,
-									ftofData.ftof1b_true_otid, feedbackStrings);
+									ftofData.ftof1b_true_pid(),
+									ftofData.ftof1b_true_mpid(),
+									ftofData.ftof1b_true_tid(),
+									ftofData.ftof1b_true_mtid(),
+									ftofData.ftof1b_true_otid(), feedbackStrings);
 							break;
 
 						case FTOFDataContainer.PANEL_2B:
 							// System.err.println("CONTAINS HIT 2B");
 							ftofData.onHitFeedbackStrings(hitIndex, panelType,
-									ftofData.ftof2b_true_pid,
-									ftofData.ftof2b_true_mpid,
-									ftofData.ftof2b_true_tid,
-									ftofData.ftof2b_true_mtid,
-									ftofData.ftof2b_true_otid, feedbackStrings);
+									ftofData.ftof2b_true_pid(),
+									ftofData.ftof2b_true_mpid(),
+									ftofData.ftof2b_true_tid(),
+									ftofData.ftof2b_true_mtid(),
+									ftofData.ftof2b_true_otid(), feedbackStrings);
 							break;
 
 						}
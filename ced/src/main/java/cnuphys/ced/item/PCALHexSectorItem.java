@@ -108,21 +108,26 @@ public class PCALHexSectorItem extends HexSectorItem {
 	// ClasIoEventManager.getInstance().computeSomeScalingFactors();
 
 	ECDataContainer ecData = _eventManager.getECData();
-	for (int i = 0; i < ecData
-		.getHitCount(ECDataContainer.PCAL_OPTION); i++) {
-	    if (ecData.pcal_dgtz_sector[i] == getSector()) {
-		int view0 = ecData.pcal_dgtz_view[i] - 1; // uvw
-		int strip0 = ecData.pcal_dgtz_strip[i] - 1;
+	int sector[] = ecData.pcal_dgtz_sector();
+	int view[] = ecData.pcal_dgtz_view();
+	int strip[] = ecData.pcal_dgtz_strip();
+	double totEdep[] = ecData.pcal_true_totEdep();
+	int hitCount = ((sector == null) || (view == null) || (strip == null)) ? 0
+		: sector.length;
+
+	for (int i = 0; i < hitCount; i++) {
+	    if (sector[i] == getSector()) {
+		int view0 = view[i] - 1; // uvw
+		int strip0 = strip[i] - 1;
 		if (_pcalView.showStrips(view0)) {
 		    Polygon poly = stripPolygon(container, view0, strip0);
 
 		    // Polygon poly = _stripPoly[view0][strip0];
 
 		    // if mctruth and have energy deposited, use it
-		    if (_pcalView.showMcTruth()
-			    && (ecData.pcal_true_totEdep != null)) {
+		    if (_pcalView.showMcTruth() && (totEdep != null)) {
 
-			int alpha = (int) ((255 * ecData.pcal_true_totEdep[i])
+			int alpha = (int) ((255 * totEdep[i])
 				/ (ClasIoEventManager.getInstance()
 					.getMaxEdepCal(0)));
 			alpha = Math.max(60, Math.min(255, alpha));
@@ -290,11 +295,11 @@ public class PCALHexSectorItem extends HexSectorItem {
 				for (HitRecord hit : hits) {
 				    ecData.onHitFeedbackStrings(hit.hitIndex,
 					    ECDataContainer.PCAL_OPTION,
-					    ecData.pcal_true_pid,
-					    ecData.pcal_true_mpid,
-					    ecData.pcal_true_tid,
-					    ecData.pcal_true_mtid,
-					    ecData.pcal_true_otid,
+					    ecData.pcal_true_pid(),
+					    ecData.pcal_true_mpid(),
+					    ecData.pcal_true_tid(),
+					    ecData.pcal_true_mtid(),
+					    ecData.pcal_true_otid(),
 					    feedbackStrings);
 				}
 			    }
@@ -160,15 +160,20 @@ public class SectorECItem extends PolygonItem {
 		ECDataContainer ecData = _eventManager.getECData();
 
 		Color default_fc = Color.red;
-		int pid[] = ecData.ec_true_pid;
+		int pid[] = ecData.ec_true_pid();
+		int sector[] = ecData.ec_dgtz_sector();
+		int stack[] = ecData.ec_dgtz_stack();
+		int view[] = ecData.ec_dgtz_view();
+		int strip[] = ecData.ec_dgtz_strip();
+		int hitCount = ((sector == null) || (stack == null)
+				|| (view == null) || (strip == null)) ? 0 : sector.length;
 
 		boolean drew = false;
 
-		for (int hitIndex = 0; hitIndex < ecData
-				.getHitCount(ECDataContainer.EC_OPTION); hitIndex++) {
-			if ((ecData.ec_dgtz_sector[hitIndex] == _sector)
-					&& (ecData.ec_dgtz_stack[hitIndex] == (_plane + 1))
-					&& (ecData.ec_dgtz_view[hitIndex] == (_stripType + 1))) {
+		for (int hitIndex = 0; hitIndex < hitCount; hitIndex++) {
+			if ((sector[hitIndex] == _sector)
+					&& (stack[hitIndex] == (_plane + 1))
+					&& (view[hitIndex] == (_stripType + 1))) {
 				Color fc = default_fc;
 				if (pid != null) {
 					LundId lid = LundSupport.getInstance().get(pid[hitIndex]);
@@ -177,7 +182,7 @@ public class SectorECItem extends PolygonItem {
 					}
 				}
 
-				int strip0 = ecData.ec_dgtz_strip[hitIndex] - 1;
+				int strip0 = strip[hitIndex] - 1;
 
 				Point2D.Double wp[] = getStrip(strip0);
 
@@ -290,9 +295,9 @@ public class SectorECItem extends PolygonItem {
 						for (HitRecord hit : hits) {
 							ecData.onHitFeedbackStrings(hit.hitIndex,
 									ECDataContainer.EC_OPTION,
-									ecData.ec_true_pid, ecData.ec_true_mpid,
-									ecData.ec_true_tid, ecData.ec_true_mtid,
-									ecData.ec_true_otid, feedbackStrings);
+									ecData.ec_true_pid(), ecData.ec_true_mpid(),
+									ecData.ec_true_tid(), ecData.ec_true_mtid(),
+									ecData.ec_true_otid(), feedbackStrings);
 						}
 					}
 
@@ -151,14 +151,18 @@ public class SectorPCALItem extends PolygonItem {
 		ECDataContainer ecData = _eventManager.getECData();
 
 		Color default_fc = Color.red;
-		int pid[] = ecData.pcal_true_pid;
+		int pid[] = ecData.pcal_true_pid();
+		int sector[] = ecData.pcal_dgtz_sector();
+		int view[] = ecData.pcal_dgtz_view();
+		int strip[] = ecData.pcal_dgtz_strip();
+		int hitCount = ((sector == null) || (view == null) || (strip == null)) ? 0
+				: sector.length;
 
 		boolean drew = false;
 
-		for (int hitIndex = 0; hitIndex < ecData
-				.getHitCount(ECDataContainer.PCAL_OPTION); hitIndex++) {
-			if ((ecData.pcal_dgtz_sector[hitIndex] == _sector)
-					&& (ecData.pcal_dgtz_view[hitIndex] == (_stripType + 1))) {
+		for (int hitIndex = 0; hitIndex < hitCount; hitIndex++) {
+			if ((sector[hitIndex] == _sector)
+					&& (view[hitIndex] == (_stripType + 1))) {
 				Color fc = default_fc;
 				if (pid != null) {
 					LundId lid = LundSupport.getInstance().get(pid[hitIndex]);
@@ -167,7 +171,7 @@ public class SectorPCALItem extends PolygonItem {
 					}
 				}
 
-				int strip0 = ecData.pcal_dgtz_strip[hitIndex] - 1;
+				int strip0 = strip[hitIndex] - 1;
 
 				Point2D.Double wp[] = getStrip(strip0);
 
@@ -262,11 +266,11 @@ public class SectorPCALItem extends PolygonItem {
 						for (HitRecord hit : hits) {
 							ecData.onHitFeedbackStrings(hit.hitIndex,
 									ECDataContainer.PCAL_OPTION,
-									ecData.pcal_true_pid,
-									ecData.pcal_true_mpid,
-									ecData.pcal_true_tid,
-									ecData.pcal_true_mtid,
-									ecData.pcal_true_otid, feedbackStrings);
+									ecData.pcal_true_pid(),
+									ecData.pcal_true_mpid(),
+									ecData.pcal_true_tid(),
+									ecData.pcal_true_mtid(),
+									ecData.pcal_true_otid(), feedbackStrings);
 						}
 					}
 
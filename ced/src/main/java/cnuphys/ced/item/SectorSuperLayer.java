@@ -157,14 +157,23 @@ public class SectorSuperLayer extends PolygonItem {
 
 	DCDataContainer dcData = _eventManager.getDCData();
 
-	for (int i = 0; i < dcData.getHitCount(0); i++) {
+	int sector[] = dcData.dc_dgtz_sector();
+	int superlayer[] = dcData.dc_dgtz_superlayer();
+	int layer[] = dcData.dc_dgtz_layer();
+	int wire[] = dcData.dc_dgtz_wire();
+	int truePid[] = dcData.dc_true_pid();
+	double docas[] = dcData.dc_dgtz_doca();
+	int hitCount = ((sector == null) || (superlayer == null)
+		|| (layer == null) || (wire == null)) ? 0 : sector.length;
+
+	for (int i = 0; i < hitCount; i++) {
 	    try {
-		int sect1 = dcData.dc_dgtz_sector[i]; // 1 based
-		int supl1 = dcData.dc_dgtz_superlayer[i]; // 1 based
+		int sect1 = sector[i]; // 1 based
+		int supl1 = superlayer[i]; // 1 based
 
 		if ((sect1 == _sector) && (supl1 == _superLayer)) {
-		    int lay1 = dcData.dc_dgtz_layer[i]; // 1 based
-		    int wire1 = dcData.dc_dgtz_wire[i]; // 1 based
+		    int lay1 = layer[i]; // 1 based
+		    int wire1 = wire[i]; // 1 based
 
 		    boolean noise = false;
 		    if (_noiseManager.getNoise() != null) {
@@ -178,10 +187,9 @@ public class SectorSuperLayer extends PolygonItem {
 			}
 		    }
 
-		    int pid = (dcData.dc_true_pid == null) ? -1
-			    : dcData.dc_true_pid[i];
+		    int pid = (truePid == null) ? -1 : truePid[i];
 
-		    double doca = dcData.get(dcData.dc_dgtz_doca, i);
+		    double doca = dcData.get(docas, i);
 		    drawGemcDCHit(g2, container, lay1, wire1, noise, pid, doca);
 		}
 	    } catch (NullPointerException e) {
@@ -656,9 +664,9 @@ public class SectorSuperLayer extends PolygonItem {
 		    }
 		    else {
 			dcData.onHitFeedbackStrings(hitIndex, 0,
-				dcData.dc_true_pid, dcData.dc_true_mpid,
-				dcData.dc_true_tid, dcData.dc_true_mtid,
-				dcData.dc_true_otid, feedbackStrings);
+				dcData.dc_true_pid(), dcData.dc_true_mpid(),
+				dcData.dc_true_tid(), dcData.dc_true_mtid(),
+				dcData.dc_true_otid(), feedbackStrings);
 		    }
 
 		} // good wire
@@ -1,5 +1,6 @@
 package cnuphys.ced.magfield;
 
+import java.util.Arrays;
 import java.util.Vector;
 
 import cnuphys.bCNU.log.Log;
@@ -9,7 +10,7 @@ import cnuphys.ced.event.data.GenPartDataContainer;
 import cnuphys.lund.LundId;
 import cnuphys.lund.LundSupport;
 import cnuphys.lund.TrajectoryRowData;
-import cnuphys.swim.DefaultSwimStopper;
+import cnuphys.swim.BatchSwimmer;
 import cnuphys.swim.SwimTrajectory;
 import cnuphys.swim.Swimmer;
 import cnuphys.swim.Swimming;
@@ -29,6 +30,7 @@ public class SwimAllMC implements ISwimAll {
 	// integration cutoff
 	private static final double RMAX = 10.0;
 	private static final double PATHMAX = 10.0;
+	private static final double STEPSIZE = 5e-4; // m
 
 	/**
 	 * Get all the row data so the trajectory dialog can be updated.
@@ -118,6 +120,17 @@ public class SwimAllMC implements ISwimAll {
 			return;
 		}
 
+		// gather the initial states of the particles we can swim
+		LundId lids[] = new LundId[len];
+		int charge[] = new int[len];
+		double x[] = new double[len];
+		double y[] = new double[len];
+		double z[] = new double[len];
+		double p[] = new double[len];
+		double theta[] = new double[len];
+		double phi[] = new double[len];
+		int count = 0;
+
 		try {
 
 			for (int index = 0; index < pid.length; index++) {
@@ -127,37 +140,50 @@ public class SwimAllMC implements ISwimAll {
 				if (lid == null) {
 					System.err.println("null LundId object for id: " + pdgid);
 				} else {
-					// System.err.println("SWIM particle " + lid);
-
 					// covert momenta to GeV/c from MeV/c
 					double px = mcGemcData.genpart_true_px[index] / 1000.0;
 					double py = mcGemcData.genpart_true_py[index] / 1000.0;
 					double pz = mcGemcData.genpart_true_pz[index] / 1000.0;
-					// note vertices are in mm must convert to meters
-					double x = mcGemcData.genpart_true_vx[index] / 1000.0;
-					double y = mcGemcData.genpart_true_vy[index] / 1000.0;
-					double z = mcGemcData.genpart_true_vz[index] / 1000.0;
-
-					double p = Math.sqrt(px * px + py * py + pz * pz);
-					double theta = Math.toDegrees(Math.acos(pz / p));
-					double phi = Math.toDegrees(Math.atan2(py, px));
 
-					// Swimming.swim(lid.getCharge(), x, y, z, p, theta, phi,
-					// RMAX, PATHMAX);
+					lids[count] = lid;
+					charge[count] = lid.getCharge();
+					// note vertices are in mm must convert to meters
+					x[count] = mcGemcData.genpart_true_vx[index] / 1000.0;
+					y[count] = mcGemcData.genpart_true_vy[index] / 1000.0;
+					z[count] = mcGemcData.genpart_true_vz[index] / 1000.0;
+
+					p[count] = Math.sqrt(px * px + py * py + pz * pz);
+					theta[count] = Math.toDegrees(Math.acos(pz / p[count]));
+					phi[count] = Math.toDegrees(Math.atan2(py, px));
+					count++;
+				} // lid != null
 
-					Swimmer swimmer = Swimming.getSwimmer();
-					double stepSize = 5e-4; // m
-					DefaultSwimStopper stopper = new DefaultSwimStopper(RMAX);
+			}
 
-					// System.err.println("swim vertex: (" + x + ", " + y + ", "
-					// + z + ")");
-					SwimTrajectory traj = swimmer.swim(lid.getCharge(), x, y,
-							z, p, theta, phi, stopper, PATHMAX, stepSize,
-							Swimmer.CLAS_Tolerance, null);
-					traj.setLundId(lid);
-					Swimming.addMCTrajectory(traj);
-				} // lid != null
+			if (count < len) {
+				lids = Arrays.copyOf(lids, count);
+				charge = Arrays.copyOf(charge, count);
+				x = Arrays.copyOf(x, count);
+				y = Arrays.copyOf(y, count);
+				z = Arrays.copyOf(z, count);
+				p = Arrays.copyOf(p, count);
+				theta = Arrays.copyOf(theta, count);
+				phi = Arrays.copyOf(phi, count);
+			}
 
+			// swim them all in parallel; results come back in input order
+			BatchSwimmer batchSwimmer = Swimming.getBatchSwimmer();
+			SwimTrajectory trajectories[] = batchSwimmer.swim(charge, x, y, z,
+					p, theta, phi,
+					BatchSwimmer.defaultStopperFactory(RMAX), PATHMAX,
+					STEPSIZE, Swimmer.CLAS_Tolerance);
+
+			// skip the tracks that failed to swim
+			for (int i = 0; i < count; i++) {
+				if (!BatchSwimmer.failed(trajectories[i])) {
+					trajectories[i].setLundId(lids[i]);
+					Swimming.addMCTrajectory(trajectories[i]);
+				}
 			}
 		} catch (Exception e) {
 			Log.getInstance()
@@ -1,5 +1,6 @@
 package cnuphys.ced.magfield;
 
+import java.util.Arrays;
 import java.util.Vector;
 
 import cnuphys.bCNU.magneticfield.swim.ISwimAll;
@@ -9,7 +10,7 @@ import cnuphys.lund.LundId;
 import cnuphys.lund.LundSupport;
 import cnuphys.lund.TrajectoryRowData;
 import cnuphys.rk4.RungeKuttaException;
-import cnuphys.swim.DefaultSwimStopper;
+import cnuphys.swim.BatchSwimmer;
 import cnuphys.swim.SwimTrajectory;
 import cnuphys.swim.Swimmer;
 import cnuphys.swim.Swimming;
@@ -29,6 +30,7 @@ public class SwimAllRecon implements ISwimAll {
 	// integration cutoff
 	private static final double RMAX = 10.0;
 	private static final double PATHMAX = 10.0;
+	private static final double STEPSIZE = 5e-4; // m
 
 	/**
 	 * Get all the row data so the trajectory dialog can be updated.
@@ -61,28 +63,61 @@ public class SwimAllRecon implements ISwimAll {
 		}
 		// System.err.println("SWIM " + data.size() + "  recon trax");
 
-		Swimmer swimmer = Swimming.getSwimmer();
-		double stepSize = 5e-4; // m
-		DefaultSwimStopper stopper = new DefaultSwimStopper(RMAX);
+		int len = data.size();
+		LundId lids[] = new LundId[len];
+		int charge[] = new int[len];
+		double x[] = new double[len];
+		double y[] = new double[len];
+		double z[] = new double[len];
+		double p[] = new double[len];
+		double theta[] = new double[len];
+		double phi[] = new double[len];
+		int count = 0;
 
 		for (TrajectoryRowData trd : data) {
 			LundId lid = LundSupport.getInstance().get(trd.getId());
 
 			if (lid != null) {
-				SwimTrajectory traj;
-				try {
-					traj = swimmer.swim(lid.getCharge(), trd.getXo() / 100,
-							trd.getYo() / 100, trd.getZo() / 100,
-							trd.getMomentum() / 1000, trd.getTheta(),
-							trd.getPhi(), stopper, PATHMAX, stepSize,
-							Swimmer.CLAS_Tolerance, null);
-					traj.setLundId(lid);
-					Swimming.addReconTrajectory(traj);
-				} catch (RungeKuttaException e) {
-					e.printStackTrace();
-				}
+				lids[count] = lid;
+				charge[count] = lid.getCharge();
+				x[count] = trd.getXo() / 100;
+				y[count] = trd.getYo() / 100;
+				z[count] = trd.getZo() / 100;
+				p[count] = trd.getMomentum() / 1000;
+				theta[count] = trd.getTheta();
+				phi[count] = trd.getPhi();
+				count++;
 			}
+		}
+
+		if (count < len) {
+			lids = Arrays.copyOf(lids, count);
+			charge = Arrays.copyOf(charge, count);
+			x = Arrays.copyOf(x, count);
+			y = Arrays.copyOf(y, count);
+			z = Arrays.copyOf(z, count);
+			p = Arrays.copyOf(p, count);
+			theta = Arrays.copyOf(theta, count);
+			phi = Arrays.copyOf(phi, count);
+		}
 
+		// swim them all in parallel; results come back in input order
+		try {
+			BatchSwimmer batchSwimmer = Swimming.getBatchSwimmer();
+			SwimTrajectory trajectories[] = batchSwimmer.swim(charge, x, y, z,
+					p, theta, phi,
+					BatchSwimmer.defaultStopperFactory(RMAX), PATHMAX,
+					STEPSIZE, Swimmer.CLAS_Tolerance);
+
+			// skip the tracks that failed to swim
+			for (int i = 0; i < count; i++) {
+				if (!BatchSwimmer.failed(trajectories[i])) {
+					trajectories[i].setLundId(lids[i]);
+					Swimming.addReconTrajectory(trajectories[i]);
+				}
+			}
+		} catch (RungeKuttaException e) {
+			e.printStackTrace();
 		}
 
 	}
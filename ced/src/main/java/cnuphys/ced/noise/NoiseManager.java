@@ -79,9 +79,9 @@ public class NoiseManager implements IClasIoEventListener {
 		DCDataContainer dcData = _eventManager.getDCData();
 		int hitCount = dcData.getHitCount(0);
 		if (hitCount > 0) {
-			noisePackage.findNoise(dcData.dc_dgtz_sector,
-					dcData.dc_dgtz_superlayer, dcData.dc_dgtz_layer,
-					dcData.dc_dgtz_wire, noiseResults);
+			noisePackage.findNoise(dcData.dc_dgtz_sector(),
+					dcData.dc_dgtz_superlayer(), dcData.dc_dgtz_layer(),
+					dcData.dc_dgtz_wire(), noiseResults);
 		}
 	}
 
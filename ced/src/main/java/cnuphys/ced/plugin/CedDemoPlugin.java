@@ -88,15 +88,24 @@ public class CedDemoPlugin extends CedPlugin {
 	}
 	//loop over hits
 	DCDataContainer dcData = ClasIoEventManager.getInstance().getDCData();
-	for (int hit = 0; hit < dcData.getHitCount(0); hit++) {
-		int sect = dcData.dc_dgtz_sector[hit]; // 1 based
-		int supl = dcData.dc_dgtz_superlayer[hit]; // 1 based
+	// get each column once, not once per hit
+	int sector[] = dcData.dc_dgtz_sector();
+	int superlayer[] = dcData.dc_dgtz_superlayer();
+	int layer[] = dcData.dc_dgtz_layer();
+	int wires[] = dcData.dc_dgtz_wire();
+	int tdcs[] = dcData.dc_dgtz_tdc();
+	int hitCount = ((sector == null) || (superlayer == null)
+		|| (layer == null) || (wires == null) || (tdcs == null)) ? 0
+		: sector.length;
+	for (int hit = 0; hit < hitCount; hit++) {
+		int sect = sector[hit]; // 1 based
+		int supl = superlayer[hit]; // 1 based
 		if ((sect == 2) && (supl == 1)) {
-		    int lay = dcData.dc_dgtz_layer[hit]; // 1 based
-		    int wire = dcData.dc_dgtz_wire[hit]; // 1 based
+		    int lay = layer[hit]; // 1 based
+		    int wire = wires[hit]; // 1 based
 		    shapes[lay][wire].setFillColor(Color.red);
 		    
-		    int tdc = dcData.dc_dgtz_tdc[hit];
+		    int tdc = tdcs[hit];
 		    shapes[lay][wire].setInfoString("Layer: " + lay + " Wire: " + wire + "  TDC: " + tdc);
 		}
 	    
@@ -0,0 +1,353 @@
+package cnuphys.magfield;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+/**
+ * A single gridded field holding the pre-summed contributions of several
+ * fields (typically the torus and solenoid at fixed scale factors), so that a
+ * lookup is one interpolation instead of one per component. The grid is
+ * cylindrical (phi, rho, z) and the stored field components are Cartesian.
+ * <p>
+ * If the source has the six-fold sector symmetry of the torus and solenoid,
+ * the grid need only cover one sector, phi in [-30, 30] degrees, and the
+ * field is rotated into the other sectors. Otherwise (e.g., a rotated
+ * composite) the grid covers phi in [0, 360] degrees.
+ * <p>
+ * The combined field is a resampling: it agrees with the source at the grid
+ * points, and between them differs from the sum of the component
+ * interpolations by the interpolation error of the new grid. The scale
+ * factors of the components are frozen when the grid is made; changing them
+ * afterwards does not affect the combined field.
+ * <p>
+ * A combined field can be written to and read from a file in the usual binary
+ * field map format. The first reserved header word holds
+ * {@link #COMBINEDVERSION}, which marks the file as a combined map, and the
+ * second holds the sector symmetry flag. Readers that ignore the reserved
+ * words see an ordinary cylindrical grid with Cartesian components. The
+ * {@link #main(String[])} tool makes such a file from the torus and solenoid
+ * maps.
+ * <p>
+ * The combined map is tooling only for now: MagneticFields does not offer it
+ * as a field type, so it is used by reading it with
+ * {@link #fromBinaryFile(File)} and passing it to a Swimmer or probe
+ * directly.
+ */
+public class CombinedField extends MagneticField {
+
+    /** version of the combined map format, stored in the first reserved word */
+    public static final int COMBINEDVERSION = 1;
+
+    // if true the grid covers one sector and is rotated into the others
+    private boolean _sectorSymmetric;
+
+    /**
+     * Create an empty combined field. Use one of the factory methods.
+     */
+    protected CombinedField() {
+	setCoordinateNames("phi", "rho", "z");
+    }
+
+    /**
+     * Resample a field onto a new cylindrical grid. For a composite of the
+     * torus and solenoid, {@link CompositeField#createCombinedField} picks the
+     * grid extent automatically.
+     *
+     * @param source
+     *            the field to resample, e.g. a CompositeField
+     * @param sectorSymmetric
+     *            if <code>true</code> the source must have six-fold sector
+     *            symmetry, and phi covers [-30, 30] degrees; otherwise phi
+     *            covers [0, 360] degrees
+     * @param nPhi
+     *            the number of phi grid points
+     * @param rhoMin
+     *            the minimum rho in cm
+     * @param rhoMax
+     *            the maximum rho in cm
+     * @param nRho
+     *            the number of rho grid points
+     * @param zMin
+     *            the minimum z in cm
+     * @param zMax
+     *            the maximum z in cm
+     * @param nZ
+     *            the number of z grid points
+     * @return the combined field
+     */
+    public static CombinedField resample(IField source,
+	    boolean sectorSymmetric, int nPhi, float rhoMin, float rhoMax,
+	    int nRho, float zMin, float zMax, int nZ) {
+
+	float phiMin = sectorSymmetric ? -30f : 0f;
+	float phiMax = sectorSymmetric ? 30f : 360f;
+
+	GridCoordinate c1 = new GridCoordinate("phi", phiMin, phiMax, nPhi);
+	GridCoordinate c2 = new GridCoordinate("rho", rhoMin, rhoMax, nRho);
+	GridCoordinate c3 = new GridCoordinate("z", zMin, zMax, nZ);
+
+	FieldProbe probe = source.createProbe();
+	float b[] = new float[3];
+	FloatBuffer values = FloatBuffer.allocate(3 * nPhi * nRho * nZ);
+
+	// a sector symmetric source is sampled in cylindrical coordinates, so
+	// that points on the edge of a component's grid are not lost to
+	// rounding in x and y. A rotated composite only takes Cartesian.
+	for (int i = 0; i < nPhi; i++) {
+	    double phi = c1.getValue(i);
+	    double cos = Math.cos(Math.toRadians(phi));
+	    double sin = Math.sin(Math.toRadians(phi));
+	    for (int j = 0; j < nRho; j++) {
+		double rho = c2.getValue(j);
+		float x = (float) (rho * cos);
+		float y = (float) (rho * sin);
+		for (int k = 0; k < nZ; k++) {
+		    double z = c3.getValue(k);
+		    if (sectorSymmetric) {
+			probe.fieldCylindrical(phi, rho, z, b);
+		    } else {
+			probe.field(x, y, (float) z, b);
+		    }
+		    values.put(b[0]);
+		    values.put(b[1]);
+		    values.put(b[2]);
+		}
+	    }
+	}
+	values.flip();
+
+	CombinedField combined = new CombinedField();
+	combined.setSectorSymmetric(sectorSymmetric);
+	combined.setGrid(CoordinateSystem.CYLINDRICAL,
+		CoordinateSystem.CARTESIAN, c1, c2, c3, values);
+	return combined;
+    }
+
+    /**
+     * Obtain a combined field from a binary file written by
+     * {@link #writeBinaryMagneticField(File)}.
+     *
+     * @param file
+     *            the file to read
+     * @return the combined field, or <code>null</code> if the file is not a
+     *         combined field map
+     * @throws FileNotFoundException
+     *             the file not found exception
+     */
+    public static CombinedField fromBinaryFile(File file)
+	    throws FileNotFoundException {
+	CombinedField combined = new CombinedField();
+	combined.readBinaryMagneticField(file);
+
+	if (combined.reserved1 != COMBINEDVERSION) {
+	    System.err.println(file.getPath()
+		    + " is not a combined field map (version word "
+		    + combined.reserved1 + ")");
+	    return null;
+	}
+	if ((combined.gridCoordinateSystem != CoordinateSystem.CYLINDRICAL)
+		|| (combined.fieldCoordinateSystem != CoordinateSystem.CARTESIAN)) {
+	    System.err.println(file.getPath()
+		    + " does not have a cylindrical grid with Cartesian field components");
+	    return null;
+	}
+
+	combined._sectorSymmetric = (combined.reserved2 != 0);
+	return combined;
+    }
+
+    /**
+     * Check whether the grid covers one sector and is rotated into the others
+     *
+     * @return <code>true</code> if the grid covers one sector
+     */
+    public boolean isSectorSymmetric() {
+	return _sectorSymmetric;
+    }
+
+    // set the symmetry, and the header words that record it
+    protected void setSectorSymmetric(boolean sectorSymmetric) {
+	_sectorSymmetric = sectorSymmetric;
+	reserved1 = COMBINEDVERSION;
+	reserved2 = sectorSymmetric ? 1 : 0;
+    }
+
+    /**
+     * Get the field by trilinear interpolation.
+     *
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            a Cartesian vector holding the calculated field in kiloGauss.
+     */
+    @Override
+    public void fieldCylindrical(double phi, double rho, double z,
+	    float result[]) {
+	fieldCylindrical(null, phi, rho, z, result);
+    }
+
+    /**
+     * Get the field by trilinear interpolation, using a cached grid cell if
+     * one is provided.
+     *
+     * @param cell
+     *            the cached cell, or <code>null</code> to interpolate directly
+     *            from the map
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            a Cartesian vector holding the calculated field in kiloGauss.
+     */
+    @Override
+    protected void fieldCylindrical(FieldCell cell, double phi, double rho,
+	    double z, float result[]) {
+	if (isZeroField()) {
+	    result[X] = 0f;
+	    result[Y] = 0f;
+	    result[Z] = 0f;
+	    return;
+	}
+
+	phi = phi % 360.0;
+	if (phi < 0.0) {
+	    phi += 360.0;
+	}
+
+	// phi relative to the middle of the sector, in [-30, 30)
+	int sector = 0;
+	if (_sectorSymmetric) {
+	    sector = (int) Math.floor((phi + 30.0) / 60.0);
+	    phi -= 60.0 * sector;
+	    sector %= 6;
+	}
+
+	if (cell == null) {
+	    interpolateField(phi, rho, z, result);
+	} else {
+	    cell.interpolate(phi, rho, z, result);
+	}
+
+	// rotate onto the proper sector
+	if (sector != 0) {
+	    double cos = Torus.SECTORCOS[sector];
+	    double sin = Torus.SECTORSIN[sector];
+	    double bx = result[X];
+	    double by = result[Y];
+	    result[X] = (float) (bx * cos - by * sin);
+	    result[Y] = (float) (bx * sin + by * cos);
+	}
+
+	if (_scaleFactor != 1.0) {
+	    result[X] *= _scaleFactor;
+	    result[Y] *= _scaleFactor;
+	    result[Z] *= _scaleFactor;
+	}
+    }
+
+    /**
+     * Create a probe for evaluating this field from a single thread. The probe
+     * caches the last grid cell used.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new GridProbe(this, false);
+    }
+
+    @Override
+    public String getName() {
+	return "Combined";
+    }
+
+    /**
+     * Make a combined field map file from the torus and solenoid maps. Usage:
+     * <p>
+     * <code>CombinedField torusFile solenoidFile torusScale solenoidScale
+     * outputFile [nPhi nRho nZ [rotationAngle]]</code>
+     * <p>
+     * Without a rotation angle the grid covers one sector, by default with
+     * 241 phi (0.25 degree), 251 rho and 451 z points (2 cm). With a rotation
+     * angle (degrees, as for {@link RotatedCompositeField}) the grid covers
+     * all of phi, by default at 1 degree.
+     *
+     * @param arg
+     *            the command line arguments
+     */
+    public static void main(String arg[]) {
+	if (arg.length < 5) {
+	    usage();
+	}
+
+	try {
+	    Torus torus = Torus.fromBinaryFile(new File(arg[0]));
+	    if (!torus.isFieldLoaded()) {
+		System.err.println("Could not read torus map " + arg[0]);
+		System.exit(1);
+	    }
+	    Solenoid solenoid = Solenoid.fromBinaryFile(new File(arg[1]));
+	    if (!solenoid.isFieldLoaded()) {
+		System.err.println("Could not read solenoid map " + arg[1]);
+		System.exit(1);
+	    }
+	    torus.setScaleFactor(Double.parseDouble(arg[2]));
+	    solenoid.setScaleFactor(Double.parseDouble(arg[3]));
+	    File outFile = new File(arg[4]);
+
+	    boolean rotated = (arg.length > 8);
+	    int nPhi = (arg.length > 5) ? Integer.parseInt(arg[5])
+		    : (rotated ? 361 : 241);
+	    int nRho = (arg.length > 6) ? Integer.parseInt(arg[6]) : 251;
+	    int nZ = (arg.length > 7) ? Integer.parseInt(arg[7]) : 451;
+
+	    long time = System.currentTimeMillis();
+	    CombinedField combined;
+	    if (rotated) {
+		RotatedCompositeField rcf = new RotatedCompositeField();
+		rcf.setRotationAngle(Float.parseFloat(arg[8]));
+		rcf.add(torus);
+		rcf.add(solenoid);
+		combined = rcf.createCombinedField(nPhi, nRho, nZ);
+	    } else {
+		CompositeField cf = new CompositeField();
+		cf.add(torus);
+		cf.add(solenoid);
+		combined = cf.createCombinedField(nPhi, nRho, nZ);
+	    }
+	    if (combined == null) {
+		System.err.println("Could not create the combined field");
+		System.exit(1);
+	    }
+	    System.out.println(String.format("resampled in %.1f s",
+		    (System.currentTimeMillis() - time) / 1000.0));
+
+	    combined.writeBinaryMagneticField(outFile);
+	    System.out.println("wrote " + outFile.getPath());
+	} catch (NumberFormatException e) {
+	    System.err.println("Bad number: " + e.getMessage());
+	    usage();
+	} catch (IOException e) {
+	    e.printStackTrace();
+	    System.exit(1);
+	}
+    }
+
+    // print usage and quit
+    private static void usage() {
+	System.err.println("usage: CombinedField torusFile solenoidFile "
+		+ "torusScale solenoidScale outputFile "
+		+ "[nPhi nRho nZ [rotationAngle]]");
+	System.exit(1);
+    }
+
+}
@@ -6,7 +6,9 @@ import java.util.ArrayList;
 
 /**
  * A composition of multiple magnetic field maps. The resulting magnetic field
- * at a given point is the sum of the constituent fields at that point.
+ * at a given point is the sum of the constituent fields at that point. The
+ * composition should be complete before the field is evaluated from several
+ * threads; the list itself is not synchronized.
  * 
  * @author sebouhpaul
  *
@@ -36,8 +38,28 @@ public class CompositeField extends ArrayList<IField> implements IField {
     @Override
     public void field(float x, float y, float z, float[] result) {
 	float bx = 0, by = 0, bz = 0;
+
+	// gridded components get the cylindrical coordinates computed once,
+	// and are skipped when the point is off their grid
+	boolean cylindrical = false;
+	float rho = 0;
+	float phi = 0;
+
 	for (IField field : this) {
-	    field.field(x, y, z, result);
+	    if (field instanceof MagneticField) {
+		MagneticField grid = (MagneticField) field;
+		if (!cylindrical) {
+		    rho = (float) Math.sqrt(x * x + y * y);
+		    phi = (float) Math.toDegrees(Math.atan2(y, x));
+		    cylindrical = true;
+		}
+		if (grid.isZeroField() || grid.isOutsideGrid(rho, z)) {
+		    continue;
+		}
+		grid.fieldCylindrical(phi, rho, z, result);
+	    } else {
+		field.field(x, y, z, result);
+	    }
 	    bx += result[0];
 	    by += result[1];
 	    bz += result[2];
@@ -148,6 +170,56 @@ public class CompositeField extends ArrayList<IField> implements IField {
 	return (float) Math.sqrt(vx * vx + vy * vy + vz * vz);
     }
 
+    /**
+     * Create a probe for evaluating this field from a single thread. The
+     * probe uses the fields that make up the composite at the time it is
+     * created.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new CompositeProbe(this);
+    }
+
+    /**
+     * Create a single pre-summed field on a grid covering all the gridded
+     * components, using the current scale factors. The components must have
+     * the six-fold sector symmetry of the torus and solenoid, so the grid
+     * covers one sector. See {@link CombinedField}.
+     *
+     * @param nPhi
+     *            the number of phi grid points in [-30, 30] degrees
+     * @param nRho
+     *            the number of rho grid points
+     * @param nZ
+     *            the number of z grid points
+     * @return the combined field
+     */
+    public CombinedField createCombinedField(int nPhi, int nRho, int nZ) {
+	double rhoMax = 0;
+	double zMin = Double.POSITIVE_INFINITY;
+	double zMax = Double.NEGATIVE_INFINITY;
+	double extent[] = new double[4];
+	for (IField field : this) {
+	    if (field instanceof MagneticField) {
+		((MagneticField) field).getCylindricalExtent(extent);
+		if (!Double.isInfinite(extent[1])) {
+		    rhoMax = Math.max(rhoMax, extent[1]);
+		    zMin = Math.min(zMin, extent[2]);
+		    zMax = Math.max(zMax, extent[3]);
+		}
+	    }
+	}
+	if (zMin > zMax) {
+	    System.err.println("No gridded fields in composite");
+	    return null;
+	}
+
+	return CombinedField.resample(this, true, nPhi, 0f, (float) rhoMax,
+		nRho, (float) zMin, (float) zMax, nZ);
+    }
+
     @Override
     public float getMaxFieldMagnitude() {
 	float maxField = 0f;
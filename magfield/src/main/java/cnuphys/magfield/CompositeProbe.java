@@ -0,0 +1,160 @@
+package cnuphys.magfield;
+
+/**
+ * A probe for a {@link CompositeField}. It holds one probe for each of the
+ * constituent fields (taken when the probe is created) and sums their
+ * contributions, so that it inherits whatever per-thread state the component
+ * probes keep.
+ * <p>
+ * The evaluation is fused: for gridded components the point is converted to
+ * cylindrical coordinates once, not once per component, and each component's
+ * extent in rho and z is cached so that a component is skipped outright when
+ * the point is off its grid (where its field is zero anyway). The result is
+ * identical to summing the components' own evaluations.
+ */
+public class CompositeProbe extends FieldProbe {
+
+    // one probe per component field
+    protected final FieldProbe _probes[];
+
+    // scratch space for a component's contribution
+    protected final float _component[] = new float[3];
+
+    // the gridded components, null for the others
+    private final MagneticField _grids[];
+
+    // the buffer each gridded component's extent was taken from
+    private final Object _sources[];
+
+    // the extents in rho and z (cm) of the gridded components
+    private final double _rhoMin[];
+    private final double _rhoMax[];
+    private final double _zMin[];
+    private final double _zMax[];
+
+    // scratch for fetching an extent
+    private final double _extent[] = new double[4];
+
+    /**
+     * Create a probe for a composite field
+     *
+     * @param field
+     *            the composite field
+     */
+    public CompositeProbe(CompositeField field) {
+	this(field, field.toArray(new IField[0]));
+    }
+
+    /**
+     * Create a probe for a rotated composite field
+     *
+     * @param field
+     *            the rotated composite field
+     */
+    protected CompositeProbe(RotatedCompositeField field) {
+	this(field, field.toArray(new IField[0]));
+    }
+
+    // common constructor
+    private CompositeProbe(IField field, IField components[]) {
+	super(field);
+	int n = components.length;
+	_probes = new FieldProbe[n];
+	_grids = new MagneticField[n];
+	_sources = new Object[n];
+	_rhoMin = new double[n];
+	_rhoMax = new double[n];
+	_zMin = new double[n];
+	_zMax = new double[n];
+
+	for (int i = 0; i < n; i++) {
+	    _probes[i] = components[i].createProbe();
+	    if (components[i] instanceof MagneticField) {
+		_grids[i] = (MagneticField) components[i];
+		updateExtent(i);
+	    }
+	}
+    }
+
+    // cache the extent of a gridded component
+    private void updateExtent(int i) {
+	MagneticField grid = _grids[i];
+	grid.getCylindricalExtent(_extent);
+	_rhoMin[i] = _extent[0];
+	_rhoMax[i] = _extent[1];
+	_zMin[i] = _extent[2];
+	_zMax[i] = _extent[3];
+	_sources[i] = grid.getFieldSource();
+    }
+
+    @Override
+    public void field(float x, float y, float z, float result[]) {
+	float bx = 0, by = 0, bz = 0;
+
+	// cylindrical coordinates, computed at most once. These are the same
+	// float values a MagneticField computes in its own field method.
+	boolean haveRho = false;
+	boolean havePhi = false;
+	float rho = 0;
+	float phi = 0;
+
+	for (int i = 0; i < _probes.length; i++) {
+	    MagneticField grid = _grids[i];
+	    if (grid == null) {
+		_probes[i].field(x, y, z, _component);
+	    } else {
+		if (grid.getFieldSource() != _sources[i]) {
+		    updateExtent(i);
+		}
+
+		if ((z < _zMin[i]) || (z > _zMax[i]) || grid.isZeroField()) {
+		    continue;
+		}
+		if (!haveRho) {
+		    rho = (float) Math.sqrt(x * x + y * y);
+		    haveRho = true;
+		}
+		if ((rho < _rhoMin[i]) || (rho > _rhoMax[i])) {
+		    continue;
+		}
+		if (!havePhi) {
+		    phi = (float) Math.toDegrees(Math.atan2(y, x));
+		    havePhi = true;
+		}
+		_probes[i].fieldCylindrical(phi, rho, z, _component);
+	    }
+	    bx += _component[0];
+	    by += _component[1];
+	    bz += _component[2];
+	}
+	result[0] = bx;
+	result[1] = by;
+	result[2] = bz;
+    }
+
+    @Override
+    public void fieldCylindrical(double phi, double rho, double z,
+	    float result[]) {
+	float bx = 0, by = 0, bz = 0;
+	for (int i = 0; i < _probes.length; i++) {
+	    MagneticField grid = _grids[i];
+	    if (grid != null) {
+		if (grid.getFieldSource() != _sources[i]) {
+		    updateExtent(i);
+		}
+		if ((z < _zMin[i]) || (z > _zMax[i]) || (rho < _rhoMin[i])
+			|| (rho > _rhoMax[i]) || grid.isZeroField()) {
+		    continue;
+		}
+	    }
+	    _probes[i].fieldCylindrical(phi, rho, z, _component);
+	    bx += _component[0];
+	    by += _component[1];
+	    bz += _component[2];
+	}
+	result[0] = bx;
+	result[1] = by;
+	result[2] = bz;
+    }
+
+}
@@ -0,0 +1,208 @@
+package cnuphys.magfield;
+
+/**
+ * Caches one grid cell of a {@link MagneticField}: its bounds in grid
+ * coordinates and its corner vectors. Successive lookups along a trajectory
+ * usually fall in the same cell, and for those the index search, the corner
+ * fetches and the bounds checks against the whole grid are all skipped. The
+ * cell is refilled (a "miss") whenever a point falls outside it.
+ * <p>
+ * A cell belongs to one {@link GridProbe} and is not thread safe.
+ */
+public class FieldCell {
+
+    // the field whose grid we cache
+    private final MagneticField _field;
+
+    // if true, q1 is ignored (e.g., the cylindrically symmetric solenoid)
+    private final boolean _bilinear;
+
+    // the buffer the corners were copied from, used to detect a reload
+    private Object _source;
+
+    // bounds of the cached cell, NaN when nothing is cached
+    private double _q1lo = Double.NaN;
+    private double _q1hi = Double.NaN;
+    private double _q2lo = Double.NaN;
+    private double _q2hi = Double.NaN;
+    private double _q3lo = Double.NaN;
+    private double _q3hi = Double.NaN;
+
+    // inverse cell widths
+    private double _inv1;
+    private double _inv2;
+    private double _inv3;
+
+    // corner vectors in 000, 001, 010, ... 111 order, three components each
+    private final double _b[] = new double[24];
+
+    // statistics
+    private long _hits;
+    private long _misses;
+
+    /**
+     * Create a cell cache for a field
+     * 
+     * @param field
+     *            the field whose grid is cached
+     * @param bilinear
+     *            if <code>true</code> the q1 coordinate is ignored and the
+     *            interpolation is bilinear in q2 and q3
+     */
+    public FieldCell(MagneticField field, boolean bilinear) {
+	_field = field;
+	_bilinear = bilinear;
+    }
+
+    /**
+     * Interpolate the (unscaled) field at a point given in grid coordinates,
+     * using the cached cell if the point lies within it. The fractions are
+     * taken from the cached cell bounds and inverse widths rather than from
+     * GridCoordinate.getFraction, so the result agrees with
+     * MagneticField.interpolateField to float round-off.
+     * 
+     * @param q1
+     *            the q1 coordinate (ignored for a bilinear cell)
+     * @param q2
+     *            the q2 coordinate
+     * @param q3
+     *            the q3 coordinate
+     * @param result
+     *            will hold the result in the field's components
+     */
+    public void interpolate(double q1, double q2, double q3, float result[]) {
+	if (_bilinear) {
+	    q1 = 0;
+	}
+
+	if (contains(q1, q2, q3)) {
+	    _hits++;
+	} else {
+	    _misses++;
+	    if (!load(q1, q2, q3)) {
+		result[0] = 0f;
+		result[1] = 0f;
+		result[2] = 0f;
+		return;
+	    }
+	}
+
+	double f0 = _bilinear ? 0 : (q1 - _q1lo) * _inv1;
+	double f1 = (q2 - _q2lo) * _inv2;
+	double f2 = (q3 - _q3lo) * _inv3;
+
+	if (!MagneticField.isInterpolate()) {
+	    f0 = (f0 < 0.5) ? 0 : 1;
+	    f1 = (f1 < 0.5) ? 0 : 1;
+	    f2 = (f2 < 0.5) ? 0 : 1;
+	}
+
+	double g0 = 1 - f0;
+	double g1 = 1 - f1;
+	double g2 = 1 - f2;
+
+	double g0g1 = g0 * g1;
+	double g0f1 = g0 * f1;
+	double f0g1 = f0 * g1;
+	double f0f1 = f0 * f1;
+
+	double w000 = g0g1 * g2;
+	double w001 = g0g1 * f2;
+	double w010 = g0f1 * g2;
+	double w011 = g0f1 * f2;
+	double w100 = f0g1 * g2;
+	double w101 = f0g1 * f2;
+	double w110 = f0f1 * g2;
+	double w111 = f0f1 * f2;
+
+	double b[] = _b;
+	for (int i = 0; i < 3; i++) {
+	    result[i] = (float) (w000 * b[i] + w001 * b[i + 3] + w010
+		    * b[i + 6] + w011 * b[i + 9] + w100 * b[i + 12] + w101
+		    * b[i + 15] + w110 * b[i + 18] + w111 * b[i + 21]);
+	}
+    }
+
+    // is the point in the cached cell (of the currently loaded map)?
+    private boolean contains(double q1, double q2, double q3) {
+	return (q3 >= _q3lo) && (q3 <= _q3hi) && (q2 >= _q2lo)
+		&& (q2 <= _q2hi) && (q1 >= _q1lo) && (q1 <= _q1hi)
+		&& (_source == _field.field);
+    }
+
+    // fill the cache for the cell containing the point. Returns false if
+    // the point is off the grid.
+    private boolean load(double q1, double q2, double q3) {
+	_q1lo = Double.NaN; // invalid until done
+
+	GridCoordinate c1 = _field.q1Coordinate;
+	GridCoordinate c2 = _field.q2Coordinate;
+	GridCoordinate c3 = _field.q3Coordinate;
+
+	int n0 = 0;
+	if (!_bilinear) {
+	    n0 = c1.getIndex(q1);
+	    if (n0 < 0) {
+		return false;
+	    }
+	}
+	int n1 = c2.getIndex(q2);
+	if (n1 < 0) {
+	    return false;
+	}
+	int n2 = c3.getIndex(q3);
+	if (n2 < 0) {
+	    return false;
+	}
+
+	// for a bilinear cell the "1" corners in q1 duplicate the "0" corners
+	// and get zero weight
+	int dn0 = _bilinear ? 0 : 1;
+
+	int k = 0;
+	for (int corner = 0; corner < 8; corner++) {
+	    int index = _field.getCompositeIndex(n0 + dn0 * ((corner >> 2) & 1),
+		    n1 + ((corner >> 1) & 1), n2 + (corner & 1));
+	    _b[k++] = _field.getB1(index);
+	    _b[k++] = _field.getB2(index);
+	    _b[k++] = _field.getB3(index);
+	}
+
+	if (_bilinear) {
+	    _q1hi = 0;
+	    _inv1 = 0;
+	} else {
+	    _q1hi = c1.getValue(n0 + 1);
+	    _inv1 = 1.0 / (_q1hi - c1.getValue(n0));
+	}
+	_q2lo = c2.getValue(n1);
+	_q2hi = c2.getValue(n1 + 1);
+	_inv2 = 1.0 / (_q2hi - _q2lo);
+	_q3lo = c3.getValue(n2);
+	_q3hi = c3.getValue(n2 + 1);
+	_inv3 = 1.0 / (_q3hi - _q3lo);
+
+	_source = _field.field;
+	_q1lo = _bilinear ? 0 : c1.getValue(n0);
+	return true;
+    }
+
+    /**
+     * Get the number of lookups served from the cached cell
+     * 
+     * @return the number of cache hits
+     */
+    public long getHits() {
+	return _hits;
+    }
+
+    /**
+     * Get the number of lookups that required (re)filling the cell
+     * 
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+	return _misses;
+    }
+
+}
@@ -0,0 +1,126 @@
+package cnuphys.magfield;
+
+/**
+ * A per-thread handle for evaluating an {@link IField}. The probe owns its
+ * scratch space, so none of its methods allocate, and it holds no state that
+ * is shared with other probes. Many threads can therefore evaluate the same
+ * field at the same time, each through its own probe, with no locking.
+ * <p>
+ * A single probe is NOT safe for concurrent use by more than one thread.
+ * Obtain probes with {@link IField#createProbe()}.
+ */
+public class FieldProbe {
+
+    // the field being probed
+    protected final IField _field;
+
+    // scratch space for the convenience methods
+    protected final float _scratch[] = new float[3];
+
+    /**
+     * Create a probe for a field. Normally called from
+     * {@link IField#createProbe()}.
+     * 
+     * @param field
+     *            the field to probe
+     */
+    public FieldProbe(IField field) {
+	_field = field;
+    }
+
+    /**
+     * Obtain the magnetic field at a given location expressed in Cartesian
+     * coordinates. The field is returned as a Cartesian vector in kiloGauss.
+     *
+     * @param x
+     *            the x coordinate in cm
+     * @param y
+     *            the y coordinate in cm
+     * @param z
+     *            the z coordinate in cm
+     * @param result
+     *            a float array holding the retrieved field in kiloGauss. The
+     *            0,1 and 2 indices correspond to x, y, and z components.
+     */
+    public void field(float x, float y, float z, float result[]) {
+	_field.field(x, y, z, result);
+    }
+
+    /**
+     * Get the field by trilinear interpolation.
+     *
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            a float array holding the retrieved field in kiloGauss. The
+     *            0,1 and 2 indices correspond to x, y, and z components.
+     */
+    public void fieldCylindrical(double phi, double rho, double z,
+	    float result[]) {
+	_field.fieldCylindrical(phi, rho, z, result);
+    }
+
+    /**
+     * Get the field magnitude in kiloGauss at a given location expressed in
+     * Cartesian coordinates. Unlike {@link IField#fieldMagnitude}, this does
+     * not allocate.
+     * 
+     * @param x
+     *            the x coordinate in cm
+     * @param y
+     *            the y coordinate in cm
+     * @param z
+     *            the z coordinate in cm
+     * @return the magnitude of the field in kiloGauss.
+     */
+    public float fieldMagnitude(float x, float y, float z) {
+	field(x, y, z, _scratch);
+	return vectorLength(_scratch);
+    }
+
+    /**
+     * Get the field magnitude in kiloGauss at a given location expressed in
+     * cylindrical coordinates. Unlike
+     * {@link IField#fieldMagnitudeCylindrical}, this does not allocate.
+     * 
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param r
+     *            in cm.
+     * @param z
+     *            in cm
+     * @return the magnitude of the field in kiloGauss.
+     */
+    public float fieldMagnitudeCylindrical(double phi, double r, double z) {
+	fieldCylindrical(phi, r, z, _scratch);
+	return vectorLength(_scratch);
+    }
+
+    /**
+     * Get the field being probed
+     * 
+     * @return the field being probed
+     */
+    public IField getField() {
+	return _field;
+    }
+
+    /**
+     * Vector length.
+     *
+     * @param v
+     *            the v
+     * @return the float
+     */
+    protected static float vectorLength(float v[]) {
+	float vx = v[0];
+	float vy = v[1];
+	float vz = v[2];
+	return (float) Math.sqrt(vx * vx + vy * vy + vz * vz);
+    }
+
+}
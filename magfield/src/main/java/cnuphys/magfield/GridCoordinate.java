@@ -5,7 +5,9 @@ import java.util.Arrays;
 /**
  * This class holds the grid parameters for one direction. The constructor is
  * provided the min, max and number of points (inclusive, i.e., including the
- * end points) and the step is computed.
+ * end points) and the step is computed. Alternatively the grid values can be
+ * provided directly. If the grid is uniform (which is checked at construction)
+ * index lookups are done arithmetically, otherwise a binary search is used.
  * 
  * @author David Heddle
  * @author Nicole Schumacher
@@ -34,6 +36,12 @@ public class GridCoordinate {
     /** half the step size */
     private double _halfDelta;
 
+    /** inverse of the step size, used for uniform index lookups */
+    private double _invDelta;
+
+    /** whether the grid values are uniformly spaced */
+    private boolean _uniform;
+
     /** The name of the coordinate. */
     private String _name;
 
@@ -64,6 +72,45 @@ public class GridCoordinate {
 	for (int i = 0; i < numPoints; i++) {
 	    _values[i] = _min + i * _delta;
 	}
+	_uniform = checkUniform();
+	_invDelta = 1.0 / _delta;
+    }
+
+    /**
+     * Construct a grid coordinate from explicit grid values, which need not be
+     * uniformly spaced.
+     *
+     * @param name
+     *            the name of the coordinate
+     * @param values
+     *            the grid values, in increasing order (including ends)
+     */
+    public GridCoordinate(String name, double values[]) {
+	super();
+	_name = name;
+	_numPoints = values.length;
+	_values = new double[_numPoints];
+	System.arraycopy(values, 0, _values, 0, _numPoints);
+	_min = _values[0];
+	_max = _values[_numPoints - 1];
+	_delta = (_max - _min) / (_numPoints - 1);
+	_halfDelta = _delta / 2.;
+	_uniform = checkUniform();
+	_invDelta = 1.0 / _delta;
+    }
+
+    // see if the values are equally spaced (to within rounding)
+    private boolean checkUniform() {
+	if ((_numPoints < 2) || !(_delta > 0)) {
+	    return false;
+	}
+	double tolerance = 1.0e-6 * _delta;
+	for (int i = 0; i < _numPoints; i++) {
+	    if (Math.abs(_values[i] - (_min + i * _delta)) > tolerance) {
+		return false;
+	    }
+	}
+	return true;
     }
 
     /**
@@ -82,6 +129,13 @@ public class GridCoordinate {
 	    return -1;
 	}
 
+	// uniform grid: no search needed
+	if (_uniform) {
+	    int index = (int) ((val - _min) * _invDelta);
+	    // pathology if val == max, we'd get numPoints-1
+	    return (index < _numPoints - 1) ? index : _numPoints - 2;
+	}
+
 	int index = Arrays.binarySearch(_values, val);
 	// index of the search key, if it is contained in the array; otherwise,
 	// (-(insertion point) - 1).
@@ -207,6 +261,35 @@ public class GridCoordinate {
 	return vv - Math.floor(vv);
     }
 
+    /**
+     * Get the fractional part for use in interpolation, given the index
+     * already obtained from {@link #getIndex(double)}. This is consistent with
+     * the index even at the upper edge of the grid (where it returns 1 rather
+     * than 0) and works for non-uniform grids.
+     *
+     * @param val
+     *            the value
+     * @param index
+     *            the index returned by getIndex for the same value
+     * @return the fraction of spacing.
+     */
+    public double getFraction(double val, int index) {
+	if (_uniform) {
+	    return (val - _min) * _invDelta - index;
+	}
+	return (val - _values[index]) / (_values[index + 1] - _values[index]);
+    }
+
+    /**
+     * Check whether the grid values are uniformly spaced, in which case
+     * lookups are done arithmetically rather than by binary search.
+     *
+     * @return <code>true</code> if the grid is uniform
+     */
+    public boolean isUniform() {
+	return _uniform;
+    }
+
     /**
      * Get the minimum value of the grid coordinate.
      * 
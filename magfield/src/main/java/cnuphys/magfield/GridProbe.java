@@ -0,0 +1,57 @@
+package cnuphys.magfield;
+
+/**
+ * A probe for a gridded {@link MagneticField} (e.g., the torus or solenoid)
+ * that remembers the last grid cell it interpolated in, along with that
+ * cell's corner vectors. Consecutive lookups along a trajectory mostly land in
+ * the same cell, and those reuse the cached corners instead of repeating the
+ * index search and buffer reads.
+ * <p>
+ * Like all probes, a grid probe must only be used by one thread at a time.
+ */
+public class GridProbe extends FieldProbe {
+
+    // the field being probed
+    private final MagneticField _magneticField;
+
+    // the last cell
+    private final FieldCell _cell;
+
+    /**
+     * Create a probe for a gridded field
+     * 
+     * @param field
+     *            the field to probe
+     * @param bilinear
+     *            <code>true</code> if the field interpolates bilinearly in
+     *            (q2, q3), ignoring q1
+     */
+    public GridProbe(MagneticField field, boolean bilinear) {
+	super(field);
+	_magneticField = field;
+	_cell = new FieldCell(field, bilinear);
+    }
+
+    @Override
+    public void field(float x, float y, float z, float result[]) {
+	float rho = (float) Math.sqrt(x * x + y * y);
+	float phi = (float) Math.toDegrees(Math.atan2(y, x));
+	fieldCylindrical(phi, rho, z, result);
+    }
+
+    @Override
+    public void fieldCylindrical(double phi, double rho, double z,
+	    float result[]) {
+	_magneticField.fieldCylindrical(_cell, phi, rho, z, result);
+    }
+
+    /**
+     * Get the cached cell, e.g. for its hit and miss statistics
+     * 
+     * @return the cached cell
+     */
+    public FieldCell getCell() {
+	return _cell;
+    }
+
+}
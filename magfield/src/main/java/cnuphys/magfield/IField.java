@@ -8,6 +8,16 @@ import java.io.FileNotFoundException;
 
 /**
  * The Interface IField.
+ * <p>
+ * Threading: once a field is loaded, the <code>field</code> and
+ * <code>fieldCylindrical</code> methods may be called concurrently from any
+ * number of threads, without locking, provided each thread supplies its own
+ * result array. Implementations hold no per-call mutable state. Changing a
+ * field (scale factor, composition, reloading a map) while other threads are
+ * evaluating it is not synchronized; the evaluating threads may see the old or
+ * the new field for a short while. For allocation free evaluation in a loop
+ * (e.g., in a swimmer's derivative) each thread should obtain its own
+ * {@link FieldProbe} via {@link #createProbe()}.
  * 
  * @author David Heddle
  * @author Nicole Schumacher
@@ -100,4 +110,14 @@ public interface IField {
      */
     public void readBinaryMagneticField(File binaryFile)
 	    throws FileNotFoundException;
+
+    /**
+     * Create a probe for evaluating this field. A probe owns all the scratch
+     * space needed for an evaluation, so it allocates nothing per call. A probe
+     * must only be used by one thread at a time; create one per thread (they
+     * are cheap) rather than sharing one.
+     *
+     * @return a new probe for this field
+     */
+    public FieldProbe createProbe();
 }
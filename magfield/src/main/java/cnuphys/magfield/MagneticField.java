@@ -1,12 +1,17 @@
 package cnuphys.magfield;
 
-import java.io.DataInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * For magnetic fields stored in a specific format.
@@ -20,6 +25,9 @@ public abstract class MagneticField implements IField {
     /** Magic number used to check if byteswapping is necessary. */
     public static final int MAGICNUMBER = 0xced;
 
+    /** Size in bytes of the header that precedes the field values. */
+    public static final int HEADERSIZE = 80;
+
     /**
      * Index where max field magnitude resides
      */
@@ -52,9 +60,20 @@ public abstract class MagneticField implements IField {
     /** The field unit. */
     protected FieldUnit fieldUnit;
 
-    /** holds the field in a float buffer. */
+    /** holds the field in a float buffer (memory mapped from the file). */
     protected FloatBuffer field;
 
+    /** number of floats per cell in the optional cell layout */
+    protected static final int CELLSTRIDE = 24;
+
+    /**
+     * Optional interleaved copy of the field where, for each grid point, the
+     * three components of all eight corners of the cell that has that point
+     * as its lower corner are stored contiguously. <code>null</code> unless
+     * requested with {@link #setCellLayout(boolean)}.
+     */
+    private volatile float _cells[];
+
     /** reserved word */
     protected int reserved1;
 
@@ -100,10 +119,10 @@ public abstract class MagneticField implements IField {
     /** Total number of field points. */
     protected int numFieldPoints;
 
-    // used internally for index calculations
+    // used internally for index calculations (set when the map is read)
     private int N23 = -1;
 
-    // used internally for index calculations
+    // used internally for index calculations (set when the map is read)
     private int N3;
 
     // is the field ready to use?
@@ -113,10 +132,10 @@ public abstract class MagneticField implements IField {
     protected boolean _zeroField;
 
     // scale factor always treated as positive
-    protected double _scaleFactor = 1.0;
+    protected volatile double _scaleFactor = 1.0;
 
     // determine whether we use interpolation or nearest neighbor
-    protected static boolean _interpolate = true;
+    protected static volatile boolean _interpolate = true;
 
     // indices of components
     protected static final int X = 0;
@@ -191,6 +210,38 @@ public abstract class MagneticField implements IField {
 	fieldCylindrical(phi, rho, z, result);
     }
 
+    /**
+     * Create a probe for evaluating this field from a single thread.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new FieldProbe(this);
+    }
+
+    /**
+     * Get the field at a location expressed in cylindrical coordinates, using
+     * (and updating) a cached grid cell. Used by {@link GridProbe}. Gridded
+     * fields that support cell caching override this; the default ignores the
+     * cell.
+     *
+     * @param cell
+     *            the cached cell
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            a Cartesian vector holding the calculated field in kiloGauss.
+     */
+    protected void fieldCylindrical(FieldCell cell, double phi, double rho,
+	    double z, float result[]) {
+	fieldCylindrical(phi, rho, z, result);
+    }
+
     /**
      * Get the field magnitude in kiloGauss at a given location expressed in
      * cylindrical coordinates.
@@ -242,11 +293,6 @@ public abstract class MagneticField implements IField {
      * @return the composite index (buffer offset)
      */
     protected int getCompositeIndex(int n1, int n2, int n3) {
-	if (N23 < 1) { // first time
-	    N23 = q2Coordinate.getNumPoints() * q3Coordinate.getNumPoints();
-	    N3 = q3Coordinate.getNumPoints();
-	}
-
 	return n1 * N23 + n2 * N3 + n3;
     }
 
@@ -447,7 +493,12 @@ public abstract class MagneticField implements IField {
 
     /**
      * Read a magnetic field from a binary file. The file has the documented
-     * format.
+     * format. The field values are not copied onto the heap; instead the data
+     * block of the file is memory mapped (read only) and the field is served
+     * directly from the mapped buffer. This makes loading fast and allows
+     * several processes on the same node to share one page cached copy of the
+     * map. Files written with the opposite byte order (detected via the magic
+     * number) are handled by setting the byte order of the mapped buffer.
      *
      * @param binaryFile
      *            the binary file.
@@ -461,74 +512,156 @@ public abstract class MagneticField implements IField {
 	N23 = -1;
 
 	_fieldReady = false;
+	_cells = null;
+
+	RandomAccessFile raf = new RandomAccessFile(binaryFile, "r");
 
 	try {
-	    DataInputStream dos = new DataInputStream(new FileInputStream(
-		    binaryFile));
-
-	    boolean swap = false;
-	    int magicnum = dos.readInt(); // magic number
-
-	    // TODO handle swapping if necessary
-	    swap = (magicnum != MAGICNUMBER);
-	    if (swap) {
-		System.err
-			.println("byte swapping required but not yet implemented.");
-		dos.close();
-		return;
+	    FileChannel channel = raf.getChannel();
+
+	    // read the fixed size header
+	    ByteBuffer header = ByteBuffer.allocate(HEADERSIZE);
+	    while (header.hasRemaining()) {
+		if (channel.read(header) < 0) {
+		    System.err.println("Unexpected EOF reading header of "
+			    + binaryFile.getPath());
+		    return;
+		}
+	    }
+	    header.flip();
+
+	    int magicnum = header.getInt(); // magic number
+
+	    // if the magic number comes out reversed, the file was written
+	    // with the other byte order
+	    if (magicnum != MAGICNUMBER) {
+		if (Integer.reverseBytes(magicnum) != MAGICNUMBER) {
+		    System.err.println("Bad magic number in field map: "
+			    + Integer.toHexString(magicnum));
+		    return;
+		}
+		header.order(ByteOrder.LITTLE_ENDIAN);
 	    }
 
 	    // grid cs
-	    gridCoordinateSystem = CoordinateSystem.fromInt(dos.readInt());
+	    gridCoordinateSystem = CoordinateSystem.fromInt(header.getInt());
 
 	    // field cs
-	    fieldCoordinateSystem = CoordinateSystem.fromInt(dos.readInt());
+	    fieldCoordinateSystem = CoordinateSystem.fromInt(header.getInt());
 
-	    lengthUnit = LengthUnit.fromInt(dos.readInt()); // length units
-	    angularUnit = AngularUnit.fromInt(dos.readInt()); // angle units
-	    fieldUnit = FieldUnit.fromInt(dos.readInt()); // field units
+	    lengthUnit = LengthUnit.fromInt(header.getInt()); // length units
+	    angularUnit = AngularUnit.fromInt(header.getInt()); // angle units
+	    fieldUnit = FieldUnit.fromInt(header.getInt()); // field units
 
-	    float q1Min = dos.readFloat();
-	    float q1Max = dos.readFloat();
-	    int nQ1 = dos.readInt();
+	    float q1Min = header.getFloat();
+	    float q1Max = header.getFloat();
+	    int nQ1 = header.getInt();
 	    q1Coordinate = new GridCoordinate(_q1Name, q1Min, q1Max, nQ1);
 
-	    float q2Min = dos.readFloat();
-	    float q2Max = dos.readFloat();
-	    int nQ2 = dos.readInt();
+	    float q2Min = header.getFloat();
+	    float q2Max = header.getFloat();
+	    int nQ2 = header.getInt();
 	    q2Coordinate = new GridCoordinate(_q2Name, q2Min, q2Max, nQ2);
 
-	    float q3Min = dos.readFloat();
-	    float q3Max = dos.readFloat();
-	    int nQ3 = dos.readInt();
+	    float q3Min = header.getFloat();
+	    float q3Max = header.getFloat();
+	    int nQ3 = header.getInt();
 	    q3Coordinate = new GridCoordinate(_q3Name, q3Min, q3Max, nQ3);
 
 	    numFieldPoints = nQ1 * nQ2 * nQ3;
 
-	    // last five reserved
-	    reserved1 = dos.readInt();
-	    reserved2 = dos.readInt();
-	    reserved3 = dos.readInt();
-	    reserved4 = dos.readInt();
-	    reserved5 = dos.readInt();
-
-	    // now get the field values
-	    int size = 3 * 4 * numFieldPoints;
+	    // strides are fixed here, before the field is visible to other
+	    // threads, rather than lazily on first use
+	    N3 = nQ3;
+	    N23 = nQ2 * nQ3;
 
-	    byte bytes[] = new byte[size];
+	    // last five reserved
+	    reserved1 = header.getInt();
+	    reserved2 = header.getInt();
+	    reserved3 = header.getInt();
+	    reserved4 = header.getInt();
+	    reserved5 = header.getInt();
+
+	    // now map the field values
+	    long size = 3L * 4L * numFieldPoints;
+	    if (channel.size() < HEADERSIZE + size) {
+		System.err.println("Field map " + binaryFile.getPath()
+			+ " is truncated. Expected " + (HEADERSIZE + size)
+			+ " bytes, found " + channel.size());
+		return;
+	    }
 
-	    // read the bytes as a block
-	    dos.read(bytes);
-	    ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
-	    field = byteBuffer.asFloatBuffer();
+	    MappedByteBuffer mappedBuffer = channel.map(
+		    FileChannel.MapMode.READ_ONLY, HEADERSIZE, size);
+	    mappedBuffer.order(header.order());
+	    field = mappedBuffer.asFloatBuffer();
 	    computeMaxField();
 
 	    System.out.println(toString());
-	    dos.close();
 	    _fieldReady = true;
-	    // cache some quantities
 	} catch (IOException e) {
 	    e.printStackTrace();
+	} finally {
+	    // the mapping stays valid after the channel is closed
+	    try {
+		raf.close();
+	    } catch (IOException e) {
+		e.printStackTrace();
+	    }
+	}
+    }
+
+    /**
+     * Write the field to a binary file in the format read by
+     * {@link #readBinaryMagneticField(File)}: the fixed size header (including
+     * the reserved words) followed by the field values, big endian. Only
+     * uniform grids can be written.
+     *
+     * @param binaryFile
+     *            the binary file.
+     * @throws IOException
+     */
+    public void writeBinaryMagneticField(File binaryFile) throws IOException {
+	if (!_fieldReady) {
+	    throw new IOException("Field is not ready, cannot write "
+		    + binaryFile.getPath());
+	}
+	if (!q1Coordinate.isUniform() || !q2Coordinate.isUniform()
+		|| !q3Coordinate.isUniform()) {
+	    throw new IOException("Only uniform grids can be written to "
+		    + binaryFile.getPath());
+	}
+
+	DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+		new FileOutputStream(binaryFile), 1 << 16));
+	try {
+	    dos.writeInt(MAGICNUMBER);
+	    dos.writeInt(gridCoordinateSystem.ordinal());
+	    dos.writeInt(fieldCoordinateSystem.ordinal());
+	    dos.writeInt(lengthUnit.ordinal());
+	    dos.writeInt(angularUnit.ordinal());
+	    dos.writeInt(fieldUnit.ordinal());
+
+	    GridCoordinate coordinates[] = { q1Coordinate, q2Coordinate,
+		    q3Coordinate };
+	    for (GridCoordinate gc : coordinates) {
+		dos.writeFloat((float) gc.getMin());
+		dos.writeFloat((float) gc.getMax());
+		dos.writeInt(gc.getNumPoints());
+	    }
+
+	    dos.writeInt(reserved1);
+	    dos.writeInt(reserved2);
+	    dos.writeInt(reserved3);
+	    dos.writeInt(reserved4);
+	    dos.writeInt(reserved5);
+
+	    int numValues = 3 * numFieldPoints;
+	    for (int i = 0; i < numValues; i++) {
+		dos.writeFloat(field.get(i));
+	    }
+	} finally {
+	    dos.close();
 	}
     }
 
@@ -564,9 +697,9 @@ public abstract class MagneticField implements IField {
 	    return;
 	}
 
-	double f0 = q1Coordinate.getFraction(q1);
-	double f1 = q2Coordinate.getFraction(q2);
-	double f2 = q3Coordinate.getFraction(q3);
+	double f0 = q1Coordinate.getFraction(q1, n0);
+	double f1 = q2Coordinate.getFraction(q2, n1);
+	double f2 = q3Coordinate.getFraction(q3, n2);
 
 	if (!_interpolate) {
 	    f0 = (f0 < 0.5) ? 0 : 1;
@@ -578,65 +711,134 @@ public abstract class MagneticField implements IField {
 	double g1 = 1 - f1;
 	double g2 = 1 - f2;
 
+	// the eight trilinear weights, shared by all three components
+	double g0g1 = g0 * g1;
+	double g0f1 = g0 * f1;
+	double f0g1 = f0 * g1;
+	double f0f1 = f0 * f1;
+
+	double w000 = g0g1 * g2;
+	double w001 = g0g1 * f2;
+	double w010 = g0f1 * g2;
+	double w011 = g0f1 * f2;
+	double w100 = f0g1 * g2;
+	double w101 = f0g1 * f2;
+	double w110 = f0f1 * g2;
+	double w111 = f0f1 * f2;
+
 	// get the neighbor indices
 	int i000 = getCompositeIndex(n0, n1, n2);
-	int i001 = i000 + 1;
-
-	int i010 = getCompositeIndex(n0, n1 + 1, n2);
-	int i011 = i010 + 1;
 
-	int i100 = getCompositeIndex(n0 + 1, n1, n2);
-	int i101 = i100 + 1;
-
-	int i110 = getCompositeIndex(n0 + 1, n1 + 1, n2);
-	int i111 = i110 + 1;
-
-	double b000 = getB1(i000);
-	double b001 = getB1(i001);
-	double b010 = getB1(i010);
-	double b011 = getB1(i011);
-	double b100 = getB1(i100);
-	double b101 = getB1(i101);
-	double b110 = getB1(i110);
-	double b111 = getB1(i111);
-
-	double x = b000 * g0 * g1 * g2 + b001 * g0 * g1 * f2 + b010 * g0 * f1
-		* g2 + b011 * g0 * f1 * f2 + b100 * f0 * g1 * g2 + b101 * f0
-		* g1 * f2 + b110 * f0 * f1 * g2 + b111 * f0 * f1 * f2;
-
-	// now y
-	b000 = getB2(i000);
-	b001 = getB2(i001);
-	b010 = getB2(i010);
-	b011 = getB2(i011);
-	b100 = getB2(i100);
-	b101 = getB2(i101);
-	b110 = getB2(i110);
-	b111 = getB2(i111);
-
-	double y = b000 * g0 * g1 * g2 + b001 * g0 * g1 * f2 + b010 * g0 * f1
-		* g2 + b011 * g0 * f1 * f2 + b100 * f0 * g1 * g2 + b101 * f0
-		* g1 * f2 + b110 * f0 * f1 * g2 + b111 * f0 * f1 * f2;
-
-	// now z
-	b000 = getB3(i000);
-	b001 = getB3(i001);
-	b010 = getB3(i010);
-	b011 = getB3(i011);
-	b100 = getB3(i100);
-	b101 = getB3(i101);
-	b110 = getB3(i110);
-	b111 = getB3(i111);
-
-	double z = b000 * g0 * g1 * g2 + b001 * g0 * g1 * f2 + b010 * g0 * f1
-		* g2 + b011 * g0 * f1 * f2 + b100 * f0 * g1 * g2 + b101 * f0
-		* g1 * f2 + b110 * f0 * f1 * g2 + b111 * f0 * f1 * f2;
+	double x;
+	double y;
+	double z;
+
+	float cells[] = _cells;
+	if (cells != null) {
+	    // all eight corners of the cell are stored together
+	    int j = CELLSTRIDE * i000;
+	    x = w000 * cells[j] + w001 * cells[j + 3] + w010 * cells[j + 6]
+		    + w011 * cells[j + 9] + w100 * cells[j + 12] + w101
+		    * cells[j + 15] + w110 * cells[j + 18] + w111
+		    * cells[j + 21];
+	    y = w000 * cells[j + 1] + w001 * cells[j + 4] + w010
+		    * cells[j + 7] + w011 * cells[j + 10] + w100
+		    * cells[j + 13] + w101 * cells[j + 16] + w110
+		    * cells[j + 19] + w111 * cells[j + 22];
+	    z = w000 * cells[j + 2] + w001 * cells[j + 5] + w010
+		    * cells[j + 8] + w011 * cells[j + 11] + w100
+		    * cells[j + 14] + w101 * cells[j + 17] + w110
+		    * cells[j + 20] + w111 * cells[j + 23];
+	} else {
+	    // buffer offsets of the four z-pairs (z is the fastest index so
+	    // the "1" corner in z immediately follows the "0" corner)
+	    int j000 = 3 * i000;
+	    int j010 = 3 * getCompositeIndex(n0, n1 + 1, n2);
+	    int j100 = 3 * getCompositeIndex(n0 + 1, n1, n2);
+	    int j110 = 3 * getCompositeIndex(n0 + 1, n1 + 1, n2);
+
+	    x = w000 * field.get(j000) + w001 * field.get(j000 + 3) + w010
+		    * field.get(j010) + w011 * field.get(j010 + 3) + w100
+		    * field.get(j100) + w101 * field.get(j100 + 3) + w110
+		    * field.get(j110) + w111 * field.get(j110 + 3);
+	    y = w000 * field.get(j000 + 1) + w001 * field.get(j000 + 4)
+		    + w010 * field.get(j010 + 1) + w011 * field.get(j010 + 4)
+		    + w100 * field.get(j100 + 1) + w101 * field.get(j100 + 4)
+		    + w110 * field.get(j110 + 1) + w111 * field.get(j110 + 4);
+	    z = w000 * field.get(j000 + 2) + w001 * field.get(j000 + 5)
+		    + w010 * field.get(j010 + 2) + w011 * field.get(j010 + 5)
+		    + w100 * field.get(j100 + 2) + w101 * field.get(j100 + 5)
+		    + w110 * field.get(j110 + 2) + w111 * field.get(j110 + 5);
+	}
 
 	result[0] = (float) x;
 	result[1] = (float) y;
 	result[2] = (float) z;
     }
 
+    /**
+     * Turn on or off the interleaved cell layout. When on, a copy of the field
+     * is made in which the eight corner vectors of every grid cell are stored
+     * together, so a trilinear interpolation reads one contiguous block of 24
+     * floats instead of gathering from four places in the map. The price is
+     * memory: the copy is eight times the size of the map's float data (about
+     * 730 MB for the standard torus map, whose own data is about 91 MB). It has
+     * no effect until the field is loaded, and is not available for maps with
+     * fewer than two points in any direction.
+     *
+     * @param cellLayout
+     *            <code>true</code> to build and use the cell layout,
+     *            <code>false</code> to discard it.
+     */
+    public void setCellLayout(boolean cellLayout) {
+	if (!cellLayout) {
+	    _cells = null;
+	    return;
+	}
+
+	if (!_fieldReady || (_cells != null)) {
+	    return;
+	}
+
+	int nQ1 = q1Coordinate.getNumPoints();
+	int nQ2 = q2Coordinate.getNumPoints();
+	int nQ3 = q3Coordinate.getNumPoints();
+	if ((nQ1 < 2) || (nQ2 < 2) || (nQ3 < 2)) {
+	    System.err.println("Cell layout not available for " + getName());
+	    return;
+	}
+
+	float cells[] = new float[CELLSTRIDE * numFieldPoints];
+
+	for (int n0 = 0; n0 < nQ1 - 1; n0++) {
+	    for (int n1 = 0; n1 < nQ2 - 1; n1++) {
+		for (int n2 = 0; n2 < nQ3 - 1; n2++) {
+		    int dest = CELLSTRIDE * getCompositeIndex(n0, n1, n2);
+
+		    // corners in 000, 001, 010, ... 111 order
+		    for (int corner = 0; corner < 8; corner++) {
+			int src = 3 * getCompositeIndex(n0 + ((corner >> 2) & 1),
+				n1 + ((corner >> 1) & 1), n2 + (corner & 1));
+			cells[dest++] = field.get(src);
+			cells[dest++] = field.get(src + 1);
+			cells[dest++] = field.get(src + 2);
+		    }
+		}
+	    }
+	}
+
+	_cells = cells;
+    }
+
+    /**
+     * Check whether the interleaved cell layout is in use.
+     *
+     * @return <code>true</code> if the cell layout is in use.
+     */
+    public boolean isCellLayout() {
+	return _cells != null;
+    }
+
     /**
      * Interpolates the field magnitude by trilinear interpolation.
      *
@@ -664,9 +866,9 @@ public abstract class MagneticField implements IField {
 	    return 0f;
 	}
 
-	double f0 = q1Coordinate.getFraction(q1);
-	double f1 = q2Coordinate.getFraction(q2);
-	double f2 = q3Coordinate.getFraction(q3);
+	double f0 = q1Coordinate.getFraction(q1, n0);
+	double f1 = q2Coordinate.getFraction(q2, n1);
+	double f2 = q3Coordinate.getFraction(q3, n2);
 
 	double g0 = 1 - f0;
 	double g1 = 1 - f1;
@@ -794,6 +996,99 @@ public abstract class MagneticField implements IField {
 	return q3Coordinate;
     }
 
+    /**
+     * Get the extent of the grid in rho and z. The field of a cylindrically
+     * gridded map is zero outside this range, so composite evaluators can
+     * skip the lookup entirely. If the field is not on a loaded cylindrical
+     * grid the extent is unbounded.
+     *
+     * @param extent
+     *            will hold [rhoMin, rhoMax, zMin, zMax] in cm
+     */
+    public void getCylindricalExtent(double extent[]) {
+	if ((gridCoordinateSystem == CoordinateSystem.CYLINDRICAL)
+		&& (q2Coordinate != null) && (q3Coordinate != null)) {
+	    extent[0] = q2Coordinate.getMin();
+	    extent[1] = q2Coordinate.getMax();
+	    extent[2] = q3Coordinate.getMin();
+	    extent[3] = q3Coordinate.getMax();
+	} else {
+	    extent[0] = Double.NEGATIVE_INFINITY;
+	    extent[1] = Double.POSITIVE_INFINITY;
+	    extent[2] = Double.NEGATIVE_INFINITY;
+	    extent[3] = Double.POSITIVE_INFINITY;
+	}
+    }
+
+    /**
+     * Check whether a point is off a cylindrical grid in rho or z, in which
+     * case the field there is zero.
+     *
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            the z coordinate in cm
+     * @return <code>true</code> if the point is known to be off the grid
+     */
+    public boolean isOutsideGrid(double rho, double z) {
+	if ((gridCoordinateSystem != CoordinateSystem.CYLINDRICAL)
+		|| (q2Coordinate == null) || (q3Coordinate == null)) {
+	    return false;
+	}
+	return (z < q3Coordinate.getMin()) || (z > q3Coordinate.getMax())
+		|| (rho < q2Coordinate.getMin()) || (rho > q2Coordinate.getMax());
+    }
+
+    // the buffer currently holding the field values, used to detect a reload
+    Object getFieldSource() {
+	return field;
+    }
+
+    /**
+     * Set up the field from a grid held in memory rather than read from a
+     * file. Lengths are in cm, angles in degrees and the field in kG.
+     *
+     * @param gridCS
+     *            the grid coordinate system
+     * @param fieldCS
+     *            the field coordinate system
+     * @param c1
+     *            the q1 coordinate
+     * @param c2
+     *            the q2 coordinate
+     * @param c3
+     *            the q3 coordinate
+     * @param values
+     *            the field values, three per grid point with q3 the fastest
+     *            varying index
+     */
+    protected void setGrid(CoordinateSystem gridCS, CoordinateSystem fieldCS,
+	    GridCoordinate c1, GridCoordinate c2, GridCoordinate c3,
+	    FloatBuffer values) {
+	_fieldReady = false;
+	_cells = null;
+
+	gridCoordinateSystem = gridCS;
+	fieldCoordinateSystem = fieldCS;
+	lengthUnit = LengthUnit.CM;
+	angularUnit = AngularUnit.DEGREES;
+	fieldUnit = FieldUnit.kG;
+
+	q1Coordinate = c1;
+	q2Coordinate = c2;
+	q3Coordinate = c3;
+	setCoordinateNames(_q1Name, _q2Name, _q3Name);
+
+	numFieldPoints = c1.getNumPoints() * c2.getNumPoints()
+		* c3.getNumPoints();
+	N3 = c3.getNumPoints();
+	N23 = c2.getNumPoints() * N3;
+
+	field = values;
+	computeMaxField();
+	_fieldReady = true;
+    }
+
     /**
      * Set the names of the coordinate grid directions.
      *
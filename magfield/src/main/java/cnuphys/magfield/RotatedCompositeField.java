@@ -23,6 +23,16 @@ public class RotatedCompositeField extends ArrayList<IField> implements IField {
 	_cos = (float) Math.cos(Math.toRadians(_angle));
     }
 
+    // sine of the rotation angle
+    float getSin() {
+	return _sin;
+    }
+
+    // cosine of the rotation angle
+    float getCos() {
+	return _cos;
+    }
+
     /**
      * Obtain the magnetic field at a given location expressed in Cartesian
      * coordinates. The field is returned as a Cartesian vector in kiloGauss.
@@ -154,6 +164,93 @@ public class RotatedCompositeField extends ArrayList<IField> implements IField {
 	return (float) Math.sqrt(vx * vx + vy * vy + vz * vz);
     }
 
+    /**
+     * Create a probe for evaluating this field from a single thread. The
+     * probe uses the fields that make up the composite at the time it is
+     * created.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new RotatedCompositeProbe(this);
+    }
+
+    /**
+     * Create a single pre-summed field from this rotated composite, using the
+     * current scale factors and rotation. The rotation breaks the sector
+     * symmetry, so the grid covers phi in [0, 360] degrees. See
+     * {@link CombinedField}.
+     *
+     * @param nPhi
+     *            the number of phi grid points in [0, 360] degrees
+     * @param rhoMin
+     *            the minimum rho in cm
+     * @param rhoMax
+     *            the maximum rho in cm
+     * @param nRho
+     *            the number of rho grid points
+     * @param zMin
+     *            the minimum z in cm
+     * @param zMax
+     *            the maximum z in cm
+     * @param nZ
+     *            the number of z grid points
+     * @return the combined field
+     */
+    public CombinedField createCombinedField(int nPhi, float rhoMin,
+	    float rhoMax, int nRho, float zMin, float zMax, int nZ) {
+	return CombinedField.resample(this, false, nPhi, rhoMin, rhoMax, nRho,
+		zMin, zMax, nZ);
+    }
+
+    /**
+     * Create a single pre-summed field from this rotated composite, with a
+     * grid that covers the rotated extents of all the gridded components.
+     *
+     * @param nPhi
+     *            the number of phi grid points in [0, 360] degrees
+     * @param nRho
+     *            the number of rho grid points
+     * @param nZ
+     *            the number of z grid points
+     * @return the combined field
+     */
+    public CombinedField createCombinedField(int nPhi, int nRho, int nZ) {
+	// bound each component's box (|x| <= rhoMax, zMin <= z <= zMax) after
+	// rotating back to the sector frame
+	double sin = Math.abs(_sin);
+	double cos = _cos;
+	double rhoMax = 0;
+	double zMin = Double.POSITIVE_INFINITY;
+	double zMax = Double.NEGATIVE_INFINITY;
+	double extent[] = new double[4];
+	for (IField field : this) {
+	    if (field instanceof MagneticField) {
+		((MagneticField) field).getCylindricalExtent(extent);
+		if (!Double.isInfinite(extent[1])) {
+		    double r = extent[1];
+		    double zAbs = Math.max(Math.abs(extent[2]),
+			    Math.abs(extent[3]));
+		    rhoMax = Math.max(rhoMax, r + zAbs * sin);
+		    zMin = Math.min(zMin, Math.min(extent[2] * cos, extent[3]
+			    * cos)
+			    - r * sin);
+		    zMax = Math.max(zMax, Math.max(extent[2] * cos, extent[3]
+			    * cos)
+			    + r * sin);
+		}
+	    }
+	}
+	if (zMin > zMax) {
+	    System.err.println("No gridded fields in rotated composite");
+	    return null;
+	}
+
+	return createCombinedField(nPhi, 0f, (float) rhoMax, nRho,
+		(float) zMin, (float) zMax, nZ);
+    }
+
     @Override
     public float getMaxFieldMagnitude() {
 	float maxField = 0f;
@@ -0,0 +1,50 @@
+package cnuphys.magfield;
+
+/**
+ * A probe for a {@link RotatedCompositeField}. The point is rotated into the
+ * frame of the component fields, their contributions are summed by the
+ * component probes, and the result is rotated back.
+ */
+public class RotatedCompositeProbe extends CompositeProbe {
+
+    // the field, for the current rotation
+    private final RotatedCompositeField _rotatedField;
+
+    /**
+     * Create a probe for a rotated composite field
+     * 
+     * @param field
+     *            the rotated composite field
+     */
+    public RotatedCompositeProbe(RotatedCompositeField field) {
+	super(field);
+	_rotatedField = field;
+    }
+
+    @Override
+    public void field(float xs, float ys, float zs, float result[]) {
+	float sin = _rotatedField.getSin();
+	float cos = _rotatedField.getCos();
+
+	float x = xs * cos - zs * sin;
+	float y = ys;
+	float z = zs * cos + xs * sin;
+
+	super.field(x, y, z, result);
+
+	float bx = result[0];
+	float by = result[1];
+	float bz = result[2];
+	result[0] = bx * cos + bz * sin;
+	result[1] = by;
+	result[2] = bz * cos - bx * sin;
+    }
+
+    // the rotation only works for the Cartesian call
+    @Override
+    public void fieldCylindrical(double phi, double rho, double z,
+	    float result[]) {
+	_rotatedField.fieldCylindrical(phi, rho, z, result);
+    }
+
+}
@@ -62,6 +62,29 @@ public class Solenoid extends MagneticField {
     @Override
     public void fieldCylindrical(double phi, double rho, double z,
 	    float result[]) {
+	fieldCylindrical(null, phi, rho, z, result);
+    }
+
+    /**
+     * Get the field by bilinear interpolation, using a cached grid cell if one
+     * is provided.
+     *
+     * @param cell
+     *            the cached cell, or <code>null</code> to interpolate directly
+     *            from the map
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            the result
+     * @result a Cartesian vector holding the calculated field in kiloGauss.
+     */
+    @Override
+    protected void fieldCylindrical(FieldCell cell, double phi, double rho,
+	    double z, float result[]) {
 	if (isZeroField()) {
 	    result[X] = 0f;
 	    result[Y] = 0f;
@@ -73,9 +96,13 @@ public class Solenoid extends MagneticField {
 	    phi += 360.0;
 	}
 
-	interpolateField(rho, z, result); // if the field is cylindrically
-					  // symmetric, then there is no need
-					  // for interpolation in phi
+	// if the field is cylindrically symmetric, then there is no need for
+	// interpolation in phi
+	if (cell == null) {
+	    interpolateField(rho, z, result);
+	} else {
+	    cell.interpolate(0, rho, z, result);
+	}
 
 	// rotate onto to proper sector?
 	// System.err.println("relative: " + relativePhi);
@@ -92,6 +119,11 @@ public class Solenoid extends MagneticField {
 	    // result[Y] = (float) (bphi * sin + brho * cos);
 	    result[X] = (float) (brho * cos - bphi * sin);
 	    result[Y] = (float) (brho * sin + bphi * cos);
+	} else {
+	    // no rotation, but still (bphi, brho) --> (bx, by)
+	    float bphi = result[0];
+	    result[X] = result[1];
+	    result[Y] = bphi;
 	}
 
 	result[X] *= _scaleFactor;
@@ -304,8 +336,8 @@ public class Solenoid extends MagneticField {
 	    return;
 	}
 
-	double f1 = q2Coordinate.getFraction(q2);
-	double f2 = q3Coordinate.getFraction(q3);
+	double f1 = q2Coordinate.getFraction(q2, n1);
+	double f2 = q3Coordinate.getFraction(q3, n2);
 
 	if (!_interpolate) {
 	    f1 = (f1 < 0.5) ? 0 : 1;
@@ -315,39 +347,28 @@ public class Solenoid extends MagneticField {
 	double g1 = 1 - f1;
 	double g2 = 1 - f2;
 
-	// get the neighbor indices
-	int i000 = getCompositeIndex(0, n1, n2);
-	int i001 = i000 + 1;
+	// the four bilinear weights, shared by all three components
+	double w00 = g1 * g2;
+	double w01 = g1 * f2;
+	double w10 = f1 * g2;
+	double w11 = f1 * f2;
 
-	int i010 = getCompositeIndex(0, n1 + 1, n2);
-	int i011 = i010 + 1;
+	// buffer offsets of the two z-pairs (z is the fastest index so the "1"
+	// corner in z immediately follows the "0" corner)
+	int j00 = 3 * getCompositeIndex(0, n1, n2);
+	int j10 = 3 * getCompositeIndex(0, n1 + 1, n2);
 
 	// Bphi (zero for simple maps)
-	double b000 = getB1(i000);
-	double b001 = getB1(i001);
-	double b010 = getB1(i010);
-	double b011 = getB1(i011);
-
-	double bphi = b000 * g1 * g2 + b001 * g1 * f2 + b010 * f1 * g2 + b011
-		* f1 * f2;
+	double bphi = w00 * field.get(j00) + w01 * field.get(j00 + 3) + w10
+		* field.get(j10) + w11 * field.get(j10 + 3);
 
 	// now Brho
-	b000 = getB2(i000);
-	b001 = getB2(i001);
-	b010 = getB2(i010);
-	b011 = getB2(i011);
-
-	double brho = b000 * g1 * g2 + b001 * g1 * f2 + b010 * f1 * g2 + b011
-		* f1 * f2;
+	double brho = w00 * field.get(j00 + 1) + w01 * field.get(j00 + 4)
+		+ w10 * field.get(j10 + 1) + w11 * field.get(j10 + 4);
 
 	// now Bz
-	b000 = getB3(i000);
-	b001 = getB3(i001);
-	b010 = getB3(i010);
-	b011 = getB3(i011);
-
-	double bz = b000 * g1 * g2 + b001 * g1 * f2 + b010 * f1 * g2 + b011
-		* f1 * f2;
+	double bz = w00 * field.get(j00 + 2) + w01 * field.get(j00 + 5) + w10
+		* field.get(j10 + 2) + w11 * field.get(j10 + 5);
 
 	result[0] = (float) bphi;
 	result[1] = (float) brho;
@@ -380,8 +401,8 @@ public class Solenoid extends MagneticField {
 	    return 0f;
 	}
 
-	double f1 = q2Coordinate.getFraction(q2);
-	double f2 = q3Coordinate.getFraction(q3);
+	double f1 = q2Coordinate.getFraction(q2, n1);
+	double f2 = q3Coordinate.getFraction(q3, n2);
 
 	double g1 = 1 - f1;
 	double g2 = 1 - f2;
@@ -403,6 +424,17 @@ public class Solenoid extends MagneticField {
 
     }
 
+    /**
+     * Create a probe for evaluating this field from a single thread. The probe
+     * caches the last grid cell used.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new GridProbe(this, true);
+    }
+
     public double getZMax() {
 	return q3Coordinate.getMax();
     }
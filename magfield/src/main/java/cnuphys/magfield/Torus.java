@@ -44,6 +44,18 @@ public class Torus extends MagneticField {
 	return torus;
     }
 
+    // cos and sin of the rotation from the first sector to sector n+1.
+    // Shared with CombinedField, which uses the same sector symmetry.
+    static final double SECTORCOS[] = new double[7];
+    static final double SECTORSIN[] = new double[7];
+    static {
+	for (int n = 0; n < 7; n++) {
+	    double angle = Math.toRadians(60.0 * n);
+	    SECTORCOS[n] = Math.cos(angle);
+	    SECTORSIN[n] = Math.sin(angle);
+	}
+    }
+
     /**
      * Must deal with the fact that we only have the field between 0 and 30
      * degrees.
@@ -82,6 +94,29 @@ public class Torus extends MagneticField {
     @Override
     public void fieldCylindrical(double phi, double rho, double z,
 	    float result[]) {
+	fieldCylindrical(null, phi, rho, z, result);
+    }
+
+    /**
+     * Get the field by trilinear interpolation, using a cached grid cell if
+     * one is provided.
+     *
+     * @param cell
+     *            the cached cell, or <code>null</code> to interpolate directly
+     *            from the map
+     * @param phi
+     *            azimuthal angle in degrees.
+     * @param rho
+     *            the cylindrical rho coordinate in cm.
+     * @param z
+     *            coordinate in cm
+     * @param result
+     *            the result
+     * @result a Cartesian vector holding the calculated field in kiloGauss.
+     */
+    @Override
+    protected void fieldCylindrical(FieldCell cell, double phi, double rho,
+	    double z, float result[]) {
 	if (isZeroField()) {
 	    result[X] = 0f;
 	    result[Y] = 0f;
@@ -89,6 +124,9 @@ public class Torus extends MagneticField {
 	    return;
 	}
 
+	// into [0, 360) so the sector rotation below is one of the tabulated
+	// ones
+	phi = phi % 360.0;
 	if (phi < 0.0) {
 	    phi += 360.0;
 	}
@@ -98,7 +136,11 @@ public class Torus extends MagneticField {
 
 	boolean flip = (relativePhi < 0.0);
 
-	interpolateField(Math.abs(relativePhi), rho, z, result);
+	if (cell == null) {
+	    interpolateField(Math.abs(relativePhi), rho, z, result);
+	} else {
+	    cell.interpolate(Math.abs(relativePhi), rho, z, result);
+	}
 
 	// negate change x and z components
 	if (flip) {
@@ -106,16 +148,13 @@ public class Torus extends MagneticField {
 	    result[Z] = -result[Z];
 	}
 
-	// rotate onto to proper sector?
-	// System.err.println("relative: " + relativePhi);
-	// System.err.println("absolute: " + phi);
-	// System.err.println("diff: " + (phi - relativePhi));
-
+	// rotate onto to proper sector? The difference is a multiple of 60
+	// degrees, so use the tabulated rotations
 	double diff = (phi - relativePhi);
 	if (diff > 0.001) {
-	    double rdiff = Math.toRadians(diff);
-	    double cos = Math.cos(rdiff);
-	    double sin = Math.sin(rdiff);
+	    int sector = ((int) Math.round(diff / 60.0)) % 6;
+	    double cos = SECTORCOS[sector];
+	    double sin = SECTORSIN[sector];
 	    double bx = result[0];
 	    double by = result[1];
 	    result[X] = (float) (bx * cos - by * sin);
@@ -125,7 +164,18 @@ public class Torus extends MagneticField {
 	result[X] *= _scaleFactor;
 	result[Y] *= _scaleFactor;
 	result[Z] *= _scaleFactor;
-   }
+    }
+
+    /**
+     * Create a probe for evaluating this field from a single thread. The probe
+     * caches the last grid cell used.
+     *
+     * @return a new probe for this field
+     */
+    @Override
+    public FieldProbe createProbe() {
+	return new GridProbe(this, false);
+    }
 
     /**
      * Convert a array used as a vector to a readable string.
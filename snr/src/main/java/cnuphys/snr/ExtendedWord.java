@@ -13,16 +13,6 @@ public class ExtendedWord {
      */
     protected long words[];
 
-    /**
-     * Used for workspace for bleed left
-     */
-    protected ExtendedWord leftWorkSpace;
-
-    /**
-     * Used for workspace for bleed right
-     */
-    protected ExtendedWord rightWorkSpace;
-
     /**
      * Creates an extended word made up of an array of longs. Note that in JAVA
      * a long is always 64 bits, independent of machine.
@@ -225,74 +215,25 @@ public class ExtendedWord {
     }
 
     /**
-     * Bleed the specified number of bits left.
+     * Bleed the specified number of bits right (toward bit 0). Done in place
+     * with log-step shift/or doubling. Not thread safe.
      * 
      * @param n
-     *            the number of bits to bleed left.
+     *            the number of bits to bleed right.
      */
-    public synchronized void bleedRight(int n) {
-	if (rightWorkSpace == null) {
-	    rightWorkSpace = new ExtendedWord();
-	    rightWorkSpace.words = new long[words.length];
-	}
-
-	ExtendedWord.copy(this, rightWorkSpace);
-
-	if (n < 4) {
-	    for (int j = 0; j < n; j++) {
-		rightWorkSpace.shiftRight(1);
-		ExtendedWord.bitwiseOr(this, rightWorkSpace, this);
-	    }
-	    return;
-	}
-
-	int m = (n + 1) / 2;
-	int k = n - m;
-
-	for (int j = 0; j < m; j++) {
-	    rightWorkSpace.shiftRight(1);
-	    ExtendedWord.bitwiseOr(this, rightWorkSpace, this);
-	}
-
-	ExtendedWord.copy(this, rightWorkSpace);
-	rightWorkSpace.shiftRight(k);
-	ExtendedWord.bitwiseOr(this, rightWorkSpace, this);
-
+    public void bleedRight(int n) {
+	NoiseKernel.bleedRight(words, n);
     }
 
     /**
-     * Bleed the specified number of bits left.
+     * Bleed the specified number of bits left (toward the most significant
+     * bit). Done in place with log-step shift/or doubling. Not thread safe.
      * 
      * @param n
      *            the number of bits to bleed left.
      */
-    public synchronized void bleedLeft(int n) {
-	if (leftWorkSpace == null) {
-	    leftWorkSpace = new ExtendedWord();
-	    leftWorkSpace.words = new long[words.length];
-	}
-
-	ExtendedWord.copy(this, leftWorkSpace);
-
-	if (n < 4) {
-	    for (int j = 0; j < n; j++) {
-		leftWorkSpace.shiftLeft(1);
-		ExtendedWord.bitwiseOr(this, leftWorkSpace, this);
-	    }
-	    return;
-	}
-
-	int m = (n + 1) / 2;
-	int k = n - m;
-
-	for (int j = 0; j < m; j++) {
-	    leftWorkSpace.shiftLeft(1);
-	    ExtendedWord.bitwiseOr(this, leftWorkSpace, this);
-	}
-
-	ExtendedWord.copy(this, leftWorkSpace);
-	leftWorkSpace.shiftLeft(k);
-	ExtendedWord.bitwiseOr(this, leftWorkSpace, this);
+    public void bleedLeft(int n) {
+	NoiseKernel.bleedLeft(words, n);
     }
 
     /**
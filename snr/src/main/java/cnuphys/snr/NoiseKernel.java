@@ -0,0 +1,266 @@
+package cnuphys.snr;
+
+/**
+ * The word parallel core of the noise reduction algorithm. Each layer of a
+ * superlayer is a fixed width array of longs, one bit per wire, with bit 0 of
+ * word 0 being the first wire. Bleeds are done in place with log-step
+ * shift/or doubling, so a bleed of n bits costs about log2(n) shifts rather
+ * than n. After the bleeds, the segment search and the cleaning are purely
+ * bitwise, so they are done one word (64 wires) at a time with the miss
+ * reservoirs held in a small scratch array.
+ * <p>
+ * The results are bit-identical to the original ExtendedWord based algorithm,
+ * including the handling of the unused bits above the last wire. A kernel
+ * owns its scratch space and has no monitors; use one kernel per thread (in
+ * practice one per NoiseReductionParameters object).
+ *
+ * @author heddle
+ */
+public class NoiseKernel {
+
+    // the number of layers
+    private final int _numLayer;
+
+    // the number of words per layer
+    private final int _numWords;
+
+    // the bled copies of the data, [layer][word]
+    private final long _copy[][];
+
+    // scratch for the miss reservoirs of one word
+    private final long _misses[];
+
+    // scratch for the left and right buckets when cleaning
+    private final long _left[];
+    private final long _right[];
+
+    /**
+     * Create a kernel for a superlayer of the given size
+     *
+     * @param numLayer
+     *            the number of layers
+     * @param numWire
+     *            the number of wires per layer
+     */
+    public NoiseKernel(int numLayer, int numWire) {
+	_numLayer = numLayer;
+	_numWords = 1 + (numWire - 1) / 64;
+	_copy = new long[numLayer][_numWords];
+	_misses = new long[numLayer];
+	_left = new long[_numWords];
+	_right = new long[_numWords];
+    }
+
+    /**
+     * Get the number of words per layer
+     *
+     * @return the number of words per layer
+     */
+    public int getNumWords() {
+	return _numWords;
+    }
+
+    /**
+     * Find the possible segments for one lean direction.
+     *
+     * @param data
+     *            the packed data, [layer][word]
+     * @param shifts
+     *            the layer shifts for this direction
+     * @param allowedMissingLayers
+     *            the number of missing layers allowed
+     * @param direction
+     *            NoiseReductionParameters.LEFT_LEAN or RIGHT_LEAN
+     * @param segments
+     *            on return, the segment starting wires
+     */
+    public void findSegments(long data[][], int shifts[],
+	    int allowedMissingLayers, int direction, long segments[]) {
+
+	// bleed copies of each layer. If looking for right leaners, bleed left
+	// to try to find a complete "vertical" segment; for left leaners bleed
+	// right.
+	for (int i = 0; i < _numLayer; i++) {
+	    System.arraycopy(data[i], 0, _copy[i], 0, _numWords);
+	    if (direction == NoiseReductionParameters.LEFT_LEAN) {
+		bleedRight(_copy[i], shifts[i]);
+	    } else {
+		bleedLeft(_copy[i], shifts[i]);
+	    }
+	}
+
+	findSegmentsFromBled(data[0], _copy, allowedMissingLayers, segments);
+    }
+
+    /**
+     * Find the possible segments for one lean direction from layers that
+     * have already been bled. This allows bled layers to be shared, e.g.
+     * between parameter settings with common shifts.
+     *
+     * @param first
+     *            the unbled data of the first layer
+     * @param bled
+     *            the bled data, [layer][word]. The first layer is not used.
+     * @param allowedMissingLayers
+     *            the number of missing layers allowed
+     * @param segments
+     *            on return, the segment starting wires
+     */
+    public void findSegmentsFromBled(long first[], long bled[][],
+	    int allowedMissingLayers, long segments[]) {
+
+	// everything from here on is bitwise, so do it a word at a time
+	for (int w = 0; w < _numWords; w++) {
+
+	    // a full reservoir of misses
+	    for (int j = 0; j < allowedMissingLayers; j++) {
+		_misses[j] = 0xFFFFFFFFFFFFFFFFL;
+	    }
+
+	    // segments start out as a copy of the first layer
+	    long seg = first[w];
+
+	    for (int i = 0; i < _numLayer;) {
+		if (i > 0) {
+		    seg &= bled[i][w];
+		}
+
+		// no need to check more misses than the layer we are on;
+		// from here i is the "next" layer
+		int numCheck = (++i < allowedMissingLayers) ? i
+			: allowedMissingLayers;
+
+		for (int j = 0; j < numCheck; j++) {
+		    // use whatever misses are left for this j, and remove the
+		    // used up misses
+		    long next = seg | _misses[j];
+		    _misses[j] &= seg;
+		    seg = next;
+		}
+	    }
+
+	    segments[w] = seg;
+	}
+    }
+
+    /**
+     * Remove the hits that are not on a segment. Layer 0 never has a shift, so
+     * it is cleaned with the union of the segments. For the other layers the
+     * segments are bled onto the layer to make left and right buckets.
+     *
+     * @param data
+     *            the packed data, [layer][word]. Modified in place.
+     * @param leftSegments
+     *            the left leaning segments
+     * @param rightSegments
+     *            the right leaning segments
+     * @param leftShifts
+     *            the layer shifts for left leaning segments
+     * @param rightShifts
+     *            the layer shifts for right leaning segments
+     */
+    public void clean(long data[][], long leftSegments[],
+	    long rightSegments[], int leftShifts[], int rightShifts[]) {
+
+	for (int w = 0; w < _numWords; w++) {
+	    data[0][w] &= (leftSegments[w] | rightSegments[w]);
+	}
+
+	for (int i = 1; i < _numLayer; i++) {
+	    System.arraycopy(leftSegments, 0, _left, 0, _numWords);
+	    bleedLeft(_left, leftShifts[i]);
+	    System.arraycopy(rightSegments, 0, _right, 0, _numWords);
+	    bleedRight(_right, rightShifts[i]);
+
+	    long layer[] = data[i];
+	    for (int w = 0; w < _numWords; w++) {
+		layer[w] &= (_left[w] | _right[w]);
+	    }
+	}
+    }
+
+    /**
+     * Bleed in place toward higher bit numbers (higher wires): every on bit
+     * also turns on the n bits above it. Bits bled past the last word are
+     * lost.
+     *
+     * @param words
+     *            the words, words[0] is least significant
+     * @param n
+     *            the number of bits to bleed
+     */
+    public static void bleedLeft(long words[], int n) {
+	if (n <= 0) {
+	    return;
+	}
+
+	// width is the number of bits each original bit currently covers
+	int target = n + 1;
+	int width = 1;
+	while (2 * width <= target) {
+	    orShiftedLeft(words, width);
+	    width *= 2;
+	}
+	if (width < target) {
+	    orShiftedLeft(words, target - width);
+	}
+    }
+
+    /**
+     * Bleed in place toward lower bit numbers (lower wires): every on bit also
+     * turns on the n bits below it. Bits bled past bit 0 are lost.
+     *
+     * @param words
+     *            the words, words[0] is least significant
+     * @param n
+     *            the number of bits to bleed
+     */
+    public static void bleedRight(long words[], int n) {
+	if (n <= 0) {
+	    return;
+	}
+
+	int target = n + 1;
+	int width = 1;
+	while (2 * width <= target) {
+	    orShiftedRight(words, width);
+	    width *= 2;
+	}
+	if (width < target) {
+	    orShiftedRight(words, target - width);
+	}
+    }
+
+    // words |= words << n, across word boundaries. Goes from the most
+    // significant word down, so every source word is read before it is
+    // modified.
+    private static void orShiftedLeft(long words[], int n) {
+	int wordShift = n >>> 6;
+	int bitShift = n & 63;
+	for (int i = words.length - 1; i >= wordShift; i--) {
+	    int j = i - wordShift;
+	    long v = words[j] << bitShift;
+	    if ((bitShift != 0) && (j > 0)) {
+		v |= words[j - 1] >>> (64 - bitShift);
+	    }
+	    words[i] |= v;
+	}
+    }
+
+    // words |= words >>> n, across word boundaries. Goes from the least
+    // significant word up, so every source word is read before it is
+    // modified.
+    private static void orShiftedRight(long words[], int n) {
+	int wordShift = n >>> 6;
+	int bitShift = n & 63;
+	int len = words.length;
+	for (int i = 0; i < len - wordShift; i++) {
+	    int j = i + wordShift;
+	    long v = words[j] >>> bitShift;
+	    if ((bitShift != 0) && (j < len - 1)) {
+		v |= words[j + 1] << (64 - bitShift);
+	    }
+	    words[i] |= v;
+	}
+    }
+}
@@ -0,0 +1,389 @@
+package cnuphys.snr;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates a grid of noise reduction parameter settings against the same
+ * data in one pass. For each superlayer of data the raw hits are packed once,
+ * and each layer is bled at most once per distinct (direction, shift), no
+ * matter how many settings use that shift. Every setting then runs the
+ * segment search and cleaning on the shared bled layers.
+ * <p>
+ * The data come with truth: each hit is either signal or noise. For each
+ * setting the scan accumulates the efficiency (fraction of signal hits kept)
+ * and the rejection (fraction of noise hits removed). Hits are counted per
+ * wire, so a wire hit by both signal and noise counts as signal. This is the
+ * superlayer (segment finding) level of the algorithm, i.e., what
+ * NoiseReductionParameters.removeNoise does, without the composite chamber
+ * second pass.
+ * <p>
+ * Not thread safe; use one scan per thread.
+ *
+ * @author heddle
+ */
+public class NoiseParameterScan {
+
+    // the number of layers and wires
+    private final int _numLayer;
+    private final int _numWire;
+
+    // the settings
+    private final NoiseReductionParameters _settings[];
+
+    // does the segment search and cleaning
+    private final NoiseKernel _kernel;
+
+    // number of words per layer
+    private final int _numWords;
+
+    // the packed data of the current superlayer, [layer][word]
+    private final long _signal[][];
+    private final long _noise[][];
+    private final long _raw[][];
+
+    // bled layers, [direction][layer][shift][word], valid if the stamp
+    // matches the current epoch
+    private final long _bled[][][][];
+    private final long _bledStamp[][][];
+    private long _epoch;
+
+    // the bled layers used by one search
+    private final long _rows[][];
+
+    // segments and cleaned data for one setting
+    private final long _leftSegments[];
+    private final long _rightSegments[];
+    private final long _cleaned[][];
+
+    // number of signal and noise (only) hit wires
+    private long _signalCount;
+    private long _noiseCount;
+
+    // per setting: signal hits kept and noise hits removed
+    private final long _signalKept[];
+    private final long _noiseRemoved[];
+
+    /**
+     * Create a scan over a set of parameter settings. Only the editable
+     * parameters (allowed missing layers and layer shifts) of the settings are
+     * used.
+     *
+     * @param numLayer
+     *            the number of layers per superlayer
+     * @param numWire
+     *            the number of wires per layer
+     * @param settings
+     *            the parameter settings
+     */
+    public NoiseParameterScan(int numLayer, int numWire,
+	    List<NoiseReductionParameters> settings) {
+	_numLayer = numLayer;
+	_numWire = numWire;
+	_settings = settings.toArray(new NoiseReductionParameters[settings
+		.size()]);
+
+	int maxShift = 0;
+	for (NoiseReductionParameters setting : _settings) {
+	    for (int i = 0; i < numLayer; i++) {
+		maxShift = Math.max(maxShift, setting.getLeftLayerShifts()[i]);
+		maxShift = Math.max(maxShift, setting.getRightLayerShifts()[i]);
+	    }
+	}
+
+	_kernel = new NoiseKernel(numLayer, numWire);
+	_numWords = _kernel.getNumWords();
+
+	_signal = new long[numLayer][_numWords];
+	_noise = new long[numLayer][_numWords];
+	_raw = new long[numLayer][_numWords];
+	_bled = new long[2][numLayer][maxShift + 1][_numWords];
+	_bledStamp = new long[2][numLayer][maxShift + 1];
+	_rows = new long[numLayer][];
+	_leftSegments = new long[_numWords];
+	_rightSegments = new long[_numWords];
+	_cleaned = new long[numLayer][_numWords];
+
+	_signalKept = new long[_settings.length];
+	_noiseRemoved = new long[_settings.length];
+    }
+
+    /**
+     * Create a grid of settings: every combination of the allowed missing
+     * layers, left layer shifts and right layer shifts.
+     *
+     * @param numLayer
+     *            the number of layers per superlayer
+     * @param numWire
+     *            the number of wires per layer
+     * @param allowedMissingLayers
+     *            the values of allowed missing layers
+     * @param leftLayerShifts
+     *            the sets of left layer shifts
+     * @param rightLayerShifts
+     *            the sets of right layer shifts
+     * @return the settings
+     */
+    public static List<NoiseReductionParameters> createGrid(int numLayer,
+	    int numWire, int allowedMissingLayers[], int leftLayerShifts[][],
+	    int rightLayerShifts[][]) {
+	List<NoiseReductionParameters> grid = new ArrayList<NoiseReductionParameters>();
+	for (int missing : allowedMissingLayers) {
+	    for (int left[] : leftLayerShifts) {
+		for (int right[] : rightLayerShifts) {
+		    grid.add(new NoiseReductionParameters(numLayer, numWire,
+			    missing, left, right));
+		}
+	    }
+	}
+	return grid;
+    }
+
+    /**
+     * Clear the accumulated counts
+     */
+    public void clear() {
+	_signalCount = 0;
+	_noiseCount = 0;
+	for (int k = 0; k < _settings.length; k++) {
+	    _signalKept[k] = 0;
+	    _noiseRemoved[k] = 0;
+	}
+    }
+
+    /**
+     * Clear the packed data of the current superlayer
+     */
+    public void clearHits() {
+	for (int i = 0; i < _numLayer; i++) {
+	    for (int w = 0; w < _numWords; w++) {
+		_signal[i][w] = 0;
+		_noise[i][w] = 0;
+	    }
+	}
+    }
+
+    /**
+     * Set the packed data of the current superlayer
+     *
+     * @param signal
+     *            the packed signal hits, one word per layer
+     * @param noise
+     *            the packed noise hits, one word per layer
+     */
+    public void setHits(ExtendedWord signal[], ExtendedWord noise[]) {
+	for (int i = 0; i < _numLayer; i++) {
+	    System.arraycopy(signal[i].words, 0, _signal[i], 0, _numWords);
+	    System.arraycopy(noise[i].words, 0, _noise[i], 0, _numWords);
+	}
+    }
+
+    /**
+     * Pack a hit of the current superlayer
+     *
+     * @param layer
+     *            the 0-based layer
+     * @param wire
+     *            the 0-based wire
+     * @param noise
+     *            <code>true</code> if this is a (true) noise hit
+     */
+    public void packHit(int layer, int wire, boolean noise) {
+	long data[] = noise ? _noise[layer] : _signal[layer];
+	data[wire >>> 6] |= (1L << (wire & 63));
+    }
+
+    /**
+     * Run every setting on the packed data of the current superlayer and
+     * accumulate the counts. The packed data are not changed.
+     */
+    public void analyze() {
+	// raw data, and truth counts. Noise counts only where there is no
+	// signal.
+	for (int i = 0; i < _numLayer; i++) {
+	    for (int w = 0; w < _numWords; w++) {
+		_raw[i][w] = _signal[i][w] | _noise[i][w];
+		_signalCount += Long.bitCount(_signal[i][w]);
+		_noiseCount += Long.bitCount(_noise[i][w] & ~_signal[i][w]);
+	    }
+	}
+
+	// new data, so every bled layer is stale
+	_epoch++;
+
+	for (int k = 0; k < _settings.length; k++) {
+	    NoiseReductionParameters setting = _settings[k];
+	    int leftShifts[] = setting.getLeftLayerShifts();
+	    int rightShifts[] = setting.getRightLayerShifts();
+	    int missing = setting.getAllowedMissingLayers();
+
+	    // left leaners bleed right, right leaners bleed left
+	    for (int i = 0; i < _numLayer; i++) {
+		_rows[i] = bled(NoiseReductionParameters.LEFT_LEAN, i,
+			leftShifts[i]);
+	    }
+	    _kernel.findSegmentsFromBled(_raw[0], _rows, missing,
+		    _leftSegments);
+
+	    for (int i = 0; i < _numLayer; i++) {
+		_rows[i] = bled(NoiseReductionParameters.RIGHT_LEAN, i,
+			rightShifts[i]);
+	    }
+	    _kernel.findSegmentsFromBled(_raw[0], _rows, missing,
+		    _rightSegments);
+
+	    for (int i = 0; i < _numLayer; i++) {
+		System.arraycopy(_raw[i], 0, _cleaned[i], 0, _numWords);
+	    }
+	    _kernel.clean(_cleaned, _leftSegments, _rightSegments, leftShifts,
+		    rightShifts);
+
+	    long kept = 0;
+	    long removed = 0;
+	    for (int i = 0; i < _numLayer; i++) {
+		for (int w = 0; w < _numWords; w++) {
+		    long sig = _signal[i][w];
+		    kept += Long.bitCount(_cleaned[i][w] & sig);
+		    removed += Long.bitCount(_noise[i][w] & ~sig
+			    & ~_cleaned[i][w]);
+		}
+	    }
+	    _signalKept[k] += kept;
+	    _noiseRemoved[k] += removed;
+	}
+    }
+
+    // get a bled layer, bleeding it if it isn't cached for this data
+    private long[] bled(int direction, int layer, int shift) {
+	long data[] = _bled[direction][layer][shift];
+	if (_bledStamp[direction][layer][shift] != _epoch) {
+	    System.arraycopy(_raw[layer], 0, data, 0, _numWords);
+	    if (direction == NoiseReductionParameters.LEFT_LEAN) {
+		NoiseKernel.bleedRight(data, shift);
+	    } else {
+		NoiseKernel.bleedLeft(data, shift);
+	    }
+	    _bledStamp[direction][layer][shift] = _epoch;
+	}
+	return data;
+    }
+
+    /**
+     * Get the number of settings
+     *
+     * @return the number of settings
+     */
+    public int getNumSettings() {
+	return _settings.length;
+    }
+
+    /**
+     * Get a setting
+     *
+     * @param index
+     *            the index of the setting
+     * @return the setting
+     */
+    public NoiseReductionParameters getSetting(int index) {
+	return _settings[index];
+    }
+
+    /**
+     * Get the number of signal hits analyzed
+     *
+     * @return the number of signal hits
+     */
+    public long getSignalCount() {
+	return _signalCount;
+    }
+
+    /**
+     * Get the number of noise hits analyzed
+     *
+     * @return the number of noise hits
+     */
+    public long getNoiseCount() {
+	return _noiseCount;
+    }
+
+    /**
+     * Get the number of signal hits kept by a setting
+     *
+     * @param index
+     *            the index of the setting
+     * @return the number of signal hits kept
+     */
+    public long getSignalKept(int index) {
+	return _signalKept[index];
+    }
+
+    /**
+     * Get the number of noise hits removed by a setting
+     *
+     * @param index
+     *            the index of the setting
+     * @return the number of noise hits removed
+     */
+    public long getNoiseRemoved(int index) {
+	return _noiseRemoved[index];
+    }
+
+    /**
+     * Get the efficiency of a setting: the fraction of signal hits kept
+     *
+     * @param index
+     *            the index of the setting
+     * @return the efficiency, 0 if there were no signal hits
+     */
+    public double getEfficiency(int index) {
+	return (_signalCount == 0) ? 0 : ((double) _signalKept[index])
+		/ _signalCount;
+    }
+
+    /**
+     * Get the rejection of a setting: the fraction of noise hits removed
+     *
+     * @param index
+     *            the index of the setting
+     * @return the rejection, 0 if there were no noise hits
+     */
+    public double getRejection(int index) {
+	return (_noiseCount == 0) ? 0 : ((double) _noiseRemoved[index])
+		/ _noiseCount;
+    }
+
+    /**
+     * Print the efficiency/rejection table
+     *
+     * @param ps
+     *            the stream to print to
+     */
+    public void printTable(PrintStream ps) {
+	ps.println(String.format("signal hits %d noise hits %d (%d layers, %d wires)",
+		_signalCount, _noiseCount, _numLayer, _numWire));
+	ps.println(String.format("%-5s %-7s %-20s %-20s %10s %10s", "index",
+		"missing", "left shifts", "right shifts", "efficiency",
+		"rejection"));
+	for (int k = 0; k < _settings.length; k++) {
+	    NoiseReductionParameters setting = _settings[k];
+	    ps.println(String.format("%-5d %-7d %-20s %-20s %10.4f %10.4f", k,
+		    setting.getAllowedMissingLayers(),
+		    shiftString(setting.getLeftLayerShifts()),
+		    shiftString(setting.getRightLayerShifts()),
+		    getEfficiency(k), getRejection(k)));
+	}
+    }
+
+    // shifts as a compact string
+    private String shiftString(int shifts[]) {
+	StringBuilder sb = new StringBuilder();
+	for (int i = 0; i < _numLayer; i++) {
+	    if (i > 0) {
+		sb.append(',');
+	    }
+	    sb.append(shifts[i]);
+	}
+	return sb.toString();
+    }
+}
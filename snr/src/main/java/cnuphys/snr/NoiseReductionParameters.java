@@ -2,7 +2,9 @@ package cnuphys.snr;
 
 /**
  * All the parameters needed for noise reduction. Each superlayer should have
- * its own object. Now should be thread safe.
+ * its own object. The bitwise work is done by a {@link NoiseKernel} owned by
+ * this object, so different objects can be analyzed concurrently, but a single
+ * object should only be used by one thread at a time.
  * 
  * @author heddle
  */
@@ -44,20 +46,11 @@ public class NoiseReductionParameters {
      */
     protected ExtendedWord rightSegments;
 
-    /**
-     * A workspace for a copy of the data.
-     */
-    protected ExtendedWord copy[];
-
-    /**
-     * A workspace used for storing an allocation of misses.
-     */
-    protected ExtendedWord misses[];
+    // does the word parallel segment search and cleaning
+    private NoiseKernel _kernel;
 
-    /**
-     * More workspace. This array has numLayers + 1 entries.
-     */
-    protected ExtendedWord workSpace[];
+    // the words of the packed data, handed to the kernel
+    private long _dataWords[][];
 
     /**
      * This is the actual data. Before noise reduction analysis is run, this
@@ -207,17 +200,13 @@ public class NoiseReductionParameters {
 
 	    _packedData = new ExtendedWord[_numLayer];
 	    _rawData = new ExtendedWord[_numLayer];
-	    copy = new ExtendedWord[_numLayer];
-	    misses = new ExtendedWord[_numLayer];
-	    workSpace = new ExtendedWord[_numLayer + 1];
 	    for (int layer = 0; layer < _numLayer; layer++) {
 		_packedData[layer] = new ExtendedWord(_numWire);
 		_rawData[layer] = new ExtendedWord(_numWire);
-		copy[layer] = new ExtendedWord(_numWire);
-		misses[layer] = new ExtendedWord(_numWire);
-		workSpace[layer] = new ExtendedWord(_numWire);
 	    }
-	    workSpace[_numLayer] = new ExtendedWord(_numWire); // one extra
+
+	    _kernel = new NoiseKernel(_numLayer, _numWire);
+	    _dataWords = new long[_numLayer][];
 	}
     }
 
@@ -416,40 +405,28 @@ public class NoiseReductionParameters {
 	    ExtendedWord.copy(_packedData[layer], _rawData[layer]);
 	}
 
+	// the packed data may have been replaced, so refresh the word view
+	for (int layer = 0; layer < _numLayer; layer++) {
+	    _dataWords[layer] = _packedData[layer].words;
+	}
+
 	// first find the left and then the right leaning segments
-	findPossibleSegments(this, LEFT_LEAN);
-	findPossibleSegments(this, RIGHT_LEAN);
+	_kernel.findSegments(_dataWords, _leftLayerShifts,
+		_allowedMissingLayers, LEFT_LEAN, leftSegments.words);
+	_kernel.findSegments(_dataWords, _rightLayerShifts,
+		_allowedMissingLayers, RIGHT_LEAN, rightSegments.words);
 
 	cleanFromSegments();
 	_analyzed = true;
     }
 
+    // Remove the hits not on a segment. The first layer (layer 0) NEVER has
+    // a layer shift, so it is cleaned with the union of both sets of
+    // segments. The other layers are cleaned with left and right buckets made
+    // by bleeding the segments onto the layer.
     private void cleanFromSegments() {
-	// now remove the noise first. Set packedData[0] to contain overlap
-	// (union) of both
-	// sets of segments and its own hits.
-	// NOTE: the first layer (layer 0) NEVER has a layer shift.*/
-	ExtendedWord.bitwiseOr(leftSegments, rightSegments, copy[0]);
-	ExtendedWord.bitwiseAnd(_packedData[0], copy[0], _packedData[0]);
-
-	// start loop at 1 since layer 0 never bled
-	for (int i = 1; i < _numLayer; i++) {
-
-	    // copy segments onto a given layer and bleed to create left and
-	    // right buckets
-
-	    ExtendedWord.copy(leftSegments, copy[i]);
-	    copy[i].bleedLeft(_leftLayerShifts[i]);
-
-	    ExtendedWord.copy(rightSegments, workSpace[0]);
-	    workSpace[0].bleedRight(_rightLayerShifts[i]);
-
-	    // combine left and right buckets
-	    ExtendedWord.bitwiseOr(copy[i], workSpace[0], copy[i]);
-
-	    // now get overlap of original data with buckets
-	    ExtendedWord.bitwiseAnd(_packedData[i], copy[i], _packedData[i]);
-	}
+	_kernel.clean(_dataWords, leftSegments.words, rightSegments.words,
+		_leftLayerShifts, _rightLayerShifts);
     }
 
     /**
@@ -479,95 +456,6 @@ public class NoiseReductionParameters {
 	cleanFromSegments();
     }
 
-    /**
-     * Find possible segments.
-     * 
-     * @param data
-     *            the actual data.
-     * @param parameters
-     *            the parameters and workspace.
-     * @param direction
-     *            either left or right.
-     */
-    private void findPossibleSegments(
-	    NoiseReductionParameters parameters, int direction) {
-
-	// set misses to all 1's. That makes our "reservoir" of misses
-	for (int i = 0; i < parameters._allowedMissingLayers; i++) {
-	    parameters.misses[i].fill();
-	}
-
-	ExtendedWord segments = null;
-
-	// copy the data. Bleed based on lean. If looking for right leaners,
-	// bleed left to try to find a complete "vertical" segment. Similarly
-	// for
-	// left leaners--bleed right.
-	// segments start out as copy of first layer.
-	if (direction == LEFT_LEAN) {
-	    segments = parameters.leftSegments;
-	    for (int i = 0; i < parameters.getNumLayer(); i++) {
-		ExtendedWord
-			.copy(parameters._packedData[i], parameters.copy[i]);
-		parameters.copy[i].bleedRight(parameters._leftLayerShifts[i]);
-	    }
-	    ExtendedWord.copy(parameters._packedData[0], segments);
-
-	} else { // right leaners
-	    segments = parameters.rightSegments;
-	    for (int i = 0; i < parameters.getNumLayer(); i++) {
-		ExtendedWord
-			.copy(parameters._packedData[i], parameters.copy[i]);
-		parameters.copy[i].bleedLeft(parameters._rightLayerShifts[i]);
-	    }
-	    ExtendedWord.copy(parameters._packedData[0], segments);
-	}
-
-	// now .AND. the other layers, which have been shifted to accommodate
-	// the buckets
-	int numCheck = 0;
-
-	for (int i = 0; i < parameters.getNumLayer();) {
-	    if (i > 0) {
-		ExtendedWord.bitwiseAnd(segments, parameters.copy[i], segments);
-	    }
-
-	    // Now take missing layers into account. missingLayers
-	    // is the max number of missing layers allowed. However
-	    // there is no need to check more misses the layer that we
-	    // are presently investigating.*
-
-	    if (++i < parameters._allowedMissingLayers) { /*
-							   * note from this step
-							   * i is the "NEXT"
-							   * layer
-							   */
-		numCheck = i;
-	    } else {
-		numCheck = parameters._allowedMissingLayers;
-	    }
-
-	    // note: numCheck is always > 0 unless a level shift is set
-	    // to zero which is unlikely. (in which case segments will
-	    // be unnecessarily copied onto workspace[0] and back again.
-	    // The algorithm still would work.
-
-	    ExtendedWord.copy(segments, parameters.workSpace[0]);
-	    for (int j = 0; j < numCheck; j++) {
-
-		// first step: use whatever misses are left for this j
-		ExtendedWord.bitwiseOr(parameters.workSpace[j],
-			parameters.misses[j], parameters.workSpace[j + 1]);
-
-		// second step: remove used up misses
-		ExtendedWord.bitwiseAnd(parameters.misses[j],
-			parameters.workSpace[j], parameters.misses[j]);
-	    }
-	    ExtendedWord.copy(parameters.workSpace[numCheck], segments);
-
-	} /* end of layer loop */
-    }
-
     /**
      * Get the occupancy of the raw data. This should only be used by ced
      * proper, not the test program.
@@ -1,10 +1,24 @@
 package cnuphys.snr.clas12;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
 import cnuphys.snr.ExtendedWord;
 import cnuphys.snr.NoiseReductionParameters;
 
 /**
  * One stop shopping for clas12 noise analysis. Should finally be thread safe.
+ * <p>
+ * The sectors are completely independent: every sector has its own
+ * superlayer and composite parameter objects, each with its own work space.
+ * In parallel mode the first and second passes for the six sectors run
+ * concurrently on an executor. The results are identical to serial mode.
  * 
  * @author heddle
  *
@@ -82,11 +96,38 @@ public class Clas12NoiseAnalysis {
 
     // four sets of parameters for the composite chambers (superlayers)
     private final NoiseReductionParameters _compositeParameters[][] = new NoiseReductionParameters[NUM_SECTOR][4];
-    
+
+    // if true, analyze the sectors concurrently
+    private boolean _parallel;
+
+    // runs the sectors in parallel mode, created lazily
+    private ExecutorService _executor;
+
+    // true if we created the executor and should shut it down
+    private boolean _ownsExecutor;
+
+    // the per-sector tasks, reused for every event
+    private final List<Callable<Void>> _sectorTasks = new ArrayList<Callable<Void>>(
+	    NUM_SECTOR);
+
     public Clas12NoiseAnalysis() {
 	initialize();
     }
-    
+
+    /**
+     * Create a noise analysis that runs in parallel mode on a supplied
+     * executor. The executor is not shut down by {@link #shutdown()}.
+     * 
+     * @param executor
+     *            the executor that will run the sectors
+     */
+    public Clas12NoiseAnalysis(ExecutorService executor) {
+	initialize();
+	_executor = executor;
+	_ownsExecutor = false;
+	_parallel = true;
+    }
+
     //initialize arrays
     private void initialize() {
 
@@ -104,9 +145,70 @@ public class Clas12NoiseAnalysis {
 			_comp_defaultMissingLayers[i],
 			_comp_defaultLeftShifts[i], _comp_defaultRightShifts[i]);
 	    }
+
+	    final int fsect = sect;
+	    _sectorTasks.add(new Callable<Void>() {
+
+		@Override
+		public Void call() throws Exception {
+		    analyzeSector(fsect);
+		    return null;
+		}
+	    });
 	}
     }
 
+    /**
+     * Check whether the sectors are analyzed concurrently
+     * 
+     * @return <code>true</code> if in parallel mode
+     */
+    public boolean isParallel() {
+	return _parallel;
+    }
+
+    /**
+     * Set whether the sectors are analyzed concurrently. If no executor was
+     * supplied, one with a daemon thread per sector is created the first time
+     * it is needed.
+     * 
+     * @param parallel
+     *            <code>true</code> for parallel mode
+     */
+    public void setParallel(boolean parallel) {
+	_parallel = parallel;
+    }
+
+    /**
+     * Shut down the executor if this object created it. Reverts to serial
+     * mode; setting parallel mode again creates a new executor.
+     */
+    public synchronized void shutdown() {
+	if (_ownsExecutor && (_executor != null)) {
+	    _executor.shutdown();
+	    _executor = null;
+	}
+	_parallel = false;
+    }
+
+    // get the executor, creating our own if necessary
+    private synchronized ExecutorService getExecutor() {
+	if (_executor == null) {
+	    _executor = Executors.newFixedThreadPool(NUM_SECTOR,
+		    new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable r) {
+			    Thread thread = new Thread(r, "SNR sector worker");
+			    thread.setDaemon(true);
+			    return thread;
+			}
+		    });
+	    _ownsExecutor = true;
+	}
+	return _executor;
+    }
+
     /**
      * Get the parameters for a given 0-based superlayer
      * 
@@ -165,6 +267,26 @@ public class Clas12NoiseAnalysis {
 	_parameters[sector][lrpm] = params;
     }
 
+    /**
+     * Copy the editable parameters (allowed missing layers and layer shifts)
+     * of every superlayer and composite chamber from another analysis
+     *
+     * @param source
+     *            the analysis to copy from
+     */
+    public void copyEditableParameters(Clas12NoiseAnalysis source) {
+	for (int sect = 0; sect < NUM_SECTOR; sect++) {
+	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+		_parameters[sect][supl]
+			.copyEditableParameters(source._parameters[sect][supl]);
+	    }
+	    for (int lrpm = 0; lrpm < 4; lrpm++) {
+		_compositeParameters[sect][lrpm]
+			.copyEditableParameters(source._compositeParameters[sect][lrpm]);
+	    }
+	}
+    }
+
     /**
      * Clear all the data
      */
@@ -215,107 +337,14 @@ public class Clas12NoiseAnalysis {
 	    _parameters[sect0][supl0].packHit(lay0, wire0);
 	}
 
-	// remove the noise
-	// 1st pass
-	for (int sect = 0; sect < NUM_SECTOR; sect++) {
-	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
-		_parameters[sect][supl].removeNoise();
-		// prepare for second pass
-
-		if (NoiseReductionParameters.lookForTracks()) {
-		    boolean plus = (supl % 2) == 0;
-		    int compositeLayer = supl / 2;
-
-		    if (plus) {
-			setCompositeLayerPackedData(
-				_compositeParameters[sect][LEFT_PLUS],
-				compositeLayer,
-				_parameters[sect][supl].getLeftSegments());
-			setCompositeLayerPackedData(
-				_compositeParameters[sect][RIGHT_PLUS],
-				compositeLayer,
-				_parameters[sect][supl].getRightSegments());
-		    } else {
-			setCompositeLayerPackedData(
-				_compositeParameters[sect][LEFT_MINUS],
-				compositeLayer,
-				_parameters[sect][supl].getLeftSegments());
-			setCompositeLayerPackedData(
-				_compositeParameters[sect][RIGHT_MINUS],
-				compositeLayer,
-				_parameters[sect][supl].getRightSegments());
-		    }
-		}
-
-	    }
-	}
-
-	// 2nd pass for composite detector to find track candidates
-
-	if (NoiseReductionParameters.lookForTracks()) {
+	// remove the noise, sector by sector
+	if (_parallel) {
+	    analyzeSectorsInParallel();
+	} else {
 	    for (int sect = 0; sect < NUM_SECTOR; sect++) {
-		_compositeParameters[sect][LEFT_PLUS].removeNoise();
-		_compositeParameters[sect][RIGHT_PLUS].removeNoise();
-		_compositeParameters[sect][LEFT_MINUS].removeNoise();
-		_compositeParameters[sect][RIGHT_MINUS].removeNoise();
-
-		int plusSegLeftCount = _compositeParameters[sect][LEFT_PLUS]
-			.getLeftSegments().bitCount();
-		int plusSegRightCount = _compositeParameters[sect][RIGHT_PLUS]
-			.getRightSegments().bitCount();
-		int minusSegLeftCount = _compositeParameters[sect][LEFT_MINUS]
-			.getLeftSegments().bitCount();
-		int minusSegRightCount = _compositeParameters[sect][RIGHT_MINUS]
-			.getRightSegments().bitCount();
-
-		// must have a left seg in plus and minus or a right seg in plus
-		// and minus
-		boolean noRight = (plusSegRightCount == 0)
-			|| (minusSegRightCount == 0);
-		boolean noLeft = (plusSegLeftCount == 0)
-			|| (minusSegLeftCount == 0);
-
-		for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
-		    boolean plus = (supl % 2) == 0;
-		    int compositeLayer = supl / 2;
-
-		    if (plus) {
-			if (noLeft) {
-			    _compositeParameters[sect][LEFT_PLUS]
-				    .getPackedData(compositeLayer).clear();
-			}
-			if (noRight) {
-			    _compositeParameters[sect][RIGHT_PLUS]
-				    .getPackedData(compositeLayer).clear();
-			}
-
-			_parameters[sect][supl].secondPass(LEFT,
-				_compositeParameters[sect][LEFT_PLUS]
-					.getPackedData(compositeLayer));
-			_parameters[sect][supl].secondPass(RIGHT,
-				_compositeParameters[sect][RIGHT_PLUS]
-					.getPackedData(compositeLayer));
-		    } else {
-			if (noLeft) {
-			    _compositeParameters[sect][LEFT_MINUS]
-				    .getPackedData(compositeLayer).clear();
-			}
-			if (noRight) {
-			    _compositeParameters[sect][RIGHT_MINUS]
-				    .getPackedData(compositeLayer).clear();
-			}
-
-			_parameters[sect][supl].secondPass(LEFT,
-				_compositeParameters[sect][LEFT_MINUS]
-					.getPackedData(compositeLayer));
-			_parameters[sect][supl].secondPass(RIGHT,
-				_compositeParameters[sect][RIGHT_MINUS]
-					.getPackedData(compositeLayer));
-		    }
-
-		}
+		analyzeSector(sect);
 	    }
-	} // look for tracks
+	}
 
 	// now stuff the results object;
 	results.noise = new boolean[rawHitCount];
@@ -331,6 +360,135 @@ public class Clas12NoiseAnalysis {
 	}
     }
 
+    // run the sector analyses on the executor and wait for all of them
+    private void analyzeSectorsInParallel() {
+	List<Future<Void>> futures;
+	try {
+	    futures = getExecutor().invokeAll(_sectorTasks);
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new RuntimeException("noise analysis interrupted");
+	}
+
+	for (Future<Void> future : futures) {
+	    try {
+		future.get();
+	    } catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new RuntimeException("noise analysis interrupted");
+	    } catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException) {
+		    throw (RuntimeException) cause;
+		}
+		throw new RuntimeException(cause);
+	    }
+	}
+    }
+
+    /**
+     * Both passes of the noise removal for one sector. Only touches the
+     * parameter objects of that sector, so sectors can run concurrently.
+     * 
+     * @param sect
+     *            the 0-based sector
+     */
+    private void analyzeSector(int sect) {
+	// 1st pass
+	for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+	    _parameters[sect][supl].removeNoise();
+	    // prepare for second pass
+
+	    if (NoiseReductionParameters.lookForTracks()) {
+		boolean plus = (supl % 2) == 0;
+		int compositeLayer = supl / 2;
+
+		if (plus) {
+		    setCompositeLayerPackedData(
+			    _compositeParameters[sect][LEFT_PLUS],
+			    compositeLayer,
+			    _parameters[sect][supl].getLeftSegments());
+		    setCompositeLayerPackedData(
+			    _compositeParameters[sect][RIGHT_PLUS],
+			    compositeLayer,
+			    _parameters[sect][supl].getRightSegments());
+		} else {
+		    setCompositeLayerPackedData(
+			    _compositeParameters[sect][LEFT_MINUS],
+			    compositeLayer,
+			    _parameters[sect][supl].getLeftSegments());
+		    setCompositeLayerPackedData(
+			    _compositeParameters[sect][RIGHT_MINUS],
+			    compositeLayer,
+			    _parameters[sect][supl].getRightSegments());
+		}
+	    }
+	}
+
+	// 2nd pass for composite detector to find track candidates
+	if (!NoiseReductionParameters.lookForTracks()) {
+	    return;
+	}
+
+	_compositeParameters[sect][LEFT_PLUS].removeNoise();
+	_compositeParameters[sect][RIGHT_PLUS].removeNoise();
+	_compositeParameters[sect][LEFT_MINUS].removeNoise();
+	_compositeParameters[sect][RIGHT_MINUS].removeNoise();
+
+	int plusSegLeftCount = _compositeParameters[sect][LEFT_PLUS]
+		.getLeftSegments().bitCount();
+	int plusSegRightCount = _compositeParameters[sect][RIGHT_PLUS]
+		.getRightSegments().bitCount();
+	int minusSegLeftCount = _compositeParameters[sect][LEFT_MINUS]
+		.getLeftSegments().bitCount();
+	int minusSegRightCount = _compositeParameters[sect][RIGHT_MINUS]
+		.getRightSegments().bitCount();
+
+	// must have a left seg in plus and minus or a right seg in plus
+	// and minus
+	boolean noRight = (plusSegRightCount == 0) || (minusSegRightCount == 0);
+	boolean noLeft = (plusSegLeftCount == 0) || (minusSegLeftCount == 0);
+
+	for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+	    boolean plus = (supl % 2) == 0;
+	    int compositeLayer = supl / 2;
+
+	    if (plus) {
+		if (noLeft) {
+		    _compositeParameters[sect][LEFT_PLUS].getPackedData(
+			    compositeLayer).clear();
+		}
+		if (noRight) {
+		    _compositeParameters[sect][RIGHT_PLUS].getPackedData(
+			    compositeLayer).clear();
+		}
+
+		_parameters[sect][supl].secondPass(LEFT,
+			_compositeParameters[sect][LEFT_PLUS]
+				.getPackedData(compositeLayer));
+		_parameters[sect][supl].secondPass(RIGHT,
+			_compositeParameters[sect][RIGHT_PLUS]
+				.getPackedData(compositeLayer));
+	    } else {
+		if (noLeft) {
+		    _compositeParameters[sect][LEFT_MINUS].getPackedData(
+			    compositeLayer).clear();
+		}
+		if (noRight) {
+		    _compositeParameters[sect][RIGHT_MINUS].getPackedData(
+			    compositeLayer).clear();
+		}
+
+		_parameters[sect][supl].secondPass(LEFT,
+			_compositeParameters[sect][LEFT_MINUS]
+				.getPackedData(compositeLayer));
+		_parameters[sect][supl].secondPass(RIGHT,
+			_compositeParameters[sect][RIGHT_MINUS]
+				.getPackedData(compositeLayer));
+	    }
+	}
+    }
+
     /**
      * Set the data for the composite chamber from the left and right segments
      * of the corresponding real chamber
@@ -0,0 +1,269 @@
+package cnuphys.snr.clas12;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import cnuphys.snr.NoiseReductionParameters;
+
+/**
+ * Noise analysis of a stream of events on a worker pool. Each worker borrows
+ * a Clas12NoiseAnalysis (with all its packed data and work space) from a
+ * pool, runs packing and both passes for one event, records the occupancies
+ * and returns the analysis to the pool, so nothing is allocated per event
+ * except the noise mask. A bounded number of events is in flight at a time;
+ * the results are handed to the listener and added to the running statistics
+ * in input order, on the calling thread.
+ * <p>
+ * The parameters used for a run are those of {@link #getParameters()} when
+ * {@link #process} is called, so parameter settings can be tuned by editing
+ * them between runs over the same events.
+ *
+ * @author heddle
+ *
+ */
+public class Clas12NoiseBatch {
+
+    private static final int NUM_SECTOR = 6;
+    private static final int NUM_SUPERLAYER = 6;
+
+    // number of events in flight per thread
+    private static final int EVENTSPERTHREAD = 4;
+
+    // the executor that runs the events
+    private ExecutorService _executor;
+
+    // number of threads, used to size the pool and the window
+    private int _numThreads;
+
+    // true if we created the executor and should shut it down
+    private boolean _ownsExecutor;
+
+    // the parameters that are copied to the pooled analyses
+    private final Clas12NoiseAnalysis _parameters = new Clas12NoiseAnalysis();
+
+    // the pooled analyses
+    private final BlockingQueue<Clas12NoiseAnalysis> _pool;
+
+    // the running statistics
+    private final Clas12NoiseStatistics _statistics = new Clas12NoiseStatistics();
+
+    /**
+     * Create a batch noise analysis with its own fork-join pool
+     *
+     * @param numThreads
+     *            the number of worker threads. If less than 1, the number of
+     *            available processors is used.
+     */
+    public Clas12NoiseBatch(int numThreads) {
+	if (numThreads < 1) {
+	    numThreads = Runtime.getRuntime().availableProcessors();
+	}
+	_numThreads = numThreads;
+	_executor = new ForkJoinPool(numThreads);
+	_ownsExecutor = true;
+	_pool = createPool(numThreads);
+    }
+
+    /**
+     * Create a batch noise analysis that uses a supplied executor. The
+     * executor is not shut down by {@link #shutdown()}.
+     *
+     * @param executor
+     *            the executor that will run the events
+     * @param numThreads
+     *            the parallelism of the executor, used to size the pool of
+     *            work spaces
+     */
+    public Clas12NoiseBatch(ExecutorService executor, int numThreads) {
+	_numThreads = Math.max(1, numThreads);
+	_executor = executor;
+	_ownsExecutor = false;
+	_pool = createPool(_numThreads);
+    }
+
+    // create the pool of analyses
+    private static BlockingQueue<Clas12NoiseAnalysis> createPool(int n) {
+	BlockingQueue<Clas12NoiseAnalysis> pool = new ArrayBlockingQueue<Clas12NoiseAnalysis>(
+		n);
+	for (int i = 0; i < n; i++) {
+	    pool.add(new Clas12NoiseAnalysis());
+	}
+	return pool;
+    }
+
+    /**
+     * Shut down the executor if this object created it.
+     */
+    public void shutdown() {
+	if (_ownsExecutor) {
+	    _executor.shutdown();
+	}
+    }
+
+    /**
+     * Get the parameters used for the next run. Edit the superlayer and
+     * composite parameters of this object to change the settings.
+     *
+     * @return the parameters
+     */
+    public Clas12NoiseAnalysis getParameters() {
+	return _parameters;
+    }
+
+    /**
+     * Get the running statistics, accumulated over all runs since the last
+     * {@link Clas12NoiseStatistics#clear()}
+     *
+     * @return the running statistics
+     */
+    public Clas12NoiseStatistics getStatistics() {
+	return _statistics;
+    }
+
+    /**
+     * Analyze all the events of an iterable
+     *
+     * @param events
+     *            the events
+     * @param listener
+     *            receives the analyzed events, may be <code>null</code>
+     * @return the running statistics
+     */
+    public Clas12NoiseStatistics process(Iterable<Clas12NoiseEvent> events,
+	    Clas12NoiseListener listener) {
+	return process(events.iterator(), listener);
+    }
+
+    /**
+     * Analyze all the events of an iterator. Returns when every event has
+     * been analyzed and delivered to the listener.
+     *
+     * @param events
+     *            the events
+     * @param listener
+     *            receives the analyzed events in input order, may be
+     *            <code>null</code>
+     * @return the running statistics
+     */
+    public Clas12NoiseStatistics process(Iterator<Clas12NoiseEvent> events,
+	    Clas12NoiseListener listener) {
+
+	// the pool is idle, so this is safe
+	for (Clas12NoiseAnalysis analysis : _pool) {
+	    analysis.copyEditableParameters(_parameters);
+	}
+
+	int window = _numThreads * EVENTSPERTHREAD;
+	ArrayDeque<Future<Clas12NoiseEvent>> inFlight = new ArrayDeque<Future<Clas12NoiseEvent>>(
+		window);
+
+	try {
+	    while (events.hasNext()) {
+		if (inFlight.size() >= window) {
+		    deliver(inFlight.poll(), listener);
+		}
+		final Clas12NoiseEvent event = events.next();
+		inFlight.add(_executor.submit(new Callable<Clas12NoiseEvent>() {
+
+		    @Override
+		    public Clas12NoiseEvent call() throws Exception {
+			analyze(event);
+			return event;
+		    }
+		}));
+	    }
+
+	    while (!inFlight.isEmpty()) {
+		deliver(inFlight.poll(), listener);
+	    }
+	} finally {
+	    // on failure, cancel the events not yet started and wait for the
+	    // running ones to return their analyses, so that the next run
+	    // really does start with an idle pool
+	    if (!inFlight.isEmpty()) {
+		for (Future<Clas12NoiseEvent> future : inFlight) {
+		    future.cancel(false);
+		}
+		awaitIdlePool();
+	    }
+	}
+
+	return _statistics;
+    }
+
+    // wait until every pooled analysis has been returned
+    private void awaitIdlePool() {
+	ArrayList<Clas12NoiseAnalysis> idle = new ArrayList<Clas12NoiseAnalysis>(
+		_numThreads);
+	boolean interrupted = false;
+	try {
+	    while (idle.size() < _numThreads) {
+		try {
+		    idle.add(_pool.take());
+		} catch (InterruptedException e) {
+		    interrupted = true;
+		}
+	    }
+	} finally {
+	    _pool.addAll(idle);
+	    if (interrupted) {
+		Thread.currentThread().interrupt();
+	    }
+	}
+    }
+
+    // wait for an event, add it to the statistics and pass it on
+    private void deliver(Future<Clas12NoiseEvent> future,
+	    Clas12NoiseListener listener) {
+	Clas12NoiseEvent event;
+	try {
+	    event = future.get();
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new RuntimeException("noise analysis interrupted");
+	} catch (ExecutionException e) {
+	    Throwable cause = e.getCause();
+	    if (cause instanceof RuntimeException) {
+		throw (RuntimeException) cause;
+	    }
+	    throw new RuntimeException(cause);
+	}
+
+	_statistics.add(event);
+	if (listener != null) {
+	    listener.eventAnalyzed(event);
+	}
+    }
+
+    // analyze one event with a pooled analysis. Runs on a worker thread.
+    private void analyze(Clas12NoiseEvent event) throws InterruptedException {
+	Clas12NoiseAnalysis analysis = _pool.take();
+	try {
+	    analysis.clear();
+	    analysis.findNoise(event.sector, event.superlayer, event.layer,
+		    event.wire, event.result);
+
+	    if (event.sector != null) {
+		for (int sect = 0; sect < NUM_SECTOR; sect++) {
+		    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+			NoiseReductionParameters params = analysis
+				.getParameters(sect, supl);
+			event._rawCount[sect][supl] = params.totalRawHitCount();
+			event._reducedCount[sect][supl] = params
+				.totalReducedHitCount();
+		    }
+		}
+	    }
+	} finally {
+	    _pool.add(analysis);
+	}
+    }
+}
@@ -0,0 +1,93 @@
+package cnuphys.snr.clas12;
+
+/**
+ * The hits of one event for batch noise analysis, and after the analysis its
+ * results. The hit arrays are parallel and hold 1-based indices, just like
+ * in the clasio banks.
+ *
+ * @author heddle
+ *
+ */
+public class Clas12NoiseEvent {
+
+    /** a user supplied event number, not used by the analysis */
+    public final long eventNumber;
+
+    /** the 1-based sectors */
+    public final int sector[];
+
+    /** the 1-based superlayers */
+    public final int superlayer[];
+
+    /** the 1-based layers */
+    public final int layer[];
+
+    /** the 1-based wires */
+    public final int wire[];
+
+    /** the noise mask, parallel to the hit arrays. Filled by the analysis */
+    public final Clas12NoiseResult result = new Clas12NoiseResult();
+
+    // number of hit wires before and after noise removal, [sector][superlayer]
+    final int _rawCount[][] = new int[6][6];
+    final int _reducedCount[][] = new int[6][6];
+
+    /**
+     * Create an event
+     *
+     * @param eventNumber
+     *            a user supplied event number
+     * @param sector
+     *            the 1-based sectors
+     * @param superlayer
+     *            the 1-based superlayers
+     * @param layer
+     *            the 1-based layers
+     * @param wire
+     *            the 1-based wires
+     */
+    public Clas12NoiseEvent(long eventNumber, int sector[], int superlayer[],
+	    int layer[], int wire[]) {
+	this.eventNumber = eventNumber;
+	this.sector = sector;
+	this.superlayer = superlayer;
+	this.layer = layer;
+	this.wire = wire;
+    }
+
+    /**
+     * Get the number of hits
+     *
+     * @return the number of hits
+     */
+    public int getHitCount() {
+	return (sector == null) ? 0 : sector.length;
+    }
+
+    /**
+     * Get the number of hit wires in a superlayer before noise removal.
+     * Duplicate hits on a wire count once.
+     *
+     * @param sect
+     *            the 0-based sector
+     * @param supl
+     *            the 0-based superlayer
+     * @return the number of hit wires before noise removal
+     */
+    public int getRawCount(int sect, int supl) {
+	return _rawCount[sect][supl];
+    }
+
+    /**
+     * Get the number of hit wires in a superlayer after noise removal
+     *
+     * @param sect
+     *            the 0-based sector
+     * @param supl
+     *            the 0-based superlayer
+     * @return the number of hit wires after noise removal
+     */
+    public int getReducedCount(int sect, int supl) {
+	return _reducedCount[sect][supl];
+    }
+}
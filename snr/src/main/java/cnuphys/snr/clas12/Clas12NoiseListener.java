@@ -0,0 +1,19 @@
+package cnuphys.snr.clas12;
+
+/**
+ * Receives the events of a batch noise analysis as they are completed.
+ *
+ * @author heddle
+ *
+ */
+public interface Clas12NoiseListener {
+
+    /**
+     * An event has been analyzed. Events are delivered in input order, on the
+     * thread that called {@link Clas12NoiseBatch#process}.
+     *
+     * @param event
+     *            the event, with its noise result filled
+     */
+    public void eventAnalyzed(Clas12NoiseEvent event);
+}
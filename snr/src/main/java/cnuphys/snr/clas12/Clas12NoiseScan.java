@@ -0,0 +1,150 @@
+package cnuphys.snr.clas12;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import cnuphys.snr.ExtendedWord;
+import cnuphys.snr.NoiseParameterScan;
+import cnuphys.snr.NoiseReductionParameters;
+
+/**
+ * A parameter scan over clas12 events with truth. Each event is packed once
+ * per superlayer and every setting of the grid is evaluated on the packed
+ * data; see {@link NoiseParameterScan}. The efficiency/rejection table is
+ * accumulated over all superlayers of all events.
+ *
+ * @author heddle
+ *
+ */
+public class Clas12NoiseScan {
+
+    private static final int NUM_SECTOR = 6;
+    private static final int NUM_SUPERLAYER = 6;
+    private static final int NUM_LAYER = 6;
+    private static final int NUM_WIRE = 112;
+
+    // the scan engine
+    private final NoiseParameterScan _scan;
+
+    // packed signal and noise, [sector][superlayer][layer]
+    private final ExtendedWord _signal[][][] = new ExtendedWord[NUM_SECTOR][NUM_SUPERLAYER][NUM_LAYER];
+    private final ExtendedWord _noise[][][] = new ExtendedWord[NUM_SECTOR][NUM_SUPERLAYER][NUM_LAYER];
+
+    // superlayers with hits in the current event
+    private final boolean _hit[][] = new boolean[NUM_SECTOR][NUM_SUPERLAYER];
+
+    /**
+     * Create a scan over a set of settings
+     *
+     * @param settings
+     *            the settings, e.g. from {@link #createGrid}
+     */
+    public Clas12NoiseScan(List<NoiseReductionParameters> settings) {
+	_scan = new NoiseParameterScan(NUM_LAYER, NUM_WIRE, settings);
+	for (int sect = 0; sect < NUM_SECTOR; sect++) {
+	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+		for (int lay = 0; lay < NUM_LAYER; lay++) {
+		    _signal[sect][supl][lay] = new ExtendedWord(NUM_WIRE);
+		    _noise[sect][supl][lay] = new ExtendedWord(NUM_WIRE);
+		}
+	    }
+	}
+    }
+
+    /**
+     * Create a grid of clas12 sized settings: every combination of the
+     * allowed missing layers, left layer shifts and right layer shifts.
+     *
+     * @param allowedMissingLayers
+     *            the values of allowed missing layers
+     * @param leftLayerShifts
+     *            the sets of left layer shifts
+     * @param rightLayerShifts
+     *            the sets of right layer shifts
+     * @return the settings
+     */
+    public static List<NoiseReductionParameters> createGrid(
+	    int allowedMissingLayers[], int leftLayerShifts[][],
+	    int rightLayerShifts[][]) {
+	return NoiseParameterScan.createGrid(NUM_LAYER, NUM_WIRE,
+		allowedMissingLayers, leftLayerShifts, rightLayerShifts);
+    }
+
+    /**
+     * Add an event. The input arrays contain 1-based indices, just like in the
+     * clasio banks.
+     *
+     * @param sector
+     *            the sector array
+     * @param superlayer
+     *            the superlayer array
+     * @param layer
+     *            the layer array
+     * @param wire
+     *            the wire array
+     * @param noise
+     *            the truth: <code>true</code> for noise hits
+     */
+    public void addEvent(int sector[], int superlayer[], int layer[],
+	    int wire[], boolean noise[]) {
+	if (sector == null) {
+	    return;
+	}
+
+	for (int hit = 0; hit < sector.length; hit++) {
+	    int sect0 = sector[hit] - 1;
+	    int supl0 = superlayer[hit] - 1;
+	    int lay0 = layer[hit] - 1;
+	    int wire0 = wire[hit] - 1;
+
+	    if (noise[hit]) {
+		_noise[sect0][supl0][lay0].setBit(wire0);
+	    } else {
+		_signal[sect0][supl0][lay0].setBit(wire0);
+	    }
+	    _hit[sect0][supl0] = true;
+	}
+
+	// empty superlayers add nothing, so skip them
+	for (int sect = 0; sect < NUM_SECTOR; sect++) {
+	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+		if (_hit[sect][supl]) {
+		    _scan.setHits(_signal[sect][supl], _noise[sect][supl]);
+		    _scan.analyze();
+
+		    for (int lay = 0; lay < NUM_LAYER; lay++) {
+			_signal[sect][supl][lay].clear();
+			_noise[sect][supl][lay].clear();
+		    }
+		    _hit[sect][supl] = false;
+		}
+	    }
+	}
+    }
+
+    /**
+     * Get the scan engine, which holds the efficiency/rejection results
+     *
+     * @return the scan engine
+     */
+    public NoiseParameterScan getScan() {
+	return _scan;
+    }
+
+    /**
+     * Clear the accumulated results
+     */
+    public void clear() {
+	_scan.clear();
+    }
+
+    /**
+     * Print the efficiency/rejection table
+     *
+     * @param ps
+     *            the stream to print to
+     */
+    public void printTable(PrintStream ps) {
+	_scan.printTable(ps);
+    }
+}
@@ -0,0 +1,176 @@
+package cnuphys.snr.clas12;
+
+/**
+ * Running raw and noise reduced occupancy statistics over many events, per
+ * sector and superlayer.
+ *
+ * @author heddle
+ *
+ */
+public class Clas12NoiseStatistics {
+
+    private static final int NUM_SECTOR = 6;
+    private static final int NUM_SUPERLAYER = 6;
+
+    // wires in a superlayer
+    private static final int NUM_CELL = 6 * 112;
+
+    // number of events
+    private long _eventCount;
+
+    // number of hits, and the number flagged as noise
+    private long _hitCount;
+    private long _noiseCount;
+
+    // cumulative hit wire counts, [sector][superlayer]
+    private final long _rawCount[][] = new long[NUM_SECTOR][NUM_SUPERLAYER];
+    private final long _reducedCount[][] = new long[NUM_SECTOR][NUM_SUPERLAYER];
+
+    /**
+     * Add an analyzed event
+     *
+     * @param event
+     *            the event
+     */
+    public void add(Clas12NoiseEvent event) {
+	_eventCount++;
+	_hitCount += event.getHitCount();
+
+	boolean noise[] = event.result.noise;
+	if (noise != null) {
+	    for (boolean b : noise) {
+		if (b) {
+		    _noiseCount++;
+		}
+	    }
+	}
+
+	for (int sect = 0; sect < NUM_SECTOR; sect++) {
+	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+		_rawCount[sect][supl] += event._rawCount[sect][supl];
+		_reducedCount[sect][supl] += event._reducedCount[sect][supl];
+	    }
+	}
+    }
+
+    /**
+     * Reset all the statistics
+     */
+    public void clear() {
+	_eventCount = 0;
+	_hitCount = 0;
+	_noiseCount = 0;
+	for (int sect = 0; sect < NUM_SECTOR; sect++) {
+	    for (int supl = 0; supl < NUM_SUPERLAYER; supl++) {
+		_rawCount[sect][supl] = 0;
+		_reducedCount[sect][supl] = 0;
+	    }
+	}
+    }
+
+    /**
+     * Get the number of events
+     *
+     * @return the number of events
+     */
+    public long getEventCount() {
+	return _eventCount;
+    }
+
+    /**
+     * Get the total number of hits
+     *
+     * @return the total number of hits
+     */
+    public long getHitCount() {
+	return _hitCount;
+    }
+
+    /**
+     * Get the total number of hits flagged as noise
+     *
+     * @return the number of noise hits
+     */
+    public long getNoiseCount() {
+	return _noiseCount;
+    }
+
+    /**
+     * Get the fraction of hits flagged as noise
+     *
+     * @return the noise fraction, 0 if there are no hits
+     */
+    public double getNoiseFraction() {
+	return (_hitCount == 0) ? 0 : ((double) _noiseCount) / _hitCount;
+    }
+
+    /**
+     * Get the average raw occupancy of a superlayer
+     *
+     * @param sect
+     *            the 0-based sector
+     * @param supl
+     *            the 0-based superlayer
+     * @return the raw occupancy. Multiply by 100 to express as percent.
+     */
+    public double getRawOccupancy(int sect, int supl) {
+	return occupancy(_rawCount[sect][supl], _eventCount);
+    }
+
+    /**
+     * Get the average noise reduced occupancy of a superlayer
+     *
+     * @param sect
+     *            the 0-based sector
+     * @param supl
+     *            the 0-based superlayer
+     * @return the reduced occupancy. Multiply by 100 to express as percent.
+     */
+    public double getReducedOccupancy(int sect, int supl) {
+	return occupancy(_reducedCount[sect][supl], _eventCount);
+    }
+
+    /**
+     * Get the average raw occupancy of the whole detector
+     *
+     * @return the raw occupancy. Multiply by 100 to express as percent.
+     */
+    public double getRawOccupancy() {
+	return occupancy(sum(_rawCount), _eventCount * NUM_SECTOR
+		* NUM_SUPERLAYER);
+    }
+
+    /**
+     * Get the average noise reduced occupancy of the whole detector
+     *
+     * @return the reduced occupancy. Multiply by 100 to express as percent.
+     */
+    public double getReducedOccupancy() {
+	return occupancy(sum(_reducedCount), _eventCount * NUM_SECTOR
+		* NUM_SUPERLAYER);
+    }
+
+    @Override
+    public String toString() {
+	return String.format(
+		"events %d hits %d noise %d (%.2f%%) occupancy raw %.3f%% reduced %.3f%%",
+		_eventCount, _hitCount, _noiseCount, 100 * getNoiseFraction(),
+		100 * getRawOccupancy(), 100 * getReducedOccupancy());
+    }
+
+    // occupancy from a wire count and number of superlayer-events
+    private static double occupancy(long count, long n) {
+	return (n == 0) ? 0 : ((double) count) / (n * NUM_CELL);
+    }
+
+    // sum over sectors and superlayers
+    private static long sum(long counts[][]) {
+	long sum = 0;
+	for (long row[] : counts) {
+	    for (long c : row) {
+		sum += c;
+	    }
+	}
+	return sum;
+    }
+}
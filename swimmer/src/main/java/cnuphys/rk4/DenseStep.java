@@ -0,0 +1,121 @@
+package cnuphys.rk4;
+
+/**
+ * The continuous interpolant for one accepted Dormand-Prince step. This is the
+ * standard 4th order continuous extension of the 5(4) pair (Hairer, Norsett &
+ * Wanner), built from the stages already computed for the step, so it costs
+ * no extra derivative evaluations. It is exact at both ends of the step.
+ */
+public class DenseStep {
+
+    // the dense output coefficients for Dormand-Prince
+    private static final double D1 = -12715105075.0 / 11282082432.0;
+    private static final double D3 = 87487479700.0 / 32700410799.0;
+    private static final double D4 = -10690763975.0 / 1880347072.0;
+    private static final double D5 = 701980252875.0 / 199316789632.0;
+    private static final double D6 = -1453857185.0 / 822651844.0;
+    private static final double D7 = 69997945.0 / 29380423.0;
+
+    // start of the step and the step size
+    private double _t0;
+    private double _h;
+
+    // the interpolation coefficients
+    private final double _r1[];
+    private final double _r2[];
+    private final double _r3[];
+    private final double _r4[];
+    private final double _r5[];
+
+    /**
+     * Create the storage for the interpolant
+     *
+     * @param nDim
+     *            the dimension of the problem
+     */
+    DenseStep(int nDim) {
+	_r1 = new double[nDim];
+	_r2 = new double[nDim];
+	_r3 = new double[nDim];
+	_r4 = new double[nDim];
+	_r5 = new double[nDim];
+    }
+
+    /**
+     * Set the interpolant from an accepted step
+     *
+     * @param t0
+     *            the start of the step
+     * @param h
+     *            the step size
+     * @param y0
+     *            the state at the start of the step
+     * @param y1
+     *            the state at the end of the step
+     * @param k
+     *            the derivatives at the stages, k[1] through k[7], where k[7]
+     *            is the derivative at the end of the step
+     */
+    void set(double t0, double h, double y0[], double y1[], double k[][]) {
+	_t0 = t0;
+	_h = h;
+	for (int i = 0; i < _r1.length; i++) {
+	    double ydiff = y1[i] - y0[i];
+	    double bspl = h * k[1][i] - ydiff;
+	    _r1[i] = y0[i];
+	    _r2[i] = ydiff;
+	    _r3[i] = bspl;
+	    _r4[i] = ydiff - h * k[7][i] - bspl;
+	    _r5[i] = h
+		    * (D1 * k[1][i] + D3 * k[3][i] + D4 * k[4][i] + D5
+			    * k[5][i] + D6 * k[6][i] + D7 * k[7][i]);
+	}
+    }
+
+    /**
+     * Interpolate the state within the step
+     *
+     * @param t
+     *            the value of the independent variable, which should be in
+     *            [getT0(), getT1()]
+     * @param y
+     *            will be filled with the interpolated state
+     */
+    public void interpolate(double t, double y[]) {
+	double theta = (t - _t0) / _h;
+	double theta1 = 1 - theta;
+	for (int i = 0; i < _r1.length; i++) {
+	    y[i] = _r1[i]
+		    + theta
+		    * (_r2[i] + theta1
+			    * (_r3[i] + theta * (_r4[i] + theta1 * _r5[i])));
+	}
+    }
+
+    /**
+     * Get the value of the independent variable at the start of the step
+     *
+     * @return the start of the step
+     */
+    public double getT0() {
+	return _t0;
+    }
+
+    /**
+     * Get the value of the independent variable at the end of the step
+     *
+     * @return the end of the step
+     */
+    public double getT1() {
+	return _t0 + _h;
+    }
+
+    /**
+     * Get the step size
+     *
+     * @return the step size
+     */
+    public double getH() {
+	return _h;
+    }
+}
@@ -0,0 +1,17 @@
+package cnuphys.rk4;
+
+/**
+ * Listener for integrations with dense output. It is handed the continuous
+ * interpolant for every accepted step.
+ */
+public interface IDenseOutputListener {
+
+    /**
+     * The integration has accepted a step
+     * 
+     * @param step
+     *            the interpolant valid over the step. It is reused by the
+     *            integrator, so it must not be held beyond this call.
+     */
+    public void nextStep(DenseStep step);
+}
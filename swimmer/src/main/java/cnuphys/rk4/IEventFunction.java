@@ -0,0 +1,22 @@
+package cnuphys.rk4;
+
+/**
+ * A surface (event) function for event location. An event occurs where the
+ * function changes sign along the integration, for example g = z - zTarget
+ * for a plane of constant z. For best results the function should be smooth
+ * and, when the independent variable is path length, behave like a signed
+ * distance.
+ */
+public interface IEventFunction {
+
+    /**
+     * Evaluate the event function
+     * 
+     * @param t
+     *            the value of the independent variable (typically pathlength)
+     * @param y
+     *            the state vector (typically [x, y, z, vx, vy, vz])
+     * @return the value of the function. An event is a sign change.
+     */
+    public double value(double t, double y[]);
+}
@@ -14,43 +14,128 @@ public class RungeKutta4 {
     // for adaptive stepsize, this is how much h will grow
     private static final double HGROWTH = 1.5;
 
+    // step size control limits for the dense output driver
+    private static final double SAFETY = 0.9;
+    private static final double MINSCALE = 0.2;
+    private static final double MAXSCALE = 5.0;
+
+    // max number of iterations when locating an event
+    private static final int MAXEVENTITER = 100;
+
     private static double MINSTEPSIZE = 1.0e-8;
     private static double MAXSTEPSIZE = 0.2;
 
-    // the max dimension we'll use is probably 6, for state vectors
-    // [x,y,z,vx,vy,vz].
-    private static int MAXDIM = 10; // we'll know if this fails!
-
-    // used for work arrays
-    // public static Vector<double[]> arrayPool;
-
-    // static {
-    // int initCap = 20;
-    // arrayPool = new Vector<double[]>(initCap, 10);
-    // }
-
-    // obtain a work array from the pool
-    // private static double[] getWorkArray() {
-    // synchronized (arrayPool) {
-    // if (arrayPool.isEmpty()) {
-    // return new double[MAXDIM];
-    // }
-    // else {
-    // return arrayPool.remove(arrayPool.size()-1);
-    // }
-    // }
-    // }
-
-    private double[] getWorkArray() {
-	return new double[MAXDIM];
-    }
+    // The work space. It is owned by this object so that an integration,
+    // no matter how many steps, does no heap allocation. This also means a
+    // RungeKutta4 object must not be used by more than one thread at a time.
+    // The arrays are exactly the dimension of the problem, since the state
+    // array is handed to listeners and stoppers.
+    private int _workDim = -1;
+
+    // driver work arrays: current state, trial state, derivatives and error
+    private double _yt[];
+    private double _yt2[];
+    private double _dydt[];
+    private double _error[];
+
+    // advancer work arrays
+    private double _yfull[];
+    private double _k2[];
+    private double _k3[];
+    private double _k4[];
+    private double _ytemp[];
+    private double _k[][];
+
+    // the interpolant for the dense output driver
+    private DenseStep _denseStep;
+
+    // where the last event was found, NaN if none
+    private double _eventT = Double.NaN;
+
+    // the advancers are also reused
+    private UniformAdvance _uniformAdvance;
+    private HalfStepAdvance _halfStepAdvance;
+    private ButcherTableauAdvance _tableauAdvance;
 
     /**
-     * Create a RungeKutta4 object that can be used for integration
+     * Create a RungeKutta4 object that can be used for integration. The object
+     * owns its work space, which is allocated on first use, so reusing it (on
+     * one thread) for many integrations of the same dimension avoids all
+     * allocation.
      */
     public RungeKutta4() {
     }
 
+    /**
+     * Create a RungeKutta4 object with a work space for problems of the given
+     * dimension. The object owns its work space, so reusing it (on one thread)
+     * for many integrations avoids all allocation.
+     * 
+     * @param nDim
+     *            the dimension of the problem, e.g. 6 for [x,y,z,vx,vy,vz]
+     */
+    public RungeKutta4(int nDim) {
+	allocateWorkSpace(nDim);
+    }
+
+    // (re)allocate the work space
+    private void allocateWorkSpace(int nDim) {
+	_workDim = nDim;
+	_yt = new double[nDim];
+	_yt2 = new double[nDim];
+	_dydt = new double[nDim];
+	_error = new double[nDim];
+	_yfull = new double[nDim];
+	_k2 = new double[nDim];
+	_k3 = new double[nDim];
+	_k4 = new double[nDim];
+	_ytemp = new double[nDim];
+	_k = null;
+	_denseStep = new DenseStep(nDim);
+    }
+
+    // make sure the work space matches the dimension of the problem
+    private void checkWorkSpace(int nDim) {
+	if (nDim != _workDim) {
+	    allocateWorkSpace(nDim);
+	}
+    }
+
+    // get the stage vectors for a Butcher tableau advance
+    private double[][] getStages(int numStage) {
+	if ((_k == null) || (_k.length < (numStage + 1))) {
+	    _k = new double[numStage + 1][];
+	    for (int s = 1; s <= numStage; s++) {
+		_k[s] = new double[_workDim];
+	    }
+	}
+	return _k;
+    }
+
+    // get the uniform advancer
+    private UniformAdvance uniformAdvance() {
+	if (_uniformAdvance == null) {
+	    _uniformAdvance = new UniformAdvance();
+	}
+	return _uniformAdvance;
+    }
+
+    // get the half step advancer
+    private HalfStepAdvance halfStepAdvance() {
+	if (_halfStepAdvance == null) {
+	    _halfStepAdvance = new HalfStepAdvance();
+	}
+	return _halfStepAdvance;
+    }
+
+    // get a Butcher tableau advancer
+    private ButcherTableauAdvance tableauAdvance(ButcherTableau tableau) {
+	if ((_tableauAdvance == null) || (_tableauAdvance.tableau != tableau)) {
+	    _tableauAdvance = new ButcherTableauAdvance(tableau);
+	}
+	return _tableauAdvance;
+    }
+
     /**
      * Driver that uses the RungeKutta advance with a uniform step size. (i.e.,
      * this does NOT use an adaptive step size.)
@@ -158,7 +243,7 @@ public class RungeKutta4 {
     public int uniformStep(double yo[], double to, double tf, double h,
 	    IDerivative deriv, IStopper stopper, IRk4Listener listener) {
 
-	UniformAdvance advancer = new UniformAdvance();
+	UniformAdvance advancer = uniformAdvance();
 	return driver(yo, to, tf, h, deriv, stopper, listener, advancer);
     }
 
@@ -196,7 +281,7 @@ public class RungeKutta4 {
 	    IDerivative deriv, IStopper stopper, IRk4Listener listener,
 	    ButcherTableau tableau) {
 
-	ButcherTableauAdvance advancer = new ButcherTableauAdvance(tableau);
+	ButcherTableauAdvance advancer = tableauAdvance(tableau);
 	return driver(yo, to, tf, h, deriv, stopper, listener, advancer);
     }
 
@@ -379,7 +464,7 @@ public class RungeKutta4 {
 	    double relTolerance[], double hdata[]) throws RungeKuttaException {
 
 	// use a simple half-step advance
-	IAdvance advancer = new HalfStepAdvance();
+	IAdvance advancer = halfStepAdvance();
 
 	return driverToTf(yo, to, tf, h, deriv, stopper, listener, advancer,
 		relTolerance, hdata);
@@ -432,7 +517,7 @@ public class RungeKutta4 {
 
 	// ButcherTableauAdvance advancer = new ButcherTableauAdvance(tableau);
 	// use a simple half-step advance
-	IAdvance advancer = new HalfStepAdvance();
+	IAdvance advancer = halfStepAdvance();
 	return driver(yo, to, tf, h, deriv, stopper, listener, advancer,
 		relTolerance, hdata);
     }
@@ -559,7 +644,7 @@ public class RungeKutta4 {
 
 	// ButcherTableauAdvance advancer = new ButcherTableauAdvance(tableau);
 	// use a simple half-step advance
-	IAdvance advancer = new HalfStepAdvance();
+	IAdvance advancer = halfStepAdvance();
 	return driver(yo, to, tf, h, deriv, stopper, listener, advancer, eps,
 		yscale, hdata);
     }
@@ -611,8 +696,9 @@ public class RungeKutta4 {
 
 	// yt is the current value of the state vector,
 	// typically [x, y, z, vx, vy, vz] and derivative
-	double yt[] = new double[nDim];
-	double dydt[] = new double[nDim];
+	checkWorkSpace(nDim);
+	double yt[] = _yt;
+	double dydt[] = _dydt;
 
 	double t = to;
 	for (int i = 0; i < nDim; i++) {
@@ -625,7 +711,9 @@ public class RungeKutta4 {
 
 	    advancer.advance(t, yt, dydt, h, deriv, yt, null);
 	    t += h;
-	    stopper.setFinalT(t);
+	    if (stopper != null) {
+		stopper.setFinalT(t);
+	    }
 
 	    // someone listening?
 	    if (listener != null) {
@@ -706,12 +794,13 @@ public class RungeKutta4 {
 
 	// yt is the current value of the state vector,
 	// typically [x, y, z, vx, vy, vz] and derivative
-	double yt[] = new double[nDim];
-	double yt2[] = new double[nDim];
-	double dydt[] = new double[nDim];
+	checkWorkSpace(nDim);
+	double yt[] = _yt;
+	double yt2[] = _yt2;
+	double dydt[] = _dydt;
 
 	// do we compute error?
-	double error[] = new double[nDim];
+	double error[] = _error;
 
 	double t = to;
 	for (int i = 0; i < nDim; i++) {
@@ -771,7 +860,9 @@ public class RungeKutta4 {
 		}
 
 		t += h;
-		stopper.setFinalT(t);
+		if (stopper != null) {
+		    stopper.setFinalT(t);
+		}
 		// System.out.println("z = " + t);
 		nstep++;
 
@@ -867,12 +958,13 @@ public class RungeKutta4 {
 
 	// yt is the current value of the state vector,
 	// typically [x, y, z, vx, vy, vz] and derivative
-	double yt[] = new double[nDim];
-	double yt2[] = new double[nDim];
-	double dydt[] = new double[nDim];
+	checkWorkSpace(nDim);
+	double yt[] = _yt;
+	double yt2[] = _yt2;
+	double dydt[] = _dydt;
 
 	// do we compute error?
-	double error[] = new double[nDim];
+	double error[] = _error;
 
 	double t = to;
 	for (int i = 0; i < nDim; i++) {
@@ -915,7 +1007,9 @@ public class RungeKutta4 {
 		}
 
 		t += h;
-		stopper.setFinalT(t);
+		if (stopper != null) {
+		    stopper.setFinalT(t);
+		}
 
 		nstep++;
 
@@ -1020,12 +1114,13 @@ public class RungeKutta4 {
 
 	// yt is the current value of the state vector,
 	// typically [x, y, z, vx, vy, vz] and derivative
-	double yt[] = new double[nDim];
-	double yt2[] = new double[nDim];
-	double dydt[] = new double[nDim];
+	checkWorkSpace(nDim);
+	double yt[] = _yt;
+	double yt2[] = _yt2;
+	double dydt[] = _dydt;
 
 	// do we compute error?
-	double error[] = new double[nDim];
+	double error[] = _error;
 
 	double t = to;
 	for (int i = 0; i < nDim; i++) {
@@ -1066,7 +1161,9 @@ public class RungeKutta4 {
 		}
 
 		t += h;
-		stopper.setFinalT(t);
+		if (stopper != null) {
+		    stopper.setFinalT(t);
+		}
 		nstep++;
 
 		// someone listening?
@@ -1099,6 +1196,320 @@ public class RungeKutta4 {
 	return nstep;
     }
 
+    /**
+     * Integrator that uses the Dormand-Prince 5(4) pair with an adaptive step
+     * size and dense output. The error test is the same as for the other
+     * adaptive drivers (each component of the error vector compared against
+     * the tolerance vector) but the step size is controlled with the usual
+     * error-per-step formula, so steps are as large as the tolerance allows.
+     * The derivative at the end of a step is reused as the first stage of the
+     * next one. For every accepted step the dense listener is handed the
+     * continuous interpolant, which costs no extra derivative evaluations.
+     * 
+     * @param yo
+     *            initial values. Probably something like (xo, yo, zo, vxo, vyo,
+     *            vzo).
+     * @param to
+     *            the initial value of the independent variable, e.g., time.
+     * @param tf
+     *            the maximum value of the independent variable.
+     * @param h
+     *            the starting step size
+     * @param deriv
+     *            the derivative computer (interface). This is where the problem
+     *            specificity resides.
+     * @param stopper
+     *            if not <code>null</code> will be used to exit the integration
+     *            early because some condition has been reached.
+     * @param listener
+     *            listens for each step, may be <code>null</code>
+     * @param denseListener
+     *            is handed the interpolant for each step, may be
+     *            <code>null</code>
+     * @param relTolerance
+     *            the error tolerance as fractional diffs. Note it is a vector,
+     *            the same dimension of the problem
+     * @param hdata
+     *            if not null, should be double[3]. Upon return, hdata[0] is the
+     *            min stepsize used, hdata[1] is the average stepsize used, and
+     *            hdata[2] is the max stepsize used
+     * @return the number of steps used.
+     * @throws RungeKuttaException
+     */
+    public int adaptiveStepDense(double yo[], double to, double tf, double h,
+	    IDerivative deriv, IStopper stopper, IRk4Listener listener,
+	    IDenseOutputListener denseListener, double relTolerance[],
+	    double hdata[]) throws RungeKuttaException {
+	return denseDriver(yo, to, tf, h, deriv, stopper, listener,
+		denseListener, null, 0, relTolerance, hdata);
+    }
+
+    /**
+     * Integrator with event location. Same as the dense output driver, but
+     * after each accepted step the event function is checked for a sign
+     * change. If there is one, the crossing is located by root finding on the
+     * interpolant, the integration stops there, and the listener and stopper
+     * are given the state at the event. Use {@link #getEventT()} to find out
+     * if and where the event was found. Because the crossing is found by
+     * interpolation, large steps can be taken right up to the surface.
+     * 
+     * @param yo
+     *            initial values. Probably something like (xo, yo, zo, vxo, vyo,
+     *            vzo).
+     * @param to
+     *            the initial value of the independent variable, e.g., time.
+     * @param tf
+     *            the maximum value of the independent variable.
+     * @param h
+     *            the starting step size
+     * @param deriv
+     *            the derivative computer (interface). This is where the problem
+     *            specificity resides.
+     * @param stopper
+     *            if not <code>null</code> will be used to exit the integration
+     *            early because some condition has been reached.
+     * @param listener
+     *            listens for each step, may be <code>null</code>
+     * @param event
+     *            the event function. An event is a change of sign.
+     * @param eventAccuracy
+     *            the event is located to this accuracy in the independent
+     *            variable
+     * @param relTolerance
+     *            the error tolerance as fractional diffs. Note it is a vector,
+     *            the same dimension of the problem
+     * @param hdata
+     *            if not null, should be double[3]. Upon return, hdata[0] is the
+     *            min stepsize used, hdata[1] is the average stepsize used, and
+     *            hdata[2] is the max stepsize used
+     * @return the number of steps used.
+     * @throws RungeKuttaException
+     */
+    public int adaptiveStepToEvent(double yo[], double to, double tf,
+	    double h, IDerivative deriv, IStopper stopper,
+	    IRk4Listener listener, IEventFunction event, double eventAccuracy,
+	    double relTolerance[], double hdata[]) throws RungeKuttaException {
+	return denseDriver(yo, to, tf, h, deriv, stopper, listener, null,
+		event, eventAccuracy, relTolerance, hdata);
+    }
+
+    /**
+     * Get the value of the independent variable where the last integration
+     * with event location found the event.
+     * 
+     * @return the location of the last event, or NaN if the last integration
+     *         did not find one
+     */
+    public double getEventT() {
+	return _eventT;
+    }
+
+    // the Dormand-Prince driver with dense output and optional event location
+    private int denseDriver(double yo[], double to, double tf, double h,
+	    IDerivative deriv, IStopper stopper, IRk4Listener listener,
+	    IDenseOutputListener denseListener, IEventFunction event,
+	    double eventAccuracy, double relTolerance[], double hdata[])
+	    throws RungeKuttaException {
+
+	ButcherTableau tableau = ButcherTableau.DORMAND_PRINCE;
+	int numStage = tableau.getS();
+
+	_eventT = Double.NaN;
+
+	// capture stepsize data?
+	if (hdata != null) {
+	    hdata[0] = h;
+	    hdata[1] = 0.;
+	    hdata[2] = h;
+	}
+
+	// the dimensionality of the problem. E.., 6 if (x, y, z, vx, vy, vz)
+	int nDim = yo.length;
+
+	checkWorkSpace(nDim);
+	double yt[] = _yt;
+	double y1[] = _yt2;
+	double ytemp[] = _ytemp;
+	double k[][] = getStages(numStage);
+	DenseStep dense = _denseStep;
+
+	double t = to;
+	for (int i = 0; i < nDim; i++) {
+	    yt[i] = yo[i];
+	}
+
+	// first stage, after this it comes for free from the previous step
+	deriv.derivative(t, yt, k[1]);
+
+	double g0 = (event == null) ? 0 : event.value(t, yt);
+
+	int nstep = 0;
+	while (t < tf) {
+
+	    // don't step past tf
+	    boolean lastStep = false;
+	    if ((t + h) >= tf) {
+		h = tf - t;
+		lastStep = true;
+	    }
+
+	    // stages 2 through 6
+	    for (int s = 2; s < numStage; s++) {
+		for (int i = 0; i < nDim; i++) {
+		    double sum = 0;
+		    for (int ss = 1; ss < s; ss++) {
+			sum += tableau.a(s, ss) * k[ss][i];
+		    }
+		    ytemp[i] = yt[i] + h * sum;
+		}
+		deriv.derivative(t + tableau.c(s) * h, ytemp, k[s]);
+	    }
+
+	    // the 5th order solution, and the derivative there which is the
+	    // last stage
+	    for (int i = 0; i < nDim; i++) {
+		double sum = 0;
+		for (int s = 1; s < numStage; s++) {
+		    sum += tableau.bstar(s) * k[s][i];
+		}
+		y1[i] = yt[i] + h * sum;
+	    }
+	    deriv.derivative(t + h, y1, k[numStage]);
+
+	    // error relative to tolerance
+	    double errMax = 0;
+	    for (int i = 0; i < nDim; i++) {
+		double err = 0;
+		for (int s = 1; s <= numStage; s++) {
+		    err += tableau.bdiff(s) * k[s][i];
+		}
+		errMax = Math.max(errMax, Math.abs(h * err) / relTolerance[i]);
+	    }
+
+	    if (errMax > 1.0) {
+		h = h
+			* Math.max(MINSCALE,
+				SAFETY * Math.pow(errMax, -0.2));
+		if (h < MINSTEPSIZE) {
+		    throw (new RungeKuttaException(
+			    "Step size too small in Runge Kutta driver (C)"));
+		}
+		continue;
+	    }
+
+	    // accepted this step
+	    if (hdata != null) {
+		hdata[0] = Math.min(hdata[0], h);
+		hdata[1] += h;
+		hdata[2] = Math.max(hdata[2], h);
+	    }
+
+	    dense.set(t, h, yt, y1, k);
+	    nstep++;
+
+	    if (denseListener != null) {
+		denseListener.nextStep(dense);
+	    }
+
+	    double hused = h;
+	    double newt = lastStep ? tf : t + h;
+
+	    // event?
+	    boolean eventFound = false;
+	    if (event != null) {
+		double g1 = event.value(newt, y1);
+		if (((g0 < 0) && (g1 >= 0)) || ((g0 > 0) && (g1 <= 0))) {
+		    double tevent = locateEvent(event, dense, t, newt, g0, g1,
+			    eventAccuracy, ytemp);
+		    dense.interpolate(tevent, y1);
+		    hused = tevent - t;
+		    newt = tevent;
+		    eventFound = true;
+		    _eventT = tevent;
+		}
+		g0 = g1;
+	    }
+
+	    // advance, the last stage becomes the first stage of the next step
+	    t = newt;
+	    for (int i = 0; i < nDim; i++) {
+		yt[i] = y1[i];
+	    }
+	    double swap[] = k[1];
+	    k[1] = k[numStage];
+	    k[numStage] = swap;
+
+	    if (stopper != null) {
+		stopper.setFinalT(t);
+	    }
+
+	    // someone listening?
+	    if (listener != null) {
+		listener.nextStep(t, yt, hused);
+	    }
+
+	    // premature termination? Skip if stopper is null.
+	    if (eventFound
+		    || ((stopper != null) && stopper.stopIntegration(t, yt))) {
+		break;
+	    }
+
+	    double scale = (errMax == 0) ? MAXSCALE : Math.min(MAXSCALE,
+		    SAFETY * Math.pow(errMax, -0.2));
+	    h = Math.min(h * scale, MAXSTEPSIZE);
+	}
+
+	if ((hdata != null) && (nstep > 0)) {
+	    hdata[1] = hdata[1] / nstep;
+	}
+	return nstep;
+    }
+
+    // locate the zero of the event function within a step using the
+    // Illinois variant of regula falsi on the interpolant
+    private double locateEvent(IEventFunction event, DenseStep dense,
+	    double ta, double tb, double ga, double gb, double accuracy,
+	    double y[]) {
+
+	if (gb == 0) {
+	    return tb;
+	}
+
+	int side = 0;
+	for (int iter = 0; iter < MAXEVENTITER; iter++) {
+	    if (Math.abs(tb - ta) <= accuracy) {
+		break;
+	    }
+
+	    double tc = (ga * tb - gb * ta) / (ga - gb);
+	    dense.interpolate(tc, y);
+	    double gc = event.value(tc, y);
+
+	    if (gc == 0) {
+		return tc;
+	    }
+
+	    if ((gc < 0) == (gb < 0)) {
+		tb = tc;
+		gb = gc;
+		if (side == -1) {
+		    ga /= 2;
+		}
+		side = -1;
+	    } else {
+		ta = tc;
+		ga = gc;
+		if (side == 1) {
+		    gb /= 2;
+		}
+		side = 1;
+	    }
+	}
+
+	// the end of the bracket closest to the surface
+	return (Math.abs(ga) < Math.abs(gb)) ? ta : tb;
+    }
+
     // relative difference with no danger of dividing by zero
     private double relativeDiff(double a, double b) {
 
@@ -1130,11 +1541,11 @@ public class RungeKutta4 {
 
 	    // note that dydt (input) is k1
 	    double k1[] = dydt; // the current dreivatives
-	    // we need some arrays from the pool
-	    double k2[] = getWorkArray();
-	    double k3[] = getWorkArray();
-	    double k4[] = getWorkArray();
-	    double ytemp[] = getWorkArray();
+	    // work arrays owned by the integrator
+	    double k2[] = _k2;
+	    double k3[] = _k3;
+	    double k4[] = _k4;
+	    double ytemp[] = _ytemp;
 
 	    double hh = h * 0.5; // half step
 	    double h6 = h / 6.0;
@@ -1188,7 +1599,7 @@ public class RungeKutta4 {
 
 	public HalfStepAdvance() {
 	    // get a uniform advancer
-	    uniAdvance = new UniformAdvance();
+	    uniAdvance = uniformAdvance();
 	}
 
 	@Override
@@ -1198,7 +1609,7 @@ public class RungeKutta4 {
 	    // System.err.println("HALF STEP ADVANCE");
 	    // advance the full step
 	    int ndim = yout.length;
-	    double yfull[] = new double[ndim];
+	    double yfull[] = _yfull;
 	    uniAdvance.advance(t, y, dydt, h, deriv, yfull, null);
 
 	    // advance two half steps
@@ -1226,7 +1637,7 @@ public class RungeKutta4 {
     // a Butcher Tableau advancer
     class ButcherTableauAdvance implements IAdvance {
 
-	private ButcherTableau tableau;
+	private final ButcherTableau tableau;
 
 	public ButcherTableauAdvance(ButcherTableau tableau) {
 	    this.tableau = tableau;
@@ -1240,20 +1651,16 @@ public class RungeKutta4 {
 	    int nDim = y.length;
 	    int numStage = tableau.getS();
 
-	    double ytemp[] = getWorkArray();
-	    double k[][] = new double[numStage + 1][];
-	    k[0] = null; // not used
+	    double ytemp[] = _ytemp;
+	    double k[][] = getStages(numStage); // k[0] not used
 
 	    // k1 is just h*dydt
-	    k[1] = getWorkArray();
 	    for (int i = 0; i < nDim; i++) {
 		k[1][i] = h * dydt[i];
 	    }
 
 	    // fill the numStage k vectors
 	    for (int s = 2; s <= numStage; s++) {
-		k[s] = getWorkArray();
-
 		double ts = t + tableau.c(s);
 		for (int i = 0; i < nDim; i++) {
 		    ytemp[i] = y[i];
@@ -0,0 +1,422 @@
+package cnuphys.swim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import cnuphys.magfield.IField;
+import cnuphys.rk4.IStopper;
+import cnuphys.rk4.RungeKuttaException;
+
+/**
+ * Swims a batch of particles concurrently. The tracks are split into
+ * contiguous chunks that are handed to an executor; each chunk writes its
+ * results directly into the output array, so results always come back in
+ * input order regardless of which thread did the work. Each swim gets its own
+ * derivative (and hence its own field probe) and its own stopper, so the only
+ * thing shared between threads is the read-only field map.
+ * <p>
+ * A track that fails to swim does not affect the others: its stack trace is
+ * printed and its slot in the output array is set to {@link #FAILED_TRAJECTORY}
+ * or {@link #FAILED_STATE}, which {@link #failed(SwimTrajectory)} and
+ * {@link #failed(double[])} test for. A track skipped for its low momentum is
+ * not a failure; it comes back the way the Swimmer returns it.
+ * <p>
+ * A batch swimmer can be retired with {@link #retire()}: batches already
+ * running finish normally, and its pool is shut down when the last one is
+ * done.
+ */
+public class BatchSwimmer {
+
+    /**
+     * Marks, in the output of
+     * {@link #swim(int[], double[], double[], double[], double[], double[], double[], IStopperFactory, double, double, double[])}
+     * , a track that failed to swim. Compare by reference, and do not modify
+     * it.
+     */
+    public static final SwimTrajectory FAILED_TRAJECTORY = new SwimTrajectory(
+	    0, 0, 0, 0, 0, 0, 0, 1, 1);
+
+    /**
+     * Marks, in the output of
+     * {@link #swimFinalStates(int[], double[], double[], double[], double[], double[], double[], IStopperFactory, double, double, double[])}
+     * , a track that failed to swim. Compare by reference.
+     */
+    public static final double[] FAILED_STATE = new double[0];
+
+    // number of chunks per thread, a bit of oversubscription helps balance
+    // the load since track swim times vary a lot
+    private static final int CHUNKSPERTHREAD = 4;
+
+    // the field used by all the swims
+    private IField _field;
+
+    // the executor that runs the chunks
+    private ExecutorService _executor;
+
+    // number of threads, used for chunking
+    private int _numThreads;
+
+    // true if we created the executor and should shut it down
+    private boolean _ownsExecutor;
+
+    // number of batches running, and whether we have been retired
+    private int _activeRuns;
+    private boolean _retired;
+
+    /**
+     * Create a batch swimmer with its own fork-join pool
+     *
+     * @param field
+     *            the magnetic field
+     * @param numThreads
+     *            the number of worker threads. If less than 1, the number of
+     *            available processors is used.
+     */
+    public BatchSwimmer(IField field, int numThreads) {
+	if (numThreads < 1) {
+	    numThreads = Runtime.getRuntime().availableProcessors();
+	}
+	_field = field;
+	_numThreads = numThreads;
+	_executor = new ForkJoinPool(numThreads);
+	_ownsExecutor = true;
+    }
+
+    /**
+     * Create a batch swimmer that uses a supplied executor. The executor is not
+     * shut down by {@link #shutdown()}.
+     *
+     * @param field
+     *            the magnetic field
+     * @param executor
+     *            the executor that will run the swims
+     * @param numThreads
+     *            the parallelism of the executor, used to size the chunks
+     */
+    public BatchSwimmer(IField field, ExecutorService executor,
+	    int numThreads) {
+	_field = field;
+	_executor = executor;
+	_numThreads = Math.max(1, numThreads);
+	_ownsExecutor = false;
+    }
+
+    /**
+     * Get the field used by this batch swimmer
+     *
+     * @return the magnetic field
+     */
+    public IField getField() {
+	return _field;
+    }
+
+    /**
+     * Shut down the executor if this batch swimmer created it. Batches started
+     * afterwards run on the calling thread. Use {@link #retire()} if other
+     * threads may be using this batch swimmer.
+     */
+    public synchronized void shutdown() {
+	if (_ownsExecutor) {
+	    _executor.shutdown();
+	}
+    }
+
+    /**
+     * Shut down the executor, if this batch swimmer created it, once the
+     * batches now running have finished. Used when a batch swimmer is
+     * replaced, e.g. after a field change, while other threads may still be
+     * swimming with it.
+     */
+    public synchronized void retire() {
+	_retired = true;
+	if (_activeRuns == 0) {
+	    shutdown();
+	}
+    }
+
+    /**
+     * Check whether a trajectory returned by a batch swim marks a failed
+     * track
+     *
+     * @param trajectory
+     *            an entry of the array returned by a batch swim
+     * @return <code>true</code> if the track failed to swim
+     */
+    public static boolean failed(SwimTrajectory trajectory) {
+	return trajectory == FAILED_TRAJECTORY;
+    }
+
+    /**
+     * Check whether a final state returned by a batch swim marks a failed
+     * track
+     *
+     * @param state
+     *            an entry of the array returned by a batch final state swim
+     * @return <code>true</code> if the track failed to swim
+     */
+    public static boolean failed(double state[]) {
+	return state == FAILED_STATE;
+    }
+
+    /**
+     * Swim a batch of particles in trajectory mode using the adaptive step
+     * size algorithm. All the arrays must have the same length.
+     *
+     * @param charge
+     *            the charges: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex positions in meters
+     * @param yo
+     *            the y vertex positions in meters
+     * @param zo
+     *            the z vertex positions in meters
+     * @param momentum
+     *            initial momenta in GeV/c
+     * @param theta
+     *            initial polar angles in degrees
+     * @param phi
+     *            initial azimuthal angles in degrees
+     * @param stopperFactory
+     *            supplies a fresh stopper for each track. May be
+     *            <code>null</code>.
+     * @param maxPathLength
+     *            the max path length in meters
+     * @param stepSize
+     *            the initial step size in meters
+     * @param relTolerance
+     *            the error tolerance vector, e.g. Swimmer.CLAS_Tolerance
+     * @return the trajectories, in input order. The entry for a track that
+     *         failed to swim is {@link #FAILED_TRAJECTORY}.
+     * @throws RungeKuttaException
+     *             if the batch is interrupted
+     */
+    public SwimTrajectory[] swim(final int charge[], final double xo[],
+	    final double yo[], final double zo[], final double momentum[],
+	    final double theta[], final double phi[],
+	    final IStopperFactory stopperFactory, final double maxPathLength,
+	    final double stepSize, final double relTolerance[])
+	    throws RungeKuttaException {
+
+	int n = checkLengths(charge, xo, yo, zo, momentum, theta, phi);
+	final SwimTrajectory results[] = new SwimTrajectory[n];
+
+	runChunks(n, new ChunkWorker() {
+
+	    @Override
+	    public void swimRange(int start, int end) {
+		Swimmer swimmer = new Swimmer(_field);
+		for (int i = start; i < end; i++) {
+		    try {
+			results[i] = swimmer.swim(charge[i], xo[i], yo[i],
+				zo[i], momentum[i], theta[i], phi[i],
+				createStopper(stopperFactory, i), maxPathLength,
+				stepSize, relTolerance, null);
+		    } catch (RungeKuttaException e) {
+			// isolate the failure to this track
+			e.printStackTrace();
+			results[i] = FAILED_TRAJECTORY;
+		    }
+		}
+	    }
+	});
+
+	return results;
+    }
+
+    /**
+     * Swim a batch of particles using the adaptive step size algorithm,
+     * keeping only the final state of each track. No trajectories are stored.
+     * All the arrays must have the same length.
+     *
+     * @param charge
+     *            the charges: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex positions in meters
+     * @param yo
+     *            the y vertex positions in meters
+     * @param zo
+     *            the z vertex positions in meters
+     * @param momentum
+     *            initial momenta in GeV/c
+     * @param theta
+     *            initial polar angles in degrees
+     * @param phi
+     *            initial azimuthal angles in degrees
+     * @param stopperFactory
+     *            supplies a fresh stopper for each track. May be
+     *            <code>null</code>.
+     * @param maxPathLength
+     *            the max path length in meters
+     * @param stepSize
+     *            the initial step size in meters
+     * @param relTolerance
+     *            the error tolerance vector, e.g. Swimmer.CLAS_Tolerance
+     * @return the final states, in input order. Each is a double[8]: [x, y,
+     *         z, px/p, py/p, pz/p, path length, integral |b cross dl|] in
+     *         meters and kG-m, using the same indices as SwimTrajectory. The
+     *         entry for a track that failed to swim is {@link #FAILED_STATE}.
+     * @throws RungeKuttaException
+     *             if the batch is interrupted
+     */
+    public double[][] swimFinalStates(final int charge[], final double xo[],
+	    final double yo[], final double zo[], final double momentum[],
+	    final double theta[], final double phi[],
+	    final IStopperFactory stopperFactory, final double maxPathLength,
+	    final double stepSize, final double relTolerance[])
+	    throws RungeKuttaException {
+
+	int n = checkLengths(charge, xo, yo, zo, momentum, theta, phi);
+	final double results[][] = new double[n][];
+
+	runChunks(n, new ChunkWorker() {
+
+	    @Override
+	    public void swimRange(int start, int end) {
+		Swimmer swimmer = new Swimmer(_field);
+		SwimResult result = new SwimResult();
+		for (int i = start; i < end; i++) {
+		    try {
+			swimmer.swimFinalState(charge[i], xo[i], yo[i], zo[i],
+				momentum[i], theta[i], phi[i],
+				createStopper(stopperFactory, i), maxPathLength,
+				stepSize, relTolerance, result);
+		    } catch (RungeKuttaException e) {
+			// isolate the failure to this track
+			e.printStackTrace();
+			results[i] = FAILED_STATE;
+			continue;
+		    }
+
+		    double fstate[] = new double[8];
+		    result.getFinalState(fstate);
+		    fstate[SwimTrajectory.PATHLEN_IDX] = result.getPathLength();
+		    fstate[SwimTrajectory.BXDL_IDX] = result.getIntegralBxdl();
+		    results[i] = fstate;
+		}
+	    }
+	});
+
+	return results;
+    }
+
+    /**
+     * Convenience factory for the common case of a DefaultSwimStopper with a
+     * fixed max radial coordinate.
+     *
+     * @param rmax
+     *            the max radial coordinate in meters
+     * @return a factory that creates DefaultSwimStoppers
+     */
+    public static IStopperFactory defaultStopperFactory(final double rmax) {
+	return new IStopperFactory() {
+
+	    @Override
+	    public IStopper createStopper(int index) {
+		return new DefaultSwimStopper(rmax);
+	    }
+	};
+    }
+
+    // get a stopper from the factory, if there is one
+    private static IStopper createStopper(IStopperFactory factory, int index) {
+	return (factory == null) ? null : factory.createStopper(index);
+    }
+
+    // split [0, n) into contiguous chunks and run them on the executor,
+    // waiting for all of them to finish. If interrupted, the chunks not yet
+    // finished are cancelled.
+    private void runChunks(int n, final ChunkWorker worker)
+	    throws RungeKuttaException {
+	if (n == 0) {
+	    return;
+	}
+
+	// a shut down (e.g. retired) batch swimmer swims on this thread
+	if (!beginRun()) {
+	    worker.swimRange(0, n);
+	    return;
+	}
+
+	try {
+	    int numChunks = Math.min(n, _numThreads * CHUNKSPERTHREAD);
+	    int chunkSize = (n + numChunks - 1) / numChunks;
+
+	    List<Future<Void>> futures = new ArrayList<Future<Void>>(numChunks);
+	    for (int start = 0; start < n; start += chunkSize) {
+		final int cstart = start;
+		final int cend = Math.min(n, start + chunkSize);
+		futures.add(_executor.submit(new Callable<Void>() {
+
+		    @Override
+		    public Void call() {
+			worker.swimRange(cstart, cend);
+			return null;
+		    }
+		}));
+	    }
+
+	    for (Future<Void> future : futures) {
+		try {
+		    future.get();
+		} catch (InterruptedException e) {
+		    for (Future<Void> f : futures) {
+			f.cancel(true);
+		    }
+		    Thread.currentThread().interrupt();
+		    throw new RungeKuttaException("batch swim interrupted");
+		} catch (ExecutionException e) {
+		    Throwable cause = e.getCause();
+		    if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		    } else if (cause instanceof Error) {
+			throw (Error) cause;
+		    } else {
+			throw new RuntimeException(cause);
+		    }
+		}
+	    }
+	} finally {
+	    endRun();
+	}
+    }
+
+    // register a running batch, false if the executor is shut down
+    private synchronized boolean beginRun() {
+	if (_executor.isShutdown()) {
+	    return false;
+	}
+	_activeRuns++;
+	return true;
+    }
+
+    // a batch is done, shut down if retired and it was the last one
+    private synchronized void endRun() {
+	_activeRuns--;
+	if (_retired && (_activeRuns == 0)) {
+	    shutdown();
+	}
+    }
+
+    // swims a contiguous range of track indices, isolating failed tracks
+    private interface ChunkWorker {
+	public void swimRange(int start, int end);
+    }
+
+    // check that all the input arrays have the same length
+    private static int checkLengths(int charge[], double xo[], double yo[],
+	    double zo[], double momentum[], double theta[], double phi[]) {
+	int n = charge.length;
+	if ((xo.length != n) || (yo.length != n) || (zo.length != n)
+		|| (momentum.length != n) || (theta.length != n)
+		|| (phi.length != n)) {
+	    throw new IllegalArgumentException(
+		    "All batch swim input arrays must have the same length.");
+	}
+	return n;
+    }
+}
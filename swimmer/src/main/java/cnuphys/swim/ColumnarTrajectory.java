@@ -0,0 +1,440 @@
+package cnuphys.swim;
+
+import cnuphys.lund.GeneratedParticleRecord;
+import cnuphys.lund.LundId;
+import cnuphys.magfield.FieldProbe;
+import cnuphys.magfield.IField;
+import cnuphys.rk4.IRk4Listener;
+
+/**
+ * A trajectory stored as growable primitive columns, one each for x, y, z,
+ * the three direction cosines, the path length and the integral |B x dL|.
+ * The columns use the same indices as {@link SwimTrajectory}. Compared with
+ * SwimTrajectory, which is a Vector holding a separate double[] per point,
+ * adding a point is an unsynchronized array store and there is no per-point
+ * object, which matters for long, low momentum loopers with tens of
+ * thousands of points.
+ * <p>
+ * The trajectory is also an IRk4Listener, so a swim can fill it directly.
+ * Use {@link #toSwimTrajectory()} for code that needs a SwimTrajectory. This
+ * class is not synchronized.
+ * <p>
+ * So far only the benchmarks swim into columnar trajectories.
+ * {@link Swimming}'s MC and recon collections, and everything in ced that
+ * reads them (the trajectory drawers, the trajectory table, the 3D view),
+ * still use SwimTrajectory. {@link SwimTrajectory2D} can already project a
+ * columnar trajectory.
+ */
+public class ColumnarTrajectory implements IRk4Listener {
+
+    /** the number of columns */
+    public static final int NUMCOLUMNS = 8;
+
+    // default initial capacity
+    private static final int DEFAULTCAPACITY = 100;
+
+    // the particle that we swam
+    private GeneratedParticleRecord _genPartRec;
+
+    // the lund id, if it is known (i.e. from montecarlo truth)
+    private LundId _lundId;
+
+    // flag indicating whether bdl was computed
+    private boolean _computedBDL;
+
+    // the columns, [NUMCOLUMNS][capacity]
+    private double _columns[][];
+
+    // number of points
+    private int _size;
+
+    /** user object */
+    public Object userObject;
+
+    /**
+     * Create an empty trajectory
+     *
+     * @param charge
+     *            the charge of the particle (-1 for electron, +1 for proton,
+     *            etc.)
+     * @param xo
+     *            the x vertex position in m
+     * @param yo
+     *            the y vertex position in m
+     * @param zo
+     *            the z vertex position in m
+     * @param momentum
+     *            initial momentum in GeV/c
+     * @param theta
+     *            initial polar angle in degrees
+     * @param phi
+     *            initial azimuthal angle in degrees
+     * @param initialCapacity
+     *            the initial number of points that can be held without growing
+     */
+    public ColumnarTrajectory(int charge, double xo, double yo, double zo,
+	    double momentum, double theta, double phi, int initialCapacity) {
+	this(new GeneratedParticleRecord(charge, xo, yo, zo, momentum, theta,
+		phi), initialCapacity);
+    }
+
+    /**
+     * Create an empty trajectory
+     *
+     * @param genPartRec
+     *            the generated particle record
+     * @param initialCapacity
+     *            the initial number of points that can be held without growing
+     */
+    public ColumnarTrajectory(GeneratedParticleRecord genPartRec,
+	    int initialCapacity) {
+	_genPartRec = genPartRec;
+	_columns = new double[NUMCOLUMNS][Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Create a columnar copy of a SwimTrajectory
+     *
+     * @param traj
+     *            the trajectory to copy
+     * @return the columnar copy
+     */
+    public static ColumnarTrajectory fromSwimTrajectory(SwimTrajectory traj) {
+	ColumnarTrajectory ctraj = new ColumnarTrajectory(
+		traj.getGeneratedParticleRecord(), traj.size());
+	ctraj._lundId = traj.getLundId();
+	ctraj._computedBDL = traj.isBDLComputed();
+	for (double v[] : traj) {
+	    ctraj.add(v);
+	}
+	return ctraj;
+    }
+
+    /**
+     * Create a SwimTrajectory holding the same points. This is the
+     * compatibility view for code (such as the trajectory drawers) that works
+     * with SwimTrajectory objects. It allocates a state vector per point.
+     *
+     * @return an equivalent SwimTrajectory
+     */
+    public SwimTrajectory toSwimTrajectory() {
+	SwimTrajectory traj = new SwimTrajectory(_genPartRec, Math.max(1,
+		_size), 100);
+	traj.setLundId(_lundId);
+	int dim = _computedBDL ? NUMCOLUMNS : 6;
+	for (int i = 0; i < _size; i++) {
+	    double v[] = new double[dim];
+	    getState(i, v);
+	    traj.add(v);
+	}
+	if (_computedBDL) {
+	    traj.setBDLComputed();
+	}
+	return traj;
+    }
+
+    /**
+     * Add a point. Only the first six components (the state vector) are used,
+     * unless the vector has eight components, in which case the path length
+     * and integral |B x dL| are also copied.
+     *
+     * @param v
+     *            the state vector [x, y, z, px/p, py/p, pz/p]
+     */
+    public void add(double v[]) {
+	ensureCapacity(_size + 1);
+	int n = Math.min(v.length, NUMCOLUMNS);
+	for (int col = 0; col < n; col++) {
+	    _columns[col][_size] = v[col];
+	}
+	_size++;
+    }
+
+    /**
+     * Add a point
+     *
+     * @param x
+     *            x in meters
+     * @param y
+     *            y in meters
+     * @param z
+     *            z in meters
+     * @param ux
+     *            the px/p direction cosine
+     * @param uy
+     *            the py/p direction cosine
+     * @param uz
+     *            the pz/p direction cosine
+     */
+    public void add(double x, double y, double z, double ux, double uy,
+	    double uz) {
+	ensureCapacity(_size + 1);
+	_columns[SwimTrajectory.X_IDX][_size] = x;
+	_columns[SwimTrajectory.Y_IDX][_size] = y;
+	_columns[SwimTrajectory.Z_IDX][_size] = z;
+	_columns[SwimTrajectory.DIRCOSX_IDX][_size] = ux;
+	_columns[SwimTrajectory.DIRCOSY_IDX][_size] = uy;
+	_columns[SwimTrajectory.DIRCOSZ_IDX][_size] = uz;
+	_size++;
+    }
+
+    /**
+     * The integration has advanced one step, so add the new state.
+     *
+     * @param newS
+     *            the new path length
+     * @param newY
+     *            the new state vector
+     * @param h
+     *            the stepsize used for this advance
+     */
+    @Override
+    public void nextStep(double newS, double[] newY, double h) {
+	add(newY[0], newY[1], newY[2], newY[3], newY[4], newY[5]);
+    }
+
+    // grow the columns if necessary
+    private void ensureCapacity(int capacity) {
+	int oldCapacity = _columns[0].length;
+	if (capacity > oldCapacity) {
+	    int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+	    for (int col = 0; col < NUMCOLUMNS; col++) {
+		double newColumn[] = new double[newCapacity];
+		System.arraycopy(_columns[col], 0, newColumn, 0, _size);
+		_columns[col] = newColumn;
+	    }
+	}
+    }
+
+    /**
+     * Shrink the columns to the number of points
+     */
+    public void trimToSize() {
+	if (_columns[0].length > _size) {
+	    for (int col = 0; col < NUMCOLUMNS; col++) {
+		double newColumn[] = new double[Math.max(1, _size)];
+		System.arraycopy(_columns[col], 0, newColumn, 0, _size);
+		_columns[col] = newColumn;
+	    }
+	}
+    }
+
+    /**
+     * Remove all the points
+     */
+    public void clear() {
+	_size = 0;
+	_computedBDL = false;
+    }
+
+    /**
+     * Get the number of points
+     *
+     * @return the number of points
+     */
+    public int size() {
+	return _size;
+    }
+
+    /**
+     * Check whether there are no points
+     *
+     * @return <code>true</code> if there are no points
+     */
+    public boolean isEmpty() {
+	return _size == 0;
+    }
+
+    /**
+     * Get one component of one point
+     *
+     * @param index
+     *            the index of the point
+     * @param column
+     *            the column, e.g. SwimTrajectory.X_IDX
+     * @return the value
+     */
+    public double get(int index, int column) {
+	if ((index < 0) || (index >= _size)) {
+	    throw new ArrayIndexOutOfBoundsException(index);
+	}
+	return _columns[column][index];
+    }
+
+    /**
+     * Copy one point into a state vector
+     *
+     * @param index
+     *            the index of the point
+     * @param v
+     *            will hold the state. If it has 6 elements it will get the
+     *            state vector, if it has 8 it will also get the path length
+     *            and integral |B x dL|.
+     */
+    public void getState(int index, double v[]) {
+	if ((index < 0) || (index >= _size)) {
+	    throw new ArrayIndexOutOfBoundsException(index);
+	}
+	int n = Math.min(v.length, NUMCOLUMNS);
+	for (int col = 0; col < n; col++) {
+	    v[col] = _columns[col][index];
+	}
+    }
+
+    /**
+     * Copy the last point into a state vector
+     *
+     * @param v
+     *            will hold the state, as for {@link #getState(int, double[])}
+     */
+    public void getLastState(double v[]) {
+	getState(_size - 1, v);
+    }
+
+    /**
+     * Get a column for bulk access, e.g. for drawing. This is the internal
+     * array, which may be longer than the number of points and which is
+     * replaced when the trajectory grows. Do not modify it.
+     *
+     * @param column
+     *            the column, e.g. SwimTrajectory.X_IDX
+     * @return the column array. Only the first size() entries are valid.
+     */
+    public double[] getColumn(int column) {
+	return _columns[column];
+    }
+
+    /**
+     * Copy a column into a user array
+     *
+     * @param column
+     *            the column, e.g. SwimTrajectory.X_IDX
+     * @param dest
+     *            the destination, of length at least size()
+     */
+    public void copyColumn(int column, double dest[]) {
+	System.arraycopy(_columns[column], 0, dest, 0, _size);
+    }
+
+    /**
+     * Compute the cumulative path length and integral |B x dL| columns, using
+     * the same chord midpoint rule as SwimTrajectory.computeBDL.
+     *
+     * @param field
+     *            the field getter
+     */
+    public void computeBDL(IField field) {
+	if (_computedBDL || (_size == 0)) {
+	    return;
+	}
+
+	FieldProbe probe = field.createProbe();
+	float b[] = new float[3];
+
+	double x[] = _columns[SwimTrajectory.X_IDX];
+	double y[] = _columns[SwimTrajectory.Y_IDX];
+	double z[] = _columns[SwimTrajectory.Z_IDX];
+	double pl[] = _columns[SwimTrajectory.PATHLEN_IDX];
+	double bdl[] = _columns[SwimTrajectory.BXDL_IDX];
+
+	pl[0] = 0;
+	bdl[0] = 0;
+	for (int i = 1; i < _size; i++) {
+	    double dx = x[i] - x[i - 1];
+	    double dy = y[i] - y[i - 1];
+	    double dz = z[i] - z[i - 1];
+
+	    // use the average position (in cm) to compute B
+	    float xavgcm = (float) (100. * (x[i - 1] + x[i]) / 2);
+	    float yavgcm = (float) (100. * (y[i - 1] + y[i]) / 2);
+	    float zavgcm = (float) (100. * (z[i - 1] + z[i]) / 2);
+	    probe.field(xavgcm, yavgcm, zavgcm, b);
+
+	    double cx = b[1] * dz - b[2] * dy;
+	    double cy = b[2] * dx - b[0] * dz;
+	    double cz = b[0] * dy - b[1] * dx;
+
+	    pl[i] = pl[i - 1] + Math.sqrt(dx * dx + dy * dy + dz * dz);
+	    bdl[i] = bdl[i - 1] + Math.sqrt(cx * cx + cy * cy + cz * cz);
+	}
+
+	_computedBDL = true;
+    }
+
+    /**
+     * Check whether the accumulated integral bdl has been computed
+     *
+     * @return <code>true</code> if the accumulated integral bdl has been
+     *         computed
+     */
+    public boolean isBDLComputed() {
+	return _computedBDL;
+    }
+
+    /**
+     * Get the final radial coordinate
+     *
+     * @return final radial coordinate in meters
+     */
+    public double getFinalR() {
+	if (_size == 0) {
+	    return Double.NaN;
+	}
+	int i = _size - 1;
+	double x = _columns[SwimTrajectory.X_IDX][i];
+	double y = _columns[SwimTrajectory.Y_IDX][i];
+	double z = _columns[SwimTrajectory.Z_IDX][i];
+	return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Get the average phi for this trajectory based on positions, not
+     * directions
+     *
+     * @return the average phi value in degrees
+     */
+    public double getAveragePhi() {
+	if (_size < 6) {
+	    return _genPartRec.getPhi();
+	}
+
+	double phi = 0;
+	double count = 0;
+	for (int i = 5; i < _size; i += 5) {
+	    phi += Math.atan2(_columns[SwimTrajectory.Y_IDX][i],
+		    _columns[SwimTrajectory.X_IDX][i]);
+	    count++;
+	}
+
+	return Math.toDegrees(phi / count);
+    }
+
+    /**
+     * Set the lund id. This is not needed for swimming, but is useful for ced
+     * or when MonteCarlo truth is known.
+     *
+     * @param lundId
+     *            the Lund Id.
+     */
+    public void setLundId(LundId lundId) {
+	_lundId = lundId;
+    }
+
+    /**
+     * Get the lund id. This may be <code>null</code>.
+     *
+     * @return the Lund Id.
+     */
+    public LundId getLundId() {
+	return _lundId;
+    }
+
+    /**
+     * Get the underlying generated particle record
+     *
+     * @return the underlying generated particle record
+     */
+    public GeneratedParticleRecord getGeneratedParticleRecord() {
+	return _genPartRec;
+    }
+}
@@ -1,11 +1,16 @@
 package cnuphys.swim;
 
+import cnuphys.magfield.FieldProbe;
 import cnuphys.magfield.IField;
 import cnuphys.rk4.IDerivative;
 
 public class DefaultDerivative implements IDerivative {
 
-    private IField _field;
+    // per-derivative (hence per-swim, per-thread) probe into the field
+    private FieldProbe _probe;
+
+    // holds the field so we don't allocate on every call
+    private float _b[] = new float[3];
 
     private double _momentum;
 
@@ -22,9 +27,24 @@ public class DefaultDerivative implements IDerivative {
      *            the magnetic field
      */
     public DefaultDerivative(int charge, double momentum, IField field) {
-	_field = field;
-	_momentum = momentum;
+	_probe = (field == null) ? null : field.createProbe();
+	set(charge, momentum);
+    }
 
+    /**
+     * Reset the charge and momentum so that the derivative (and its field
+     * probe) can be reused for another swim through the same field. The probe
+     * keeps the grid cell it last used, and a point on a shared cell face may
+     * then be interpolated from the neighboring cell, so a swim with a reused
+     * derivative agrees with one using a fresh derivative to float round-off.
+     * 
+     * @param charge
+     *            -1 for electron, +1 for proton, etc.
+     * @param momentum
+     *            the magnitude of the momentum.
+     */
+    public void set(int charge, double momentum) {
+	_momentum = momentum;
 	_alpha = 1.0e-9 * charge * Swimmer.C / _momentum;
     }
 
@@ -47,16 +67,16 @@ public class DefaultDerivative implements IDerivative {
 	double By = 0.0;
 	double Bz = 0.0;
 
-	if (_field != null) {
+	if (_probe != null) {
 
-	    float b[] = new float[3];
+	    float b[] = _b;
 
 	    // convert to cm
 	    double xx = Q[0] * 100;
 	    double yy = Q[1] * 100;
 	    double zz = Q[2] * 100;
 
-	    _field.field((float) xx, (float) yy, (float) zz, b);
+	    _probe.field((float) xx, (float) yy, (float) zz, b);
 	    // convert to tesla
 	    Bx = b[0] / 10.0;
 	    By = b[1] / 10.0;
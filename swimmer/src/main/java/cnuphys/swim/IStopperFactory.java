@@ -0,0 +1,20 @@
+package cnuphys.swim;
+
+import cnuphys.rk4.IStopper;
+
+/**
+ * Supplies stoppers for batch swimming. Stoppers generally carry state (for
+ * example the final path length) so each swim must get its own instance.
+ */
+public interface IStopperFactory {
+
+    /**
+     * Create a new stopper for the track with the given index
+     *
+     * @param index
+     *            the index of the track in the batch
+     * @return a new stopper, or <code>null</code> for no stopper
+     */
+    public IStopper createStopper(int index);
+
+}
@@ -0,0 +1,122 @@
+package cnuphys.swim;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import cnuphys.magfield.IField;
+import cnuphys.magfield.MagneticFields;
+import cnuphys.rk4.RungeKuttaException;
+
+/**
+ * Compares the trajectory (storing) swim with the final-state-only swim. Both
+ * swim the same random tracks and report CPU time per track and, when the JVM
+ * supports it, the bytes allocated per track. Uses the active field, or the
+ * uniform field if there is no active field.
+ */
+public class SwimBenchmark {
+
+    // swim parameters, similar to what ced uses
+    private static final double RMAX = 6.0;
+    private static final double PATHMAX = 8.0;
+    private static final double STEPSIZE = 5e-4;
+
+    /**
+     * Run the benchmark
+     *
+     * @param arg
+     *            optional: the number of tracks and the number of repetitions
+     */
+    public static void main(String arg[]) {
+	int numTraj = (arg.length > 0) ? Integer.parseInt(arg[0]) : 2000;
+	int numRep = (arg.length > 1) ? Integer.parseInt(arg[1]) : 5;
+
+	IField field = MagneticFields.getActiveField();
+	if (field == null) {
+	    field = MagneticFields.getIField(MagneticFields.FieldType.UNIFORM);
+	}
+	System.out.println("Field: " + field.getClass().getSimpleName());
+
+	Swimmer swimmer = new Swimmer(field);
+
+	// the same tracks for both methods
+	Random random = new Random(13579);
+	int charge[] = new int[numTraj];
+	double momentum[] = new double[numTraj];
+	double theta[] = new double[numTraj];
+	double phi[] = new double[numTraj];
+	for (int i = 0; i < numTraj; i++) {
+	    charge[i] = random.nextBoolean() ? 1 : -1;
+	    momentum[i] = 1 + 6 * random.nextDouble();
+	    theta[i] = 10 + 25 * random.nextDouble();
+	    phi[i] = -30 + 60 * random.nextDouble();
+	}
+
+	SwimResult result = new SwimResult();
+
+	try {
+	    // the first repetition is a warm up
+	    for (int rep = 0; rep <= numRep; rep++) {
+		long alloc0 = allocatedBytes();
+		long start = cpuTime();
+		double sum1 = 0;
+		for (int i = 0; i < numTraj; i++) {
+		    SwimTrajectory traj = swimmer.swim(charge[i], 0, 0, 0,
+			    momentum[i], theta[i], phi[i],
+			    new DefaultSwimStopper(RMAX), PATHMAX, STEPSIZE,
+			    Swimmer.CLAS_Tolerance, null);
+		    traj.computeBDL(field);
+		    sum1 += traj.lastElement()[SwimTrajectory.BXDL_IDX];
+		}
+		long storeTime = cpuTime() - start;
+		long storeAlloc = allocatedBytes() - alloc0;
+
+		alloc0 = allocatedBytes();
+		start = cpuTime();
+		double sum2 = 0;
+		for (int i = 0; i < numTraj; i++) {
+		    swimmer.swimFinalState(charge[i], 0, 0, 0, momentum[i],
+			    theta[i], phi[i], new DefaultSwimStopper(RMAX),
+			    PATHMAX, STEPSIZE, Swimmer.CLAS_Tolerance, result);
+		    sum2 += result.getIntegralBxdl();
+		}
+		long finalTime = cpuTime() - start;
+		long finalAlloc = allocatedBytes() - alloc0;
+
+		if (rep > 0) {
+		    System.out.println(String.format(
+			    "rep %d  trajectory: %8.2f us/track %10d bytes/track   "
+				    + "final state: %8.2f us/track %10d bytes/track   "
+				    + "<bxdl> %8.5f %8.5f",
+			    rep, storeTime / (1000.0 * numTraj), storeAlloc
+				    / numTraj, finalTime / (1000.0 * numTraj),
+			    finalAlloc / numTraj, sum1 / numTraj, sum2
+				    / numTraj));
+		}
+	    }
+	} catch (RungeKuttaException e) {
+	    e.printStackTrace();
+	}
+
+	System.out.println("done");
+    }
+
+    // cpu time of the current thread in ns
+    private static long cpuTime() {
+	ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+	if (bean.isCurrentThreadCpuTimeSupported()) {
+	    return bean.getCurrentThreadCpuTime();
+	}
+	return System.nanoTime();
+    }
+
+    // bytes allocated by the current thread, or 0 if not supported
+    private static long allocatedBytes() {
+	ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+	if (bean instanceof com.sun.management.ThreadMXBean) {
+	    return ((com.sun.management.ThreadMXBean) bean)
+		    .getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	return 0;
+    }
+}
@@ -0,0 +1,434 @@
+package cnuphys.swim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import cnuphys.magfield.IField;
+import cnuphys.magfield.MagneticField;
+import cnuphys.magfield.MagneticFieldChangeListener;
+import cnuphys.magfield.MagneticFields;
+import cnuphys.rk4.RungeKuttaException;
+
+/**
+ * A cache of final-state swim results through the active field. Results are
+ * keyed on the quantized initial conditions (charge, momentum, angles and
+ * vertex), the target, and the field configuration (active field, scale
+ * factors and interpolation mode). They are held in a bounded LRU map, and the
+ * whole cache is cleared whenever the magnetic field changes. Swimming the
+ * same tracks again, e.g. when re-accumulating or re-displaying the same
+ * events, then costs a map lookup rather than an integration.
+ * <p>
+ * Cached states are shared: callers must not modify the returned arrays.
+ * The cache is thread safe; the integrations themselves run outside the
+ * lock.
+ */
+public class SwimCache {
+
+    // default cache size
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    // default quanta: 1 micron, 1 keV/c and 1 micro-degree
+    public static final double DEFAULT_POSITION_QUANTUM = 1.0e-6;
+    public static final double DEFAULT_MOMENTUM_QUANTUM = 1.0e-6;
+    public static final double DEFAULT_ANGLE_QUANTUM = 1.0e-6;
+
+    // swim parameters, same as swimBackwardsToVertex
+    private static final double ACCURACY = 1.0e-5; // m
+    private static final double STEPSIZE = 5e-4; // m
+    private static final double RMAX = 10; // m
+    private static final double PATHMAX = 10; // m
+
+    // the shared instance
+    private static SwimCache _instance;
+
+    // all the caches, weakly held so that an unused cache can be collected
+    private static final Set<SwimCache> _caches = Collections
+	    .newSetFromMap(new WeakHashMap<SwimCache, Boolean>());
+
+    // one field listener for all the caches; a new field means all results
+    // are stale
+    static {
+	MagneticFields
+		.addMagneticFieldChangeListener(new MagneticFieldChangeListener() {
+
+		    @Override
+		    public void magneticFieldChanged() {
+			invalidateAll();
+		    }
+		});
+    }
+
+    // the LRU map
+    private final LinkedHashMap<SwimKey, double[]> _map;
+
+    // max number of entries
+    private final int _capacity;
+
+    // the quanta
+    private final double _positionQuantum;
+    private final double _momentumQuantum;
+    private final double _angleQuantum;
+
+    // statistics
+    private long _hits;
+    private long _misses;
+    private long _evictions;
+    private long _invalidations;
+
+    // per-thread swim results, so misses don't allocate integrators
+    private final ThreadLocal<SwimResult> _results = new ThreadLocal<SwimResult>() {
+	@Override
+	protected SwimResult initialValue() {
+	    return new SwimResult();
+	}
+    };
+
+    /**
+     * Obtain the shared cache, which uses the default capacity and quanta
+     *
+     * @return the shared swim cache
+     */
+    public static synchronized SwimCache getInstance() {
+	if (_instance == null) {
+	    _instance = new SwimCache(DEFAULT_CAPACITY,
+		    DEFAULT_POSITION_QUANTUM, DEFAULT_MOMENTUM_QUANTUM,
+		    DEFAULT_ANGLE_QUANTUM);
+	}
+	return _instance;
+    }
+
+    /**
+     * Create a swim cache
+     *
+     * @param capacity
+     *            the maximum number of cached results
+     * @param positionQuantum
+     *            vertex and target positions are quantized to this, in meters
+     * @param momentumQuantum
+     *            momenta are quantized to this, in GeV/c
+     * @param angleQuantum
+     *            angles are quantized to this, in degrees
+     */
+    public SwimCache(int capacity, double positionQuantum,
+	    double momentumQuantum, double angleQuantum) {
+	_capacity = Math.max(1, capacity);
+	_positionQuantum = positionQuantum;
+	_momentumQuantum = momentumQuantum;
+	_angleQuantum = angleQuantum;
+
+	_map = new LinkedHashMap<SwimKey, double[]>(16, 0.75f, true) {
+
+	    @Override
+	    protected boolean removeEldestEntry(
+		    Map.Entry<SwimKey, double[]> eldest) {
+		if (size() > _capacity) {
+		    _evictions++;
+		    return true;
+		}
+		return false;
+	    }
+	};
+
+	synchronized (_caches) {
+	    _caches.add(this);
+	}
+    }
+
+    // clear all the caches
+    private static void invalidateAll() {
+	ArrayList<SwimCache> caches;
+	synchronized (_caches) {
+	    caches = new ArrayList<SwimCache>(_caches);
+	}
+	for (SwimCache cache : caches) {
+	    cache.invalidate();
+	}
+    }
+
+    /**
+     * Swim to a plane of constant z, using the cache.
+     *
+     * @param charge
+     *            the charge: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex position in meters
+     * @param yo
+     *            the y vertex position in meters
+     * @param zo
+     *            the z vertex position in meters
+     * @param momentum
+     *            initial momentum in GeV/c
+     * @param theta
+     *            initial polar angle in degrees
+     * @param phi
+     *            initial azimuthal angle in degrees
+     * @param zTarget
+     *            the z of the target plane in meters
+     * @return the final state, a double[8] [x, y, z, px/p, py/p, pz/p, path
+     *         length, integral |b cross dl|] using the same indices as
+     *         SwimTrajectory. Do not modify it. Returns <code>null</code> if
+     *         the swim failed.
+     */
+    public double[] swimToZ(int charge, double xo, double yo, double zo,
+	    double momentum, double theta, double phi, double zTarget) {
+
+	IField field = MagneticFields.getActiveField();
+	SwimKey key = new SwimKey(field, charge, quantize(xo,
+		_positionQuantum), quantize(yo, _positionQuantum), quantize(
+		zo, _positionQuantum), quantize(momentum, _momentumQuantum),
+		quantize(theta, _angleQuantum), quantize(phi, _angleQuantum),
+		quantize(zTarget, _positionQuantum));
+
+	synchronized (this) {
+	    double fstate[] = _map.get(key);
+	    if (fstate != null) {
+		_hits++;
+		return fstate;
+	    }
+	    _misses++;
+	}
+
+	SwimResult result = _results.get();
+	try {
+	    new Swimmer(field).swimToSurface(charge, xo, yo, zo, momentum,
+		    theta, phi, SwimSurfaces.zPlane(zTarget), ACCURACY,
+		    new DefaultSwimStopper(RMAX), PATHMAX, STEPSIZE,
+		    Swimmer.CLAS_Tolerance, result);
+	} catch (RungeKuttaException e) {
+	    e.printStackTrace();
+	    return null;
+	}
+
+	double fstate[] = new double[8];
+	result.getFinalState(fstate);
+	fstate[SwimTrajectory.PATHLEN_IDX] = result.getPathLength();
+	fstate[SwimTrajectory.BXDL_IDX] = result.getIntegralBxdl();
+
+	synchronized (this) {
+	    // the field may have changed while we were swimming
+	    if (key.isCurrent()) {
+		_map.put(key, fstate);
+	    }
+	}
+	return fstate;
+    }
+
+    /**
+     * Swim a reconstructed track backwards to the z = 0 plane, using the
+     * cache. The cached analog of Swimmer.swimBackwardsToVertex. Note that
+     * the returned direction cosines are those of the reversed track.
+     *
+     * @param q
+     *            the charge of the track
+     * @param xo
+     *            the x position in meters
+     * @param yo
+     *            the y position in meters
+     * @param zo
+     *            the z position in meters
+     * @param px
+     *            the x component of the momentum in GeV/c
+     * @param py
+     *            the y component of the momentum in GeV/c
+     * @param pz
+     *            the z component of the momentum in GeV/c
+     * @return the final state, a double[8] as for
+     *         {@link #swimToZ(int, double, double, double, double, double, double, double)}
+     */
+    public double[] swimBackwardsToVertex(int q, double xo, double yo,
+	    double zo, double px, double py, double pz) {
+	// reverse the direction
+	px = -px;
+	py = -py;
+	pz = -pz;
+	q = -q;
+
+	// get the angles
+	double pt = Math.hypot(px, py);
+	double p = Math.hypot(pt, pz);
+	double theta = Math.toDegrees(Math.acos(pz / p));
+	double phi = Math.toDegrees(Math.atan2(py, px));
+
+	return swimToZ(q, xo, yo, zo, p, theta, phi, 0);
+    }
+
+    /**
+     * Clear the cache. Called automatically when the field changes.
+     */
+    public synchronized void invalidate() {
+	_map.clear();
+	_invalidations++;
+    }
+
+    /**
+     * Reset the hit, miss, eviction and invalidation counts
+     */
+    public synchronized void resetStatistics() {
+	_hits = 0;
+	_misses = 0;
+	_evictions = 0;
+	_invalidations = 0;
+    }
+
+    /**
+     * Get the number of lookups satisfied from the cache
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHits() {
+	return _hits;
+    }
+
+    /**
+     * Get the number of lookups that required a swim
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMisses() {
+	return _misses;
+    }
+
+    /**
+     * Get the number of results dropped because the cache was full
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictions() {
+	return _evictions;
+    }
+
+    /**
+     * Get the number of times the cache was cleared
+     *
+     * @return the number of invalidations
+     */
+    public synchronized long getInvalidations() {
+	return _invalidations;
+    }
+
+    /**
+     * Get the fraction of lookups satisfied from the cache
+     *
+     * @return the hit rate, 0 if there have been no lookups
+     */
+    public synchronized double getHitRate() {
+	long total = _hits + _misses;
+	return (total == 0) ? 0 : ((double) _hits) / total;
+    }
+
+    /**
+     * Get the number of cached results
+     *
+     * @return the number of cached results
+     */
+    public synchronized int size() {
+	return _map.size();
+    }
+
+    /**
+     * Get the maximum number of cached results
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+	return _capacity;
+    }
+
+    @Override
+    public synchronized String toString() {
+	return String.format(
+		"swim cache: size %d/%d hits %d misses %d (%.1f%%) "
+			+ "evictions %d invalidations %d", _map.size(),
+		_capacity, _hits, _misses, 100 * getHitRate(), _evictions,
+		_invalidations);
+    }
+
+    // quantize a value
+    private static long quantize(double val, double quantum) {
+	return Math.round(val / quantum);
+    }
+
+    // the scale factor of a field, or 0 if there is no such field
+    private static double scale(MagneticField field) {
+	return (field == null) ? 0 : field.getScaleFactor();
+    }
+
+    // the cache key: quantized swim inputs plus the field configuration
+    private static class SwimKey {
+
+	private final IField _field;
+	private final double _torusScale;
+	private final double _solenoidScale;
+	private final boolean _interpolate;
+	private final int _charge;
+	private final long _x;
+	private final long _y;
+	private final long _z;
+	private final long _p;
+	private final long _theta;
+	private final long _phi;
+	private final long _target;
+	private final int _hash;
+
+	SwimKey(IField field, int charge, long x, long y, long z, long p,
+		long theta, long phi, long target) {
+	    _field = field;
+	    _torusScale = scale(MagneticFields.getTorus());
+	    _solenoidScale = scale(MagneticFields.getSolenoid());
+	    _interpolate = MagneticField.isInterpolate();
+	    _charge = charge;
+	    _x = x;
+	    _y = y;
+	    _z = z;
+	    _p = p;
+	    _theta = theta;
+	    _phi = phi;
+	    _target = target;
+
+	    long h = charge;
+	    h = 31 * h + x;
+	    h = 31 * h + y;
+	    h = 31 * h + z;
+	    h = 31 * h + p;
+	    h = 31 * h + theta;
+	    h = 31 * h + phi;
+	    h = 31 * h + target;
+	    h = 31 * h + Double.doubleToLongBits(_torusScale);
+	    h = 31 * h + Double.doubleToLongBits(_solenoidScale);
+	    h = 31 * h + System.identityHashCode(field);
+	    _hash = (int) (h ^ (h >>> 32));
+	}
+
+	// is this key for the current field configuration?
+	boolean isCurrent() {
+	    return (_field == MagneticFields.getActiveField())
+		    && (_torusScale == scale(MagneticFields.getTorus()))
+		    && (_solenoidScale == scale(MagneticFields.getSolenoid()))
+		    && (_interpolate == MagneticField.isInterpolate());
+	}
+
+	@Override
+	public int hashCode() {
+	    return _hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+	    if (!(o instanceof SwimKey)) {
+		return false;
+	    }
+	    SwimKey k = (SwimKey) o;
+	    return (_field == k._field) && (_charge == k._charge)
+		    && (_x == k._x) && (_y == k._y) && (_z == k._z)
+		    && (_p == k._p) && (_theta == k._theta)
+		    && (_phi == k._phi) && (_target == k._target)
+		    && (_torusScale == k._torusScale)
+		    && (_solenoidScale == k._solenoidScale)
+		    && (_interpolate == k._interpolate);
+	}
+    }
+}
@@ -0,0 +1,214 @@
+package cnuphys.swim;
+
+import cnuphys.magfield.FieldProbe;
+import cnuphys.magfield.IField;
+import cnuphys.rk4.IRk4Listener;
+import cnuphys.rk4.RungeKutta4;
+
+/**
+ * Holds the outcome of a final-state-only swim: the final state vector, the
+ * path length, the integral |B x dl| and the number of steps. Nothing is
+ * stored per step. The result is also the listener that accumulates these
+ * quantities during the integration, using preallocated buffers. It also owns
+ * the integrator and derivative used for the swim, so a single result object
+ * can be reused for any number of swims without allocating.
+ * <p>
+ * A result is not thread safe; use one per thread.
+ */
+public class SwimResult implements IRk4Listener {
+
+    // the current (eventually final) state vector [x,y,z,px/p,py/p,pz/p]
+    private final double _state[] = new double[6];
+
+    // the position at the previous step, meters
+    private final double _previous[] = new double[3];
+
+    // scratch space for the field
+    private final float _b[] = new float[3];
+
+    // the field (and a probe into it) used for integral b cross dl
+    private IField _field;
+    private FieldProbe _probe;
+
+    // path length in meters
+    private double _pathLength;
+
+    // cumulative integral |b cross dl| in kG-m
+    private double _bxdl;
+
+    // number of steps taken
+    private int _nStep;
+
+    // for swims to a surface, whether it was reached
+    private boolean _hitSurface;
+
+    // the initial state vector buffer
+    private final double _uo[] = new double[6];
+
+    // the reusable integrator and derivative
+    private final RungeKutta4 _integrator = new RungeKutta4(6);
+    private DefaultDerivative _derivative;
+
+    /**
+     * Create an empty result. It will be initialized by the swimmer.
+     */
+    public SwimResult() {
+    }
+
+    /**
+     * Prepare for a new swim. Called by the swimmer.
+     *
+     * @param field
+     *            the field used to accumulate the integral b cross dl. If
+     *            <code>null</code>, the integral will be zero.
+     * @param uo
+     *            the initial state vector [x,y,z,px/p,py/p,pz/p]
+     */
+    public void reset(IField field, double uo[]) {
+	if ((field != _field) || (_derivative == null)) {
+	    _field = field;
+	    _probe = (field == null) ? null : field.createProbe();
+	    _derivative = new DefaultDerivative(1, 1.0, field);
+	}
+
+	System.arraycopy(uo, 0, _state, 0, 6);
+	System.arraycopy(uo, 0, _previous, 0, 3);
+	_pathLength = 0;
+	_bxdl = 0;
+	_nStep = 0;
+	_hitSurface = false;
+    }
+
+    // the buffer for the initial state
+    double[] getInitialState() {
+	return _uo;
+    }
+
+    // the integrator, reused for every swim
+    RungeKutta4 getIntegrator() {
+	return _integrator;
+    }
+
+    // the derivative for the current field, set for this charge and momentum
+    DefaultDerivative getDerivative(int charge, double momentum) {
+	_derivative.set(charge, momentum);
+	return _derivative;
+    }
+
+    /**
+     * The integration has advanced one step. Keeps the new state and adds the
+     * contribution to the integral |b cross dl| using the field at the
+     * midpoint of the chord, as in {@link Bxdl}.
+     *
+     * @param newS
+     *            the new path length in meters
+     * @param newY
+     *            the new state vector
+     * @param h
+     *            the stepsize used for this advance
+     */
+    @Override
+    public void nextStep(double newS, double[] newY, double h) {
+	System.arraycopy(newY, 0, _state, 0, 6);
+
+	if (_probe != null) {
+	    double dx = newY[0] - _previous[0];
+	    double dy = newY[1] - _previous[1];
+	    double dz = newY[2] - _previous[2];
+
+	    // average position in cm
+	    float xavgcm = (float) (100. * (_previous[0] + newY[0]) / 2);
+	    float yavgcm = (float) (100. * (_previous[1] + newY[1]) / 2);
+	    float zavgcm = (float) (100. * (_previous[2] + newY[2]) / 2);
+	    _probe.field(xavgcm, yavgcm, zavgcm, _b);
+
+	    double cx = _b[1] * dz - _b[2] * dy;
+	    double cy = _b[2] * dx - _b[0] * dz;
+	    double cz = _b[0] * dy - _b[1] * dx;
+	    _bxdl += Math.sqrt(cx * cx + cy * cy + cz * cz);
+	}
+
+	_previous[0] = newY[0];
+	_previous[1] = newY[1];
+	_previous[2] = newY[2];
+	_pathLength = newS;
+	_nStep++;
+    }
+
+    /**
+     * Get the final state vector [x,y,z,px/p,py/p,pz/p]. This is the internal
+     * buffer, which will be overwritten by the next swim.
+     *
+     * @return the final state vector
+     */
+    public double[] getFinalState() {
+	return _state;
+    }
+
+    /**
+     * Copy the final state into a user array
+     *
+     * @param dest
+     *            an array of at least six elements
+     */
+    public void getFinalState(double dest[]) {
+	System.arraycopy(_state, 0, dest, 0, 6);
+    }
+
+    /**
+     * Get the path length in meters
+     *
+     * @return the path length in meters
+     */
+    public double getPathLength() {
+	return _pathLength;
+    }
+
+    /**
+     * Get the cumulative integral |b cross dl| in kG-m. The midpoint field is
+     * read through a probe, whose cached grid cell computes the interpolation
+     * fractions with different arithmetic than a direct field evaluation. On
+     * the same track this therefore agrees with SwimTrajectory.computeBDL to
+     * float round-off, not bit for bit.
+     *
+     * @return the cumulative integral |b cross dl| in kG-m
+     */
+    public double getIntegralBxdl() {
+	return _bxdl;
+    }
+
+    /**
+     * Get the number of steps taken
+     *
+     * @return the number of steps taken
+     */
+    public int getNStep() {
+	return _nStep;
+    }
+
+    /**
+     * For swims to a target surface, check whether the swim ended on the
+     * surface (rather than being stopped by the stopper or the max path
+     * length)
+     *
+     * @return <code>true</code> if the target surface was reached
+     */
+    public boolean hitSurface() {
+	return _hitSurface;
+    }
+
+    // set whether the target surface was reached
+    void setHitSurface(boolean hitSurface) {
+	_hitSurface = hitSurface;
+    }
+
+    /**
+     * Get the final radial coordinate (distance from the origin) in meters
+     *
+     * @return the final radial coordinate in meters
+     */
+    public double getFinalR() {
+	return Math.sqrt(_state[0] * _state[0] + _state[1] * _state[1]
+		+ _state[2] * _state[2]);
+    }
+}
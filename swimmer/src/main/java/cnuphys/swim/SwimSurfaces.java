@@ -0,0 +1,93 @@
+package cnuphys.swim;
+
+import cnuphys.rk4.IEventFunction;
+
+/**
+ * Factory for the common target surfaces used with event location. The
+ * functions are signed distances in meters, evaluated on the swim state
+ * vector [x,y,z,px/p,py/p,pz/p], so an event accuracy in path length is also
+ * (at least) the accuracy of the distance to the surface.
+ */
+public class SwimSurfaces {
+
+    /**
+     * A plane of constant z
+     *
+     * @param z
+     *            the z value of the plane in meters
+     * @return the event function
+     */
+    public static IEventFunction zPlane(final double z) {
+	return new IEventFunction() {
+
+	    @Override
+	    public double value(double t, double[] y) {
+		return y[2] - z;
+	    }
+	};
+    }
+
+    /**
+     * A general plane, given by a normal and the distance of the plane from
+     * the origin along the normal. That is, the points where n.r = d.
+     *
+     * @param nx
+     *            the x component of the normal
+     * @param ny
+     *            the y component of the normal
+     * @param nz
+     *            the z component of the normal
+     * @param d
+     *            the distance from the origin in meters
+     * @return the event function
+     */
+    public static IEventFunction plane(double nx, double ny, double nz,
+	    final double d) {
+	double len = Math.sqrt(nx * nx + ny * ny + nz * nz);
+	final double ux = nx / len;
+	final double uy = ny / len;
+	final double uz = nz / len;
+
+	return new IEventFunction() {
+
+	    @Override
+	    public double value(double t, double[] y) {
+		return ux * y[0] + uy * y[1] + uz * y[2] - d;
+	    }
+	};
+    }
+
+    /**
+     * A cylinder about the z axis
+     *
+     * @param rho
+     *            the radius in meters
+     * @return the event function
+     */
+    public static IEventFunction cylinder(final double rho) {
+	return new IEventFunction() {
+
+	    @Override
+	    public double value(double t, double[] y) {
+		return Math.sqrt(y[0] * y[0] + y[1] * y[1]) - rho;
+	    }
+	};
+    }
+
+    /**
+     * A sphere centered on the origin
+     *
+     * @param r
+     *            the radius in meters
+     * @return the event function
+     */
+    public static IEventFunction sphere(final double r) {
+	return new IEventFunction() {
+
+	    @Override
+	    public double value(double t, double[] y) {
+		return Math.sqrt(y[0] * y[0] + y[1] * y[1] + y[2] * y[2]) - r;
+	    }
+	};
+    }
+}
@@ -294,4 +294,10 @@ public class SwimTrajectory extends Vector<double[]> {
     public boolean isBDLComputed() {
 	return _computedBDL;
     }
+
+    // mark the path length and integral bdl as already present, as when
+    // copying 8D state vectors from another trajectory
+    void setBDLComputed() {
+	_computedBDL = true;
+    }
 }
\ No newline at end of file
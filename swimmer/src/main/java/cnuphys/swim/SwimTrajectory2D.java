@@ -24,6 +24,9 @@ public class SwimTrajectory2D {
     // the 3D trajectory
     private SwimTrajectory _trajectory3D;
 
+    // the columnar 3D trajectory, if created from one
+    private ColumnarTrajectory _columnar;
+
     // the 2D path
     private Point.Double[] _path;
 
@@ -52,6 +55,32 @@ public class SwimTrajectory2D {
 	}
     }
 
+    /**
+     * Create a 2D trajectory from a columnar 3D trajectory. The points are
+     * projected directly from the columns; the SwimTrajectory returned by
+     * {@link #getTrajectory3D()} is only built if it is asked for.
+     * 
+     * @param trajectory
+     *            the columnar 3D trajectory from a swim
+     * @param projector
+     *            projects 3D to 2D
+     */
+    public SwimTrajectory2D(ColumnarTrajectory trajectory, IProjector projector) {
+	_columnar = trajectory;
+	int size = (trajectory == null) ? 0 : trajectory.size();
+
+	if (size > 1) {
+	    _path = new Point.Double[size];
+
+	    double v3d[] = new double[6];
+	    for (int index = 0; index < size; index++) {
+		trajectory.getState(index, v3d);
+		_path[index] = new Point.Double();
+		projector.project(v3d, _path[index]);
+	    }
+	}
+    }
+
     /**
      * Get the 2D path. This is comprised of all the 3D points in the trajectory
      * that came from a swim that have been projected on to 2D.
@@ -68,10 +97,9 @@ public class SwimTrajectory2D {
      * @param feedbackStrings
      */
     public void addToFeedback(List<String> feedbackStrings) {
-	GeneratedParticleRecord genPart = _trajectory3D
-		.getGeneratedParticleRecord();
+	GeneratedParticleRecord genPart = getGeneratedParticleRecord();
 
-	LundId lid = _trajectory3D.getLundId();
+	LundId lid = getLundId();
 
 	String s1 = null;
 
@@ -99,10 +127,9 @@ public class SwimTrajectory2D {
 
     public String summaryString() {
 
-	GeneratedParticleRecord genPart = _trajectory3D
-		.getGeneratedParticleRecord();
+	GeneratedParticleRecord genPart = getGeneratedParticleRecord();
 
-	LundId lid = _trajectory3D.getLundId();
+	LundId lid = getLundId();
 
 	StringBuffer sb = new StringBuffer(255);
 	if (lid != null) {
@@ -154,12 +181,37 @@ public class SwimTrajectory2D {
     }
 
     /**
-     * @return the trajectory3D
+     * @return the trajectory3D. If this was created from a columnar
+     *         trajectory, the equivalent SwimTrajectory is built on the first
+     *         call.
      */
     public SwimTrajectory getTrajectory3D() {
+	if ((_trajectory3D == null) && (_columnar != null)) {
+	    _trajectory3D = _columnar.toSwimTrajectory();
+	}
 	return _trajectory3D;
     }
 
+    /**
+     * @return the columnar 3D trajectory, or <code>null</code> if this was not
+     *         created from one
+     */
+    public ColumnarTrajectory getColumnarTrajectory() {
+	return _columnar;
+    }
+
+    // the generated particle record of whichever 3D trajectory we have
+    private GeneratedParticleRecord getGeneratedParticleRecord() {
+	return (_columnar != null) ? _columnar.getGeneratedParticleRecord()
+		: _trajectory3D.getGeneratedParticleRecord();
+    }
+
+    // the lund id of whichever 3D trajectory we have
+    private LundId getLundId() {
+	return (_columnar != null) ? _columnar.getLundId() : _trajectory3D
+		.getLundId();
+    }
+
     /**
      * Given two points p0 and p1, imagine a line from p0 to p1. Take the line
      * to be parameterized by parameter t so that at t = 0 we are at p0 and t =
@@ -5,6 +5,7 @@ import java.util.Vector;
 import cnuphys.lund.GeneratedParticleRecord;
 import cnuphys.magfield.IField;
 import cnuphys.rk4.ButcherTableau;
+import cnuphys.rk4.IEventFunction;
 import cnuphys.rk4.IRk4Listener;
 import cnuphys.rk4.IStopper;
 import cnuphys.rk4.RungeKutta4;
@@ -708,6 +709,235 @@ public class Swimmer {
 	return nstep;
     }
 
+    /**
+     * Swims a charged particle, storing the trajectory in primitive columns
+     * rather than as a vector of state arrays. The trajectory is the
+     * integration listener, so no per-step objects are created. Uses an
+     * adaptive stepsize algorithm.
+     * <p>
+     * Only the benchmarks use this so far. ced (through {@link Swimming}) still
+     * stores and draws SwimTrajectory objects.
+     * 
+     * @param charge
+     *            the charge: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex position in meters
+     * @param yo
+     *            the y vertex position in meters
+     * @param zo
+     *            the z vertex position in meters
+     * @param momentum
+     *            initial momentum in GeV/c
+     * @param theta
+     *            initial polar angle in degrees
+     * @param phi
+     *            initial azimuthal angle in degrees
+     * @param stopper
+     *            an optional object that can terminate the swimming based on
+     *            some condition
+     * @param maxPathLength
+     *            in meters. This determines the max number of steps based on
+     *            the step size. If a stopper is used, the integration might
+     *            terminate before all the steps are taken. A reasonable value
+     *            for CLAS is 8. meters
+     * @param stepSize
+     *            the initial step size in meters.
+     * @param relTolerance
+     *            the error tolerance as fractional diffs. Note it is a vector,
+     *            the same dimension of the problem, e.g., 6 for
+     *            [x,y,z,vx,vy,vz]. It might be something like {1.0e-10,
+     *            1.0e-10, 1.0e-10, 1.0e-8, 1.0e-8, 1.0e-8}
+     * @param hdata
+     *            if not null, should be double[3]. Upon return, hdata[0] is the
+     *            min stepsize used (m), hdata[1] is the average stepsize used
+     *            (m), and hdata[2] is the max stepsize (m) used
+     * @return the trajectory of the particle
+     * @throws RungeKuttaException
+     */
+    public ColumnarTrajectory swimColumnar(int charge, double xo, double yo,
+	    double zo, double momentum, double theta, double phi,
+	    IStopper stopper, double maxPathLength, double stepSize,
+	    double relTolerance[], double hdata[]) throws RungeKuttaException {
+
+	// the the initial six vector
+	double uo[] = intitialState(xo, yo, zo, theta, phi);
+
+	// create the trajectory container, starting with the initial state
+	ColumnarTrajectory trajectory = new ColumnarTrajectory(charge, xo, yo,
+		zo, momentum, theta, phi, 100);
+	trajectory.add(uo);
+
+	if (momentum < MINMOMENTUM) {
+	    System.err.println("Skipping low momentum swim (H)");
+	    return trajectory;
+	}
+
+	// the derivative
+	DefaultDerivative deriv = new DefaultDerivative(charge, momentum,
+		_field);
+
+	// integrate, the trajectory is the listener
+	(new RungeKutta4(6)).adaptiveStep(uo, 0, maxPathLength, stepSize,
+		deriv, stopper, trajectory, _defaultTableau, relTolerance,
+		hdata);
+
+	return trajectory;
+    }
+
+    /**
+     * Swims a charged particle keeping only the final state. Nothing is stored
+     * per step: the state, path length and integral |b cross dl| are
+     * accumulated in the preallocated buffers of the result object, which can
+     * be reused for any number of swims. Use this rather than the trajectory
+     * mode when only the state at the stopping surface is needed. Uses an
+     * adaptive stepsize algorithm.
+     * 
+     * @param charge
+     *            the charge: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex position in meters
+     * @param yo
+     *            the y vertex position in meters
+     * @param zo
+     *            the z vertex position in meters
+     * @param momentum
+     *            initial momentum in GeV/c
+     * @param theta
+     *            initial polar angle in degrees
+     * @param phi
+     *            initial azimuthal angle in degrees
+     * @param stopper
+     *            an optional object that can terminate the swimming based on
+     *            some condition
+     * @param maxPathLength
+     *            in meters. This determines the max number of steps based on
+     *            the step size. If a stopper is used, the integration might
+     *            terminate before all the steps are taken. A reasonable value
+     *            for CLAS is 8. meters
+     * @param stepSize
+     *            the initial step size in meters.
+     * @param relTolerance
+     *            the error tolerance as fractional diffs. Note it is a vector,
+     *            the same dimension of the problem, e.g., 6 for
+     *            [x,y,z,vx,vy,vz]. It might be something like {1.0e-10,
+     *            1.0e-10, 1.0e-10, 1.0e-8, 1.0e-8, 1.0e-8}
+     * @param result
+     *            the object that will hold the result. If <code>null</code>
+     *            one will be created. The result also owns the integrator
+     *            work space, so passing the same object for each swim (one
+     *            per thread) means the swim does no heap allocation. The
+     *            results agree with those of a fresh result object to float
+     *            round-off, not bit for bit (see DefaultDerivative.set).
+     * @return the result, holding the final state, path length and integral
+     *         |b cross dl|
+     * @throws RungeKuttaException
+     */
+    public SwimResult swimFinalState(int charge, double xo, double yo,
+	    double zo, double momentum, double theta, double phi,
+	    IStopper stopper, double maxPathLength, double stepSize,
+	    double relTolerance[], SwimResult result)
+	    throws RungeKuttaException {
+
+	if (result == null) {
+	    result = new SwimResult();
+	}
+
+	// the the initial six vector, in the result's buffer
+	double uo[] = intitialState(xo, yo, zo, theta, phi,
+		result.getInitialState());
+	result.reset(_field, uo);
+
+	if (momentum < MINMOMENTUM) {
+	    System.err.println("Skipping low momentum swim (I)");
+	    return result;
+	}
+
+	// the derivative and integrator are owned by the result and reused
+	DefaultDerivative deriv = result.getDerivative(charge, momentum);
+
+	// integrate, the result is the listener
+	result.getIntegrator().adaptiveStep(uo, 0, maxPathLength, stepSize,
+		deriv, stopper, result, _defaultTableau, relTolerance, null);
+
+	return result;
+    }
+
+    /**
+     * Swims a charged particle to a target surface, keeping only the final
+     * state. Uses the Dormand-Prince driver with dense output: the crossing of
+     * the surface is found by root finding on the continuous interpolant, so
+     * the integration can take large steps and still end on the surface to
+     * the requested accuracy. Use {@link SwimSurfaces} for common surfaces.
+     * 
+     * @param charge
+     *            the charge: -1 for electron, 1 for proton, etc
+     * @param xo
+     *            the x vertex position in meters
+     * @param yo
+     *            the y vertex position in meters
+     * @param zo
+     *            the z vertex position in meters
+     * @param momentum
+     *            initial momentum in GeV/c
+     * @param theta
+     *            initial polar angle in degrees
+     * @param phi
+     *            initial azimuthal angle in degrees
+     * @param surface
+     *            the target surface. The swim ends where its sign changes.
+     * @param accuracy
+     *            the accuracy, in meters of path length, with which the
+     *            surface is located
+     * @param stopper
+     *            an optional object that can terminate the swimming based on
+     *            some condition, e.g. if the surface is never reached
+     * @param maxPathLength
+     *            in meters. The swim ends here if the surface has not been
+     *            reached.
+     * @param stepSize
+     *            the initial step size in meters.
+     * @param relTolerance
+     *            the error tolerance as fractional diffs. Note it is a vector,
+     *            the same dimension of the problem, e.g., 6 for
+     *            [x,y,z,vx,vy,vz].
+     * @param result
+     *            the object that will hold the result. If <code>null</code>
+     *            one will be created. Reuse it (one per thread) to avoid
+     *            allocation.
+     * @return the result, holding the final state, path length and integral
+     *         |b cross dl|. Use result.hitSurface() to check whether the
+     *         surface was reached.
+     * @throws RungeKuttaException
+     */
+    public SwimResult swimToSurface(int charge, double xo, double yo,
+	    double zo, double momentum, double theta, double phi,
+	    IEventFunction surface, double accuracy, IStopper stopper,
+	    double maxPathLength, double stepSize, double relTolerance[],
+	    SwimResult result) throws RungeKuttaException {
+
+	if (result == null) {
+	    result = new SwimResult();
+	}
+
+	double uo[] = intitialState(xo, yo, zo, theta, phi,
+		result.getInitialState());
+	result.reset(_field, uo);
+
+	if (momentum < MINMOMENTUM) {
+	    System.err.println("Skipping low momentum swim (G)");
+	    return result;
+	}
+
+	DefaultDerivative deriv = result.getDerivative(charge, momentum);
+	RungeKutta4 integrator = result.getIntegrator();
+
+	integrator.adaptiveStepToEvent(uo, 0, maxPathLength, stepSize, deriv,
+		stopper, result, surface, accuracy, relTolerance, null);
+	result.setHitSurface(!Double.isNaN(integrator.getEventT()));
+
+	return result;
+    }
+
     /**
      * Swims a charged particle. This is for the trajectory mode, where you want
      * to cache steps along the path. Uses an adaptive stepsize algorithm.
@@ -1039,8 +1269,14 @@ public class Swimmer {
      *            azimuthal angle in degrees
      * @return the corresponding state vector
      */
-    private static double[] intitialState(double xo, double yo, double zo,
+    static double[] intitialState(double xo, double yo, double zo,
 	    double theta, double phi) {
+	return intitialState(xo, yo, zo, theta, phi, new double[6]);
+    }
+
+    // fill a state vector from the vertex and angles, see above
+    static double[] intitialState(double xo, double yo, double zo,
+	    double theta, double phi, double Q[]) {
 	// initial values
 	double costheta = Math.cos(Math.toRadians(theta));
 	double sintheta = Math.sin(Math.toRadians(theta));
@@ -1048,7 +1284,6 @@ public class Swimmer {
 	double sinphi = Math.sin(Math.toRadians(phi));
 
 	// the the initial six vector
-	double Q[] = new double[6];
 	Q[0] = xo; // xo in meters
 	Q[1] = yo; // yo in meters
 	Q[2] = zo; // zo in meters
@@ -26,6 +26,9 @@ public class Swimming {
     // the current swimmer which will change if the field changes
     private static Swimmer _swimmer;
 
+    // the current batch swimmer which will change if the field changes
+    private static BatchSwimmer _batchSwimmer;
+
     // listen to field changes
     static {
 	MagneticFieldChangeListener mfl = new MagneticFieldChangeListener() {
@@ -34,6 +37,7 @@ public class Swimming {
 	    public void magneticFieldChanged() {
 		// clearTrajectories();
 		_swimmer = null;
+		resetBatchSwimmer();
 	    }
 
 	};
@@ -133,6 +137,28 @@ public class Swimming {
 	return _swimmer;
     }
 
+    /**
+     * Obtain the common batch swimmer which swims through the active magnetic
+     * field using one thread per available processor
+     * 
+     * @return the common batch swimmer
+     */
+    public static synchronized BatchSwimmer getBatchSwimmer() {
+	if (_batchSwimmer == null) {
+	    _batchSwimmer = new BatchSwimmer(MagneticFields.getActiveField(), 0);
+	}
+	return _batchSwimmer;
+    }
+
+    // drop the batch swimmer; its threads are released once the batches
+    // other threads may still be running with it are done
+    private static synchronized void resetBatchSwimmer() {
+	if (_batchSwimmer != null) {
+	    _batchSwimmer.retire();
+	    _batchSwimmer = null;
+	}
+    }
+
     // notify listeners that the collection of trajectories has changed
     protected static void notifyListeners() {
 
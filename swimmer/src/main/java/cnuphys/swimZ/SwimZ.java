@@ -4,6 +4,7 @@ import java.util.Vector;
 
 import cnuphys.magfield.IField;
 import cnuphys.rk4.DefaultStopper;
+import cnuphys.rk4.IRk4Listener;
 import cnuphys.rk4.IStopper;
 import cnuphys.rk4.RungeKutta4;
 import cnuphys.rk4.RungeKuttaException;
@@ -47,6 +48,20 @@ public class SwimZ {
     // create a do nothing stopper for now
     private IStopper _stopper = new DefaultStopper();
 
+    /**
+     * The number of doubles per point in the primitive trajectory buffers:
+     * x, y, z, tx, ty in that order (the order of the SwimZStateVector
+     * fields)
+     */
+    public static final int POINTSIZE = 5;
+
+    // reused by the primitive buffer and final state modes, which makes those
+    // modes not thread safe (use one SwimZ per thread)
+    private RungeKutta4 _rk4;
+    private SwimZDerivative _deriv;
+    private final double _yo[] = new double[4];
+    private final PrimitiveRecorder _recorder = new PrimitiveRecorder();
+
     /**
      * SwimZ constructor. Here we create a Swimmer that will use the given
      * magnetic field.
@@ -130,6 +145,104 @@ public class SwimZ {
 
     }
 
+    /**
+     * Swim to a fixed z over short distances using RK adaptive stepsize, also
+     * transporting the 5x5 Jacobian d(x, y, tx, ty, q)/d(xo, yo, txo, tyo,
+     * qo). The Jacobian is integrated alongside the state in the same RK
+     * stages, using the same field evaluations, so one swim replaces the
+     * extra finite difference swims otherwise needed by a track fit. The step
+     * size control uses only the state errors, so the trajectory is the same
+     * as that of {@link #adaptiveRK}. Field gradients are neglected in the
+     * Jacobian, see {@link SwimZJacobianDerivative}.
+     * 
+     * @param Q
+     *            the integer charge of the particle (-1 for electron)
+     * @param p
+     *            the momentum in Gev/c
+     * @param start
+     *            the starting state vector
+     * @param zf
+     *            the final z value
+     * @param stepSize
+     *            the initial step size
+     * @param absError
+     *            the absolute tolerances on each state variable [x, y, tx, ty]
+     * @param hdata
+     *            An array with three elements. Upon return it will have the
+     *            min, average, and max step size (in that order).
+     * @return the swim result, with the Jacobian available from
+     *         {@link SwimZResult#getJacobian()}
+     * @throws SwimZException
+     */
+    public SwimZResult adaptiveRKJacobian(int Q, double p,
+	    SwimZStateVector start, final double zf, double stepSize,
+	    double absError[], double hdata[]) throws SwimZException {
+	if (start == null) {
+	    throw new SwimZException("Null starting state vector.");
+	}
+
+	// straight line?
+	if (Q == 0) {
+	    System.out.println("Z adaptive swimmer detected straight line.");
+	    SwimZResult result = straightLineResult(Q, p, start, zf);
+	    double jacobian[][] = new double[5][5];
+	    double s = zf - start.z;
+	    for (int i = 0; i < 5; i++) {
+		jacobian[i][i] = 1;
+	    }
+	    jacobian[0][2] = s;
+	    jacobian[1][3] = s;
+	    result.setJacobian(jacobian);
+	    return result;
+	}
+
+	// need a new derivative
+	SwimZJacobianDerivative deriv = new SwimZJacobianDerivative(Q, p,
+		_field);
+
+	// need a RK4 object
+	RungeKutta4 rk4 = new RungeKutta4();
+
+	double yo[] = new double[SwimZJacobianDerivative.NDIM];
+	SwimZJacobianDerivative.initialState(start, yo);
+
+	// only the state elements control the step size
+	double tolerance[] = new double[SwimZJacobianDerivative.NDIM];
+	for (int i = 0; i < tolerance.length; i++) {
+	    tolerance[i] = (i < 4) ? absError[i] : Double.POSITIVE_INFINITY;
+	}
+
+	// create the lists to hold the trajectory
+	Vector<Double> z = new Vector<Double>(100, 100);
+	Vector<double[]> y = new Vector<double[]>(100, 100);
+
+	int nStep = 0;
+	try {
+	    nStep = rk4.adaptiveStepToTf(yo, start.z, zf, stepSize, z, y,
+		    deriv, _stopper, tolerance, hdata);
+	} catch (RungeKuttaException e) {
+	    e.printStackTrace();
+	}
+
+	if (nStep == 0) {
+	    return null;
+	}
+
+	SwimZResult result = new SwimZResult(Q, p, start.z, zf, nStep, 10);
+	result.add(start);
+	for (int i = 0; i < z.size(); i++) {
+	    double v[] = y.get(i);
+	    SwimZStateVector sv = new SwimZStateVector(z.get(i), v);
+	    result.add(sv);
+	}
+
+	double jacobian[][] = new double[5][5];
+	SwimZJacobianDerivative.getJacobian(y.lastElement(), jacobian);
+	result.setJacobian(jacobian);
+
+	return result;
+    }
+
     // /**
     // * Integrator that uses the RungeKutta advance with a Butcher Tableau and
     // * adaptive stepsize and a tolerance vector.
@@ -272,9 +385,11 @@ public class SwimZ {
 	result.add(start);
 	SwimZStateVector v0 = start;
 
+	// field buffer, reused for each step
+	float B[] = new float[3];
+
 	for (int i = 0; i < swimZrange.getNumStep(); i++) {
 	    // get the field
-	    float B[] = new float[3];
 	    double x0 = v0.x;
 	    double y0 = v0.y;
 	    double z0 = v0.z;
@@ -313,6 +428,192 @@ public class SwimZ {
 	return result;
     }
 
+    /**
+     * Swim to a fixed z using RK adaptive stepsize, writing the trajectory
+     * into a caller supplied primitive buffer instead of building a
+     * SwimZResult. There is no boxing and, after the first call, no heap
+     * allocation. The swim is the same as {@link #adaptiveRK}. Each point
+     * occupies {@link #POINTSIZE} consecutive elements: x, y, z, tx, ty. The
+     * first point is the start. Note: the primitive buffer and final state
+     * modes reuse work space held by this object, so a SwimZ must not be
+     * shared between threads when using them.
+     * 
+     * @param Q
+     *            the integer charge of the particle (-1 for electron)
+     * @param p
+     *            the momentum in Gev/c
+     * @param start
+     *            the starting state vector
+     * @param zf
+     *            the final z value
+     * @param stepSize
+     *            the initial step size
+     * @param absError
+     *            the absolute tolerances on each state variable [x, y, tx, ty]
+     * @param hdata
+     *            if not null, should be double[3]. Upon return it will have
+     *            the min, average, and max step size (in that order).
+     * @param buffer
+     *            the buffer for the trajectory. Points that do not fit are not
+     *            stored, but the integration still goes all the way to zf.
+     * @return the number of points in the trajectory, including the start.
+     *         If this is greater than buffer.length/POINTSIZE, the buffer
+     *         was too small and holds only the first points. Returns 0 if the
+     *         integration failed.
+     * @throws SwimZException
+     */
+    public int adaptiveRK(int Q, double p, SwimZStateVector start,
+	    double zf, double stepSize, double absError[], double hdata[],
+	    double buffer[]) throws SwimZException {
+	if (start == null) {
+	    throw new SwimZException("Null starting state vector.");
+	}
+
+	_recorder.reset(start, buffer);
+
+	// straight line?
+	if (Q == 0) {
+	    double s = zf - start.z;
+	    _recorder.nextStep(zf, new double[] { start.x + start.tx * s,
+		    start.y + start.ty * s, start.tx, start.ty }, s);
+	    return _recorder.count();
+	}
+
+	int nStep = 0;
+	try {
+	    nStep = reusableIntegrator().adaptiveStepToTf(_yo, start.z, zf,
+		    stepSize, reusableDerivative(Q, p), _stopper, _recorder,
+		    absError, hdata);
+	} catch (RungeKuttaException e) {
+	    e.printStackTrace();
+	}
+
+	return (nStep == 0) ? 0 : _recorder.count();
+    }
+
+    /**
+     * Swim to a fixed z using RK adaptive stepsize, keeping only the final
+     * state. There is no boxing, no trajectory storage and, after the first
+     * call, no heap allocation. The swim is the same as {@link #adaptiveRK}.
+     * See the thread safety note for the primitive buffer version.
+     * 
+     * @param Q
+     *            the integer charge of the particle (-1 for electron)
+     * @param p
+     *            the momentum in Gev/c
+     * @param start
+     *            the starting state vector
+     * @param zf
+     *            the final z value
+     * @param stepSize
+     *            the initial step size
+     * @param absError
+     *            the absolute tolerances on each state variable [x, y, tx, ty]
+     * @param hdata
+     *            if not null, should be double[3]. Upon return it will have
+     *            the min, average, and max step size (in that order).
+     * @param finalState
+     *            an array of at least POINTSIZE elements that will hold the
+     *            final x, y, z, tx, ty
+     * @return the number of steps taken, 0 if the integration failed
+     * @throws SwimZException
+     */
+    public int adaptiveRKFinal(int Q, double p, SwimZStateVector start,
+	    double zf, double stepSize, double absError[], double hdata[],
+	    double finalState[]) throws SwimZException {
+	if (start == null) {
+	    throw new SwimZException("Null starting state vector.");
+	}
+
+	// straight line?
+	if (Q == 0) {
+	    double s = zf - start.z;
+	    finalState[0] = start.x + start.tx * s;
+	    finalState[1] = start.y + start.ty * s;
+	    finalState[2] = zf;
+	    finalState[3] = start.tx;
+	    finalState[4] = start.ty;
+	    return 1;
+	}
+
+	// no buffer, the recorder just tracks the last point
+	_recorder.reset(start, null);
+
+	int nStep = 0;
+	try {
+	    nStep = reusableIntegrator().adaptiveStepToTf(_yo, start.z, zf,
+		    stepSize, reusableDerivative(Q, p), _stopper, _recorder,
+		    absError, hdata);
+	} catch (RungeKuttaException e) {
+	    e.printStackTrace();
+	}
+
+	_recorder.getLast(finalState);
+	return nStep;
+    }
+
+    // the integrator used by the primitive modes
+    private RungeKutta4 reusableIntegrator() {
+	if (_rk4 == null) {
+	    _rk4 = new RungeKutta4(4);
+	}
+	return _rk4;
+    }
+
+    // the derivative used by the primitive modes, set for this swim
+    private SwimZDerivative reusableDerivative(int Q, double p) {
+	if (_deriv == null) {
+	    _deriv = new SwimZDerivative(Q, p, _field);
+	} else {
+	    _deriv.set(Q, p);
+	}
+	return _deriv;
+    }
+
+    // records steps into a primitive buffer, and always keeps the last point
+    private class PrimitiveRecorder implements IRk4Listener {
+
+	private double _buffer[];
+	private int _count;
+	private final double _last[] = new double[POINTSIZE];
+
+	// prepare for a new swim; also loads the initial state into _yo
+	void reset(SwimZStateVector start, double buffer[]) {
+	    _yo[0] = start.x;
+	    _yo[1] = start.y;
+	    _yo[2] = start.tx;
+	    _yo[3] = start.ty;
+	    _buffer = buffer;
+	    _count = 0;
+	    nextStep(start.z, _yo, 0);
+	}
+
+	@Override
+	public void nextStep(double z, double[] y, double h) {
+	    _last[0] = y[0];
+	    _last[1] = y[1];
+	    _last[2] = z;
+	    _last[3] = y[2];
+	    _last[4] = y[3];
+
+	    if (_buffer != null) {
+		int index = POINTSIZE * _count;
+		if (index + POINTSIZE <= _buffer.length) {
+		    System.arraycopy(_last, 0, _buffer, index, POINTSIZE);
+		}
+	    }
+	    _count++;
+	}
+
+	int count() {
+	    return _count;
+	}
+
+	void getLast(double dest[]) {
+	    System.arraycopy(_last, 0, dest, 0, POINTSIZE);
+	}
+    }
+
     private SwimZResult straightLineResult(int Q, double p,
 	    SwimZStateVector start, double zf) {
 	SwimZResult result = new SwimZResult(Q, p, start.z, zf, 2, 2);
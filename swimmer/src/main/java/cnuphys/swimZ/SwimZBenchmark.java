@@ -0,0 +1,180 @@
+package cnuphys.swimZ;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import cnuphys.magfield.IField;
+import cnuphys.magfield.MagneticFields;
+
+/**
+ * Compares the SwimZ execution modes on throughput and accuracy: adaptiveRK
+ * (SwimZResult), adaptiveRK into a primitive buffer, adaptiveRKFinal,
+ * uniformRK4 and parabolicEstimate. All swim the same random tracks between
+ * two z planes. Accuracy is the distance at the final plane from a reference
+ * swim with a very tight tolerance. Reports CPU time per swim and, when the
+ * JVM supports it, the bytes allocated per swim. Uses the active field, or
+ * the uniform field if there is no active field.
+ */
+public class SwimZBenchmark {
+
+    // the z range in cm
+    private static final double ZO = 300;
+    private static final double ZF = 500;
+
+    // adaptive parameters
+    private static final double INITSTEPSIZE = 0.01; // cm
+    private static final double ABSERROR[] = { 1.0e-5, 1.0e-5, 1.0e-5, 1.0e-5 };
+    private static final double REFERROR[] = { 1.0e-10, 1.0e-10, 1.0e-10,
+	    1.0e-10 };
+
+    /**
+     * Run the benchmark
+     * 
+     * @param arg
+     *            optional: the number of tracks, the number of repetitions
+     *            and the fixed step size (cm) for uniformRK4 and
+     *            parabolicEstimate
+     */
+    public static void main(String arg[]) {
+	int numTraj = (arg.length > 0) ? Integer.parseInt(arg[0]) : 1000;
+	int numRep = (arg.length > 1) ? Integer.parseInt(arg[1]) : 5;
+	double stepSize = (arg.length > 2) ? Double.parseDouble(arg[2]) : 0.5;
+
+	IField field = MagneticFields.getActiveField();
+	if (field == null) {
+	    field = MagneticFields.getIField(MagneticFields.FieldType.UNIFORM);
+	}
+	System.out.println("Field: " + field.getClass().getSimpleName()
+		+ "  tracks: " + numTraj + "  fixed step: " + stepSize + " cm");
+
+	SwimZ sz = new SwimZ(field);
+
+	// the same tracks for all methods
+	Random random = new Random(24680);
+	int charge[] = new int[numTraj];
+	double momentum[] = new double[numTraj];
+	SwimZStateVector start[] = new SwimZStateVector[numTraj];
+	for (int i = 0; i < numTraj; i++) {
+	    charge[i] = random.nextBoolean() ? 1 : -1;
+	    momentum[i] = 1 + 6 * random.nextDouble();
+	    double theta = 10 + 20 * random.nextDouble();
+	    double phi = -20 + 40 * random.nextDouble();
+	    start[i] = new SwimZStateVector(20 + 20 * random.nextDouble(),
+		    -5 + 10 * random.nextDouble(), ZO, momentum[i], theta, phi);
+	}
+
+	// the reference final states
+	double ref[][] = new double[numTraj][SwimZ.POINTSIZE];
+	try {
+	    for (int i = 0; i < numTraj; i++) {
+		sz.adaptiveRKFinal(charge[i], momentum[i], start[i], ZF,
+			INITSTEPSIZE, REFERROR, null, ref[i]);
+	    }
+	} catch (SwimZException e) {
+	    e.printStackTrace();
+	    return;
+	}
+
+	String names[] = { "adaptiveRK", "adaptiveRK buffer", "adaptiveRKFinal",
+		"uniformRK4", "parabolicEstimate" };
+	double fstate[] = new double[SwimZ.POINTSIZE];
+	double buffer[] = new double[SwimZ.POINTSIZE * 1000];
+	double hdata[] = new double[3];
+
+	try {
+	    // the first repetition is a warm up
+	    for (int rep = 0; rep <= numRep; rep++) {
+		for (int method = 0; method < names.length; method++) {
+		    double sumDiff = 0;
+		    double maxDiff = 0;
+		    long alloc0 = allocatedBytes();
+		    long time0 = cpuTime();
+		    for (int i = 0; i < numTraj; i++) {
+			switch (method) {
+			case 0:
+			    last(sz.adaptiveRK(charge[i], momentum[i],
+				    start[i], ZF, INITSTEPSIZE, ABSERROR, hdata),
+				    fstate);
+			    break;
+			case 1:
+			    int n = sz.adaptiveRK(charge[i], momentum[i],
+				    start[i], ZF, INITSTEPSIZE, ABSERROR, hdata,
+				    buffer);
+			    // buffer too small? grow it and swim again
+			    if (SwimZ.POINTSIZE * n > buffer.length) {
+				buffer = new double[2 * SwimZ.POINTSIZE * n];
+				n = sz.adaptiveRK(charge[i], momentum[i],
+					start[i], ZF, INITSTEPSIZE, ABSERROR,
+					hdata, buffer);
+			    }
+			    System.arraycopy(buffer, SwimZ.POINTSIZE * (n - 1),
+				    fstate, 0, SwimZ.POINTSIZE);
+			    break;
+			case 2:
+			    sz.adaptiveRKFinal(charge[i], momentum[i],
+				    start[i], ZF, INITSTEPSIZE, ABSERROR, hdata,
+				    fstate);
+			    break;
+			case 3:
+			    last(sz.uniformRK4(charge[i], momentum[i],
+				    start[i], ZF, stepSize), fstate);
+			    break;
+			case 4:
+			    last(sz.parabolicEstimate(charge[i], momentum[i],
+				    start[i], ZF, stepSize), fstate);
+			    break;
+			}
+			double diff = Math.hypot(fstate[0] - ref[i][0],
+				fstate[1] - ref[i][1]);
+			sumDiff += diff;
+			maxDiff = Math.max(maxDiff, diff);
+		    }
+		    long time = cpuTime() - time0;
+		    long alloc = allocatedBytes() - alloc0;
+
+		    if (rep > 0) {
+			System.out.println(String.format(
+				"  %-18s %9.2f us/swim %10d bytes/swim   "
+					+ "<dr> %-10.3e max dr %-10.3e cm",
+				names[method], time / (1000.0 * numTraj), alloc
+					/ numTraj, sumDiff / numTraj, maxDiff));
+		    }
+		}
+	    }
+	} catch (SwimZException e) {
+	    e.printStackTrace();
+	}
+
+	System.out.println("done");
+    }
+
+    // copy the last point of a result
+    private static void last(SwimZResult result, double fstate[]) {
+	SwimZStateVector sv = result.last();
+	fstate[0] = sv.x;
+	fstate[1] = sv.y;
+	fstate[2] = sv.z;
+	fstate[3] = sv.tx;
+	fstate[4] = sv.ty;
+    }
+
+    // cpu time of the current thread in ns
+    private static long cpuTime() {
+	ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+	if (bean.isCurrentThreadCpuTimeSupported()) {
+	    return bean.getCurrentThreadCpuTime();
+	}
+	return System.nanoTime();
+    }
+
+    // bytes allocated by the current thread, or 0 if not supported
+    private static long allocatedBytes() {
+	ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+	if (bean instanceof com.sun.management.ThreadMXBean) {
+	    return ((com.sun.management.ThreadMXBean) bean)
+		    .getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	return 0;
+    }
+}
@@ -1,12 +1,13 @@
 package cnuphys.swimZ;
 
+import cnuphys.magfield.FieldProbe;
 import cnuphys.magfield.IField;
 import cnuphys.rk4.IDerivative;
 
 public class SwimZDerivative implements IDerivative {
 
     // obtains the field in kG, coordinates should be in cm
-    private IField _field;
+    private FieldProbe _probe;
 
     // magnitude of the momentum in GeV/c
     private double _p;
@@ -33,7 +34,22 @@ public class SwimZDerivative implements IDerivative {
 	_Q = Q;
 	_p = p;
 	_q = Q / p;
-	_field = field;
+	_probe = field.createProbe();
+    }
+
+    /**
+     * Reset the charge and momentum, so the derivative can be reused for
+     * another swim in the same field
+     * 
+     * @param Q
+     *            -1 for electron, +1 for proton, etc.
+     * @param p
+     *            the magnitude of the momentum in GeV/c.
+     */
+    public void set(int Q, double p) {
+	_Q = Q;
+	_p = p;
+	_q = Q / p;
     }
 
     /**
@@ -56,7 +72,7 @@ public class SwimZDerivative implements IDerivative {
 	double qv = _q * SwimZ.V;
 
 	// get the field
-	_field.field((float) x[0], (float) x[1], (float) z, B);
+	_probe.field((float) x[0], (float) x[1], (float) z, B);
 
 	// some needed factors
 	double tx = x[2];
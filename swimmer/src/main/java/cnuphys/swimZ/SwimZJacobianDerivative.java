@@ -0,0 +1,143 @@
+package cnuphys.swimZ;
+
+import cnuphys.magfield.FieldProbe;
+import cnuphys.magfield.IField;
+import cnuphys.rk4.IDerivative;
+
+/**
+ * The derivative for swimming the state vector (x, y, tx, ty) together with
+ * the transport Jacobian d(x, y, tx, ty, q)/d(xo, yo, txo, tyo, qo). The
+ * Jacobian rows for (x, y, tx, ty) ride along in the state array after the
+ * four state elements, so every Runge-Kutta stage advances both using the
+ * same field lookup. The q row is trivial since q is constant.
+ * <p>
+ * As in the HERA-B method the swimZ package follows, the field gradient
+ * terms are neglected: the Jacobian includes the dependence of the bending on
+ * the slopes and on q, but not the variation of B with x and y.
+ * <p>
+ * Layout of the integrated array: y[0..3] is (x, y, tx, ty) and y[4 + 5*i +
+ * j] is the Jacobian element J[i][j], i = 0..3, j = 0..4.
+ */
+public class SwimZJacobianDerivative implements IDerivative {
+
+    /** The number of elements in the integrated array */
+    public static final int NDIM = 24;
+
+    // obtains the field in kG, coordinates should be in cm
+    private FieldProbe _probe;
+
+    // the constant member of the state vector
+    private double _q;
+
+    private float B[] = new float[3];
+
+    /**
+     * The derivative for swimming through a magnetic field with Jacobian
+     * transport
+     * 
+     * @param Q
+     *            -1 for electron, +1 for proton, etc.
+     * @param p
+     *            the magnitude of the momentum in GeV/c.
+     * @param field
+     *            the magnetic field getter
+     */
+    public SwimZJacobianDerivative(int Q, double p, IField field) {
+	_q = Q / p;
+	_probe = field.createProbe();
+    }
+
+    /**
+     * Fill the starting array: the state followed by the rows of the unit
+     * Jacobian.
+     * 
+     * @param start
+     *            the starting state vector
+     * @param yo
+     *            an array of NDIM elements that will be filled
+     */
+    public static void initialState(SwimZStateVector start, double yo[]) {
+	yo[0] = start.x;
+	yo[1] = start.y;
+	yo[2] = start.tx;
+	yo[3] = start.ty;
+	for (int i = 0; i < 4; i++) {
+	    for (int j = 0; j < 5; j++) {
+		yo[4 + 5 * i + j] = (i == j) ? 1 : 0;
+	    }
+	}
+    }
+
+    /**
+     * Extract the 5x5 Jacobian from an integrated array
+     * 
+     * @param y
+     *            the integrated array
+     * @param jacobian
+     *            a 5x5 array that will be filled
+     */
+    public static void getJacobian(double y[], double jacobian[][]) {
+	for (int i = 0; i < 4; i++) {
+	    System.arraycopy(y, 4 + 5 * i, jacobian[i], 0, 5);
+	}
+	for (int j = 0; j < 4; j++) {
+	    jacobian[4][j] = 0;
+	}
+	jacobian[4][4] = 1;
+    }
+
+    /**
+     * Compute the derivatives of the state and of the Jacobian.
+     * 
+     * @param z
+     *            the value of the independent variable (the z coordinate)
+     *            (input).
+     * @param x
+     *            the state vector and Jacobian at z (input).
+     * @param dxdz
+     *            will be filled with the values of the derivatives at z
+     *            (output).
+     */
+    @Override
+    public void derivative(double z, double[] x, double[] dxdz) {
+
+	double qv = _q * SwimZ.V;
+
+	// get the field, once for state and Jacobian
+	_probe.field((float) x[0], (float) x[1], (float) z, B);
+
+	// some needed factors
+	double tx = x[2];
+	double ty = x[3];
+	double txsq = tx * tx;
+	double tysq = ty * ty;
+	double fsq = 1 + txsq + tysq;
+	double fact = Math.sqrt(fsq);
+	double Ax = fact * (ty * (tx * B[0] + B[2]) - (1 + txsq) * B[1]);
+	double Ay = fact * (-tx * (ty * B[1] + B[2]) + (1 + tysq) * B[0]);
+
+	dxdz[0] = tx;
+	dxdz[1] = ty;
+	dxdz[2] = qv * Ax;
+	dxdz[3] = qv * Ay;
+
+	// partials of A with respect to the slopes
+	double dAxdtx = tx * Ax / fsq + fact * (ty * B[0] - 2 * tx * B[1]);
+	double dAxdty = ty * Ax / fsq + fact * (tx * B[0] + B[2]);
+	double dAydtx = tx * Ay / fsq - fact * (ty * B[1] + B[2]);
+	double dAydty = ty * Ay / fsq + fact * (2 * ty * B[0] - tx * B[1]);
+
+	// dJ/dz = (df/ds) J, plus df/dq for the q column
+	for (int j = 0; j < 5; j++) {
+	    double jtx = x[14 + j];
+	    double jty = x[19 + j];
+	    dxdz[4 + j] = jtx;
+	    dxdz[9 + j] = jty;
+	    dxdz[14 + j] = qv * (dAxdtx * jtx + dAxdty * jty);
+	    dxdz[19 + j] = qv * (dAydtx * jtx + dAydty * jty);
+	}
+	dxdz[18] += SwimZ.V * Ax;
+	dxdz[23] += SwimZ.V * Ay;
+    }
+
+}
@@ -3,6 +3,7 @@ package cnuphys.swimZ;
 import java.util.Vector;
 
 import cnuphys.lund.GeneratedParticleRecord;
+import cnuphys.swim.ColumnarTrajectory;
 import cnuphys.swim.SwimTrajectory;
 
 /**
@@ -32,6 +33,9 @@ public class SwimZResult {
     // the sign of pz
     private int _pzSign;
 
+    // the transport Jacobian d(x,y,tx,ty,q)/d(xo,yo,txo,tyo,qo), if computed
+    private double _jacobian[][];
+
     // /**
     // * Constructor
     // * Create a SwimZResult with the trajectory initialized but empty.
@@ -176,6 +180,68 @@ public class SwimZResult {
 	_trajectory.add(vector);
     }
 
+    /**
+     * Set the transport Jacobian
+     * 
+     * @param jacobian
+     *            the 5x5 Jacobian
+     */
+    protected void setJacobian(double jacobian[][]) {
+	_jacobian = jacobian;
+    }
+
+    /**
+     * Get the 5x5 transport Jacobian d(x, y, tx, ty, q)/d(xo, yo, txo, tyo,
+     * qo) from the start to the end of the swim, where q = Q/p. Only available
+     * from the swims that transport it, such as
+     * {@link SwimZ#adaptiveRKJacobian}.
+     * 
+     * @return the Jacobian, or <code>null</code> if it was not computed
+     */
+    public double[][] getJacobian() {
+	return _jacobian;
+    }
+
+    /**
+     * Transport a covariance matrix from the start to the end of the swim,
+     * i.e. compute J C J<sup>T</sup>.
+     * 
+     * @param cov
+     *            the 5x5 covariance matrix of (x, y, tx, ty, q) at the start
+     * @return the 5x5 covariance matrix at the end, or <code>null</code> if
+     *         the Jacobian was not computed
+     */
+    public double[][] transportCovariance(double cov[][]) {
+	if (_jacobian == null) {
+	    return null;
+	}
+
+	// jc = J C
+	double jc[][] = new double[5][5];
+	for (int i = 0; i < 5; i++) {
+	    for (int j = 0; j < 5; j++) {
+		double sum = 0;
+		for (int k = 0; k < 5; k++) {
+		    sum += _jacobian[i][k] * cov[k][j];
+		}
+		jc[i][j] = sum;
+	    }
+	}
+
+	// result = J C J^T
+	double result[][] = new double[5][5];
+	for (int i = 0; i < 5; i++) {
+	    for (int j = 0; j < 5; j++) {
+		double sum = 0;
+		for (int k = 0; k < 5; k++) {
+		    sum += jc[i][k] * _jacobian[j][k];
+		}
+		result[i][j] = sum;
+	    }
+	}
+	return result;
+    }
+
     /**
      * Get the trajectory of state vectors
      * 
@@ -325,4 +391,34 @@ public class SwimZResult {
 	}
 	return traj;
     }
+
+    /**
+     * Convert to a columnar trajectory, the primitive column analog of
+     * {@link #toSwimTrajectory()}. Units are converted to meters.
+     * 
+     * @return the columnar trajectory, or <code>null</code> if there are no
+     *         points
+     */
+    public ColumnarTrajectory toColumnarTrajectory() {
+	SwimZStateVector sv = first();
+	if (sv == null) {
+	    return null;
+	}
+
+	double xo = sv.x / 100.0; // cm to m
+	double yo = sv.y / 100.0; // cm to m
+	double zo = _zo / 100.0; // cm to m
+	double thetaPhi[] = getThetaAndPhi(sv);
+
+	ColumnarTrajectory traj = new ColumnarTrajectory(_Q, xo, yo, zo, _p,
+		thetaPhi[0], thetaPhi[1], _trajectory.size());
+
+	double p3[] = new double[3];
+	for (SwimZStateVector v : _trajectory) {
+	    getThreeMomentum(v, p3);
+	    traj.add(v.x / 100, v.y / 100, v.z / 100, p3[0] / _p, p3[1] / _p,
+		    p3[2] / _p);
+	}
+	return traj;
+    }
 }
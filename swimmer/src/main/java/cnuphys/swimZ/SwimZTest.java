@@ -48,6 +48,7 @@ public class SwimZTest {
 	testOldAdaptive(numTest);
 	testUniform(numTest);
 	testAdaptive(numTest);
+	testJacobian(numTest);
     }
 
     private static void header(String s) {
@@ -141,6 +142,66 @@ public class SwimZTest {
 	footer("SwimZ ADAPTIVE");
     }
 
+    // test the adaptive swim with Jacobian transport, checking the Jacobian
+    // against central finite differences
+    private static void testJacobian(int numTimes) {
+	header("SwimZ ADAPTIVE JACOBIAN");
+
+	SwimZStateVector start = new SwimZStateVector(xo, yo, zo, p, theta, phi);
+
+	SwimZResult result = null;
+	double hdata[] = new double[3];
+
+	SwimZ sz = new SwimZ(MagneticFields.getActiveField());
+	long startTime = System.currentTimeMillis();
+	for (int i = 0; i < numTimes; i++) {
+	    try {
+		result = sz.adaptiveRKJacobian(Q, p, start, zf,
+			adaptiveInitStepSize, adaptiveAbsError, hdata);
+	    } catch (SwimZException e) {
+		e.printStackTrace();
+	    }
+	}
+	double timePerSwim = ((double) (System.currentTimeMillis() - startTime))
+		/ numTimes;
+	partialReport(result, timePerSwim, "Z ADAPTIVE JACOBIAN");
+
+	// finite differences in (x, y, tx, ty, q)
+	double jacobian[][] = result.getJacobian();
+	double base[] = { start.x, start.y, start.tx, start.ty, Q / p };
+	double delta[] = { 1.0e-3, 1.0e-3, 1.0e-5, 1.0e-5, 1.0e-5 };
+	for (int j = 0; j < 5; j++) {
+	    double plus[] = base.clone();
+	    double minus[] = base.clone();
+	    plus[j] += delta[j];
+	    minus[j] -= delta[j];
+	    SwimZStateVector sp = jacobianTestSwim(sz, plus);
+	    SwimZStateVector sm = jacobianTestSwim(sz, minus);
+	    double fd[] = { (sp.x - sm.x), (sp.y - sm.y), (sp.tx - sm.tx),
+		    (sp.ty - sm.ty) };
+	    for (int i = 0; i < 4; i++) {
+		System.out.println(String.format(
+			"J[%d][%d] = %-14.6e finite diff: %-14.6e", i, j,
+			jacobian[i][j], fd[i] / (2 * delta[j])));
+	    }
+	}
+	footer("SwimZ ADAPTIVE JACOBIAN");
+    }
+
+    // swim from (x, y, tx, ty, q) for the Jacobian test
+    private static SwimZStateVector jacobianTestSwim(SwimZ sz, double v[]) {
+	int charge = (v[4] < 0) ? -1 : 1;
+	SwimZStateVector start = new SwimZStateVector(v[0], v[1], zo, v[2],
+		v[3]);
+	try {
+	    return sz.adaptiveRK(charge, charge / v[4], start, zf,
+		    adaptiveInitStepSize, adaptiveAbsError, new double[3]).last();
+	} catch (SwimZException e) {
+	    e.printStackTrace();
+	}
+	return null;
+    }
+
     // test the old swimmer adaptive
     // test the old swimmer uniform
     private static void testOldAdaptive(int numTimes) {